@@ -1,21 +1,23 @@
 package io.github.faustofan.admin.auth.application;
 
-import org.apache.pulsar.shade.org.checkerframework.checker.units.qual.t;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import io.github.faustofan.admin.auth.application.dto.LoginResponse;
 import io.github.faustofan.admin.auth.domain.model.LoginUser;
 import io.github.faustofan.admin.auth.domain.service.UserDetailsServiceImpl;
+import io.github.faustofan.admin.auth.infrastructure.BoundedPasswordEncoder;
 import io.github.faustofan.admin.auth.infrastructure.JwtTokenProvider;
+import io.github.faustofan.admin.auth.infrastructure.LoginFailureLimiter;
 import io.github.faustofan.admin.shared.common.context.AppContextHolder;
 import io.github.faustofan.admin.shared.common.exception.BizException;
 import io.github.faustofan.admin.shared.common.exception.UserException;
+import io.github.faustofan.admin.shared.common.exception.errcode.BizErrorCode;
 import io.github.faustofan.admin.shared.common.exception.errcode.UserErrorCode;
 import io.github.faustofan.admin.shared.distributed.constants.RedisKeyRegistry;
 import io.github.faustofan.admin.shared.distributed.core.RedisUtil;
+import io.github.faustofan.admin.shared.persistence.bulkhead.TenantBulkhead;
 import jakarta.servlet.http.HttpServletRequest;
 
 /**
@@ -29,20 +31,23 @@ public class AuthService {
 
     private final UserDetailsServiceImpl userDetailsService;
     private final JwtTokenProvider jwtTokenProvider;
-    private final PasswordEncoder passwordEncoder;
+    private final BoundedPasswordEncoder passwordEncoder;
     private final RedisUtil redisUtil;
+    private final LoginFailureLimiter loginFailureLimiter;
 
 
     public AuthService(
             UserDetailsServiceImpl userDetailsService,
             JwtTokenProvider jwtTokenProvider,
-            PasswordEncoder passwordEncoder,
-            RedisUtil redisUtil
+            BoundedPasswordEncoder passwordEncoder,
+            RedisUtil redisUtil,
+            LoginFailureLimiter loginFailureLimiter
         ) {
         this.userDetailsService = userDetailsService;
         this.jwtTokenProvider = jwtTokenProvider;
         this.passwordEncoder = passwordEncoder;
         this.redisUtil = redisUtil;
+        this.loginFailureLimiter = loginFailureLimiter;
     }
 
     /**
@@ -51,16 +56,32 @@ public class AuthService {
      * @param username 用户名
      * @param password 密码（明文）
      * @param tenantId 租户ID
+     * @param clientIp 客户端IP
      * @return 登录响应（包含 Token）
      */
-    public LoginResponse login(String username, String password, Long tenantId) {
-        // 加载用户信息
-        LoginUser loginUser = userDetailsService.loadUserByUsernameAndTenant(username, tenantId);
+    public LoginResponse login(String username, String password, Long tenantId, String clientIp) {
+        // 已锁定的用户名/IP 直接拒绝，不访问 Redis、数据库与 BCrypt
+        loginFailureLimiter.checkAllowed(tenantId, username, clientIp);
+
+        LoginUser loginUser;
+        try {
+            // 加载用户信息：未认证请求以系统身份查库，数据库许可记在登录的租户名下
+            loginUser = TenantBulkhead.callAs(tenantId,
+                    () -> userDetailsService.loadUserByUsernameAndTenant(username, tenantId));
+        } catch (BizException e) {
+            // 用户名不存在同样计入失败，防止枚举用户名
+            if (e.getErrorCode() == BizErrorCode.USER_NOT_EXIST_OR_DISABLED) {
+                loginFailureLimiter.recordFailure(tenantId, username, clientIp);
+            }
+            throw e;
+        }
 
-        // 验证密码
-        if (!passwordEncoder.matches(password, loginUser.getPassword())) {
+        // 验证密码（在有界哈希线程池中执行，超出并发上限时快速失败）
+        if (!passwordEncoder.matches(password, loginUser.getPassword(), tenantId, username)) {
+            loginFailureLimiter.recordFailure(tenantId, username, clientIp);
             throw new BizException(UserErrorCode.PASSWORD_ERROR);
         }
+        loginFailureLimiter.recordSuccess(tenantId, username);
 
         // 生成 Token
         return generateTokens(loginUser);
@@ -0,0 +1,280 @@
+package io.github.faustofan.admin.auth.application;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Service;
+
+import io.github.faustofan.admin.auth.domain.model.LoginUser;
+import io.github.faustofan.admin.auth.domain.model.RoleSnapshot;
+import io.github.faustofan.admin.auth.domain.model.SessionPushType;
+import io.github.faustofan.admin.auth.domain.service.LoginUserAssembler;
+import io.github.faustofan.admin.auth.domain.service.RoleSnapshotService;
+import io.github.faustofan.admin.auth.infrastructure.SecurityProperties;
+import io.github.faustofan.admin.shared.cache.constants.CacheKeys;
+import io.github.faustofan.admin.shared.cache.util.CacheUtils;
+import io.github.faustofan.admin.shared.common.constant.SystemConstants;
+import io.github.faustofan.admin.shared.common.context.AppContextHolder;
+import io.github.faustofan.admin.system.domain.enums.UserStatus;
+import io.github.faustofan.admin.system.dto.SysUserAuthView;
+import io.github.faustofan.admin.system.infrastructure.loader.BatchLoader;
+import io.github.faustofan.admin.system.infrastructure.reponsitory.SysRoleRepository;
+import io.github.faustofan.admin.system.infrastructure.reponsitory.SysUserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 鉴权缓存后台重建服务
+ * <p>
+ * 角色、菜单、策略变更后，不做整体失效（会导致缓存雪崩），而是在后台：
+ * <ol>
+ * <li>解析受影响的角色并失效其快照</li>
+ * <li>按用户ID游标分页查询拥有这些角色的用户，连同事件显式携带的用户（如刚被移出角色的用户）</li>
+ * <li>分批并发（有上限）重建 LoginUser，并通过 putAll 批量写入 L2</li>
+ * </ol>
+ * 任务串行执行，批次并发度受配置限制，避免占满数据库连接池。
+ */
+@Service
+public class LoginUserRecomputeService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginUserRecomputeService.class);
+
+    private final SysUserRepository userRepository;
+    private final SysRoleRepository roleRepository;
+    private final RoleSnapshotService roleSnapshotService;
+    private final LoginUserAssembler loginUserAssembler;
+    private final CacheUtils cacheUtils;
+    private final SessionPushService sessionPushService;
+    private final SecurityProperties.Recompute properties;
+
+    /** 任务执行器：单线程串行，保证同一时刻只有一个重建任务 */
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("auth-recompute-job-", 0).factory());
+    /** 批次执行器：虚拟线程，并发度由 batchPermits 控制 */
+    private final ExecutorService batchExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("auth-recompute-batch-", 0).factory());
+    private final Semaphore batchPermits;
+
+    // --- 指标 ---
+    private final AtomicInteger pendingJobs = new AtomicInteger();
+    private final AtomicLong currentJobProgress = new AtomicLong();
+    private final Counter rebuiltCounter;
+    private final Counter evictedCounter;
+    private final Timer jobTimer;
+    private final Timer lagTimer;
+
+    public LoginUserRecomputeService(
+            SysUserRepository userRepository,
+            SysRoleRepository roleRepository,
+            RoleSnapshotService roleSnapshotService,
+            LoginUserAssembler loginUserAssembler,
+            CacheUtils cacheUtils,
+            SessionPushService sessionPushService,
+            SecurityProperties securityProperties,
+            MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.roleRepository = roleRepository;
+        this.roleSnapshotService = roleSnapshotService;
+        this.loginUserAssembler = loginUserAssembler;
+        this.cacheUtils = cacheUtils;
+        this.sessionPushService = sessionPushService;
+        this.properties = securityProperties.getRecompute();
+        this.batchPermits = new Semaphore(properties.getConcurrency());
+
+        Gauge.builder("admin.auth.recompute.pending.jobs", pendingJobs, AtomicInteger::get)
+                .description("等待执行的鉴权缓存重建任务数")
+                .register(meterRegistry);
+        Gauge.builder("admin.auth.recompute.progress", currentJobProgress, AtomicLong::get)
+                .description("当前重建任务已处理的用户数")
+                .register(meterRegistry);
+        this.rebuiltCounter = Counter.builder("admin.auth.recompute.users")
+                .tag("result", "rebuilt")
+                .register(meterRegistry);
+        this.evictedCounter = Counter.builder("admin.auth.recompute.users")
+                .tag("result", "evicted")
+                .register(meterRegistry);
+        this.jobTimer = Timer.builder("admin.auth.recompute.duration")
+                .description("单个重建任务耗时")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("admin.auth.recompute.lag")
+                .description("从变更事件发生到缓存重建完成的延迟")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 角色变更：重建拥有这些角色的用户，以及成员变更的用户
+     *
+     * @param roleIds   变更的角色ID
+     * @param userIds   成员变更的用户ID（被移出的用户已不在角色成员中）
+     * @param eventTime 事件时间
+     */
+    public void recomputeRoles(Collection<Long> roleIds, Collection<Long> userIds, Instant eventTime) {
+        submit("role", () -> List.copyOf(roleIds), userIds, eventTime);
+    }
+
+    /**
+     * 菜单变更：重建拥有这些菜单的角色下的用户
+     *
+     * @param menuIds   变更的菜单ID
+     * @param roleIds   写入前关联这些菜单的角色ID（删除后已查不到）
+     * @param eventTime 事件时间
+     */
+    public void recomputeMenus(Collection<Long> menuIds, Collection<Long> roleIds, Instant eventTime) {
+        submit("menu", () -> union(roleIds, roleRepository.findIdsByMenuIds(menuIds)), List.of(), eventTime);
+    }
+
+    /**
+     * 策略变更：重建绑定这些策略的角色下的用户
+     *
+     * @param policyIds 变更的策略ID
+     * @param roleIds   写入前绑定这些策略的角色ID（删除后已查不到）
+     * @param eventTime 事件时间
+     */
+    public void recomputePolicies(Collection<Long> policyIds, Collection<Long> roleIds, Instant eventTime) {
+        submit("policy", () -> union(roleIds, roleRepository.findIdsByPolicyIds(policyIds)), List.of(), eventTime);
+    }
+
+    @Override
+    public void destroy() {
+        jobExecutor.shutdownNow();
+        batchExecutor.shutdownNow();
+    }
+
+    private void submit(
+            String source, Supplier<List<Long>> roleIdResolver, Collection<Long> userIds, Instant eventTime) {
+        pendingJobs.incrementAndGet();
+        jobExecutor.execute(() -> {
+            long start = System.nanoTime();
+            AppContextHolder.setContext(SystemConstants.Identity.SYSTEM_CONTEXT);
+            try {
+                runJob(source, roleIdResolver.get(), userIds == null ? List.of() : List.copyOf(userIds));
+            } catch (Exception e) {
+                log.error("Auth cache recompute failed, source={}", source, e);
+            } finally {
+                AppContextHolder.clearContext();
+                pendingJobs.decrementAndGet();
+                jobTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                if (eventTime != null) {
+                    lagTimer.record(Duration.between(eventTime, Instant.now()));
+                }
+            }
+        });
+    }
+
+    private void runJob(String source, List<Long> roleIds, List<Long> userIds) {
+        if (roleIds.isEmpty() && userIds.isEmpty()) {
+            return;
+        }
+        currentJobProgress.set(0);
+
+        // 1. 先失效角色快照，保证后续组装使用最新数据
+        roleSnapshotService.evict(roleIds);
+
+        // 2. 事件显式携带的用户：不一定还是角色成员，单独重建
+        Set<Long> explicitUserIds = new LinkedHashSet<>(userIds);
+        if (!explicitUserIds.isEmpty()) {
+            rebuildPage(List.copyOf(explicitUserIds));
+        }
+
+        // 3. 按用户ID游标分页，逐页分批重建角色当前成员（跳过已重建的用户）
+        long afterId = 0;
+        while (!roleIds.isEmpty()) {
+            List<Long> page = userRepository.findIdsByRoleIds(roleIds, afterId, properties.getPageSize());
+            if (page.isEmpty()) {
+                break;
+            }
+            List<Long> pending = explicitUserIds.isEmpty()
+                    ? page
+                    : page.stream().filter(userId -> !explicitUserIds.contains(userId)).toList();
+            if (!pending.isEmpty()) {
+                rebuildPage(pending);
+            }
+            afterId = page.getLast();
+            if (page.size() < properties.getPageSize()) {
+                break;
+            }
+        }
+        log.info("Auth cache recompute finished, source={}, roles={}, users={}",
+                source, roleIds.size(), currentJobProgress.get());
+    }
+
+    private static List<Long> union(Collection<Long> first, Collection<Long> second) {
+        Set<Long> ids = new LinkedHashSet<>(second);
+        if (first != null) {
+            ids.addAll(first);
+        }
+        return List.copyOf(ids);
+    }
+
+    private void rebuildPage(List<Long> userIds) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < userIds.size(); i += properties.getBatchSize()) {
+            List<Long> batch = userIds.subList(i, Math.min(i + properties.getBatchSize(), userIds.size()));
+            batchPermits.acquireUninterruptibly();
+            futures.add(CompletableFuture.runAsync(() -> {
+                AppContextHolder.setContext(SystemConstants.Identity.SYSTEM_CONTEXT);
+                try {
+                    rebuildBatch(batch);
+                } finally {
+                    AppContextHolder.clearContext();
+                    batchPermits.release();
+                }
+            }, batchExecutor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private void rebuildBatch(List<Long> userIds) {
+        // 用户名别名只保存用户ID，不受角色/菜单/策略变更影响，只重建主条目
+        Map<String, LoginUser> entries = new HashMap<>(userIds.size() * 2);
+        List<Long> rebuiltIds = new ArrayList<>(userIds.size());
+        List<SysUserAuthView> views = userRepository.findAuthViewsByIds(userIds);
+
+        // 先登记整批用户的角色，首次取值时合并为一次快照解析，而不是每个用户各查一次缓存/数据库
+        BatchLoader<Long, RoleSnapshot> roleLoader = new BatchLoader<>(roleSnapshotService::getSnapshotMap);
+        views.stream()
+                .filter(view -> view.getStatus() == UserStatus.ACTIVE)
+                .forEach(view -> view.getRoleIds().forEach(roleLoader::load));
+
+        for (SysUserAuthView view : views) {
+            String idKey = CacheKeys.KEY_ID + view.getId();
+
+            // 非激活用户直接失效，下次访问时按正常流程拒绝
+            if (view.getStatus() != UserStatus.ACTIVE) {
+                cacheUtils.evict(CacheKeys.CACHE_AUTH_USER, idKey);
+                evictedCounter.increment();
+                continue;
+            }
+
+            entries.put(idKey, loginUserAssembler.assemble(view, roleLoader));
+            rebuiltIds.add(view.getId());
+        }
+
+        cacheUtils.putAll(CacheKeys.CACHE_AUTH_USER, entries);
+        // 缓存已是新数据，再通知在线客户端重新拉取
+        sessionPushService.push(SessionPushType.PERMISSION_CHANGED, rebuiltIds);
+        rebuiltCounter.increment(entries.size());
+        currentJobProgress.addAndGet(userIds.size());
+    }
+}
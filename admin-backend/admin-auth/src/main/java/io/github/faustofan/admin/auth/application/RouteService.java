@@ -0,0 +1,261 @@
+package io.github.faustofan.admin.auth.application;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import io.github.faustofan.admin.auth.domain.model.LoginUser;
+import io.github.faustofan.admin.auth.domain.model.RouteNode;
+import io.github.faustofan.admin.auth.domain.model.RouteTree;
+import io.github.faustofan.admin.auth.domain.service.TenantEntitlementService;
+import io.github.faustofan.admin.shared.cache.constants.CacheKeys;
+import io.github.faustofan.admin.shared.cache.util.CacheUtils;
+import io.github.faustofan.admin.shared.distributed.constants.RedisKeyRegistry;
+import io.github.faustofan.admin.shared.distributed.core.RedisUtil;
+import io.github.faustofan.admin.system.dto.SysMenuRouteView;
+import io.github.faustofan.admin.system.infrastructure.reponsitory.SysMenuRepository;
+import io.github.faustofan.admin.system.infrastructure.reponsitory.SysRoleRepository;
+
+/**
+ * 路由树服务
+ * <p>
+ * 路由树只取决于租户的产品包和用户的角色集合，因此按
+ * {@code (产品包ID, 排序后的角色ID集合)} 计算指纹，同一指纹的用户共享一棵缓存树。
+ * <p>
+ * 每个指纹在 Redis 中登记到其角色、产品包的反向索引集合，
+ * 菜单或角色变更时只失效受影响的指纹。索引成员按登记时间记分，超过缓存 TTL 未再登记的指纹会被清理。
+ * <p>
+ * 构建与失效的竞争：先登记反向索引再构建，保证构建期间发生的失效能找到该指纹；
+ * 同时比较构建前后的失效代数，代数变化说明树可能基于旧数据，构建结果不保留在缓存中并重建一次。
+ */
+@Service
+public class RouteService {
+
+    private static final Logger log = LoggerFactory.getLogger(RouteService.class);
+
+    private static final String KEY_FINGERPRINT = "FP:";
+
+    private static final String INDEX_ROLE = "ROLE:";
+    private static final String INDEX_PACKAGE = "PKG:";
+    private static final String INDEX_ALL = "ALL";
+
+    private static final String GENERATION_KEY = "ALL";
+
+    private final SysMenuRepository menuRepository;
+    private final SysRoleRepository roleRepository;
+    private final TenantEntitlementService entitlementService;
+    private final CacheUtils cacheUtils;
+    private final RedisUtil redisUtil;
+
+    public RouteService(
+            SysMenuRepository menuRepository,
+            SysRoleRepository roleRepository,
+            TenantEntitlementService entitlementService,
+            CacheUtils cacheUtils,
+            RedisUtil redisUtil) {
+        this.menuRepository = menuRepository;
+        this.roleRepository = roleRepository;
+        this.entitlementService = entitlementService;
+        this.cacheUtils = cacheUtils;
+        this.redisUtil = redisUtil;
+    }
+
+    /**
+     * 获取当前用户的路由树
+     *
+     * @param loginUser 当前用户
+     * @return 路由树（含 ETag）
+     */
+    public RouteTree getRoutes(LoginUser loginUser) {
+        long packageId = entitlementService.packageIdOf(loginUser.getTenantId());
+        List<Long> roleIds = loginUser.getRoles().keySet().stream().sorted().toList();
+        // 与权限校验一致：持有通配权限码的用户同超级管理员一样可见全部菜单
+        boolean superAdmin = loginUser.hasAllPermissions();
+        String fingerprint = fingerprint(packageId, roleIds, superAdmin);
+
+        RouteTree tree = load(fingerprint, packageId, roleIds, superAdmin);
+        if (tree == null) {
+            tree = load(fingerprint, packageId, roleIds, superAdmin);
+        }
+        // 连续两次构建都遇到失效：本次直接构建，不写入缓存
+        return tree != null ? tree : buildTree(fingerprint, packageId, roleIds, superAdmin);
+    }
+
+    /**
+     * 读取或构建路由树
+     *
+     * @return 路由树；本次构建期间发生过失效时丢弃缓存条目并返回 null
+     */
+    private RouteTree load(String fingerprint, long packageId, List<Long> roleIds, boolean superAdmin) {
+        boolean[] stale = new boolean[1];
+        RouteTree tree = cacheUtils.get(CacheKeys.CACHE_AUTH_ROUTE, KEY_FINGERPRINT + fingerprint, RouteTree.class,
+                () -> {
+                    long generation = redisUtil.getCounter(RedisKeyRegistry.AUTH_ROUTE_GENERATION, GENERATION_KEY);
+                    register(fingerprint, packageId, roleIds, superAdmin);
+                    RouteTree built = buildTree(fingerprint, packageId, roleIds, superAdmin);
+                    stale[0] = generation != redisUtil.getCounter(RedisKeyRegistry.AUTH_ROUTE_GENERATION, GENERATION_KEY);
+                    return built;
+                });
+        if (!stale[0]) {
+            return tree;
+        }
+        cacheUtils.evict(CacheKeys.CACHE_AUTH_ROUTE, KEY_FINGERPRINT + fingerprint);
+        log.debug("Route tree discarded after concurrent eviction, fingerprint={}", fingerprint);
+        return null;
+    }
+
+    /**
+     * 角色变更：失效持有这些角色的指纹
+     */
+    public void evictByRoles(Collection<Long> roleIds) {
+        roleIds.forEach(roleId -> evictIndex(INDEX_ROLE + roleId));
+    }
+
+    /**
+     * 菜单变更：失效拥有这些菜单的角色、包含这些菜单的产品包及不受产品包限制的指纹
+     *
+     * @param menuIds    变更的菜单ID
+     * @param roleIds    写入前关联这些菜单的角色ID（与当前关联合并，覆盖已删除的菜单）
+     * @param packageIds 写入前包含这些菜单的产品包ID
+     */
+    public void evictByMenus(Collection<Long> menuIds, Collection<Long> roleIds, Collection<Long> packageIds) {
+        Set<Long> roles = new HashSet<>(roleRepository.findIdsByMenuIds(menuIds));
+        if (roleIds != null) {
+            roles.addAll(roleIds);
+        }
+        evictByRoles(roles);
+
+        Set<Long> packages = new HashSet<>(menuRepository.findPackageIdsByMenuIds(menuIds));
+        if (packageIds != null) {
+            packages.addAll(packageIds);
+        }
+        evictByPackages(packages);
+        evictIndex(INDEX_ALL);
+    }
+
+    /**
+     * 产品包变更：失效这些产品包下的指纹
+     */
+    public void evictByPackages(Collection<Long> packageIds) {
+        packageIds.forEach(packageId -> evictIndex(INDEX_PACKAGE + packageId));
+    }
+
+    // --- 构建 ---
+
+    private RouteTree buildTree(String fingerprint, long packageId, List<Long> roleIds, boolean superAdmin) {
+        List<SysMenuRouteView> menus = menuRepository.findRouteViews(
+                packageId == TenantEntitlementService.NO_PACKAGE ? null : packageId);
+        Map<Long, SysMenuRouteView> byId = menus.stream()
+                .collect(Collectors.toMap(SysMenuRouteView::getId, menu -> menu));
+
+        // 1. 可见菜单：超级管理员为产品包内全部菜单，否则为角色授权的菜单及其上级目录
+        Set<Long> visible;
+        if (superAdmin) {
+            visible = byId.keySet();
+        } else {
+            visible = new HashSet<>();
+            List<Long> granted = roleIds.isEmpty() ? List.of() : menuRepository.findIdsByRoleIds(roleIds);
+            for (Long menuId : granted) {
+                Long current = menuId;
+                while (current != null && byId.containsKey(current) && visible.add(current)) {
+                    current = byId.get(current).getParentId();
+                }
+            }
+        }
+
+        // 2. 组装树（菜单已按 sortOrder 排序）
+        Map<Long, List<SysMenuRouteView>> children = new HashMap<>();
+        List<SysMenuRouteView> roots = new ArrayList<>();
+        for (SysMenuRouteView menu : menus) {
+            if (!visible.contains(menu.getId())) {
+                continue;
+            }
+            Long parentId = menu.getParentId();
+            if (parentId != null && visible.contains(parentId)) {
+                children.computeIfAbsent(parentId, k -> new ArrayList<>()).add(menu);
+            } else {
+                roots.add(menu);
+            }
+        }
+        List<RouteNode> routes = roots.stream().map(menu -> toNode(menu, children)).toList();
+
+        // 3. ETag：指纹 + 可见菜单的 ID/更新时间
+        MessageDigest digest = sha256();
+        digest.update(fingerprint.getBytes(StandardCharsets.UTF_8));
+        menus.stream()
+                .filter(menu -> visible.contains(menu.getId()))
+                .sorted(Comparator.comparingLong(SysMenuRouteView::getId))
+                .forEach(menu -> digest.update((menu.getId() + ":" + menu.getUpdatedTime().toEpochMilli() + ":"
+                        + menu.getParentId() + ";").getBytes(StandardCharsets.UTF_8)));
+        String etag = "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+
+        log.debug("Route tree built, fingerprint={}, menus={}", fingerprint, visible.size());
+        return new RouteTree(etag, routes);
+    }
+
+    private static RouteNode toNode(SysMenuRouteView menu, Map<Long, List<SysMenuRouteView>> children) {
+        List<RouteNode> childNodes = children.getOrDefault(menu.getId(), List.of()).stream()
+                .map(child -> toNode(child, children))
+                .toList();
+        return new RouteNode(
+                menu.getId(),
+                menu.getMenuName(),
+                menu.getMenuType(),
+                menu.getRoutePath(),
+                menu.getComponentPath(),
+                menu.getIcon(),
+                menu.getSortOrder(),
+                childNodes);
+    }
+
+    // --- 指纹与反向索引 ---
+
+    private static String fingerprint(long packageId, List<Long> sortedRoleIds, boolean superAdmin) {
+        // 超级管理员只受产品包限制，与角色无关
+        String source = superAdmin
+                ? "P" + packageId + "|S"
+                : "P" + packageId + "|R" + sortedRoleIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        return HexFormat.of().formatHex(sha256().digest(source.getBytes(StandardCharsets.UTF_8)), 0, 16);
+    }
+
+    private void register(String fingerprint, long packageId, List<Long> roleIds, boolean superAdmin) {
+        redisUtil.addToExpiringSet(RedisKeyRegistry.AUTH_ROUTE_INDEX,
+                packageId == TenantEntitlementService.NO_PACKAGE ? INDEX_ALL : INDEX_PACKAGE + packageId, fingerprint);
+        if (!superAdmin) {
+            roleIds.forEach(roleId ->
+                    redisUtil.addToExpiringSet(RedisKeyRegistry.AUTH_ROUTE_INDEX, INDEX_ROLE + roleId, fingerprint));
+        }
+    }
+
+    private void evictIndex(String indexKey) {
+        // 先递增代数再弹出：已登记的指纹在此被失效，尚未登记的构建会看到代数变化
+        redisUtil.increment(RedisKeyRegistry.AUTH_ROUTE_GENERATION, GENERATION_KEY);
+        Collection<String> fingerprints = redisUtil.popAllFromExpiringSet(RedisKeyRegistry.AUTH_ROUTE_INDEX, indexKey);
+        fingerprints.forEach(fp -> cacheUtils.evict(CacheKeys.CACHE_AUTH_ROUTE, KEY_FINGERPRINT + fp));
+        if (!fingerprints.isEmpty()) {
+            log.debug("Route trees evicted, index={}, count={}", indexKey, fingerprints.size());
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
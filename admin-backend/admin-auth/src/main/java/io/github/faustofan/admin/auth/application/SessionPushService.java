@@ -0,0 +1,205 @@
+package io.github.faustofan.admin.auth.application;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.github.faustofan.admin.auth.domain.model.SessionPush;
+import io.github.faustofan.admin.auth.domain.model.SessionPushType;
+import io.github.faustofan.admin.auth.infrastructure.SecurityProperties;
+import io.github.faustofan.admin.shared.cache.constants.CacheKeys;
+import io.github.faustofan.admin.shared.common.exception.UserException;
+import io.github.faustofan.admin.shared.common.exception.errcode.UserErrorCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 会话推送服务 (SSE)
+ * <p>
+ * 每个浏览器会话保持一条 SSE 长连接，连接期间不占用线程（异步 Servlet），
+ * 账号失效或权限变化时主动推送，前端无需轮询 /api/auth/me。
+ * <ul>
+ * <li>连接按用户ID建立索引，推送只触达目标用户的连接</li>
+ * <li>推送经 Redis Topic 广播到所有节点，由持有连接的节点在虚拟线程上逐连接并发投递</li>
+ * <li>定时发送心跳注释，及时发现断开的连接并防止被网关判定为空闲；每条连接在独立的虚拟线程上发送，
+ * 慢连接不会拖住其他连接，上一轮心跳仍未写完的连接视为卡死并移出索引</li>
+ * <li>单节点与单用户连接数有上限，超出时拒绝（429）</li>
+ * </ul>
+ */
+@Service
+public class SessionPushService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionPushService.class);
+
+    private final SecurityProperties.SessionPush properties;
+    private final RTopic topic;
+
+    /** 用户ID -> 该用户在本节点的连接 */
+    private final Map<Long, Set<SseEmitter>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    /** 心跳尚未写完的连接 */
+    private final Set<SseEmitter> heartbeatsInFlight = ConcurrentHashMap.newKeySet();
+
+    private final ExecutorService deliveryExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("auth-push-", 0).factory());
+    private final ScheduledExecutorService heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofVirtual().name("auth-push-heartbeat-", 0).factory());
+
+    public SessionPushService(
+            SecurityProperties securityProperties,
+            RedissonClient redissonClient,
+            MeterRegistry meterRegistry) {
+        this.properties = securityProperties.getSessionPush();
+        this.topic = redissonClient.getTopic(CacheKeys.TOPIC_SESSION_PUSH);
+        // Redisson 监听线程不能阻塞，投递交给虚拟线程
+        this.topic.addListener(SessionPush.class,
+                (channel, push) -> deliveryExecutor.execute(() -> deliver(push)));
+
+        Gauge.builder("admin.auth.push.connections", connectionCount, AtomicInteger::get)
+                .description("本节点 SSE 连接数")
+                .register(meterRegistry);
+
+        long interval = properties.getHeartbeatInterval().toMillis();
+        heartbeatScheduler.scheduleWithFixedDelay(() -> {
+            try {
+                heartbeat();
+            } catch (Exception e) {
+                log.warn("SSE heartbeat failed", e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 建立连接
+     *
+     * @param userId 用户ID
+     * @return SSE 连接
+     * @throws UserException 超出连接数上限
+     */
+    public SseEmitter connect(Long userId) {
+        if (connectionCount.incrementAndGet() > properties.getMaxConnections()) {
+            connectionCount.decrementAndGet();
+            throw new UserException(UserErrorCode.TOO_MANY_REQUESTS);
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        boolean[] accepted = {false};
+        connections.compute(userId, (key, emitters) -> {
+            Set<SseEmitter> set = emitters != null ? emitters : ConcurrentHashMap.newKeySet();
+            if (set.size() < properties.getMaxConnectionsPerUser()) {
+                accepted[0] = set.add(emitter);
+            }
+            return set.isEmpty() ? null : set;
+        });
+        if (!accepted[0]) {
+            connectionCount.decrementAndGet();
+            throw new UserException(UserErrorCode.TOO_MANY_REQUESTS);
+        }
+
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> remove(userId, emitter));
+        emitter.onError(e -> remove(userId, emitter));
+        return emitter;
+    }
+
+    /**
+     * 推送到指定用户的全部连接（集群范围）
+     *
+     * @param type    事件类型
+     * @param userIds 目标用户ID
+     */
+    public void push(SessionPushType type, Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return;
+        }
+        topic.publishAsync(new SessionPush(type, List.copyOf(userIds)));
+    }
+
+    @Override
+    public void destroy() {
+        heartbeatScheduler.shutdownNow();
+        deliveryExecutor.shutdownNow();
+        connections.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+        connections.clear();
+    }
+
+    private void deliver(SessionPush push) {
+        for (Long userId : push.userIds()) {
+            Set<SseEmitter> emitters = connections.get(userId);
+            if (emitters == null) {
+                continue;
+            }
+            for (SseEmitter emitter : emitters) {
+                deliveryExecutor.execute(() -> deliver(push, userId, emitter));
+            }
+        }
+    }
+
+    private void deliver(SessionPush push, Long userId, SseEmitter emitter) {
+        if (send(userId, emitter, SseEmitter.event()
+                .name(push.type().eventName())
+                .data(System.currentTimeMillis()))
+                && push.type() == SessionPushType.SESSION_REVOKED) {
+            // 会话已失效，通知后主动断开，客户端不应再重连
+            emitter.complete();
+        }
+    }
+
+    private void heartbeat() {
+        connections.forEach((userId, emitters) -> emitters.forEach(emitter -> {
+            if (!heartbeatsInFlight.add(emitter)) {
+                // 一个心跳周期仍未写完：客户端不再读取，移出索引，阻塞的写入由容器超时结束
+                log.debug("SSE heartbeat stalled, user={}", userId);
+                remove(userId, emitter);
+                return;
+            }
+            deliveryExecutor.execute(() -> {
+                try {
+                    send(userId, emitter, SseEmitter.event().comment("heartbeat"));
+                } finally {
+                    heartbeatsInFlight.remove(emitter);
+                }
+            });
+        }));
+    }
+
+    private boolean send(Long userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 客户端已断开
+            log.debug("SSE send failed, user={}: {}", userId, e.getMessage());
+            remove(userId, emitter);
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        boolean[] removed = {false};
+        connections.computeIfPresent(userId, (key, emitters) -> {
+            removed[0] = emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+        if (removed[0]) {
+            connectionCount.decrementAndGet();
+        }
+    }
+}
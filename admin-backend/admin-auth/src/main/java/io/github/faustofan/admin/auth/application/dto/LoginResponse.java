@@ -1,5 +1,6 @@
 package io.github.faustofan.admin.auth.application.dto;
 
+import io.github.faustofan.admin.shared.bytecode.json.CompiledJson;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.util.Map;
@@ -8,6 +9,7 @@ import java.util.Set;
 /**
  * 登录响应 DTO
  */
+@CompiledJson
 @Schema(description = "登录响应")
 public record LoginResponse(
         @Schema(description = "访问令牌", example = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...") String accessToken,
@@ -0,0 +1,132 @@
+package io.github.faustofan.admin.auth.application.handler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import io.github.faustofan.admin.auth.application.LoginUserRecomputeService;
+import io.github.faustofan.admin.auth.application.RouteService;
+import io.github.faustofan.admin.auth.domain.permission.PermissionRegistry;
+import io.github.faustofan.admin.auth.domain.service.TenantAdmissionService;
+import io.github.faustofan.admin.auth.domain.service.TenantEntitlementService;
+import io.github.faustofan.admin.shared.messaging.core.SysMessage;
+import io.github.faustofan.admin.system.domain.constants.SysMenuTopics;
+import io.github.faustofan.admin.system.domain.constants.SysPackageTopics;
+import io.github.faustofan.admin.system.domain.constants.SysPolicyTopics;
+import io.github.faustofan.admin.system.domain.constants.SysRoleTopics;
+import io.github.faustofan.admin.system.domain.constants.SysTenantTopics;
+import io.github.faustofan.admin.system.domain.event.MenuChangedEvent;
+import io.github.faustofan.admin.system.domain.event.PackageChangedEvent;
+import io.github.faustofan.admin.system.domain.event.PolicyChangedEvent;
+import io.github.faustofan.admin.system.domain.event.RoleChangedEvent;
+import io.github.faustofan.admin.system.domain.event.TenantChangedEvent;
+
+/**
+ * 权限变更监听器 (角色/菜单/策略/产品包/租户)
+ * <p>
+ * 只在事件发起节点处理：L2 为集群共享，重建一次即可；
+ * 其他节点的 L1 由 LayeredCache 的失效广播清理。
+ */
+@Component
+public class AuthPermissionEventListener {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthPermissionEventListener.class);
+
+    private final LoginUserRecomputeService recomputeService;
+
+    private final RouteService routeService;
+
+    private final PermissionRegistry permissionRegistry;
+
+    private final TenantEntitlementService entitlementService;
+
+    private final TenantAdmissionService tenantAdmissionService;
+
+    public AuthPermissionEventListener(
+            LoginUserRecomputeService recomputeService,
+            RouteService routeService,
+            PermissionRegistry permissionRegistry,
+            TenantEntitlementService entitlementService,
+            TenantAdmissionService tenantAdmissionService) {
+        this.recomputeService = recomputeService;
+        this.routeService = routeService;
+        this.permissionRegistry = permissionRegistry;
+        this.entitlementService = entitlementService;
+        this.tenantAdmissionService = tenantAdmissionService;
+    }
+
+    /**
+     * 本地监听 (角色权限变更)
+     */
+    @EventListener
+    @Async("msgVirtualExecutor")
+    public void onLocalRoleChange(SysMessage<RoleChangedEvent> message) {
+        if (SysRoleTopics.ROLE_CHANGED.equals(message.topic())) {
+            var event = message.payload();
+            log.info("Role changed: tenant={} roles={} users={}", event.tenantId(), event.roleIds(), event.userIds());
+            routeService.evictByRoles(event.roleIds());
+            recomputeService.recomputeRoles(event.roleIds(), event.userIds(), event.timestamp());
+        }
+    }
+
+    /**
+     * 本地监听 (菜单变更)
+     */
+    @EventListener
+    @Async("msgVirtualExecutor")
+    public void onLocalMenuChange(SysMessage<MenuChangedEvent> message) {
+        if (SysMenuTopics.MENU_CHANGED.equals(message.topic())) {
+            var event = message.payload();
+            log.info("Menu changed: menus={}", event.menuIds());
+            // 权限码可能变化：先重载编号表，后续重建的位图使用新版本
+            permissionRegistry.reloadAndBroadcast();
+            routeService.evictByMenus(event.menuIds(), event.roleIds(), event.packageIds());
+            recomputeService.recomputeMenus(event.menuIds(), event.roleIds(), event.timestamp());
+        }
+    }
+
+    /**
+     * 本地监听 (产品包变更)
+     */
+    @EventListener
+    @Async("msgVirtualExecutor")
+    public void onLocalPackageChange(SysMessage<PackageChangedEvent> message) {
+        if (SysPackageTopics.PACKAGE_CHANGED.equals(message.topic())) {
+            var event = message.payload();
+            log.info("Package changed: packages={}", event.packageIds());
+            // 授权位图写入集群共享的 L2：先对齐编号表，避免本节点编号表落后时未知权限码被丢弃
+            permissionRegistry.reloadAndBroadcast();
+            entitlementService.refresh(event.packageIds());
+            routeService.evictByPackages(event.packageIds());
+        }
+    }
+
+    /**
+     * 本地监听 (数据策略变更)
+     */
+    @EventListener
+    @Async("msgVirtualExecutor")
+    public void onLocalPolicyChange(SysMessage<PolicyChangedEvent> message) {
+        if (SysPolicyTopics.POLICY_CHANGED.equals(message.topic())) {
+            var event = message.payload();
+            log.info("Policy changed: tenant={} policies={}", event.tenantId(), event.policyIds());
+            recomputeService.recomputePolicies(event.policyIds(), event.roleIds(), event.timestamp());
+        }
+    }
+
+    /**
+     * 本地监听 (租户变更)
+     */
+    @EventListener
+    @Async("msgVirtualExecutor")
+    public void onLocalTenantChange(SysMessage<TenantChangedEvent> message) {
+        if (SysTenantTopics.TENANT_CHANGED.equals(message.topic())) {
+            var event = message.payload();
+            log.info("Tenant changed: tenants={}", event.tenantIds());
+            // 准入快照为节点内存数据，需通知所有节点增量同步
+            tenantAdmissionService.refreshAndBroadcast();
+        }
+    }
+}
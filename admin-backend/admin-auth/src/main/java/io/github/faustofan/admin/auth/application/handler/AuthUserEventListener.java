@@ -1,5 +1,7 @@
 package io.github.faustofan.admin.auth.application.handler;
 
+import java.util.List;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
@@ -8,11 +10,14 @@ import org.springframework.pulsar.annotation.PulsarListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import io.github.faustofan.admin.auth.application.SessionPushService;
+import io.github.faustofan.admin.auth.domain.model.SessionPushType;
 import io.github.faustofan.admin.shared.cache.constants.CacheKeys;
 import io.github.faustofan.admin.shared.cache.util.CacheUtils;
 import io.github.faustofan.admin.shared.messaging.core.PulsarMessageProvider;
 import io.github.faustofan.admin.shared.messaging.core.SysMessage;
 import io.github.faustofan.admin.system.domain.constants.SysUserTopics;
+import io.github.faustofan.admin.system.domain.enums.UserStatus;
 import io.github.faustofan.admin.system.domain.event.UserPasswordChangedEvent;
 import io.github.faustofan.admin.system.domain.event.UserStatusChangedEvent;
 
@@ -27,8 +32,11 @@ public class AuthUserEventListener {
 
     private final CacheUtils cacheUtils;
 
-    public AuthUserEventListener(CacheUtils cacheUtils) {
+    private final SessionPushService sessionPushService;
+
+    public AuthUserEventListener(CacheUtils cacheUtils, SessionPushService sessionPushService) {
         this.cacheUtils = cacheUtils;
+        this.sessionPushService = sessionPushService;
     }
 
     /**
@@ -40,37 +48,50 @@ public class AuthUserEventListener {
         if (SysUserTopics.USER_PASSWORD_CHANGED.equals(message.topic())) {
             var event = message.payload();
             // 直接使用事件中的数据
-            evictAuthCache(event.userId(), event.tenantId(), event.username());
+            evictAuthCache(event.userId());
+            sessionPushService.push(SessionPushType.SESSION_REVOKED, List.of(event.userId()));
+        }
+    }
+
+    /**
+     * 场景 2: 本地监听 (状态变更)
+     * <p>
+     * 在事件发起节点推送会话失效：推送经 Redis Topic 广播，所有节点上该用户的连接都会收到，
+     * 不依赖 Pulsar 是否启用。
+     */
+    @EventListener
+    @Async("msgVirtualExecutor")
+    public void onLocalStatusChange(SysMessage<UserStatusChangedEvent> message) {
+        if (SysUserTopics.USER_STATUS_CHANGED.equals(message.topic())) {
+            var event = message.payload();
+            evictAuthCache(event.userId());
+            if (event.newStatus() != UserStatus.ACTIVE) {
+                sessionPushService.push(SessionPushType.SESSION_REVOKED, List.of(event.userId()));
+            }
         }
     }
 
     /**
-     * 场景 2: 远程监听 (状态变更)
+     * 场景 3: 远程监听 (状态变更)
+     * 只清理缓存，会话失效已由发起节点推送
      */
     @PulsarListener(topics = SysUserTopics.USER_STATUS_CHANGED, subscriptionName = "auth-user-cache-evict-sub")
     @ConditionalOnBean(PulsarMessageProvider.class)
     public void onRemoteStatusChange(UserStatusChangedEvent event) {
         log.info("Remote status change: user={} status={}", event.username(), event.newStatus());
         // 直接使用事件中的数据
-        evictAuthCache(event.userId(), event.tenantId(), event.username());
+        evictAuthCache(event.userId());
     }
 
     /**
      * 纯计算逻辑，无 I/O 阻塞
+     * 只需清理主条目：用户名别名只保存用户ID，密码与状态变化不影响它
      */
-    private void evictAuthCache(Long userId, Long tenantId, String username) {
-        // 1. 构建 ID 维度 Key -> ID:1001
+    private void evictAuthCache(Long userId) {
+        // ID 维度 Key -> ID:1001
         String idKey = CacheKeys.KEY_ID + userId;
-
-        // 2. 构建 Username 维度 Key -> NAME:1001:admin
-        // 注意：这里一定要判空，尽管 tenantId 通常不为空，但在非多租户模式下需注意
-        String safeTenantId = (tenantId == null) ? "0" : tenantId.toString();
-        String nameKey = CacheKeys.KEY_NAME + safeTenantId + ":" + username;
-
-        // 3. 执行清理
         cacheUtils.evict(CacheKeys.CACHE_AUTH_USER, idKey);
-        cacheUtils.evict(CacheKeys.CACHE_AUTH_USER, nameKey);
 
-        log.debug("Evicted keys: [{}, {}]", idKey, nameKey);
+        log.debug("Evicted key: {}", idKey);
     }
-}
\ No newline at end of file
+}
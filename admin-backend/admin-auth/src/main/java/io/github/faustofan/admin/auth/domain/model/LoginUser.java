@@ -4,6 +4,10 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import io.github.faustofan.admin.auth.domain.permission.PermissionMask;
+import io.github.faustofan.admin.shared.common.context.RoleDataScopeInfo;
+import io.github.faustofan.admin.system.domain.policy.PolicyDefinition;
+
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -16,6 +20,9 @@ import java.util.stream.Collectors;
  */
 public class LoginUser implements UserDetails {
 
+    /** 通配权限码，拥有即视为拥有全部权限 */
+    public static final String ALL_PERMISSION = "*:*:*";
+
     private final long userId;
     private final Long tenantId;
     private final long orgId;
@@ -25,7 +32,10 @@ public class LoginUser implements UserDetails {
     private final String nickname;
     private final Map<Long, String> roles;
     private final Set<String> permissions;
-    private final Set<String> dataPolicy;
+    private final Set<PolicyDefinition> dataPolicy;
+    private final Map<String, Object> attributes;
+    private final PermissionMask permissionMask;
+    private final List<RoleDataScopeInfo> dataScopes;
     private final boolean isSuperAdmin;
     private final boolean enabled;
     private final boolean accountNonExpired;
@@ -42,7 +52,10 @@ public class LoginUser implements UserDetails {
             String nickname,
             Map<Long, String> roles,
             Set<String> permissions,
-            Set<String> dataPolicy,
+            Set<PolicyDefinition> dataPolicy,
+            List<RoleDataScopeInfo> dataScopes,
+            Map<String, Object> attributes,
+            PermissionMask permissionMask,
             boolean isSuperAdmin,
             boolean enabled,
             boolean accountNonExpired,
@@ -59,6 +72,9 @@ public class LoginUser implements UserDetails {
         this.roles = roles != null ? roles : new HashMap<>();
         this.permissions = permissions != null ? permissions : new HashSet<>();
         this.dataPolicy = dataPolicy != null ? dataPolicy : new HashSet<>();
+        this.dataScopes = dataScopes != null ? dataScopes : List.of();
+        this.attributes = attributes != null ? attributes : Map.of();
+        this.permissionMask = permissionMask;
         this.isSuperAdmin = isSuperAdmin;
         this.enabled = enabled;
         this.accountNonExpired = accountNonExpired;
@@ -77,10 +93,10 @@ public class LoginUser implements UserDetails {
             String nickname,
             Map<Long, String> roles,
             Set<String> permissions,
-            Set<String> dataPolicy
+            Set<PolicyDefinition> dataPolicy
     ) {
         this(userId, tenantId, orgId, orgName, username, password, nickname, roles, permissions, dataPolicy,
-                false, true, true, true, true
+                List.of(), Map.of(), null, false, true, true, true, true
         );
     }
 
@@ -95,9 +111,14 @@ public class LoginUser implements UserDetails {
      * 检查用户是否拥有指定权限
      */
     public boolean hasPermission(String permission) {
-        if (isSuperAdmin)
-            return true;
-        return permissions.contains(permission) || permissions.contains("*:*:*");
+        return hasAllPermissions() || permissions.contains(permission);
+    }
+
+    /**
+     * 是否拥有全部权限（超级管理员或持有通配权限码）
+     */
+    public boolean hasAllPermissions() {
+        return isSuperAdmin || permissions.contains(ALL_PERMISSION);
     }
 
     public long getUserId() {
@@ -128,10 +149,25 @@ public class LoginUser implements UserDetails {
         return permissions;
     }
 
-    public Set<String> getDataPolicy() {
+    public Set<PolicyDefinition> getDataPolicy() {
         return dataPolicy;
     }
 
+    public List<RoleDataScopeInfo> getDataScopes() {
+        return dataScopes;
+    }
+
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * 权限位图，可能为 null 或版本过期，由 PermissionChecker 负责回退
+     */
+    public PermissionMask getPermissionMask() {
+        return permissionMask;
+    }
+
     public boolean isSuperAdmin() {
         return isSuperAdmin;
     }
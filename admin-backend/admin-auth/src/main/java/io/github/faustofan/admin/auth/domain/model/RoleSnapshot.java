@@ -0,0 +1,27 @@
+package io.github.faustofan.admin.auth.domain.model;
+
+import java.io.Serializable;
+import java.util.Set;
+
+import io.github.faustofan.admin.shared.common.context.RoleDataScopeInfo;
+import io.github.faustofan.admin.system.domain.policy.PolicyDefinition;
+
+/**
+ * 角色权限快照
+ * <p>
+ * 按角色缓存的权限码、数据策略和数据范围，多个用户共享同一份快照，
+ * 构建 LoginUser 时只需在内存中做并集。
+ *
+ * @param roleId      角色ID
+ * @param roleName    角色名称
+ * @param permissions 菜单权限码集合
+ * @param policies    数据策略集合
+ * @param dataScope   数据范围
+ */
+public record RoleSnapshot(
+        long roleId,
+        String roleName,
+        Set<String> permissions,
+        Set<PolicyDefinition> policies,
+        RoleDataScopeInfo dataScope
+) implements Serializable {}
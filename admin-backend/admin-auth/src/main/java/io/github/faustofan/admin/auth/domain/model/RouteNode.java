@@ -0,0 +1,29 @@
+package io.github.faustofan.admin.auth.domain.model;
+
+import java.io.Serializable;
+import java.util.List;
+
+import io.github.faustofan.admin.system.domain.enums.MenuType;
+
+/**
+ * 前端路由节点
+ *
+ * @param id        菜单ID
+ * @param name      菜单名称
+ * @param type      菜单类型（目录/菜单）
+ * @param path      路由地址
+ * @param component 组件路径
+ * @param icon      图标
+ * @param sortOrder 排序
+ * @param children  子节点
+ */
+public record RouteNode(
+        long id,
+        String name,
+        MenuType type,
+        String path,
+        String component,
+        String icon,
+        int sortOrder,
+        List<RouteNode> children
+) implements Serializable {}
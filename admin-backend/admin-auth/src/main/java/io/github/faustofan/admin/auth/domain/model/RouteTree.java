@@ -0,0 +1,18 @@
+package io.github.faustofan.admin.auth.domain.model;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 路由树缓存项
+ * <p>
+ * 按 (产品包, 角色集合) 指纹共享，etag 由树中菜单的 ID 与更新时间计算，
+ * 内容不变时 etag 不变，浏览器可直接复用本地副本。
+ *
+ * @param etag   强 ETag（含引号）
+ * @param routes 顶级路由节点
+ */
+public record RouteTree(
+        String etag,
+        List<RouteNode> routes
+) implements Serializable {}
@@ -0,0 +1,15 @@
+package io.github.faustofan.admin.auth.domain.model;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 会话推送消息，通过 Redis Topic 广播到所有节点，由持有对应用户连接的节点投递
+ *
+ * @param type    事件类型
+ * @param userIds 目标用户ID
+ */
+public record SessionPush(
+        SessionPushType type,
+        List<Long> userIds
+) implements Serializable {}
@@ -0,0 +1,26 @@
+package io.github.faustofan.admin.auth.domain.model;
+
+/**
+ * 会话推送事件类型
+ */
+public enum SessionPushType {
+
+    /** 会话已失效（账号被禁用、密码已修改），客户端应立即退出登录 */
+    SESSION_REVOKED("session-revoked"),
+
+    /** 权限已变化，客户端应重新拉取 /api/auth/me 与 /api/auth/routes */
+    PERMISSION_CHANGED("permission-changed");
+
+    private final String eventName;
+
+    SessionPushType(String eventName) {
+        this.eventName = eventName;
+    }
+
+    /**
+     * SSE 事件名
+     */
+    public String eventName() {
+        return eventName;
+    }
+}
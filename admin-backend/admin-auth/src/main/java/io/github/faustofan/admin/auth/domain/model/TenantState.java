@@ -0,0 +1,38 @@
+package io.github.faustofan.admin.auth.domain.model;
+
+import java.time.LocalDateTime;
+
+import io.github.faustofan.admin.shared.common.exception.ErrorCode;
+import io.github.faustofan.admin.shared.common.exception.errcode.BizErrorCode;
+
+/**
+ * 租户准入状态
+ * <p>
+ * 租户准入快照中的一项，已删除的租户以 enabled=false 保留，避免反复回源查询。
+ *
+ * @param enabled    是否启用（未禁用且未删除）
+ * @param expireTime 到期时间，为 null 表示永不过期
+ * @param packageId  产品包ID
+ */
+public record TenantState(
+        boolean enabled,
+        LocalDateTime expireTime,
+        long packageId
+) {
+
+    /**
+     * 判断租户在指定时间是否允许访问
+     *
+     * @param now 当前时间
+     * @return 拒绝原因；允许访问时返回 null
+     */
+    public ErrorCode rejection(LocalDateTime now) {
+        if (!enabled) {
+            return BizErrorCode.TENANT_DISABLED;
+        }
+        if (expireTime != null && !now.isBefore(expireTime)) {
+            return BizErrorCode.TENANT_EXPIRED;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.faustofan.admin.auth.domain.permission;
+
+import java.io.Serializable;
+import java.util.Set;
+
+/**
+ * 产品包授权快照
+ * <p>
+ * 产品包包含的菜单及其权限位图，按产品包缓存，租户请求时直接与用户权限求交。
+ *
+ * @param packageId 产品包ID
+ * @param menuIds   包含的菜单ID
+ * @param mask      包含的权限位图
+ */
+public record PackageEntitlement(
+        long packageId,
+        Set<Long> menuIds,
+        PermissionMask mask
+) implements Serializable {}
@@ -0,0 +1,62 @@
+package io.github.faustofan.admin.auth.domain.permission;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * 权限位图
+ * <p>
+ * 权限码经 {@link PermissionRegistry} 编号后以位图表示，判断与求交均为按字运算。
+ * version 为编号表版本，版本不一致的位图不可直接使用。
+ *
+ * @param version 编号表版本
+ * @param words   位图（每个 long 存 64 个权限）
+ */
+public record PermissionMask(long version, long[] words) implements Serializable {
+
+    /**
+     * 是否包含指定编号的权限
+     */
+    public boolean contains(int index) {
+        int word = index >>> 6;
+        return index >= 0 && word < words.length && (words[word] & (1L << index)) != 0;
+    }
+
+    /**
+     * 与另一位图求交（版本必须一致）
+     */
+    public PermissionMask and(PermissionMask other) {
+        int length = Math.min(words.length, other.words.length);
+        long[] result = new long[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = words[i] & other.words[i];
+        }
+        return new PermissionMask(version, result);
+    }
+
+    /**
+     * 位图中的权限数量
+     */
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof PermissionMask other && version == other.version && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(version) + Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        return "PermissionMask[version=" + version + ", size=" + cardinality() + "]";
+    }
+}
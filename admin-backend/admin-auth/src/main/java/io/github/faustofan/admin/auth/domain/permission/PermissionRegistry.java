@@ -0,0 +1,105 @@
+package io.github.faustofan.admin.auth.domain.permission;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import io.github.faustofan.admin.shared.cache.constants.CacheKeys;
+import io.github.faustofan.admin.system.infrastructure.reponsitory.SysMenuRepository;
+
+/**
+ * 权限码编号表
+ * <p>
+ * 将全部菜单权限码按菜单ID排序后编号为连续整数，供 {@link PermissionMask} 使用。
+ * 各节点从同一份数据计算，编号与版本一致，因此位图可以跨节点缓存。
+ * <p>
+ * 菜单变更后重新加载，并通过 Redis Topic 通知其他节点；读取为无锁的 volatile 快照。
+ */
+@Component
+public class PermissionRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(PermissionRegistry.class);
+
+    private record Snapshot(long version, Map<String, Integer> indexes) {}
+
+    private final SysMenuRepository menuRepository;
+    private final RTopic topic;
+
+    private volatile Snapshot snapshot;
+
+    public PermissionRegistry(SysMenuRepository menuRepository, RedissonClient redissonClient) {
+        this.menuRepository = menuRepository;
+        this.topic = redissonClient.getTopic(CacheKeys.TOPIC_PERM_REGISTRY_SYNC);
+        this.topic.addListener(Long.class, (channel, version) -> {
+            if (snapshot == null || snapshot.version() != version) {
+                reload();
+            }
+        });
+    }
+
+    /**
+     * 当前编号表版本
+     */
+    public long version() {
+        return current().version();
+    }
+
+    /**
+     * 权限码的编号
+     *
+     * @return 编号；未知权限码返回 -1
+     */
+    public int indexOf(String permCode) {
+        return current().indexes().getOrDefault(permCode, -1);
+    }
+
+    /**
+     * 将权限码集合编码为位图，未知权限码被忽略
+     */
+    public PermissionMask encode(Collection<String> permCodes) {
+        Snapshot current = current();
+        long[] words = new long[(current.indexes().size() + 63) >>> 6];
+        for (String code : permCodes) {
+            Integer index = current.indexes().get(code);
+            if (index != null) {
+                words[index >>> 6] |= 1L << index;
+            }
+        }
+        return new PermissionMask(current.version(), words);
+    }
+
+    /**
+     * 重新加载本节点编号表，并通知其他节点
+     */
+    public void reloadAndBroadcast() {
+        topic.publish(reload().version());
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    private synchronized Snapshot reload() {
+        // 菜单为全局数据，不受租户过滤影响
+        List<String> codes = menuRepository.findPermCodes();
+        Map<String, Integer> indexes = new HashMap<>(codes.size() * 2);
+        long version = codes.size();
+        for (String code : codes) {
+            if (indexes.putIfAbsent(code, indexes.size()) == null) {
+                version = 31 * version + code.hashCode();
+            }
+        }
+        Snapshot loaded = new Snapshot(version, Map.copyOf(indexes));
+        this.snapshot = loaded;
+        log.info("Permission registry loaded, codes={}, version={}", indexes.size(), version);
+        return loaded;
+    }
+}
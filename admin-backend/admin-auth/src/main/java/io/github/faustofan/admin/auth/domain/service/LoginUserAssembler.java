@@ -0,0 +1,91 @@
+package io.github.faustofan.admin.auth.domain.service;
+
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import io.github.faustofan.admin.auth.domain.model.LoginUser;
+import io.github.faustofan.admin.auth.domain.model.RoleSnapshot;
+import io.github.faustofan.admin.auth.domain.permission.PermissionRegistry;
+import io.github.faustofan.admin.system.domain.enums.UserStatus;
+import io.github.faustofan.admin.system.dto.SysUserAuthView;
+import io.github.faustofan.admin.system.infrastructure.loader.BatchLoader;
+
+/**
+ * LoginUser 组装器
+ * <p>
+ * 将用户鉴权视图与角色快照合并为 LoginUser。
+ * 登录加载与后台批量重建共用同一套组装逻辑。
+ */
+@Component
+public class LoginUserAssembler {
+
+    private final RoleSnapshotService roleSnapshotService;
+
+    private final PermissionRegistry permissionRegistry;
+
+    public LoginUserAssembler(RoleSnapshotService roleSnapshotService, PermissionRegistry permissionRegistry) {
+        this.roleSnapshotService = roleSnapshotService;
+        this.permissionRegistry = permissionRegistry;
+    }
+
+    /**
+     * 将鉴权视图与角色快照合并为 LoginUser
+     *
+     * @param user 用户鉴权视图
+     * @return LoginUser
+     */
+    public LoginUser assemble(SysUserAuthView user) {
+        // 角色快照按角色缓存，这里只做内存并集
+        return assemble(user, roleSnapshotService.getSnapshots(user.getRoleIds()));
+    }
+
+    /**
+     * 批量组装时使用：角色快照从调用方共享的加载器中取，整批用户的角色只解析一次
+     *
+     * @param user       用户鉴权视图
+     * @param roleLoader 角色快照加载器
+     * @return LoginUser
+     */
+    public LoginUser assemble(SysUserAuthView user, BatchLoader<Long, RoleSnapshot> roleLoader) {
+        return assemble(user, roleLoader.getAll(user.getRoleIds()).values());
+    }
+
+    private LoginUser assemble(SysUserAuthView user, Collection<RoleSnapshot> snapshots) {
+        var roleMaps = snapshots.stream()
+                .collect(Collectors.toUnmodifiableMap(RoleSnapshot::roleId, RoleSnapshot::roleName));
+
+        var permissions = snapshots.stream()
+                .flatMap(snapshot -> snapshot.permissions().stream())
+                .collect(Collectors.toUnmodifiableSet());
+
+        var policies = snapshots.stream()
+                .flatMap(snapshot -> snapshot.policies().stream())
+                .collect(Collectors.toUnmodifiableSet());
+
+        var dataScopes = snapshots.stream()
+                .map(RoleSnapshot::dataScope)
+                .toList();
+
+        return new LoginUser(
+                user.getId(),
+                user.getTenantId(),
+                user.getOrgId(),
+                user.getOrgName(),
+                user.getUsername(),
+                user.getPassword(),
+                user.getNickname(),
+                roleMaps,
+                permissions,
+                policies,
+                dataScopes,
+                user.getAttributes(),
+                permissionRegistry.encode(permissions),
+                user.isSuperAdmin(),
+                user.getStatus() == UserStatus.ACTIVE,
+                true,
+                true,
+                true);
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.faustofan.admin.auth.domain.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import io.github.faustofan.admin.auth.domain.model.RoleSnapshot;
+import io.github.faustofan.admin.shared.cache.constants.CacheKeys;
+import io.github.faustofan.admin.shared.cache.util.CacheUtils;
+import io.github.faustofan.admin.shared.common.context.RoleDataScopeInfo;
+import io.github.faustofan.admin.system.domain.policy.PolicyDefinition;
+import io.github.faustofan.admin.system.dto.SysRoleSnapshotView;
+import io.github.faustofan.admin.system.infrastructure.reponsitory.SysRoleRepository;
+
+/**
+ * 角色权限快照服务
+ * <p>
+ * 每个角色的权限码、数据策略、数据范围只计算一次并缓存（L1+L2），
+ * 角色变更时由事件失效。未命中的角色合并为一次批量查询。
+ */
+@Service
+public class RoleSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(RoleSnapshotService.class);
+
+    private final SysRoleRepository roleRepository;
+    private final CacheUtils cacheUtils;
+
+    public RoleSnapshotService(SysRoleRepository roleRepository, CacheUtils cacheUtils) {
+        this.roleRepository = roleRepository;
+        this.cacheUtils = cacheUtils;
+    }
+
+    /**
+     * 批量获取角色快照，已删除的角色会被忽略
+     *
+     * @param roleIds 角色ID集合
+     * @return 角色快照列表
+     */
+    public List<RoleSnapshot> getSnapshots(Collection<Long> roleIds) {
+        return List.copyOf(getSnapshotMap(roleIds).values());
+    }
+
+    /**
+     * 批量获取角色快照，已删除的角色不出现在结果中
+     *
+     * @param roleIds 角色ID集合
+     * @return 角色ID -> 角色快照
+     */
+    public Map<Long, RoleSnapshot> getSnapshotMap(Collection<Long> roleIds) {
+        if (roleIds == null || roleIds.isEmpty()) {
+            return Map.of();
+        }
+
+        // 1. 先查缓存
+        Map<Long, RoleSnapshot> snapshots = new LinkedHashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long roleId : new LinkedHashSet<>(roleIds)) {
+            cacheUtils.get(CacheKeys.CACHE_AUTH_ROLE, cacheKey(roleId), RoleSnapshot.class)
+                    .ifPresentOrElse(snapshot -> snapshots.put(roleId, snapshot), () -> missing.add(roleId));
+        }
+
+        // 2. 未命中的角色合并为一次查询并回填缓存
+        if (!missing.isEmpty()) {
+            for (SysRoleSnapshotView view : roleRepository.findSnapshotsByIds(missing)) {
+                RoleSnapshot snapshot = toSnapshot(view);
+                cacheUtils.put(CacheKeys.CACHE_AUTH_ROLE, cacheKey(snapshot.roleId()), snapshot);
+                snapshots.put(snapshot.roleId(), snapshot);
+            }
+            log.debug("Role snapshots loaded from database: {}", missing);
+        }
+        return snapshots;
+    }
+
+    /**
+     * 失效角色快照
+     *
+     * @param roleIds 角色ID集合
+     */
+    public void evict(Collection<Long> roleIds) {
+        roleIds.forEach(roleId -> cacheUtils.evict(CacheKeys.CACHE_AUTH_ROLE, cacheKey(roleId)));
+    }
+
+    private static String cacheKey(Long roleId) {
+        return CacheKeys.KEY_ID + roleId;
+    }
+
+    private static RoleSnapshot toSnapshot(SysRoleSnapshotView view) {
+        var permissions = view.getMenus().stream()
+                .map(SysRoleSnapshotView.TargetOf_menus::getPermCode)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet());
+
+        var policies = view.getPolicies().stream()
+                .map(policy -> new PolicyDefinition(
+                        policy.getId(),
+                        policy.getUpdatedTime().toEpochMilli(),
+                        policy.getTargetResource(),
+                        policy.getPolicyType(),
+                        policy.getPolicyContent()))
+                .collect(Collectors.toUnmodifiableSet());
+
+        var dataScope = new RoleDataScopeInfo(view.getDataScope(), List.copyOf(view.getDataScopeOrgIds()));
+
+        return new RoleSnapshot(view.getId(), view.getName(), permissions, policies, dataScope);
+    }
+}
@@ -0,0 +1,205 @@
+package io.github.faustofan.admin.auth.domain.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import io.github.faustofan.admin.auth.domain.model.TenantState;
+import io.github.faustofan.admin.auth.infrastructure.SecurityProperties;
+import io.github.faustofan.admin.shared.cache.constants.CacheKeys;
+import io.github.faustofan.admin.shared.common.exception.BizException;
+import io.github.faustofan.admin.shared.common.exception.ErrorCode;
+import io.github.faustofan.admin.shared.common.exception.errcode.BizErrorCode;
+import io.github.faustofan.admin.system.domain.enums.TenantStatus;
+import io.github.faustofan.admin.system.dto.SysTenantAdmissionView;
+import io.github.faustofan.admin.system.infrastructure.reponsitory.SysTenantRepository;
+
+/**
+ * 租户准入服务
+ * <p>
+ * 在内存中保存全部租户的 (状态, 到期时间, 产品包) 快照，请求路径上只读一次 volatile 引用，不加锁也不访问 Redis/数据库。
+ * <ul>
+ * <li>启动时全量加载</li>
+ * <li>按 updated_time 定时增量同步，兜底事件丢失</li>
+ * <li>租户变更事件到达时立即增量同步，并通过 Redis Topic 通知其他节点</li>
+ * </ul>
+ * 快照为不可变 Map，写入方在锁内复制后整体替换引用。
+ */
+@Service
+public class TenantAdmissionService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantAdmissionService.class);
+
+    /** 租户未绑定产品包 */
+    public static final long NO_PACKAGE = -1L;
+
+    private final SysTenantRepository tenantRepository;
+    private final SecurityProperties.TenantAdmission properties;
+    private final RTopic topic;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofVirtual().name("auth-tenant-admission-", 0).factory());
+
+    private volatile Map<Long, TenantState> snapshot;
+
+    /** 已同步到的最大 updated_time，仅在锁内读写 */
+    private Instant watermark;
+
+    public TenantAdmissionService(
+            SysTenantRepository tenantRepository,
+            SecurityProperties securityProperties,
+            RedissonClient redissonClient) {
+        this.tenantRepository = tenantRepository;
+        this.properties = securityProperties.getTenantAdmission();
+        this.topic = redissonClient.getTopic(CacheKeys.TOPIC_TENANT_ADMISSION_SYNC);
+        this.topic.addListener(Long.class, (channel, timestamp) -> refresh());
+    }
+
+    /**
+     * 启动时全量加载，并开始定时增量同步
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        current();
+        long interval = properties.getRefreshInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                refresh();
+            } catch (Exception e) {
+                log.warn("Tenant admission refresh failed", e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 校验租户是否允许访问
+     *
+     * @param tenantId 租户ID
+     * @throws BizException 租户不存在、已禁用或已过期
+     */
+    public void check(long tenantId) {
+        TenantState state = stateOf(tenantId);
+        if (state == null) {
+            throw new BizException(BizErrorCode.BIND_TENANT_NOT_EXIST);
+        }
+        ErrorCode rejection = state.rejection(LocalDateTime.now());
+        if (rejection != null) {
+            throw new BizException(rejection);
+        }
+    }
+
+    /**
+     * 获取租户绑定的产品包ID
+     *
+     * @param tenantId 租户ID
+     * @return 产品包ID；租户不存在或未绑定时返回 {@link #NO_PACKAGE}
+     */
+    public long packageIdOf(long tenantId) {
+        TenantState state = stateOf(tenantId);
+        return state != null ? state.packageId() : NO_PACKAGE;
+    }
+
+    /**
+     * 增量同步本节点快照，并通知其他节点
+     */
+    public void refreshAndBroadcast() {
+        refresh();
+        topic.publish(System.currentTimeMillis());
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    private TenantState stateOf(long tenantId) {
+        TenantState state = current().get(tenantId);
+        // 新建租户可能尚未同步到快照，单独回源一次
+        return state != null ? state : loadOne(tenantId);
+    }
+
+    private Map<Long, TenantState> current() {
+        Map<Long, TenantState> current = snapshot;
+        return current != null ? current : reloadAll();
+    }
+
+    private synchronized Map<Long, TenantState> reloadAll() {
+        if (snapshot != null) {
+            return snapshot;
+        }
+        List<SysTenantAdmissionView> views = tenantRepository.findAdmissionViews(null);
+        Map<Long, TenantState> loaded = new HashMap<>(views.size() * 2);
+        Instant latest = Instant.EPOCH;
+        for (SysTenantAdmissionView view : views) {
+            loaded.put(view.getId(), toState(view));
+            latest = max(latest, view.getUpdatedTime());
+        }
+        this.watermark = latest;
+        this.snapshot = Map.copyOf(loaded);
+        log.info("Tenant admission snapshot loaded, tenants={}", loaded.size());
+        return snapshot;
+    }
+
+    private synchronized void refresh() {
+        if (snapshot == null) {
+            reloadAll();
+            return;
+        }
+        // 向前回溯一段时间，覆盖时钟偏差与晚提交的事务；重复应用同一行是幂等的
+        Instant since = watermark.minus(properties.getOverlap());
+        List<SysTenantAdmissionView> views = tenantRepository.findAdmissionViews(since);
+        if (views.isEmpty()) {
+            return;
+        }
+        Map<Long, TenantState> updated = new HashMap<>(snapshot);
+        Instant latest = watermark;
+        for (SysTenantAdmissionView view : views) {
+            updated.put(view.getId(), toState(view));
+            latest = max(latest, view.getUpdatedTime());
+        }
+        this.watermark = latest;
+        this.snapshot = Map.copyOf(updated);
+        log.debug("Tenant admission snapshot refreshed, changed={}", views.size());
+    }
+
+    private synchronized TenantState loadOne(long tenantId) {
+        TenantState state = snapshot.get(tenantId);
+        if (state != null) {
+            return state;
+        }
+        SysTenantAdmissionView view = tenantRepository.findAdmissionView(tenantId);
+        if (view == null) {
+            return null;
+        }
+        state = toState(view);
+        Map<Long, TenantState> updated = new HashMap<>(snapshot);
+        updated.put(tenantId, state);
+        this.snapshot = Map.copyOf(updated);
+        return state;
+    }
+
+    private static TenantState toState(SysTenantAdmissionView view) {
+        return new TenantState(
+                !view.isDeleted() && view.getStatus() == TenantStatus.ENABLE,
+                view.getExpireTime(),
+                view.getPackageId());
+    }
+
+    private static Instant max(Instant a, Instant b) {
+        return b != null && b.isAfter(a) ? b : a;
+    }
+}
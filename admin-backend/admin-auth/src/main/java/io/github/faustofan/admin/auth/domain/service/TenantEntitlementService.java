@@ -0,0 +1,119 @@
+package io.github.faustofan.admin.auth.domain.service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import io.github.faustofan.admin.auth.domain.permission.PackageEntitlement;
+import io.github.faustofan.admin.auth.domain.permission.PermissionMask;
+import io.github.faustofan.admin.auth.domain.permission.PermissionRegistry;
+import io.github.faustofan.admin.shared.cache.constants.CacheKeys;
+import io.github.faustofan.admin.shared.cache.util.CacheUtils;
+import io.github.faustofan.admin.system.infrastructure.reponsitory.SysMenuRepository;
+
+/**
+ * 租户授权服务
+ * <p>
+ * 租户可使用的功能由其产品包决定。每个产品包的菜单集合与权限位图预先计算并缓存（L1+L2），
+ * 产品包变更时重新计算并写入缓存，LayeredCache 会广播失效其他节点的 L1。
+ * 请求期间判断权限只需两次位运算，不再关联 sys_package_menu。
+ */
+@Service
+public class TenantEntitlementService {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantEntitlementService.class);
+
+    /** 租户未绑定产品包（系统租户），不受产品包限制 */
+    public static final long NO_PACKAGE = TenantAdmissionService.NO_PACKAGE;
+
+    private static final String KEY_PACKAGE = "PKG:";
+
+    private final TenantAdmissionService tenantAdmissionService;
+    private final SysMenuRepository menuRepository;
+    private final PermissionRegistry permissionRegistry;
+    private final CacheUtils cacheUtils;
+
+    public TenantEntitlementService(
+            TenantAdmissionService tenantAdmissionService,
+            SysMenuRepository menuRepository,
+            PermissionRegistry permissionRegistry,
+            CacheUtils cacheUtils) {
+        this.tenantAdmissionService = tenantAdmissionService;
+        this.menuRepository = menuRepository;
+        this.permissionRegistry = permissionRegistry;
+        this.cacheUtils = cacheUtils;
+    }
+
+    /**
+     * 获取租户绑定的产品包ID（读取租户准入快照）
+     *
+     * @param tenantId 租户ID
+     * @return 产品包ID；未绑定时返回 {@link #NO_PACKAGE}
+     */
+    public long packageIdOf(long tenantId) {
+        return tenantAdmissionService.packageIdOf(tenantId);
+    }
+
+    /**
+     * 获取租户的授权快照
+     *
+     * @param tenantId 租户ID
+     * @return 授权快照；租户不受产品包限制时返回 null
+     */
+    public PackageEntitlement entitlementOf(long tenantId) {
+        long packageId = packageIdOf(tenantId);
+        return packageId == NO_PACKAGE ? null : getEntitlement(packageId);
+    }
+
+    /**
+     * 获取产品包授权快照；编号表版本变化时自动重新计算
+     */
+    public PackageEntitlement getEntitlement(long packageId) {
+        PackageEntitlement entitlement = cacheUtils
+                .get(CacheKeys.CACHE_AUTH_ENTITLEMENT, KEY_PACKAGE + packageId, PackageEntitlement.class)
+                .orElse(null);
+        if (entitlement == null || entitlement.mask().version() != permissionRegistry.version()) {
+            entitlement = compute(packageId);
+            cacheUtils.put(CacheKeys.CACHE_AUTH_ENTITLEMENT, KEY_PACKAGE + packageId, entitlement);
+        }
+        return entitlement;
+    }
+
+    /**
+     * 产品包变更：重新计算并推送
+     */
+    public void refresh(Collection<Long> packageIds) {
+        for (Long packageId : packageIds) {
+            cacheUtils.put(CacheKeys.CACHE_AUTH_ENTITLEMENT, KEY_PACKAGE + packageId, compute(packageId));
+        }
+        log.info("Package entitlements refreshed: {}", packageIds);
+    }
+
+    /**
+     * 判断租户是否开通了某个权限
+     *
+     * @param tenantId 租户ID
+     * @param index    权限编号
+     */
+    public boolean isEntitled(long tenantId, int index) {
+        PackageEntitlement entitlement = entitlementOf(tenantId);
+        return entitlement == null || entitlement.mask().contains(index);
+    }
+
+    private PackageEntitlement compute(long packageId) {
+        Set<Long> menuIds = new HashSet<>();
+        Set<String> permCodes = new HashSet<>();
+        for (var row : menuRepository.findPermCodesByPackageId(packageId)) {
+            menuIds.add(row.get_1());
+            if (row.get_2() != null) {
+                permCodes.add(row.get_2());
+            }
+        }
+        PermissionMask mask = permissionRegistry.encode(permCodes);
+        return new PackageEntitlement(packageId, Set.copyOf(menuIds), mask);
+    }
+}
@@ -1,12 +1,11 @@
 package io.github.faustofan.admin.auth.domain.service;
 
-import java.util.Objects;
+import java.time.Duration;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.CacheConfig;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -14,6 +13,8 @@ import org.springframework.stereotype.Service;
 
 import io.github.faustofan.admin.auth.domain.model.LoginUser;
 import io.github.faustofan.admin.shared.cache.constants.CacheKeys;
+import io.github.faustofan.admin.shared.cache.util.CacheUtils;
+import io.github.faustofan.admin.shared.common.constant.SystemConstants;
 import io.github.faustofan.admin.shared.common.context.AppContextHolder;
 import io.github.faustofan.admin.shared.common.exception.BizException;
 import io.github.faustofan.admin.shared.common.exception.UserException;
@@ -22,27 +23,52 @@ import io.github.faustofan.admin.shared.common.exception.errcode.UserErrorCode;
 import io.github.faustofan.admin.shared.distributed.constants.RedisKeyRegistry;
 import io.github.faustofan.admin.shared.distributed.core.RedisUtil;
 import io.github.faustofan.admin.system.domain.enums.UserStatus;
-import io.github.faustofan.admin.system.dto.SysUserLoginView;
+import io.github.faustofan.admin.system.dto.SysUserAuthView;
+import io.github.faustofan.admin.system.infrastructure.loader.BatchLoader;
 import io.github.faustofan.admin.system.infrastructure.reponsitory.SysUserRepository;
-import jakarta.servlet.http.HttpServletRequest;
 
 /**
  * 用户详情服务
  * 实现 Spring Security 的 UserDetailsService 接口
+ * <p>
+ * LoginUser 只在 ID:{userId} 下缓存一份；NAME:{tenantId}:{username} 为别名，只保存用户ID。
+ * 按ID加载的缓存未命中：单个未命中直接查询；已有回源在途时，后续未命中在短窗口内合并为一次批量查询
+ * （重建后或冷启动时大量 Token 同时回源）。
  */
 @Service
-@CacheConfig(cacheNames = CacheKeys.CACHE_AUTH_USER)
 public class UserDetailsServiceImpl implements UserDetailsService {
 
+    /** 按ID回源的合并窗口：只在已有回源在途时等待，换取并发回源合并为一次 id = any(?) 查询 */
+    private static final Duration AUTH_VIEW_BATCH_WINDOW = Duration.ofMillis(2);
+    private static final int AUTH_VIEW_MAX_BATCH_SIZE = 128;
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private final SysUserRepository userRepository;
 
+    private final LoginUserAssembler loginUserAssembler;
+
     private final RedisUtil redisUtil;
 
-    public UserDetailsServiceImpl(SysUserRepository userRepository, RedisUtil redisUtil) {
+    private final CacheUtils cacheUtils;
+
+    private final BatchLoader<Long, SysUserAuthView> authViewLoader;
+
+    public UserDetailsServiceImpl(
+            SysUserRepository userRepository,
+            LoginUserAssembler loginUserAssembler,
+            RedisUtil redisUtil,
+            CacheUtils cacheUtils) {
         this.userRepository = userRepository;
+        this.loginUserAssembler = loginUserAssembler;
         this.redisUtil = redisUtil;
+        this.cacheUtils = cacheUtils;
+        // 认证时按用户ID跨租户查询，批量查询固定以系统身份执行，与合并了谁的调用无关
+        this.authViewLoader = BatchLoader.windowed(
+                ids -> AppContextHolder.callWith(SystemConstants.Identity.SYSTEM_CONTEXT,
+                        () -> userRepository.findAuthViewsByIds(ids).stream()
+                                .collect(Collectors.toMap(SysUserAuthView::getId, Function.identity()))),
+                AUTH_VIEW_BATCH_WINDOW, AUTH_VIEW_MAX_BATCH_SIZE);
     }
 
     /**
@@ -56,35 +82,42 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
     /**
      * 场景 A: 登录时加载
-     * 缓存 Key 格式: name:{tenantId}:{username}
-     * sync = true: 防止高并发登录击穿 DB
+     * 别名 Key 格式: NAME:{tenantId}:{username} -> userId，再按场景 B 读取主条目
+     * 别名未命中时查询的视图顺带回填主条目，冷启动也只查一次库
      */
-    @Cacheable(key = CacheKeys.KEY_NAME_SPEL + "+ #tenantId + ':' + #username", sync = true)
     public LoginUser loadUserByUsernameAndTenant(String username, Long tenantId) {
-        LoginUser user = loadUserFromDatabase(username, tenantId);
-        if (user == null) {
-            throw new BizException(BizErrorCode.USER_NOT_EXIST_OR_DISABLED);
+        String nameKey = CacheKeys.KEY_NAME + tenantId + ":" + username;
+        try {
+            return cacheUtils.getByAlias(CacheKeys.CACHE_AUTH_USER, nameKey, Long.class, () -> {
+                var user = userRepository.findAuthViewByUsername(username, tenantId);
+                if (user == null) {
+                    throw new BizException(BizErrorCode.USER_NOT_EXIST_OR_DISABLED);
+                }
+                cacheUtils.put(CacheKeys.CACHE_AUTH_USER, CacheKeys.KEY_ID + user.getId(), toLoginUser(user));
+                return user.getId();
+            }, this::loadUserById);
+        } catch (BizException e) {
+            // 别名指向的用户已被删除（用户名可能被新用户复用）：丢弃别名，下次重新解析
+            if (e.getErrorCode() == BizErrorCode.USER_NOT_EXIST) {
+                cacheUtils.evict(CacheKeys.CACHE_AUTH_USER, nameKey);
+                throw new BizException(BizErrorCode.USER_NOT_EXIST_OR_DISABLED);
+            }
+            throw e;
         }
-        return user;
     }
 
     /**
      * 场景 B: 刷新 Token / 获取当前用户信息时加载
-     * 缓存 Key 格式: id:{userId}
-     * 注意：这里和上面是不同的 Key，缓存了两份数据。
-     * 权衡：冗余存储换取 O(1) 的读取速度，更新时需要同时清除两份。
+     * 缓存 Key 格式: ID:{userId}，LoginUser 的唯一一份缓存
      */
-    @Cacheable(key = CacheKeys.KEY_ID_SPEL + "+ #userId", sync = true)
     public LoginUser loadUserById(Long userId) {
-        var userEntity = userRepository.findByIdWithRoles(userId);
-        if (userEntity == null) {
-            throw new BizException(BizErrorCode.USER_NOT_EXIST);
-        }
-        LoginUser user = loadUserFromDatabase(userEntity.getUsername(), userEntity.getTenantId());
-        if (user == null) {
-            throw new BizException(BizErrorCode.USER_NOT_EXIST);
-        }
-        return user;
+        return cacheUtils.get(CacheKeys.CACHE_AUTH_USER, CacheKeys.KEY_ID + userId, LoginUser.class, () -> {
+            var user = authViewLoader.get(userId);
+            if (user == null) {
+                throw new BizException(BizErrorCode.USER_NOT_EXIST);
+            }
+            return toLoginUser(user);
+        });
     }
 
     /**
@@ -97,52 +130,12 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     }
 
     /**
-     * 从数据库加载用户信息
+     * 校验状态后组装 LoginUser
      */
-    private LoginUser loadUserFromDatabase(String username, Long tenantId) {
-        var user = userRepository.findByUsernameWithRoles(username, tenantId);
-        if (user == null) {
-            return null;
-        }
+    private LoginUser toLoginUser(SysUserAuthView user) {
         if (user.getStatus() != UserStatus.ACTIVE) {
             throw new BizException(BizErrorCode.USER_DISABLED);
         }
-
-        var roles = user.getRoles();
-        boolean isSuperAdmin = user.isSuperAdmin();
-
-        var roleMaps = roles.stream()
-                .collect(Collectors.toUnmodifiableMap(
-                        SysUserLoginView.TargetOf_roles::getId,
-                        SysUserLoginView.TargetOf_roles::getName
-                ));
-
-        var permissions = roles.stream()
-                .flatMap(role -> role.getMenus().stream())
-                .map(SysUserLoginView.TargetOf_roles.TargetOf_menus::getPermCode)
-                .filter(Objects::nonNull)
-                .collect(java.util.stream.Collectors.toUnmodifiableSet());
-
-        var policyContents = roles.stream()
-                .flatMap(role -> role.getPolicies().stream())
-                .map(SysUserLoginView.TargetOf_roles.TargetOf_policies::getPolicyContent)
-                .collect(Collectors.toUnmodifiableSet());
-
-        return new LoginUser(
-                user.getId(),
-                user.getTenantId(),
-                user.getOrg().getId(),
-                user.getOrg().getName(),
-                user.getUsername(),
-                user.getPassword(),
-                user.getNickname(),
-                roleMaps,
-                permissions,
-                policyContents,
-                isSuperAdmin,
-                user.getStatus() == UserStatus.ACTIVE,
-                true,
-                true,
-                true);
+        return loginUserAssembler.assemble(user);
     }
 }
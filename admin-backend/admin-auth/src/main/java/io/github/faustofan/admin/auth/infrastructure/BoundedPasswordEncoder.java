@@ -0,0 +1,180 @@
+package io.github.faustofan.admin.auth.infrastructure;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.github.faustofan.admin.shared.common.exception.SystemException;
+import io.github.faustofan.admin.shared.common.exception.UserException;
+import io.github.faustofan.admin.shared.common.exception.errcode.SystemErrorCode;
+import io.github.faustofan.admin.shared.common.exception.errcode.UserErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 有界密码编码器
+ * <p>
+ * BCrypt 属于 CPU 密集型计算，直接在虚拟线程上执行会长时间占用载体线程，
+ * 登录洪峰时会拖垮所有请求。这里将哈希与校验统一投递到专用的平台线程池：
+ * <ul>
+ * <li>线程数与等待队列均有上限，队列满时立即拒绝（429），不再排队拖慢整体</li>
+ * <li>按租户、按用户名限制同时进行的校验数，防止单个租户或撞库脚本占满线程池；
+ * 许可按键引用计数，持有期间不会被淘汰</li>
+ * <li>记录校验耗时与排队等待时间直方图</li>
+ * </ul>
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(BoundedPasswordEncoder.class);
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+
+    /** 租户维度并发许可，key: tenantId */
+    private final KeyedPermits<Long> tenantPermits;
+    /** 用户名维度并发许可，key: tenantId:username */
+    private final KeyedPermits<String> userPermits;
+
+    private final Timer verifyTimer;
+    private final Timer queueWaitTimer;
+    /** 拒绝计数，key: 拒绝原因 */
+    private final Map<String, Counter> rejectedCounters;
+
+    public BoundedPasswordEncoder(
+            PasswordEncoder delegate,
+            SecurityProperties.PasswordHashing properties,
+            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = new ThreadPoolExecutor(
+                properties.getPoolSize(),
+                properties.getPoolSize(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new CustomizableThreadFactory("pt-pwd-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.tenantPermits = new KeyedPermits<>(properties.getMaxConcurrentPerTenant(), properties.getMaxTrackedKeys());
+        this.userPermits = new KeyedPermits<>(properties.getMaxConcurrentPerUser(), properties.getMaxTrackedKeys());
+
+        this.verifyTimer = Timer.builder("admin.auth.password.verify")
+                .description("密码哈希/校验耗时")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("admin.auth.password.queue.wait")
+                .description("密码哈希任务排队等待时间")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("admin.auth.password.queue.size", executor, e -> e.getQueue().size())
+                .description("密码哈希任务当前排队数")
+                .register(meterRegistry);
+        this.rejectedCounters = Map.of(
+                "tenant", rejectedCounter("tenant", meterRegistry),
+                "user", rejectedCounter("user", meterRegistry),
+                "queue", rejectedCounter("queue", meterRegistry));
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 登录场景的密码校验，额外施加租户与用户名维度的并发上限
+     *
+     * @param rawPassword     明文密码
+     * @param encodedPassword 密文密码
+     * @param tenantId        租户ID
+     * @param username        用户名
+     * @return 是否匹配
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword, Long tenantId, String username) {
+        // 1. 租户维度许可
+        if (!tenantPermits.tryAcquire(tenantId)) {
+            throw reject("tenant");
+        }
+        try {
+            // 2. 用户名维度许可
+            String userKey = tenantId + ":" + username;
+            if (!userPermits.tryAcquire(userKey)) {
+                throw reject("user");
+            }
+            try {
+                // 3. 投递到有界线程池执行
+                return matches(rawPassword, encodedPassword);
+            } finally {
+                userPermits.release(userKey);
+            }
+        } finally {
+            tenantPermits.release(tenantId);
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /**
+     * 在哈希线程池中执行任务，并阻塞等待结果（调用方为虚拟线程，阻塞成本很低）
+     */
+    private <T> T execute(Callable<T> task) {
+        long submitNanos = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submitNanos, TimeUnit.NANOSECONDS);
+                return verifyTimer.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            throw reject("queue");
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new SystemException(SystemErrorCode.INTERRUPT_EXCEPTION, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new SystemException(SystemErrorCode.SYSTEM_ERROR, e.getCause());
+        }
+    }
+
+    private UserException reject(String reason) {
+        log.warn("Password hashing rejected, reason: {}, queued: {}", reason, executor.getQueue().size());
+        rejectedCounters.get(reason).increment();
+        return new UserException(UserErrorCode.TOO_MANY_REQUESTS);
+    }
+
+    private static Counter rejectedCounter(String reason, MeterRegistry meterRegistry) {
+        return Counter.builder("admin.auth.password.rejected")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -4,9 +4,9 @@ import io.github.faustofan.admin.auth.domain.service.UserDetailsServiceImpl;
 import io.github.faustofan.admin.shared.common.constant.SystemConstants;
 import io.github.faustofan.admin.shared.common.context.AppContext;
 import io.github.faustofan.admin.shared.common.context.AppContextHolder;
+import io.github.faustofan.admin.shared.common.context.TraceContext;
 import io.github.faustofan.admin.shared.common.exception.UserException;
 import io.github.faustofan.admin.shared.common.exception.errcode.UserErrorCode;
-import io.github.faustofan.admin.shared.common.util.SnowflakeIdGenerator;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -60,12 +60,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     /**
      * 过滤器主逻辑。
      * <ul>
-     *     <li>初始化基础上下文（生成 TraceId）</li>
+     *     <li>沿用 TraceIdGenFilter 建立的链路上下文（TraceId / RequestId）</li>
      *     <li>提取并校验 JWT Token</li>
      *     <li>校验 Token 是否在黑名单</li>
-     *     <li>仅处理 access token，填充认证信息</li>
+     *     <li>仅处理 access token，填充认证信息；未认证请求保持系统身份</li>
+     *     <li>以 ScopedValue 绑定上下文，作用域结束即失效，无需手动清理</li>
      *     <li>异常统一交由全局异常处理器</li>
-     *     <li>清理上下文，防止内存泄漏</li>
      * </ul>
      *
      * @param request     HTTP 请求
@@ -81,56 +81,77 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
 
+        // 链路上下文由 TraceIdGenFilter 建立，这里只替换身份信息，不再重新生成 TraceId / RequestId
+        AppContext traceContext = AppContextHolder.getContext();
+        AppContext systemContext = systemContext(traceContext);
         try {
-            // 1. 优先初始化基础上下文（生成 TraceId），确保后续报错也能带上 ID
-            initInitialContext();
-
-            String jwt = jwtTokenProvider.extractJwtFromRequest(request);
-
-            if (jwt != null) {
-                // 验证 Token 有效性
-                if(!jwtTokenProvider.validateToken(jwt)) {
-                    throw new UserException(UserErrorCode.INVALID_ACCESS_TOKEN);
-                }
-
-                // 检查黑名单
-                if (userDetailsService.isLogOut(jwt)) {
-                    throw new UserException(UserErrorCode.UNAUTHORIZED);
-                }
-
-                // 只接受 access token
-                if ("access".equals(jwtTokenProvider.getTokenType(jwt))) {
-                    processAuthentication(jwt, request);
-                }
-            }
+            // 以系统身份完成认证（加载用户信息需要跨租户查询）
+            AppContext appContext = AppContextHolder.callWith(systemContext,
+                    () -> authenticate(request, traceContext, systemContext));
 
-            // 2. 继续过滤器链
-            filterChain.doFilter(request, response);
+            // 后续过滤器链绑定一次不可变上下文，结束时随作用域自动解除
+            AppContextHolder.callWith(appContext, () -> {
+                filterChain.doFilter(request, response);
+                return null;
+            });
 
         } catch (Exception e) {
-            // 3. 核心改进：将所有异常转发给 GlobalExceptionHandler
-            logger.warn("JWT Filter 处理异常: {}", e.getMessage());
+            // 将所有异常转发给 GlobalExceptionHandler；无效 Token 属于预期拒绝（无堆栈），由处理器统一记录
+            if (e instanceof UserException) {
+                logger.debug("JWT Filter 拒绝请求: {}", e.getMessage());
+            } else {
+                logger.warn("JWT Filter 处理异常: {}", e.getMessage());
+            }
             handlerExceptionResolver.resolveException(request, response, null, e);
-        } finally {
-            // 4. 无论成功失败，必须清理上下文，防止内存泄漏和信息污染
-            AppContextHolder.clearContext();
-            // 注意：SecurityContextHolder 也可以在这里清理，但通常 Spring Security 会自行管理已认证的上下文
         }
     }
 
     /**
-     * 处理身份认证并填充 AppContext。
+     * 校验 JWT 并构建业务上下文。
+     *
+     * @param request       HTTP 请求
+     * @param traceContext  链路上下文，可为 null
+     * @param systemContext 未认证请求使用的系统上下文
+     * @return 认证用户的上下文；无 Token 或非 access token 时返回系统上下文
+     */
+    private AppContext authenticate(HttpServletRequest request, AppContext traceContext, AppContext systemContext) {
+        String jwt = jwtTokenProvider.extractJwtFromRequest(request);
+        if (jwt == null) {
+            return systemContext;
+        }
+
+        // 验证 Token 有效性
+        if(!jwtTokenProvider.validateToken(jwt)) {
+            throw new UserException(UserErrorCode.INVALID_ACCESS_TOKEN);
+        }
+
+        // 检查黑名单
+        if (userDetailsService.isLogOut(jwt)) {
+            throw new UserException(UserErrorCode.UNAUTHORIZED);
+        }
+
+        // 只接受 access token
+        if (!"access".equals(jwtTokenProvider.getTokenType(jwt))) {
+            return systemContext;
+        }
+        return processAuthentication(jwt, request, traceContext);
+    }
+
+    /**
+     * 处理身份认证并构建 AppContext。
      * <ul>
      *     <li>根据 JWT 获取用户 ID</li>
      *     <li>加载用户信息</li>
      *     <li>设置 Spring Security 认证上下文</li>
-     *     <li>填充自定义业务上下文</li>
+     *     <li>构建自定义业务上下文（沿用链路追踪信息）</li>
      * </ul>
      *
-     * @param jwt     JWT Token
-     * @param request HTTP 请求
+     * @param jwt          JWT Token
+     * @param request      HTTP 请求
+     * @param traceContext 链路上下文，可为 null
+     * @return 业务上下文
      */
-    private void processAuthentication(String jwt, HttpServletRequest request) {
+    private AppContext processAuthentication(String jwt, HttpServletRequest request, AppContext traceContext) {
         Long userId = jwtTokenProvider.getUserIdFromToken(jwt);
         // 加载用户信息
         var loginUser = userDetailsService.loadUserById(userId);
@@ -141,26 +162,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        // 重新填充完整的业务上下文 (覆盖 initInitialContext 中的临时上下文)
-        AppContext appContext = AppContext.builder()
-                .traceId(AppContextHolder.getContext().traceId()) // 保留已生成的 traceId
-                .requestId(SnowflakeIdGenerator.getInstance().nextId().toString())
+        return AppContext.builder()
+                .traceId(traceContext != null ? traceContext.traceId() : null)
+                .requestId(traceContext != null ? traceContext.requestId() : TraceContext.newSpanId())
                 .tenantId(loginUser.getTenantId())
                 .userId(loginUser.getUserId())
                 .username(loginUser.getUsername())
                 .orgId(loginUser.getOrgId())
+                .currentUserRoles(loginUser.getDataScopes())
                 .isSuperAdmin(loginUser.isSuperAdmin())
                 .build();
-        AppContextHolder.setContext(appContext);
     }
 
     /**
-     * 初始化基础上下文（主要是为了 TraceId）。
-     * <p>
-     * 在过滤器链最开始调用，确保后续日志和异常都能带上 TraceId。
-     * </p>
+     * 未认证请求的上下文：系统身份 + 当前请求的链路追踪信息。
+     *
+     * @param traceContext 链路上下文，可为 null
+     * @return 业务上下文
      */
-    private void initInitialContext() {
-        AppContextHolder.setContext(SystemConstants.Identity.SYSTEM_CONTEXT);
+    private AppContext systemContext(AppContext traceContext) {
+        return traceContext == null
+                ? SystemConstants.Identity.SYSTEM_CONTEXT.withTrace(TraceContext.newTraceId(), TraceContext.newSpanId())
+                : SystemConstants.Identity.SYSTEM_CONTEXT.withTrace(traceContext.traceId(), traceContext.requestId());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,80 @@
+package io.github.faustofan.admin.auth.infrastructure;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 按键计数的并发许可
+ * <p>
+ * 每个键只在有许可被持有时存在：计数在 {@link ConcurrentHashMap#compute} 中原子增减，归零即移除。
+ * 因此条目不会在许可被持有期间被淘汰（淘汰后新建的许可会让上限失效），
+ * 键数量也只取决于同时在途的请求数，并以 maxKeys 兜底。
+ *
+ * @param <K> 键类型
+ */
+final class KeyedPermits<K> {
+
+    private final int permitsPerKey;
+    private final int maxKeys;
+    private final ConcurrentHashMap<K, int[]> inUse = new ConcurrentHashMap<>();
+    /** 与 inUse 键数同步维护，避免 ConcurrentHashMap#size 的遍历开销 */
+    private final AtomicInteger keys = new AtomicInteger();
+
+    KeyedPermits(int permitsPerKey, int maxKeys) {
+        this.permitsPerKey = permitsPerKey;
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * 尝试获取一个许可
+     *
+     * @return 是否获取成功；键的许可已用尽或键数量已达上限时返回 false
+     */
+    boolean tryAcquire(K key) {
+        boolean[] acquired = new boolean[1];
+        inUse.compute(key, (k, count) -> {
+            if (count == null) {
+                if (keys.get() >= maxKeys) {
+                    return null;
+                }
+                keys.incrementAndGet();
+                acquired[0] = true;
+                return new int[]{1};
+            }
+            if (count[0] < permitsPerKey) {
+                count[0]++;
+                acquired[0] = true;
+            }
+            return count;
+        });
+        return acquired[0];
+    }
+
+    /**
+     * 归还许可，必须与成功的 {@link #tryAcquire} 成对调用
+     */
+    void release(K key) {
+        inUse.computeIfPresent(key, (k, count) -> {
+            if (--count[0] > 0) {
+                return count;
+            }
+            keys.decrementAndGet();
+            return null;
+        });
+    }
+
+    /**
+     * @return 当前持有的许可数
+     */
+    int inUse(K key) {
+        int[] count = inUse.get(key);
+        return count == null ? 0 : count[0];
+    }
+
+    /**
+     * @return 当前持有许可的键数
+     */
+    int size() {
+        return keys.get();
+    }
+}
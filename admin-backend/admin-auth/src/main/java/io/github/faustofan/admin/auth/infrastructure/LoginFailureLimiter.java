@@ -0,0 +1,229 @@
+package io.github.faustofan.admin.auth.infrastructure;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RMapAsync;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.LongCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.github.faustofan.admin.shared.cache.constants.CacheKeys;
+import io.github.faustofan.admin.shared.common.exception.UserException;
+import io.github.faustofan.admin.shared.common.exception.errcode.UserErrorCode;
+import io.github.faustofan.admin.shared.distributed.constants.RedisKeyRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 登录失败限制器
+ * <p>
+ * 按 (租户, 用户名) 与 (租户, 客户端IP) 两个维度统计滑动窗口内的登录失败次数，超过上限后临时锁定：
+ * <ul>
+ * <li>失败次数先记入本节点的 LongAdder（分段计数，无锁竞争），定时通过一次 RBatch 批量刷入 Redis</li>
+ * <li>Redis 中每个维度一个 Hash，字段为时间片编号，窗口内各时间片之和即为集群总失败次数</li>
+ * <li>锁定状态缓存在本地并通过 Redis Topic 广播，锁定期间的请求不再访问 Redis、BCrypt 与数据库</li>
+ * </ul>
+ * 计数为近似值：刷入间隔内的失败由本地计数兜底，单节点达到上限时立即锁定。
+ */
+@Component
+public class LoginFailureLimiter implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginFailureLimiter.class);
+
+    /** 窗口划分的时间片数量 */
+    private static final int SLOTS = 10;
+
+    private static final String KEY_USER = "U:";
+    private static final String KEY_IP = "IP:";
+
+    private final RedissonClient redissonClient;
+    private final SecurityProperties.LoginLimit properties;
+    private final RTopic topic;
+    private final long slotMillis;
+
+    /** 尚未刷入 Redis 的失败次数 */
+    private final Map<String, LongAdder> pending = new ConcurrentHashMap<>();
+    /** 登录成功后待清零的用户名维度 Key */
+    private final Set<String> resets = ConcurrentHashMap.newKeySet();
+    /** 本地锁定缓存，过期即解锁 */
+    private final Cache<String, Boolean> lockouts;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofVirtual().name("auth-login-limit-", 0).factory());
+
+    private final Counter rejectedCounter;
+    private final Counter lockedCounter;
+
+    public LoginFailureLimiter(
+            RedissonClient redissonClient,
+            SecurityProperties securityProperties,
+            MeterRegistry meterRegistry) {
+        this.redissonClient = redissonClient;
+        this.properties = securityProperties.getLoginLimit();
+        this.slotMillis = Math.max(1, properties.getWindow().toMillis() / SLOTS);
+        this.lockouts = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getLockDuration())
+                .maximumSize(100_000)
+                .build();
+
+        this.topic = redissonClient.getTopic(CacheKeys.TOPIC_LOGIN_LOCKOUT_SYNC);
+        this.topic.addListener(String.class, (channel, key) -> lockouts.put(key, Boolean.TRUE));
+
+        this.rejectedCounter = Counter.builder("admin.auth.login.rejected")
+                .description("因登录锁定被直接拒绝的请求数")
+                .register(meterRegistry);
+        this.lockedCounter = Counter.builder("admin.auth.login.locked")
+                .description("触发登录锁定的次数")
+                .register(meterRegistry);
+
+        long interval = properties.getFlushInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                flush();
+            } catch (Exception e) {
+                log.warn("Login failure flush failed", e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 登录前检查是否已被锁定（纯本地判断）
+     *
+     * @throws UserException 用户名或客户端IP已被锁定
+     */
+    public void checkAllowed(Long tenantId, String username, String clientIp) {
+        if (lockouts.getIfPresent(userKey(tenantId, username)) != null
+                || (clientIp != null && lockouts.getIfPresent(ipKey(tenantId, clientIp)) != null)) {
+            rejectedCounter.increment();
+            throw new UserException(UserErrorCode.ACCOUNT_LOCKED);
+        }
+    }
+
+    /**
+     * 记录一次登录失败
+     */
+    public void recordFailure(Long tenantId, String username, String clientIp) {
+        increment(userKey(tenantId, username), properties.getMaxFailuresPerUser());
+        if (clientIp != null) {
+            increment(ipKey(tenantId, clientIp), properties.getMaxFailuresPerIp());
+        }
+    }
+
+    /**
+     * 登录成功：清零用户名维度计数（随下一次批量刷入执行）
+     * IP 维度不清零，避免攻击者穿插一次成功登录来重置计数
+     */
+    public void recordSuccess(Long tenantId, String username) {
+        String key = userKey(tenantId, username);
+        pending.remove(key);
+        resets.add(key);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    private void increment(String key, int limit) {
+        LongAdder adder = pending.computeIfAbsent(key, k -> new LongAdder());
+        adder.increment();
+        // 刷入前本节点已达到上限，立即锁定
+        if (adder.sum() >= limit) {
+            lock(key);
+        }
+    }
+
+    private void lock(String key) {
+        if (lockouts.asMap().putIfAbsent(key, Boolean.TRUE) == null) {
+            lockedCounter.increment();
+            log.warn("Login locked: {}", key);
+            topic.publishAsync(key);
+        }
+    }
+
+    /**
+     * 批量刷入：INCRBY 当前时间片 + 读取全部时间片，一次往返完成
+     */
+    private void flush() {
+        Map<String, Long> deltas = new HashMap<>();
+        for (Iterator<Map.Entry<String, LongAdder>> it = pending.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<String, LongAdder> entry = it.next();
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) {
+                deltas.put(entry.getKey(), delta);
+            } else {
+                // 一个周期内无新增失败，移除计数器
+                pending.remove(entry.getKey(), entry.getValue());
+            }
+        }
+        List<String> resetKeys = new ArrayList<>(resets);
+        resets.removeAll(resetKeys);
+        if (deltas.isEmpty() && resetKeys.isEmpty()) {
+            return;
+        }
+
+        long slot = System.currentTimeMillis() / slotMillis;
+        long oldest = slot - SLOTS + 1;
+        Duration ttl = properties.getWindow();
+
+        RBatch batch = redissonClient.createBatch(BatchOptions.defaults());
+        Map<String, RFuture<Map<Long, Long>>> reads = new HashMap<>(deltas.size() * 2);
+        deltas.forEach((key, delta) -> {
+            RMapAsync<Long, Long> counter = batch.getMap(redisKey(key), LongCodec.INSTANCE);
+            counter.addAndGetAsync(slot, delta);
+            // 滑出窗口的时间片
+            counter.fastRemoveAsync(oldest - 1);
+            counter.expireAsync(ttl);
+            reads.put(key, counter.readAllMapAsync());
+        });
+        resetKeys.forEach(key -> batch.getMap(redisKey(key), LongCodec.INSTANCE).deleteAsync());
+        batch.execute();
+
+        reads.forEach((key, future) -> {
+            long total = future.toCompletableFuture().join().entrySet().stream()
+                    .filter(e -> e.getKey() >= oldest)
+                    .mapToLong(Map.Entry::getValue)
+                    .sum();
+            if (total >= limitOf(key)) {
+                lock(key);
+            }
+        });
+    }
+
+    private int limitOf(String key) {
+        return key.startsWith(KEY_USER) ? properties.getMaxFailuresPerUser() : properties.getMaxFailuresPerIp();
+    }
+
+    private static String userKey(Long tenantId, String username) {
+        return KEY_USER + tenantId + ":" + username;
+    }
+
+    private static String ipKey(Long tenantId, String clientIp) {
+        return KEY_IP + tenantId + ":" + clientIp;
+    }
+
+    private static String redisKey(String key) {
+        return RedisKeyRegistry.SEC_LOGIN_FAILURE.buildKey(key);
+    }
+}
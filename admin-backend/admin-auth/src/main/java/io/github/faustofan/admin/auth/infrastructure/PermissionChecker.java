@@ -0,0 +1,64 @@
+package io.github.faustofan.admin.auth.infrastructure;
+
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import io.github.faustofan.admin.auth.domain.model.LoginUser;
+import io.github.faustofan.admin.auth.domain.permission.PermissionMask;
+import io.github.faustofan.admin.auth.domain.permission.PermissionRegistry;
+import io.github.faustofan.admin.auth.domain.service.TenantEntitlementService;
+
+/**
+ * 权限校验器
+ * <p>
+ * 用法：{@code @PreAuthorize("@perm.has('sys:user:list')")}。
+ * 用户权限与租户产品包授权同时满足才允许访问，两者均为位图判断，无数据库访问。
+ * 超级管理员与持有通配权限码 {@code *:*:*} 的用户在位图与回退两条路径上一致视为拥有全部权限。
+ */
+@Component("perm")
+public class PermissionChecker {
+
+    private final PermissionRegistry permissionRegistry;
+    private final TenantEntitlementService entitlementService;
+
+    public PermissionChecker(PermissionRegistry permissionRegistry, TenantEntitlementService entitlementService) {
+        this.permissionRegistry = permissionRegistry;
+        this.entitlementService = entitlementService;
+    }
+
+    /**
+     * 当前用户是否拥有指定权限
+     */
+    public boolean has(String permCode) {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof LoginUser loginUser)) {
+            return false;
+        }
+        return has(loginUser, permCode);
+    }
+
+    /**
+     * 指定用户是否拥有指定权限
+     */
+    public boolean has(LoginUser loginUser, String permCode) {
+        int index = permissionRegistry.indexOf(permCode);
+        if (index < 0) {
+            // 未登记的权限码只有不受产品包限制的全权限用户可以访问
+            return loginUser.hasAllPermissions() && entitlementService.entitlementOf(loginUser.getTenantId()) == null;
+        }
+        return userHas(loginUser, index, permCode) && entitlementService.isEntitled(loginUser.getTenantId(), index);
+    }
+
+    private boolean userHas(LoginUser loginUser, int index, String permCode) {
+        if (loginUser.hasAllPermissions()) {
+            // 通配权限码不在编号表内，位图中没有对应的位，须在位图判断之前放行
+            return true;
+        }
+        PermissionMask mask = loginUser.getPermissionMask();
+        if (mask != null && mask.version() == permissionRegistry.version()) {
+            return mask.contains(index);
+        }
+        // 编号表已更新而 LoginUser 尚未重建：回退到权限码集合
+        return loginUser.getPermissions().contains(permCode);
+    }
+}
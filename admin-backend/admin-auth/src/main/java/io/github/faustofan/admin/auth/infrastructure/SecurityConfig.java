@@ -7,6 +7,7 @@ import java.util.stream.Stream;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -16,7 +17,6 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -25,8 +25,11 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import jakarta.servlet.DispatcherType;
+
 import io.github.faustofan.admin.shared.common.dto.ApiResponse;
 import io.github.faustofan.admin.shared.common.exception.errcode.UserErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  * 安全配置类，负责配置 Spring Security 的核心安全策略。
@@ -57,6 +60,8 @@ public class SecurityConfig {
     };
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final TenantAdmissionFilter tenantAdmissionFilter;
+    private final TenantRateLimitFilter tenantRateLimitFilter;
     private final ObjectMapper objectMapper;
     private final SecurityProperties securityProperties;
 
@@ -64,14 +69,20 @@ public class SecurityConfig {
      * 构造方法，注入所需依赖
      *
      * @param jwtAuthenticationFilter JWT 认证过滤器
+     * @param tenantAdmissionFilter   租户准入过滤器
+     * @param tenantRateLimitFilter   租户限流过滤器
      * @param objectMapper            Jackson 对象映射器
      * @param securityProperties      安全相关自定义配置
      */
     public SecurityConfig(
             JwtAuthenticationFilter jwtAuthenticationFilter,
+            TenantAdmissionFilter tenantAdmissionFilter,
+            TenantRateLimitFilter tenantRateLimitFilter,
             ObjectMapper objectMapper,
             SecurityProperties securityProperties) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.tenantAdmissionFilter = tenantAdmissionFilter;
+        this.tenantRateLimitFilter = tenantRateLimitFilter;
         this.objectMapper = objectMapper;
         this.securityProperties = securityProperties;
     }
@@ -107,9 +118,15 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(allWhiteList).permitAll()
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        // 异步分派 (SSE 等) 的首次请求已完成鉴权，无状态 JWT 不会在分派时重新认证
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .anyRequest().authenticated())
                 // 添加 JWT 认证过滤器
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // 添加租户准入过滤器（依赖 JWT 过滤器填充的租户上下文）
+                .addFilterAfter(tenantAdmissionFilter, JwtAuthenticationFilter.class)
+                // 添加租户限流过滤器（只对已准入的租户计数）
+                .addFilterAfter(tenantRateLimitFilter, TenantAdmissionFilter.class)
                 // 配置异常处理
                 .exceptionHandling(exceptions -> {
                     // 未认证时返回 JSON
@@ -136,13 +153,17 @@ public class SecurityConfig {
     }
 
     /**
-     * 密码加密器 Bean，使用 BCrypt 算法
+     * 密码加密器 Bean，使用 BCrypt 算法，并在有界的专用线程池中执行
      *
+     * @param meterRegistry 指标注册表
      * @return PasswordEncoder 实例
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(),
+                securityProperties.getPasswordHashing(),
+                meterRegistry);
     }
 
     /**
@@ -156,6 +177,7 @@ public class SecurityConfig {
         configuration.setAllowedOriginPatterns(List.of("*"));
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
+        configuration.setExposedHeaders(List.of(HttpHeaders.ETAG));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
 
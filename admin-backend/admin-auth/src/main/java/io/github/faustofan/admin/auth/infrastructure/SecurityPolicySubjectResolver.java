@@ -0,0 +1,32 @@
+package io.github.faustofan.admin.auth.infrastructure;
+
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import io.github.faustofan.admin.auth.domain.model.LoginUser;
+import io.github.faustofan.admin.system.domain.policy.PolicySubject;
+import io.github.faustofan.admin.system.domain.policy.PolicySubjectResolver;
+
+/**
+ * 基于 Spring Security 上下文的策略主体解析
+ * <p>
+ * LoginUser 已携带用户属性与角色策略，无需额外查询。
+ */
+@Component
+public class SecurityPolicySubjectResolver implements PolicySubjectResolver {
+
+    @Override
+    public PolicySubject current() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof LoginUser loginUser)) {
+            return null;
+        }
+        return new PolicySubject(
+                loginUser.getUserId(),
+                loginUser.getTenantId(),
+                loginUser.getOrgId(),
+                loginUser.isSuperAdmin(),
+                loginUser.getAttributes(),
+                loginUser.getDataPolicy());
+    }
+}
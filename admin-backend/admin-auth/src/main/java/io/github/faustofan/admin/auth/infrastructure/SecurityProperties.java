@@ -2,7 +2,10 @@ package io.github.faustofan.admin.auth.infrastructure;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 
 @ConfigurationProperties(prefix = "app.security")
@@ -16,6 +19,18 @@ public class SecurityProperties {
 
     private Long refreshTokenExpiration = 604800000L;
 
+    private PasswordHashing passwordHashing = new PasswordHashing();
+
+    private Recompute recompute = new Recompute();
+
+    private TenantAdmission tenantAdmission = new TenantAdmission();
+
+    private LoginLimit loginLimit = new LoginLimit();
+
+    private SessionPush sessionPush = new SessionPush();
+
+    private RateLimit rateLimit = new RateLimit();
+
     public Set<String> getWhitelist() {
         return whitelist;
     }
@@ -47,4 +62,352 @@ public class SecurityProperties {
     public void setRefreshTokenExpiration(Long refreshTokenExpiration) {
         this.refreshTokenExpiration = refreshTokenExpiration;
     }
+
+    public PasswordHashing getPasswordHashing() {
+        return passwordHashing;
+    }
+
+    public void setPasswordHashing(PasswordHashing passwordHashing) {
+        this.passwordHashing = passwordHashing;
+    }
+
+    public Recompute getRecompute() {
+        return recompute;
+    }
+
+    public void setRecompute(Recompute recompute) {
+        this.recompute = recompute;
+    }
+
+    public TenantAdmission getTenantAdmission() {
+        return tenantAdmission;
+    }
+
+    public void setTenantAdmission(TenantAdmission tenantAdmission) {
+        this.tenantAdmission = tenantAdmission;
+    }
+
+    public LoginLimit getLoginLimit() {
+        return loginLimit;
+    }
+
+    public void setLoginLimit(LoginLimit loginLimit) {
+        this.loginLimit = loginLimit;
+    }
+
+    public SessionPush getSessionPush() {
+        return sessionPush;
+    }
+
+    public void setSessionPush(SessionPush sessionPush) {
+        this.sessionPush = sessionPush;
+    }
+
+    public RateLimit getRateLimit() {
+        return rateLimit;
+    }
+
+    public void setRateLimit(RateLimit rateLimit) {
+        this.rateLimit = rateLimit;
+    }
+
+    /**
+     * 密码哈希线程池配置（BCrypt 计算密集，需与请求线程隔离）
+     */
+    public static class PasswordHashing {
+
+        /** 平台线程数，默认等于 CPU 核数 */
+        private int poolSize = Runtime.getRuntime().availableProcessors();
+
+        /** 等待队列长度，超出后快速失败 */
+        private int queueCapacity = 64;
+
+        /** 单租户同时进行的密码校验数上限 */
+        private int maxConcurrentPerTenant = 16;
+
+        /** 单用户名同时进行的密码校验数上限 */
+        private int maxConcurrentPerUser = 2;
+
+        /** 同时持有校验许可的租户/用户名数量上限，超出后直接拒绝 */
+        private int maxTrackedKeys = 100_000;
+
+        public int getPoolSize() {
+            return poolSize;
+        }
+
+        public void setPoolSize(int poolSize) {
+            this.poolSize = poolSize;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getMaxConcurrentPerTenant() {
+            return maxConcurrentPerTenant;
+        }
+
+        public void setMaxConcurrentPerTenant(int maxConcurrentPerTenant) {
+            this.maxConcurrentPerTenant = maxConcurrentPerTenant;
+        }
+
+        public int getMaxTrackedKeys() {
+            return maxTrackedKeys;
+        }
+
+        public void setMaxTrackedKeys(int maxTrackedKeys) {
+            this.maxTrackedKeys = maxTrackedKeys;
+        }
+
+        public int getMaxConcurrentPerUser() {
+            return maxConcurrentPerUser;
+        }
+
+        public void setMaxConcurrentPerUser(int maxConcurrentPerUser) {
+            this.maxConcurrentPerUser = maxConcurrentPerUser;
+        }
+    }
+
+    /**
+     * 鉴权缓存后台重建配置（角色/菜单/策略变更后重建受影响用户的 LoginUser）
+     */
+    public static class Recompute {
+
+        /** 每页查询的用户ID数量 */
+        private int pageSize = 1000;
+
+        /** 每批重建并写入缓存的用户数量 */
+        private int batchSize = 200;
+
+        /** 同时执行的批次数，需小于数据库连接池大小 */
+        private int concurrency = 4;
+
+        public int getPageSize() {
+            return pageSize;
+        }
+
+        public void setPageSize(int pageSize) {
+            this.pageSize = pageSize;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public int getConcurrency() {
+            return concurrency;
+        }
+
+        public void setConcurrency(int concurrency) {
+            this.concurrency = concurrency;
+        }
+    }
+
+    /**
+     * 租户准入快照配置（请求路径上校验租户状态与到期时间）
+     */
+    public static class TenantAdmission {
+
+        /** 增量同步间隔，兜底事件丢失的情况 */
+        private Duration refreshInterval = Duration.ofSeconds(30);
+
+        /** 增量查询时间窗口的回溯量，覆盖节点时钟偏差与长事务延迟提交 */
+        private Duration overlap = Duration.ofSeconds(10);
+
+        public Duration getRefreshInterval() {
+            return refreshInterval;
+        }
+
+        public void setRefreshInterval(Duration refreshInterval) {
+            this.refreshInterval = refreshInterval;
+        }
+
+        public Duration getOverlap() {
+            return overlap;
+        }
+
+        public void setOverlap(Duration overlap) {
+            this.overlap = overlap;
+        }
+    }
+
+    /**
+     * 登录失败限制配置（滑动窗口内失败次数达到上限后临时锁定）
+     */
+    public static class LoginLimit {
+
+        /** 同一租户下同一用户名在窗口内允许的失败次数 */
+        private int maxFailuresPerUser = 5;
+
+        /** 同一租户下同一客户端 IP 在窗口内允许的失败次数 */
+        private int maxFailuresPerIp = 50;
+
+        /** 滑动窗口长度 */
+        private Duration window = Duration.ofMinutes(15);
+
+        /** 锁定时长 */
+        private Duration lockDuration = Duration.ofMinutes(15);
+
+        /** 本地计数批量刷入 Redis 的间隔 */
+        private Duration flushInterval = Duration.ofSeconds(1);
+
+        public int getMaxFailuresPerUser() {
+            return maxFailuresPerUser;
+        }
+
+        public void setMaxFailuresPerUser(int maxFailuresPerUser) {
+            this.maxFailuresPerUser = maxFailuresPerUser;
+        }
+
+        public int getMaxFailuresPerIp() {
+            return maxFailuresPerIp;
+        }
+
+        public void setMaxFailuresPerIp(int maxFailuresPerIp) {
+            this.maxFailuresPerIp = maxFailuresPerIp;
+        }
+
+        public Duration getWindow() {
+            return window;
+        }
+
+        public void setWindow(Duration window) {
+            this.window = window;
+        }
+
+        public Duration getLockDuration() {
+            return lockDuration;
+        }
+
+        public void setLockDuration(Duration lockDuration) {
+            this.lockDuration = lockDuration;
+        }
+
+        public Duration getFlushInterval() {
+            return flushInterval;
+        }
+
+        public void setFlushInterval(Duration flushInterval) {
+            this.flushInterval = flushInterval;
+        }
+    }
+
+    /**
+     * 会话推送 (SSE) 配置
+     */
+    public static class SessionPush {
+
+        /** 单节点最大连接数 */
+        private int maxConnections = 10_000;
+
+        /** 单用户在单节点上的最大连接数（多标签页） */
+        private int maxConnectionsPerUser = 8;
+
+        /** 心跳间隔，需小于网关/负载均衡的空闲超时 */
+        private Duration heartbeatInterval = Duration.ofSeconds(25);
+
+        /** 连接最长保持时间，到期后由客户端自动重连 */
+        private Duration timeout = Duration.ofMinutes(30);
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public int getMaxConnectionsPerUser() {
+            return maxConnectionsPerUser;
+        }
+
+        public void setMaxConnectionsPerUser(int maxConnectionsPerUser) {
+            this.maxConnectionsPerUser = maxConnectionsPerUser;
+        }
+
+        public Duration getHeartbeatInterval() {
+            return heartbeatInterval;
+        }
+
+        public void setHeartbeatInterval(Duration heartbeatInterval) {
+            this.heartbeatInterval = heartbeatInterval;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+    }
+
+    /**
+     * 租户限流与过载保护配置
+     */
+    public static class RateLimit {
+
+        /** 是否启用 */
+        private boolean enabled = true;
+
+        /** 单租户每秒请求数（集群范围） */
+        private int tenantPermitsPerSecond = 200;
+
+        /** 按路由的单租户每秒请求数 (路径模式 -> 每秒请求数，集群范围)，按配置顺序首个匹配生效 */
+        private Map<String, Integer> routePermitsPerSecond = new LinkedHashMap<>();
+
+        /** 每次从全局预算领取的令牌数，越大 Redis 往返越少、集群超发上限越高 */
+        private int chunkSize = 20;
+
+        /** 单节点同时处理的请求数上限，超出时直接拒绝 (503)；0 表示不限制 */
+        private int maxInFlight = 2000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getTenantPermitsPerSecond() {
+            return tenantPermitsPerSecond;
+        }
+
+        public void setTenantPermitsPerSecond(int tenantPermitsPerSecond) {
+            this.tenantPermitsPerSecond = tenantPermitsPerSecond;
+        }
+
+        public Map<String, Integer> getRoutePermitsPerSecond() {
+            return routePermitsPerSecond;
+        }
+
+        public void setRoutePermitsPerSecond(Map<String, Integer> routePermitsPerSecond) {
+            this.routePermitsPerSecond = routePermitsPerSecond;
+        }
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        public int getMaxInFlight() {
+            return maxInFlight;
+        }
+
+        public void setMaxInFlight(int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+        }
+    }
 }
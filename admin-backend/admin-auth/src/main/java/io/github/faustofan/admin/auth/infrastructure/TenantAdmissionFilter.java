@@ -0,0 +1,58 @@
+package io.github.faustofan.admin.auth.infrastructure;
+
+import io.github.faustofan.admin.auth.domain.service.TenantAdmissionService;
+import io.github.faustofan.admin.shared.common.constant.SystemConstants;
+import io.github.faustofan.admin.shared.common.context.AppContext;
+import io.github.faustofan.admin.shared.common.context.AppContextHolder;
+import io.github.faustofan.admin.shared.common.exception.BizException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+
+/**
+ * 租户准入过滤器。
+ * <p>
+ * 位于 JWT 认证过滤器之后，拒绝已禁用、已删除或已过期租户的请求。
+ * 租户状态读取自内存快照，不产生任何远程调用；未登录请求与系统租户直接放行。
+ * </p>
+ */
+@Component
+public class TenantAdmissionFilter extends OncePerRequestFilter {
+
+    private final TenantAdmissionService tenantAdmissionService;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+
+    public TenantAdmissionFilter(
+            TenantAdmissionService tenantAdmissionService,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver
+    ) {
+        this.tenantAdmissionService = tenantAdmissionService;
+        this.handlerExceptionResolver = handlerExceptionResolver;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        AppContext context = AppContextHolder.getContext();
+        if (context != null && context.tenantId() != null
+                && !SystemConstants.SYSTEM_TENANT_ID.equals(context.tenantId())) {
+            try {
+                tenantAdmissionService.check(context.tenantId());
+            } catch (BizException e) {
+                handlerExceptionResolver.resolveException(request, response, null, e);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+}
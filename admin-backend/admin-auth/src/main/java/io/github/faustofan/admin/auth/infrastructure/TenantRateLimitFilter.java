@@ -0,0 +1,80 @@
+package io.github.faustofan.admin.auth.infrastructure;
+
+import io.github.faustofan.admin.shared.common.constant.SystemConstants;
+import io.github.faustofan.admin.shared.common.context.AppContext;
+import io.github.faustofan.admin.shared.common.context.AppContextHolder;
+import io.github.faustofan.admin.shared.common.exception.SystemException;
+import io.github.faustofan.admin.shared.common.exception.UserException;
+import io.github.faustofan.admin.shared.common.exception.errcode.SystemErrorCode;
+import io.github.faustofan.admin.shared.common.exception.errcode.UserErrorCode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+
+/**
+ * 租户限流与过载保护过滤器。
+ * <p>
+ * 位于租户准入过滤器之后：先按单节点在途请求数做过载保护 (503)，
+ * 再按租户与路由的本地令牌桶限流 (429)，拒绝时附带 Retry-After。
+ * 拒绝路径使用无堆栈异常与预序列化的响应体；未登录请求与系统租户不参与租户限流。
+ * </p>
+ */
+@Component
+public class TenantRateLimitFilter extends OncePerRequestFilter {
+
+    private final SecurityProperties.RateLimit properties;
+    private final TenantRateLimiter rateLimiter;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+
+    public TenantRateLimitFilter(
+            SecurityProperties securityProperties,
+            TenantRateLimiter rateLimiter,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver
+    ) {
+        this.properties = securityProperties.getRateLimit();
+        this.rateLimiter = rateLimiter;
+        this.handlerExceptionResolver = handlerExceptionResolver;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (!properties.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (!rateLimiter.tryEnter()) {
+            reject(request, response, new SystemException(SystemErrorCode.SERVICE_OVERLOADED));
+            return;
+        }
+        try {
+            AppContext context = AppContextHolder.getContext();
+            if (context != null && context.tenantId() != null
+                    && !SystemConstants.SYSTEM_TENANT_ID.equals(context.tenantId())
+                    && !rateLimiter.tryAcquire(context.tenantId(), request.getRequestURI())) {
+                reject(request, response, new UserException(UserErrorCode.TOO_MANY_REQUESTS));
+                return;
+            }
+            filterChain.doFilter(request, response);
+        } finally {
+            rateLimiter.exit();
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, Exception e) {
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(rateLimiter.retryAfterSeconds()));
+        handlerExceptionResolver.resolveException(request, response, null, e);
+    }
+}
@@ -0,0 +1,316 @@
+package io.github.faustofan.admin.auth.infrastructure;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.LongCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import io.github.faustofan.admin.shared.distributed.constants.RedisKeyRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 租户限流器
+ * <p>
+ * 按租户与 (租户, 路由) 两级限流，每秒一个固定窗口（不是连续补充的令牌桶，窗口边界前后可各放行一次全额），
+ * 本节点以分片预取的余量计数，热路径只有 CAS，不访问 Redis：
+ * <ul>
+ * <li>全局预算按秒划分，每个 (租户, 路由, 秒) 一个 Redis 计数器，本地桶每次领取一个分片 (chunkSize)</li>
+ * <li>进入新的一秒时先按一个分片乐观放行，同时异步向全局预算登记，超出部分在回调中扣回</li>
+ * <li>余量降到半个分片时异步预取下一分片；全局预算耗尽后本秒内不再访问 Redis</li>
+ * <li>Redis 不可用时退化为单节点限流（每节点最多放行一个周期的全部额度）</li>
+ * </ul>
+ * 另有单节点在途请求上限用于过载保护。集群超发上限约为 节点数 × chunkSize / 秒。
+ */
+@Component
+public class TenantRateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantRateLimiter.class);
+
+    /** 租户级桶的路由名 */
+    private static final String ALL_ROUTES = "*";
+
+    /**
+     * 从全局预算领取令牌：KEYS[1]=计数器, ARGV[1]=申请数, ARGV[2]=每秒上限, ARGV[3]=过期毫秒
+     * 返回实际领取数（0 ~ 申请数）
+     */
+    private static final String ACQUIRE_SCRIPT = """
+            local requested = tonumber(ARGV[1])
+            local used = redis.call('INCRBY', KEYS[1], requested)
+            if used == requested then
+                redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            end
+            local granted = tonumber(ARGV[2]) - used + requested
+            if granted > requested then granted = requested end
+            if granted < 0 then granted = 0 end
+            return granted
+            """;
+
+    private final SecurityProperties.RateLimit properties;
+    private final RScript script;
+    private final MeterRegistry meterRegistry;
+    private final List<Route> routes;
+    private final long ttlMillis;
+
+    private final Map<Long, TenantBuckets> tenants = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter shedCounter;
+
+    public TenantRateLimiter(
+            SecurityProperties securityProperties,
+            RedissonClient redissonClient,
+            MeterRegistry meterRegistry) {
+        this.properties = securityProperties.getRateLimit();
+        this.script = redissonClient.getScript(LongCodec.INSTANCE);
+        this.meterRegistry = meterRegistry;
+        this.ttlMillis = RedisKeyRegistry.SEC_RATE_LIMIT.getTtl().toMillis();
+
+        List<Route> compiled = new ArrayList<>();
+        properties.getRoutePermitsPerSecond().forEach((pattern, permits) ->
+                compiled.add(new Route(PathPatternParser.defaultInstance.parse(pattern), pattern, permits)));
+        this.routes = List.copyOf(compiled);
+
+        Gauge.builder("admin.ratelimit.inflight", inFlight, AtomicInteger::get)
+                .description("本节点在途请求数")
+                .register(meterRegistry);
+        this.shedCounter = Counter.builder("admin.ratelimit.shed")
+                .description("因单节点过载被拒绝的请求数")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 进入请求（过载保护），返回 true 时调用方必须在结束时调用 {@link #exit()}
+     */
+    public boolean tryEnter() {
+        if (properties.getMaxInFlight() <= 0) {
+            return true;
+        }
+        if (inFlight.incrementAndGet() > properties.getMaxInFlight()) {
+            inFlight.decrementAndGet();
+            shedCounter.increment();
+            return false;
+        }
+        return true;
+    }
+
+    public void exit() {
+        if (properties.getMaxInFlight() > 0) {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * 申请一个令牌（纯本地 CAS）
+     *
+     * @param tenantId 租户ID
+     * @param path     请求路径
+     * @return 是否放行
+     */
+    public boolean tryAcquire(Long tenantId, String path) {
+        return tryAcquire(tenantId, path, System.currentTimeMillis() / 1000);
+    }
+
+    boolean tryAcquire(Long tenantId, String path, long second) {
+        TenantBuckets buckets = tenants.computeIfAbsent(tenantId, this::newTenantBuckets);
+
+        // 先检查范围更小的路由桶
+        LocalBucket route = null;
+        if (!routes.isEmpty()) {
+            PathContainer container = PathContainer.parsePath(path);
+            for (int i = 0; i < routes.size(); i++) {
+                if (routes.get(i).pattern().matches(container)) {
+                    route = buckets.routes[i];
+                    break;
+                }
+            }
+        }
+        if (route != null && !route.tryAcquire(second)) {
+            buckets.rejected.increment();
+            return false;
+        }
+        if (!buckets.tenant.tryAcquire(second)) {
+            // 租户桶拒绝：归还已取得的路由令牌，被拒绝的请求不占用路由额度
+            if (route != null) {
+                route.release(second);
+            }
+            buckets.rejected.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 被拒绝后建议的重试间隔（秒）：预算按秒划分，下一秒即可重试
+     */
+    public int retryAfterSeconds() {
+        return 1;
+    }
+
+    private TenantBuckets newTenantBuckets(Long tenantId) {
+        LocalBucket[] routeBuckets = new LocalBucket[routes.size()];
+        for (int i = 0; i < routes.size(); i++) {
+            Route route = routes.get(i);
+            routeBuckets[i] = new LocalBucket(tenantId, route.name(), route.permitsPerSecond());
+        }
+        Counter rejected = Counter.builder("admin.ratelimit.rejected")
+                .description("因租户限流被拒绝的请求数")
+                .tag("tenant", String.valueOf(tenantId))
+                .register(meterRegistry);
+        return new TenantBuckets(
+                new LocalBucket(tenantId, ALL_ROUTES, properties.getTenantPermitsPerSecond()),
+                routeBuckets,
+                rejected);
+    }
+
+    private record Route(PathPattern pattern, String name, int permitsPerSecond) {
+    }
+
+    private record TenantBuckets(LocalBucket tenant, LocalBucket[] routes, Counter rejected) {
+    }
+
+    /**
+     * 本地余量桶，按秒固定窗口与全局预算对齐
+     * <p>
+     * 所属的秒与余量打包在同一个 long 中（高 32 位为秒的低 32 位，低 32 位为有符号余量），
+     * 换秒重置与扣减在同一次 CAS 中完成，不会出现新的一秒配上旧余量的中间状态。
+     */
+    private final class LocalBucket {
+
+        private final Long tenantId;
+        private final String route;
+        private final int limit;
+        private final int chunk;
+
+        /** 所属的秒 + 本地余量 */
+        private final AtomicLong state = new AtomicLong(pack(-1, 0));
+        /** 所属的秒 + 本秒内已从全局预算领取（或 Redis 不可用时本地放行）的令牌数 */
+        private final AtomicLong granted = new AtomicLong(pack(-1, 0));
+        private final AtomicBoolean refilling = new AtomicBoolean();
+        /** 全局预算已耗尽的秒，本秒内不再预取 */
+        private volatile long exhaustedWindow = -1;
+
+        LocalBucket(Long tenantId, String route, int limit) {
+            this.tenantId = tenantId;
+            this.route = route;
+            this.limit = Math.max(1, limit);
+            this.chunk = Math.max(1, Math.min(properties.getChunkSize(), this.limit));
+        }
+
+        boolean tryAcquire(long second) {
+            while (true) {
+                long s = state.get();
+                if (!sameWindow(s, second)) {
+                    // 新的一秒：乐观放行一个分片（本次占用其中一个），异步登记
+                    if (state.compareAndSet(s, pack(second, chunk - 1))) {
+                        addGranted(second, chunk);
+                        reserve(second, true);
+                        return true;
+                    }
+                    continue;
+                }
+                int t = tokensOf(s);
+                if (t <= 0) {
+                    refill(second);
+                    return false;
+                }
+                if (state.compareAndSet(s, pack(second, t - 1))) {
+                    if (t - 1 == chunk / 2) {
+                        refill(second);
+                    }
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * 归还一个令牌；已进入下一秒时忽略
+         */
+        void release(long second) {
+            adjust(second, 1);
+        }
+
+        private void refill(long second) {
+            if (exhaustedWindow == second || !refilling.compareAndSet(false, true)) {
+                return;
+            }
+            addGranted(second, chunk);
+            reserve(second, false);
+        }
+
+        /** 调整本秒余量，窗口已变化时放弃 */
+        private void adjust(long second, int delta) {
+            long s;
+            do {
+                s = state.get();
+                if (!sameWindow(s, second)) {
+                    return;
+                }
+            } while (!state.compareAndSet(s, pack(second, tokensOf(s) + delta)));
+        }
+
+        private void addGranted(long second, int delta) {
+            granted.updateAndGet(g -> pack(second, sameWindow(g, second) ? tokensOf(g) + delta : delta));
+        }
+
+        private long grantedIn(long second) {
+            long g = granted.get();
+            return sameWindow(g, second) ? tokensOf(g) : 0;
+        }
+
+        private void reserve(long second, boolean optimistic) {
+            String key = RedisKeyRegistry.SEC_RATE_LIMIT.buildKey(tenantId, route, second);
+            script.<Long>evalAsync(RScript.Mode.READ_WRITE, ACQUIRE_SCRIPT, RScript.ReturnType.INTEGER,
+                            List.<Object>of(key), chunk, limit, ttlMillis)
+                    .whenComplete((result, e) -> {
+                        try {
+                            long got;
+                            if (e != null) {
+                                // 退化为单节点限流
+                                log.debug("Rate limit budget unavailable, fallback to local: {}", e.getMessage());
+                                // 本分片已计入 granted，按领取前的累计数判断，与脚本一致地截断到剩余额度
+                                long before = grantedIn(second) - chunk;
+                                got = Math.max(0, Math.min(chunk, limit - before));
+                            } else {
+                                got = result;
+                            }
+                            // 乐观放行的分片按实际领取数扣回；已进入下一秒时结果作废
+                            adjust(second, (int) (optimistic ? got - chunk : got));
+                            if (got < chunk) {
+                                exhaustedWindow = second;
+                            }
+                        } finally {
+                            if (!optimistic) {
+                                refilling.set(false);
+                            }
+                        }
+                    });
+        }
+    }
+
+    private static long pack(long second, int tokens) {
+        return (second << 32) | (tokens & 0xFFFF_FFFFL);
+    }
+
+    /** 只比较秒的低 32 位，足以区分相邻的秒 */
+    private static boolean sameWindow(long state, long second) {
+        return (int) (state >>> 32) == (int) second;
+    }
+
+    private static int tokensOf(long state) {
+        return (int) state;
+    }
+}
@@ -1,20 +1,31 @@
 package io.github.faustofan.admin.auth.interfaces;
 
+import java.util.List;
 import java.util.Set;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import io.github.faustofan.admin.auth.application.AuthService;
+import io.github.faustofan.admin.auth.application.RouteService;
+import io.github.faustofan.admin.auth.application.SessionPushService;
 import io.github.faustofan.admin.auth.application.dto.CurrentUserResponse;
 import io.github.faustofan.admin.auth.application.dto.LoginRequest;
 import io.github.faustofan.admin.auth.application.dto.LoginResponse;
 import io.github.faustofan.admin.auth.application.dto.RefreshTokenRequest;
 import io.github.faustofan.admin.auth.domain.model.LoginUser;
+import io.github.faustofan.admin.auth.domain.model.RouteNode;
+import io.github.faustofan.admin.auth.domain.model.RouteTree;
 import io.github.faustofan.admin.shared.common.constant.SystemConstants;
 import io.github.faustofan.admin.shared.common.dto.ApiResponse;
 import io.github.faustofan.admin.shared.web.config.OpenApiConfig;
@@ -34,8 +45,14 @@ public class AuthController {
 
     private final AuthService authService;
 
-    public AuthController(AuthService authService) {
+    private final RouteService routeService;
+
+    private final SessionPushService sessionPushService;
+
+    public AuthController(AuthService authService, RouteService routeService, SessionPushService sessionPushService) {
         this.authService = authService;
+        this.routeService = routeService;
+        this.sessionPushService = sessionPushService;
     }
 
     /**
@@ -55,9 +72,12 @@ public class AuthController {
     })
     @PostMapping("/login")
     public ApiResponse<LoginResponse> login(
-            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "登录请求参数", required = true) @RequestBody LoginRequest request) {
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "登录请求参数", required = true) @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest) {
         Long tenantId = request.tenantId() != null ? request.tenantId() : SystemConstants.SYSTEM_TENANT_ID;
-        LoginResponse response = authService.login(request.username(), request.password(), tenantId);
+        // 经反向代理时由 server.forward-headers-strategy 还原真实 IP，不直接信任 X-Forwarded-For
+        LoginResponse response = authService.login(
+                request.username(), request.password(), tenantId, httpRequest.getRemoteAddr());
         return ApiResponse.success(response);
     }
 
@@ -120,6 +140,57 @@ public class AuthController {
         return ApiResponse.success(loginUser.getPermissions());
     }
 
+    /**
+     * 获取当前用户的路由树
+     */
+    @Operation(summary = "获取路由树", description = """
+                获取当前用户可见的菜单路由树（目录与菜单，不含按钮）。
+
+                响应携带强 ETag，客户端携带 If-None-Match 重新验证，内容未变化时返回 304。
+            """, operationId = "getRoutes", security = @SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME))
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "获取成功"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "路由树未变化")
+    })
+    @GetMapping("/routes")
+    public ResponseEntity<ApiResponse<List<RouteNode>>> getRoutes(
+            @Parameter(hidden = true) @AuthenticationPrincipal LoginUser loginUser,
+            WebRequest webRequest
+    ) {
+        RouteTree tree = routeService.getRoutes(loginUser);
+        // 路由树因人而异：仅允许私有缓存，且每次使用前必须重新验证
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+        if (webRequest.checkNotModified(tree.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(tree.etag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(tree.etag())
+                .cacheControl(cacheControl)
+                .body(ApiResponse.success(tree.routes()));
+    }
+
+    /**
+     * 订阅会话事件 (SSE)
+     */
+    @Operation(summary = "订阅会话事件", description = """
+                建立 SSE 长连接，接收当前用户的会话事件，替代轮询 /api/auth/me：
+                - session-revoked: 账号被禁用或密码已修改，应立即退出登录
+                - permission-changed: 权限已变化，应重新拉取用户信息与路由树
+
+                鉴权与其他接口一致使用 Authorization 请求头（浏览器端需使用基于 fetch 的 SSE 客户端）。
+            """, operationId = "subscribeEvents", security = @SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME))
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "连接建立"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "429", description = "连接数超出上限")
+    })
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeEvents(@Parameter(hidden = true) @AuthenticationPrincipal LoginUser loginUser) {
+        return sessionPushService.connect(loginUser.getUserId());
+    }
+
     /**
      * 登出
      */
@@ -0,0 +1,85 @@
+package io.github.faustofan.admin.auth.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class KeyedPermitsTest {
+
+    @Test
+    void limitsPermitsPerKey() {
+        KeyedPermits<String> permits = new KeyedPermits<>(2, 10);
+
+        assertThat(permits.tryAcquire("a")).isTrue();
+        assertThat(permits.tryAcquire("a")).isTrue();
+        assertThat(permits.tryAcquire("a")).isFalse();
+        assertThat(permits.tryAcquire("b")).isTrue();
+        assertThat(permits.inUse("a")).isEqualTo(2);
+    }
+
+    @Test
+    void removesKeyWhenLastPermitReleased() {
+        KeyedPermits<String> permits = new KeyedPermits<>(2, 10);
+        permits.tryAcquire("a");
+        permits.tryAcquire("a");
+
+        permits.release("a");
+        assertThat(permits.size()).isEqualTo(1);
+        permits.release("a");
+
+        assertThat(permits.size()).isZero();
+        assertThat(permits.inUse("a")).isZero();
+    }
+
+    @Test
+    void rejectsNewKeysBeyondMaxKeys() {
+        KeyedPermits<Integer> permits = new KeyedPermits<>(1, 2);
+
+        assertThat(permits.tryAcquire(1)).isTrue();
+        assertThat(permits.tryAcquire(2)).isTrue();
+        assertThat(permits.tryAcquire(3)).isFalse();
+
+        permits.release(1);
+        assertThat(permits.tryAcquire(3)).isTrue();
+    }
+
+    @Test
+    void neverExceedsLimitUnderContention() throws InterruptedException {
+        int limit = 3;
+        KeyedPermits<String> permits = new KeyedPermits<>(limit, 10);
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxObserved = new AtomicInteger();
+        int tasks = 2_000;
+        CountDownLatch done = new CountDownLatch(tasks);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < tasks; i++) {
+                executor.execute(() -> {
+                    try {
+                        if (permits.tryAcquire("k")) {
+                            try {
+                                maxObserved.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                                Thread.onSpinWait();
+                            } finally {
+                                concurrent.decrementAndGet();
+                                permits.release("k");
+                            }
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(maxObserved.get()).isLessThanOrEqualTo(limit);
+        assertThat(permits.size()).isZero();
+    }
+}
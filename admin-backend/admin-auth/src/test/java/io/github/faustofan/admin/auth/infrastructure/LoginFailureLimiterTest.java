@@ -0,0 +1,145 @@
+package io.github.faustofan.admin.auth.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RMapAsync;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.client.codec.Codec;
+
+import io.github.faustofan.admin.shared.common.exception.UserException;
+import io.github.faustofan.admin.shared.common.exception.errcode.UserErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LoginFailureLimiterTest {
+
+    private static final long TENANT_ID = 1L;
+
+    private final RedissonClient redissonClient = mock(RedissonClient.class);
+    private final RTopic topic = mock(RTopic.class);
+
+    private LoginFailureLimiter limiter;
+
+    private LoginFailureLimiter limiter(Duration flushInterval) {
+        when(redissonClient.getTopic(anyString())).thenReturn(topic);
+        SecurityProperties properties = new SecurityProperties();
+        properties.getLoginLimit().setMaxFailuresPerUser(3);
+        properties.getLoginLimit().setMaxFailuresPerIp(5);
+        properties.getLoginLimit().setFlushInterval(flushInterval);
+        limiter = new LoginFailureLimiter(redissonClient, properties, new SimpleMeterRegistry());
+        return limiter;
+    }
+
+    @AfterEach
+    void tearDown() {
+        limiter.destroy();
+    }
+
+    private static void assertLocked(LoginFailureLimiter limiter, String username, String clientIp) {
+        assertThatThrownBy(() -> limiter.checkAllowed(TENANT_ID, username, clientIp))
+                .isInstanceOfSatisfying(UserException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(UserErrorCode.ACCOUNT_LOCKED));
+    }
+
+    @Test
+    void locksUsernameOnceLocalFailuresReachLimit() {
+        LoginFailureLimiter limiter = limiter(Duration.ofHours(1));
+
+        limiter.recordFailure(TENANT_ID, "alice", null);
+        limiter.recordFailure(TENANT_ID, "alice", null);
+        assertThatCode(() -> limiter.checkAllowed(TENANT_ID, "alice", null)).doesNotThrowAnyException();
+
+        limiter.recordFailure(TENANT_ID, "alice", null);
+        assertLocked(limiter, "alice", null);
+        // 锁定只广播一次
+        limiter.recordFailure(TENANT_ID, "alice", null);
+        verify(topic, times(1)).publishAsync("U:1:alice");
+
+        // 其他租户的同名用户不受影响
+        assertThatCode(() -> limiter.checkAllowed(2L, "alice", null)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void locksClientIpAcrossUsernames() {
+        LoginFailureLimiter limiter = limiter(Duration.ofHours(1));
+
+        for (int i = 0; i < 5; i++) {
+            limiter.recordFailure(TENANT_ID, "user" + i, "10.0.0.1");
+        }
+
+        assertLocked(limiter, "someone-else", "10.0.0.1");
+        assertThatCode(() -> limiter.checkAllowed(TENANT_ID, "someone-else", "10.0.0.2"))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void successResetsUsernameButNotClientIp() {
+        LoginFailureLimiter limiter = limiter(Duration.ofHours(1));
+
+        limiter.recordFailure(TENANT_ID, "alice", "10.0.0.1");
+        limiter.recordFailure(TENANT_ID, "alice", "10.0.0.1");
+        limiter.recordSuccess(TENANT_ID, "alice");
+        limiter.recordFailure(TENANT_ID, "alice", "10.0.0.1");
+        limiter.recordFailure(TENANT_ID, "alice", "10.0.0.1");
+        assertThatCode(() -> limiter.checkAllowed(TENANT_ID, "alice", null)).doesNotThrowAnyException();
+
+        limiter.recordFailure(TENANT_ID, "bob", "10.0.0.1");
+        assertLocked(limiter, "carol", "10.0.0.1");
+    }
+
+    @Test
+    void appliesLockoutBroadcastFromOtherNodes() {
+        LoginFailureLimiter limiter = limiter(Duration.ofHours(1));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<MessageListener<String>> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(topic).addListener(eq(String.class), listener.capture());
+
+        listener.getValue().onMessage("topic", "U:1:alice");
+
+        assertLocked(limiter, "alice", null);
+        verify(topic, never()).publishAsync(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void locksWhenClusterTotalReachesLimitOnFlush() {
+        RBatch batch = mock(RBatch.class);
+        RMapAsync<Long, Long> counter = mock(RMapAsync.class);
+        RFuture<Map<Long, Long>> read = mock(RFuture.class);
+        when(redissonClient.createBatch(any(BatchOptions.class))).thenReturn(batch);
+        doReturn(counter).when(batch).getMap(anyString(), any(Codec.class));
+        when(counter.readAllMapAsync()).thenReturn(read);
+        // 其他节点已累计 2 次，加上本节点 1 次达到上限
+        when(read.toCompletableFuture()).thenReturn(CompletableFuture.completedFuture(Map.of(Long.MAX_VALUE, 3L)));
+
+        LoginFailureLimiter limiter = limiter(Duration.ofMillis(20));
+        limiter.recordFailure(TENANT_ID, "alice", null);
+
+        verify(topic, timeout(2_000)).publishAsync("U:1:alice");
+        assertLocked(limiter, "alice", null);
+        verify(counter, timeout(2_000).atLeastOnce()).addAndGetAsync(any(), eq(1L));
+    }
+}
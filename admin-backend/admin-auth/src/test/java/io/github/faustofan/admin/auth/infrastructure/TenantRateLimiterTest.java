@@ -0,0 +1,152 @@
+package io.github.faustofan.admin.auth.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.Codec;
+import org.redisson.misc.CompletableFutureWrapper;
+
+import io.github.faustofan.admin.shared.distributed.constants.RedisKeyRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TenantRateLimiterTest {
+
+    private static final long TENANT_ID = 1L;
+    private static final long SECOND = 1_000L;
+
+    /** 模拟全局预算：与 Lua 脚本相同的领取规则，同步完成 */
+    private final Map<String, AtomicLong> budget = new ConcurrentHashMap<>();
+    private volatile boolean redisDown;
+
+    private TenantRateLimiter limiter(int tenantPermits, int chunkSize, Map<String, Integer> routePermits) {
+        RScript script = mock(RScript.class, invocation -> {
+            if (!invocation.getMethod().getName().equals("evalAsync")) {
+                return null;
+            }
+            if (redisDown) {
+                return new CompletableFutureWrapper<Long>(CompletableFuture.failedFuture(new RedisException("down")));
+            }
+            String key = ((List<?>) invocation.getArgument(3)).getFirst().toString();
+            long requested = ((Number) invocation.getArgument(4)).longValue();
+            long limit = ((Number) invocation.getArgument(5)).longValue();
+            long used = budget.computeIfAbsent(key, k -> new AtomicLong()).addAndGet(requested);
+            long granted = Math.clamp(limit - used + requested, 0, requested);
+            return new CompletableFutureWrapper<>(CompletableFuture.completedFuture(granted));
+        });
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        when(redissonClient.getScript(any(Codec.class))).thenReturn(script);
+
+        SecurityProperties properties = new SecurityProperties();
+        properties.getRateLimit().setTenantPermitsPerSecond(tenantPermits);
+        properties.getRateLimit().setChunkSize(chunkSize);
+        properties.getRateLimit().setRoutePermitsPerSecond(routePermits);
+        return new TenantRateLimiter(properties, redissonClient, new SimpleMeterRegistry());
+    }
+
+    private static int acquire(TenantRateLimiter limiter, String path, long second, int attempts) {
+        int passed = 0;
+        for (int i = 0; i < attempts; i++) {
+            if (limiter.tryAcquire(TENANT_ID, path, second)) {
+                passed++;
+            }
+        }
+        return passed;
+    }
+
+    private long used(String route, long second) {
+        AtomicLong used = budget.get(RedisKeyRegistry.SEC_RATE_LIMIT.buildKey(TENANT_ID, route, second));
+        return used == null ? 0 : used.get();
+    }
+
+    @Test
+    void limitsTenantPerSecond() {
+        TenantRateLimiter limiter = limiter(10, 4, Map.of());
+
+        assertThat(acquire(limiter, "/api/user/list", SECOND, 50)).isEqualTo(10);
+        assertThat(acquire(limiter, "/api/user/list", SECOND + 1, 50)).isEqualTo(10);
+    }
+
+    @Test
+    void optimisticChunkIsTrimmedToGlobalBudget() {
+        TenantRateLimiter limiter = limiter(10, 10, Map.of());
+        // 其他节点本秒已领取 7 个
+        budget.put(RedisKeyRegistry.SEC_RATE_LIMIT.buildKey(TENANT_ID, "*", SECOND), new AtomicLong(7));
+
+        assertThat(acquire(limiter, "/api/user/list", SECOND, 50)).isEqualTo(3);
+    }
+
+    @Test
+    void routeRejectionDoesNotConsumeTenantTokens() {
+        TenantRateLimiter limiter = limiter(10, 10, Map.of("/api/export/**", 2));
+
+        assertThat(acquire(limiter, "/api/export/users", SECOND, 5)).isEqualTo(2);
+        assertThat(acquire(limiter, "/api/user/list", SECOND, 50)).isEqualTo(8);
+    }
+
+    @Test
+    void tenantRejectionRefundsRouteToken() {
+        TenantRateLimiter limiter = limiter(4, 4, Map.of("/api/export/**", 4));
+
+        assertThat(acquire(limiter, "/api/user/list", SECOND, 4)).isEqualTo(4);
+        // 租户桶已空：路由桶取得的令牌逐次归还，不会耗尽并触发预取
+        assertThat(acquire(limiter, "/api/export/users", SECOND, 20)).isZero();
+        assertThat(used("/api/export/**", SECOND)).isEqualTo(4);
+
+        assertThat(acquire(limiter, "/api/export/users", SECOND + 1, 20)).isEqualTo(4);
+    }
+
+    @Test
+    void fallsBackToLocalLimitWhenRedisIsUnavailable() {
+        TenantRateLimiter limiter = limiter(10, 5, Map.of());
+        redisDown = true;
+
+        assertThat(acquire(limiter, "/api/user/list", SECOND, 50)).isEqualTo(10);
+    }
+
+    @Test
+    void fallbackTruncatesLastChunkToLimit() {
+        TenantRateLimiter limiter = limiter(12, 5, Map.of());
+        redisDown = true;
+
+        // 5 + 5 + 2：最后一个分片只领取剩余额度
+        assertThat(acquire(limiter, "/api/user/list", SECOND, 50)).isEqualTo(12);
+    }
+
+    @Test
+    void concurrentAcquiresNeverExceedBudget() throws Exception {
+        TenantRateLimiter limiter = limiter(1_000, 100, Map.of());
+        // 上一秒留下的余量在换秒时整体作废
+        acquire(limiter, "/api/user/list", SECOND - 1, 10);
+
+        int passed = 0;
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(() -> acquire(limiter, "/api/user/list", SECOND, 200)));
+            }
+            for (Future<Integer> result : results) {
+                passed += result.get();
+            }
+        }
+        // 余下的令牌顺序取完
+        passed += acquire(limiter, "/api/user/list", SECOND, 2_000);
+
+        assertThat(passed).isEqualTo(1_000);
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.faustofan.admin.benchmark;
+
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.github.faustofan.admin.shared.bytecode.json.CompiledJsonModule;
+
+/**
+ * 与应用配置一致的 ObjectMapper 构建器
+ * <p>
+ * 对应 Spring Boot 自动配置的 {@link Jackson2ObjectMapperBuilder}：注册 JSR310 等常用 Module，日期按 ISO 字符串输出。
+ */
+public final class BenchmarkMappers {
+
+    private BenchmarkMappers() {
+    }
+
+    /**
+     * @param compiled 是否注册 {@link CompiledJsonModule}
+     * @return 新的构建器，每次调用互不影响
+     */
+    public static Jackson2ObjectMapperBuilder builder(boolean compiled) {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (compiled) {
+            builder.modulesToInstall(new CompiledJsonModule());
+        }
+        return builder;
+    }
+}
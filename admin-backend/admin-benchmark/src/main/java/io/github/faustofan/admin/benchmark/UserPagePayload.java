@@ -0,0 +1,72 @@
+package io.github.faustofan.admin.benchmark;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.babyfish.jimmer.Page;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.github.faustofan.admin.shared.common.dto.ApiResponse;
+import io.github.faustofan.admin.system.dto.SysUserView;
+
+/**
+ * 基准测试共用的用户列表响应
+ * <p>
+ * 与 GET /api/user/list 返回的 {@code ApiResponse<Page<SysUserView>>} 结构相同，取值固定，每次运行的负载一致。
+ */
+public final class UserPagePayload {
+
+    /** 列表总数，用于计算总页数 */
+    private static final long TOTAL = 10_000;
+
+    private UserPagePayload() {
+    }
+
+    /**
+     * 构建一页用户列表响应
+     *
+     * @param rows 本页行数
+     * @return 用户列表响应
+     */
+    public static ApiResponse<Page<SysUserView>> create(int rows) {
+        // SysUserView 由 Jimmer 生成，按 JSON 属性名填充，避免依赖生成的构造方法
+        ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        List<SysUserView> users = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            users.add(mapper.convertValue(row(i), SysUserView.class));
+        }
+        Page<SysUserView> page = new Page<>(users, TOTAL, (TOTAL + rows - 1) / rows);
+        return new ApiResponse<>(new UUID(0x5EEDL, rows), "200", "Success", page);
+    }
+
+    private static Map<String, Object> row(int i) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", 1_900_000_000_000_000L + i);
+        row.put("tenantId", 1L);
+        row.put("createdBy", 1L);
+        row.put("updatedBy", 1L);
+        row.put("ownerOrgId", 100L + i % 20);
+        row.put("createdTime", "2025-01-01T08:00:00Z");
+        row.put("updatedTime", "2025-06-01T08:00:00Z");
+        row.put("username", "user" + i);
+        row.put("nickname", "用户" + i);
+        row.put("email", "user" + i + "@example.com");
+        row.put("mobile", "138" + String.format("%08d", i));
+        row.put("superAdmin", false);
+        row.put("attributes", Map.of("level", i % 5, "region", "cn-east"));
+        row.put("status", "ACTIVE");
+        row.put("orgName", "研发部-" + i % 20);
+        row.put("roleIds", List.of(10L, 11L + i % 3));
+        return row;
+    }
+}
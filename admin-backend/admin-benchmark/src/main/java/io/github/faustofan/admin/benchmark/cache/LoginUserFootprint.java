@@ -0,0 +1,229 @@
+package io.github.faustofan.admin.benchmark.cache;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
+import org.redisson.client.codec.Codec;
+import org.redisson.codec.Kryo5Codec;
+
+import io.github.faustofan.admin.auth.domain.model.LoginUser;
+import io.github.faustofan.admin.auth.domain.model.RoleSnapshot;
+import io.github.faustofan.admin.auth.domain.permission.PermissionMask;
+import io.github.faustofan.admin.shared.cache.constants.CacheKeys;
+import io.github.faustofan.admin.shared.common.context.RoleDataScopeInfo;
+import io.github.faustofan.admin.shared.common.enums.DataScope;
+import io.github.faustofan.admin.system.domain.enums.PolicyType;
+import io.github.faustofan.admin.system.domain.policy.PolicyDefinition;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * CACHE_AUTH_USER 的内存占用对比
+ * <p>
+ * 按 LoginUserAssembler 的方式由共享的角色快照组装 LoginUser，对比两种缓存布局：
+ * <ul>
+ *     <li>before：ID:{userId} 与 NAME:{tenantId}:{username} 各缓存一份完整 LoginUser，两份由两次加载分别组装</li>
+ *     <li>after：LoginUser 只在 ID:{userId} 下缓存一份，NAME 别名只保存用户ID</li>
+ * </ul>
+ * L1 用 JOL GraphLayout 统计全部 Key 与值可达的对象图，角色快照中共享的权限码、策略只计一次；
+ * L2 用 Redisson 默认的 Kryo5Codec 编码 Key 与值，统计写入 Redis 的字节数，不含 Redis 哈希结构自身的开销。
+ * 两者都只统计条目本身，不含 Caffeine 节点与 L1 容量上限的影响。
+ * JOL 需要自附加 agent 才能读取 record 的字段布局：
+ * <pre>
+ * java -Xmx2g -Djdk.attach.allowAttachSelf -XX:+EnableDynamicAgentLoading \
+ *     -cp admin-benchmark/target/benchmarks.jar io.github.faustofan.admin.benchmark.cache.LoginUserFootprint [users]
+ * </pre>
+ */
+public final class LoginUserFootprint {
+
+    private static final int ROLES = 30;
+    private static final int ROLES_PER_USER = 2;
+    private static final int PERMISSION_CODES = 300;
+    private static final int PERMISSIONS_PER_ROLE = 40;
+    private static final int POLICIES_PER_ROLE = 2;
+    private static final long TENANT_ID = 1L;
+    private static final long FIRST_USER_ID = 10_000L;
+
+    private final List<RoleSnapshot> roles;
+
+    private LoginUserFootprint(long seed) {
+        this.roles = roleSnapshots(new Random(seed));
+    }
+
+    public static void main(String[] args) {
+        int users = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        LoginUserFootprint footprint = new LoginUserFootprint(42L);
+
+        Map<String, Object> before = new LinkedHashMap<>();
+        Map<String, Object> after = new LinkedHashMap<>();
+        for (int i = 0; i < users; i++) {
+            long userId = FIRST_USER_ID + i;
+            String idKey = CacheKeys.KEY_ID + userId;
+            String nameKey = CacheKeys.KEY_NAME + TENANT_ID + ":user" + i;
+            before.put(idKey, footprint.load(i));
+            before.put(nameKey, footprint.load(i));
+            after.put(idKey, footprint.load(i));
+            after.put(nameKey, userId);
+        }
+
+        Codec codec = new Kryo5Codec();
+        Footprint old = Footprint.of(before, codec);
+        Footprint now = Footprint.of(after, codec);
+        System.out.printf("users=%d, roles=%d x %d permissions, %d roles per user%n",
+                users, ROLES, PERMISSIONS_PER_ROLE, ROLES_PER_USER);
+        System.out.printf("%-8s %10s %14s %14s%n", "layout", "entries", "L1 heap (B)", "L2 Kryo5 (B)");
+        old.print("before");
+        now.print("after");
+        System.out.printf("%-8s %10s %14d %14d%n", "saved", "",
+                old.heapBytes - now.heapBytes, old.encodedBytes - now.encodedBytes);
+        System.out.printf("%-8s %10s %13.1f%% %13.1f%%%n", "", "",
+                100.0 * (old.heapBytes - now.heapBytes) / old.heapBytes,
+                100.0 * (old.encodedBytes - now.encodedBytes) / old.encodedBytes);
+    }
+
+    /**
+     * 模拟一次缓存未命中：用户行的字段来自新查询的结果，角色快照为共享对象
+     */
+    private LoginUser load(int index) {
+        long userId = FIRST_USER_ID + index;
+        List<RoleSnapshot> snapshots = new ArrayList<>(ROLES_PER_USER);
+        for (int r = 0; r < ROLES_PER_USER; r++) {
+            snapshots.add(roles.get((index + r * 7) % ROLES));
+        }
+
+        var roleMaps = snapshots.stream()
+                .collect(Collectors.toUnmodifiableMap(RoleSnapshot::roleId, RoleSnapshot::roleName));
+        var permissions = snapshots.stream()
+                .flatMap(snapshot -> snapshot.permissions().stream())
+                .collect(Collectors.toUnmodifiableSet());
+        var policies = snapshots.stream()
+                .flatMap(snapshot -> snapshot.policies().stream())
+                .collect(Collectors.toUnmodifiableSet());
+        var dataScopes = snapshots.stream()
+                .map(RoleSnapshot::dataScope)
+                .toList();
+
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("level", index % 5);
+        attributes.put("region", "region-" + index % 8);
+
+        return new LoginUser(
+                userId,
+                TENANT_ID,
+                100L + index % 50,
+                "组织" + index % 50,
+                "user" + index,
+                bcryptLike(index),
+                "用户" + index,
+                roleMaps,
+                permissions,
+                policies,
+                dataScopes,
+                attributes,
+                mask(permissions),
+                false,
+                true,
+                true,
+                true,
+                true);
+    }
+
+    private static List<RoleSnapshot> roleSnapshots(Random random) {
+        List<RoleSnapshot> snapshots = new ArrayList<>(ROLES);
+        DataScope[] scopes = DataScope.values();
+        for (int r = 0; r < ROLES; r++) {
+            Set<String> permissions = new LinkedHashSet<>();
+            while (permissions.size() < PERMISSIONS_PER_ROLE) {
+                permissions.add(permissionCode(random.nextInt(PERMISSION_CODES)));
+            }
+            Set<PolicyDefinition> policies = new LinkedHashSet<>();
+            for (int p = 0; p < POLICIES_PER_ROLE; p++) {
+                long policyId = r * POLICIES_PER_ROLE + p;
+                policies.add(new PolicyDefinition(policyId, 1_700_000_000_000L + policyId, "SYS_USER",
+                        PolicyType.SPEL_EXPRESSION, "#user.attributes['level'] >= " + p));
+            }
+            DataScope scope = scopes[r % scopes.length];
+            List<Long> orgIds = scope == DataScope.CUSTOM ? List.of(100L + r, 200L + r, 300L + r) : List.of();
+            snapshots.add(new RoleSnapshot(r + 1, "角色" + r, Set.copyOf(permissions), Set.copyOf(policies),
+                    new RoleDataScopeInfo(scope, orgIds)));
+        }
+        return snapshots;
+    }
+
+    private static String permissionCode(int index) {
+        return "system:resource" + index / 6 + ":action" + index % 6;
+    }
+
+    /**
+     * 与 PermissionRegistry 编码结果同样大小的位图
+     */
+    private static PermissionMask mask(Set<String> permissions) {
+        long[] words = new long[(PERMISSION_CODES + 63) / 64];
+        for (String permission : permissions) {
+            int index = Math.floorMod(permission.hashCode(), PERMISSION_CODES);
+            words[index >>> 6] |= 1L << index;
+        }
+        return new PermissionMask(1L, words);
+    }
+
+    /**
+     * 每个用户不同的 60 字符 bcrypt 形状的哈希
+     */
+    private static String bcryptLike(int index) {
+        StringBuilder hash = new StringBuilder(60).append("$2a$10$");
+        Random random = new Random(index);
+        String alphabet = "./ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+        while (hash.length() < 60) {
+            hash.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return hash.toString();
+    }
+
+    /**
+     * 一种布局下全部条目的占用
+     */
+    private record Footprint(int entries, long heapBytes, long encodedBytes) {
+
+        static Footprint of(Map<String, Object> entries, Codec codec) {
+            Object[] roots = new Object[entries.size() * 2];
+            int i = 0;
+            for (Map.Entry<String, Object> entry : entries.entrySet()) {
+                roots[i++] = entry.getKey();
+                roots[i++] = entry.getValue();
+            }
+            // 不计入收集根对象用的数组
+            long heap = GraphLayout.parseInstance(roots).totalSize() - VM.current().sizeOf(roots);
+            long encoded = 0;
+            for (Map.Entry<String, Object> entry : entries.entrySet()) {
+                encoded += encodedSize(codec, true, entry.getKey()) + encodedSize(codec, false, entry.getValue());
+            }
+            return new Footprint(entries.size(), heap, encoded);
+        }
+
+        private static int encodedSize(Codec codec, boolean key, Object value) {
+            try {
+                ByteBuf buf = (key ? codec.getMapKeyEncoder() : codec.getMapValueEncoder()).encode(value);
+                try {
+                    return buf.readableBytes();
+                } finally {
+                    buf.release();
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        void print(String layout) {
+            System.out.printf("%-8s %10d %14d %14d%n", layout, entries, heapBytes, encodedBytes);
+        }
+    }
+}
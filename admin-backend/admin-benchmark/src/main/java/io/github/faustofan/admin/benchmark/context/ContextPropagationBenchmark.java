@@ -0,0 +1,125 @@
+package io.github.faustofan.admin.benchmark.context;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.github.faustofan.admin.shared.common.context.AppContext;
+import io.github.faustofan.admin.shared.common.context.AppContextHolder;
+
+/**
+ * 虚拟线程读取 AppContext 的分配对比
+ * <p>
+ * 每次调用在绑定了上下文的线程上启动 100k 个虚拟线程，每个线程读取一次上下文后结束：
+ * <ul>
+ *     <li>baseline：不绑定上下文，只有虚拟线程本身的开销</li>
+ *     <li>inheritableThreadLocal：旧实现，子线程创建时复制 InheritableThreadLocal map（LayeredCache、消息执行器的路径）</li>
+ *     <li>inheritableThreadLocalWrapped：旧实现的 AsyncUtils.wrap，在复制之外还捕获引用，并在子线程中 set / clear</li>
+ *     <li>scopedValue：当前实现，任务经 {@link AppContextHolder#wrap} 捕获上下文，在子线程中重新绑定</li>
+ * </ul>
+ * 结果按单个线程折算，{@code -prof gc} 的 gc.alloc.rate.norm 减去 baseline 即每个线程传递上下文的分配量。
+ * <pre>
+ * java -jar admin-benchmark/target/benchmarks.jar ContextPropagationBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(ContextPropagationBenchmark.THREADS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ContextPropagationBenchmark {
+
+    static final int THREADS = 100_000;
+
+    private final Thread[] threads = new Thread[THREADS];
+
+    private AppContext context;
+
+    @Setup
+    public void setUp() {
+        context = AppContext.builder()
+                .traceId(new UUID(1L, 2L))
+                .requestId("bench")
+                .tenantId(1L)
+                .userId(1L)
+                .username("admin")
+                .orgId(1L)
+                .currentUserRoles(List.of())
+                .isSuperAdmin(false)
+                .build();
+    }
+
+    @Benchmark
+    public void baseline(Blackhole blackhole) {
+        Runnable task = () -> blackhole.consume(context);
+        spawnAndJoin(() -> task);
+    }
+
+    @Benchmark
+    public void inheritableThreadLocal(Blackhole blackhole) {
+        Runnable task = () -> blackhole.consume(InheritableAppContextHolder.getContext());
+        InheritableAppContextHolder.setContext(context);
+        try {
+            spawnAndJoin(() -> task);
+        } finally {
+            InheritableAppContextHolder.clearContext();
+        }
+    }
+
+    @Benchmark
+    public void inheritableThreadLocalWrapped(Blackhole blackhole) {
+        Runnable task = () -> blackhole.consume(InheritableAppContextHolder.getContext());
+        InheritableAppContextHolder.setContext(context);
+        try {
+            spawnAndJoin(() -> {
+                AppContext captured = InheritableAppContextHolder.getContext();
+                return () -> {
+                    InheritableAppContextHolder.setContext(captured);
+                    try {
+                        task.run();
+                    } finally {
+                        InheritableAppContextHolder.clearContext();
+                    }
+                };
+            });
+        } finally {
+            InheritableAppContextHolder.clearContext();
+        }
+    }
+
+    @Benchmark
+    public void scopedValue(Blackhole blackhole) {
+        Runnable task = () -> blackhole.consume(AppContextHolder.getContext());
+        AppContextHolder.runWith(context, () -> spawnAndJoin(() -> AppContextHolder.wrap(task)));
+    }
+
+    private void spawnAndJoin(Supplier<Runnable> tasks) {
+        for (int i = 0; i < THREADS; i++) {
+            threads[i] = Thread.ofVirtual().start(tasks.get());
+        }
+        try {
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.faustofan.admin.benchmark.context;
+
+import io.github.faustofan.admin.shared.common.context.AppContext;
+
+/**
+ * 改用 ScopedValue 之前的 AppContextHolder，仅作为基准测试的对照组
+ * <p>
+ * 上下文存放在 InheritableThreadLocal 中，子线程（包括虚拟线程）创建时复制父线程的整张 map。
+ */
+final class InheritableAppContextHolder {
+
+    private static final ThreadLocal<AppContext> CONTEXT = new InheritableThreadLocal<>();
+
+    private InheritableAppContextHolder() {
+    }
+
+    static AppContext getContext() {
+        return CONTEXT.get();
+    }
+
+    static void setContext(AppContext context) {
+        CONTEXT.set(context);
+    }
+
+    static void clearContext() {
+        CONTEXT.remove();
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.faustofan.admin.benchmark.json;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.babyfish.jimmer.Page;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import io.github.faustofan.admin.benchmark.BenchmarkMappers;
+import io.github.faustofan.admin.benchmark.UserPagePayload;
+import io.github.faustofan.admin.shared.common.dto.ApiResponse;
+import io.github.faustofan.admin.system.dto.SysUserView;
+
+/**
+ * 用户列表响应的 JSON / CBOR / Smile 编码对比
+ * <p>
+ * 三种格式的 ObjectMapper 与 BinaryContentConfig 相同：基于同一份应用配置，只替换 JsonFactory。
+ * 编码耗时由 JMH 统计；编码后的字节数在每个参数组合的 Setup 中输出一次（运行日志中的 {@code [size]} 行）。
+ * <pre>
+ * java -jar admin-benchmark/target/benchmarks.jar BinaryFormatBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class BinaryFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"20", "100"})
+    private int rows;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<Page<SysUserView>> userPage;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = switch (format) {
+            case "json" -> BenchmarkMappers.builder(true).build();
+            case "cbor" -> BenchmarkMappers.builder(true).factory(new CBORFactory()).build();
+            case "smile" -> BenchmarkMappers.builder(true).factory(new SmileFactory()).build();
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+        userPage = UserPagePayload.create(rows);
+        System.out.printf("[size] format=%s rows=%d bytes=%d%n", format, rows, encode().length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return objectMapper.writeValueAsBytes(userPage);
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.faustofan.admin.benchmark.json;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.babyfish.jimmer.Page;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.faustofan.admin.benchmark.BenchmarkMappers;
+import io.github.faustofan.admin.benchmark.UserPagePayload;
+import io.github.faustofan.admin.shared.common.dto.ApiResponse;
+import io.github.faustofan.admin.system.domain.event.UserCreatedEvent;
+import io.github.faustofan.admin.system.dto.SysUserView;
+
+/**
+ * {@code @CompiledJson} 生成的序列化器与反射式 Jackson 的对比
+ * <p>
+ * plain 与 compiled 的 ObjectMapper 配置相同，区别只在是否注册 CompiledJsonModule。
+ * userPage 为用户列表接口的响应：ApiResponse 走生成代码，Page 与 Jimmer DTO SysUserView 两边都走反射；
+ * event 为所有字段都由生成代码处理的消息事件。
+ * <pre>
+ * java -jar admin-benchmark/target/benchmarks.jar CompiledJsonBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CompiledJsonBenchmark {
+
+    @Param({"plain", "compiled"})
+    private String mapper;
+
+    @Param({"20", "100"})
+    private int rows;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<Page<SysUserView>> userPage;
+    private UserCreatedEvent event;
+    private byte[] eventJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        boolean compiled = mapper.equals("compiled");
+        objectMapper = BenchmarkMappers.builder(compiled).build();
+        userPage = UserPagePayload.create(rows);
+        event = new UserCreatedEvent(1_900_000_000_000_000L, 1L, "alice", "Alice", 100L,
+                Instant.parse("2025-01-01T08:00:00Z"));
+        eventJson = objectMapper.writeValueAsBytes(event);
+
+        // 生成的序列化器未被发现时（例如打包丢了 ServiceLoader 声明）直接失败，避免两组都测成反射
+        String serializer = objectMapper.getSerializerProviderInstance()
+                .findValueSerializer(ApiResponse.class).getClass().getName();
+        if (compiled != serializer.endsWith("_CompiledJson$Serializer")) {
+            throw new IllegalStateException("Unexpected ApiResponse serializer for " + mapper + ": " + serializer);
+        }
+        // 两种方式的输出必须一致
+        ObjectMapper reference = BenchmarkMappers.builder(!compiled).build();
+        if (!objectMapper.readTree(objectMapper.writeValueAsBytes(userPage))
+                .equals(reference.readTree(reference.writeValueAsBytes(userPage)))) {
+            throw new IllegalStateException("Compiled and reflective output differ");
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeUserPage() throws IOException {
+        return objectMapper.writeValueAsBytes(userPage);
+    }
+
+    @Benchmark
+    public byte[] serializeEvent() throws IOException {
+        return objectMapper.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public UserCreatedEvent deserializeEvent() throws IOException {
+        return objectMapper.readValue(eventJson, UserCreatedEvent.class);
+    }
+}
@@ -0,0 +1,229 @@
+package io.github.faustofan.admin.shared.web.log;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 访问日志过滤器在请求线程上的开销
+ * <p>
+ * 每次调用用 Mock 请求走一遍过滤器链：Servlet 读完请求体，写出固定大小的 JSON 响应。
+ * Mock 请求/响应自带的流逐字节读写，会掩盖过滤器本身的开销，这里换成按块读写的流，响应体直接丢弃。
+ * <ul>
+ *     <li>baseline：链上没有日志过滤器</li>
+ *     <li>legacy：改为异步写出之前的实现 ({@link LegacyHttpLoggingFilter})</li>
+ *     <li>current：{@link HttpLoggingFilter} + {@link AccessLogWriter}</li>
+ *     <li>currentWriterStopped：写出器已停止，只剩请求线程上的捕获与入队（队列满后为丢弃，开销相同）</li>
+ * </ul>
+ * 日志输出到 NOPAppender（见 logback.xml），只保留格式化与日志事件本身的开销。
+ * current 的格式化在后台线程完成，CPU 核数少于线程数时会与请求线程争用，这部分也会计入 current；
+ * 两者之差即后台格式化的开销。
+ * <pre>
+ * java -jar admin-benchmark/target/benchmarks.jar HttpLoggingFilterBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class HttpLoggingFilterBenchmark {
+
+    @Param({"1024", "8192"})
+    private int responseSize;
+
+    private final HttpLogProperties properties = new HttpLogProperties();
+
+    private byte[] requestBody;
+    private byte[] responseBody;
+    private HttpServlet servlet;
+    private Filter legacyFilter;
+    private AccessLogWriter writer;
+    private Filter currentFilter;
+    private Filter stoppedFilter;
+
+    @Setup
+    public void setUp() {
+        requestBody = """
+                {"username":"alice","nickname":"Alice","password":"P@ssw0rd!","email":"alice@example.com",\
+                "mobile":"13800000000","orgId":100,"roleIds":[10,11]}""".getBytes(StandardCharsets.UTF_8);
+        responseBody = responseJson(responseSize);
+        servlet = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                request.getInputStream().readAllBytes();
+                response.setStatus(200);
+                response.setContentType("application/json");
+                response.getOutputStream().write(responseBody);
+            }
+        };
+        legacyFilter = new LegacyHttpLoggingFilter(properties);
+        writer = new AccessLogWriter(properties);
+        currentFilter = new HttpLoggingFilter(properties, writer);
+        AccessLogWriter stopped = new AccessLogWriter(properties);
+        stopped.destroy();
+        stoppedFilter = new HttpLoggingFilter(properties, stopped);
+    }
+
+    @TearDown
+    public void tearDown() {
+        writer.destroy();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse baseline() throws IOException, ServletException {
+        return call(null);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse legacy() throws IOException, ServletException {
+        return call(legacyFilter);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse current() throws IOException, ServletException {
+        return call(currentFilter);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse currentWriterStopped() throws IOException, ServletException {
+        return call(stoppedFilter);
+    }
+
+    private MockHttpServletResponse call(Filter filter) throws IOException, ServletException {
+        MockHttpServletRequest request = new BulkRequest(requestBody);
+        request.setContentType("application/json");
+        request.addHeader("User-Agent", "admin-benchmark");
+        request.addHeader("X-Request-Id", "bench");
+        request.addHeader("Authorization", "Bearer token");
+        MockHttpServletResponse response = new DiscardingResponse();
+        MockFilterChain chain = filter == null ? new MockFilterChain(servlet) : new MockFilterChain(servlet, filter);
+        chain.doFilter(request, response);
+        return response;
+    }
+
+    /**
+     * 用户列表形状的 JSON，含需要脱敏的字段，长度约为 size 字节
+     */
+    private static byte[] responseJson(int size) {
+        StringBuilder json = new StringBuilder(size + 256).append("{\"code\":\"200\",\"data\":{\"rows\":[");
+        for (int i = 0; json.length() < size; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(1_000 + i)
+                    .append(",\"username\":\"user").append(i)
+                    .append("\",\"email\":\"user").append(i).append("@example.com\"")
+                    .append(",\"token\":\"t").append(i).append("\",\"status\":\"ACTIVE\"}");
+        }
+        return json.append("]}}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 请求体按块读取
+     */
+    private static final class BulkRequest extends MockHttpServletRequest {
+
+        private final ServletInputStream inputStream;
+
+        BulkRequest(byte[] body) {
+            super("POST", "/api/user/create");
+            setContent(body);
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            this.inputStream = new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return inputStream;
+        }
+    }
+
+    /**
+     * 响应体按块写出后丢弃，只记录字节数
+     */
+    private static final class DiscardingResponse extends MockHttpServletResponse {
+
+        private long written;
+
+        private final ServletOutputStream outputStream = new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                written++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                written += len;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener listener) {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return outputStream;
+        }
+    }
+}
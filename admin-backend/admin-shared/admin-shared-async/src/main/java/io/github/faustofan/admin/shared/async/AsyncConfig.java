@@ -1,6 +1,5 @@
 package io.github.faustofan.admin.shared.async;
 
-import io.github.faustofan.admin.shared.common.context.AppContext;
 import io.github.faustofan.admin.shared.common.context.AppContextHolder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -113,28 +112,25 @@ public class AsyncConfig implements AsyncConfigurer {
 
     /**
      * 内部类：MDC 上下文装饰器
-     * 解决 TraceId 丢失问题
+     * 解决 TraceId 丢失问题：AppContext 只捕获引用并以 ScopedValue 重新绑定，MDC 为空时不复制
      */
     public static class ContextTaskDecorator implements TaskDecorator {
         @Override
         public Runnable decorate(Runnable runnable) {
             // 1. 主线程：捕获上下文
             Map<String, String> contextMap = MDC.getCopyOfContextMap();
-            AppContext appContext = AppContextHolder.getContext();
+            Runnable task = AppContextHolder.wrap(runnable);
+            if (contextMap == null) {
+                return task;
+            }
             return () -> {
                 try {
                     // 2. 子线程：注入上下文
-                    if (contextMap != null) {
-                        MDC.setContextMap(contextMap);
-                    }
-                    if(appContext != null) {
-                        AppContextHolder.setContext(appContext);
-                    }
-                    runnable.run();
+                    MDC.setContextMap(contextMap);
+                    task.run();
                 } finally {
                     // 3. 子线程：清理
                     MDC.clear();
-                    AppContextHolder.clearContext();
                 }
             };
         }
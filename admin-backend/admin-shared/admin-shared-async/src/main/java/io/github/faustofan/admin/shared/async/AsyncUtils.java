@@ -1,6 +1,5 @@
 package io.github.faustofan.admin.shared.async;
 
-import io.github.faustofan.admin.shared.common.context.AppContext;
 import io.github.faustofan.admin.shared.common.context.AppContextHolder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,7 +25,7 @@ import java.util.stream.Collectors;
  * 特点：
  * 1. 禁用预览特性 (StructuredTaskScope)，完全基于 CompletableFuture。
  * 2. 深度适配虚拟线程：利用虚拟线程 "阻塞不昂贵" 的特性，简化并发等待逻辑。
- * 3. 自动上下文透传：解决异步调用中 TraceId/MDC 丢失问题。
+ * 3. 自动上下文透传：解决异步调用中 TraceId/MDC 丢失问题（AppContext 经 ScopedValue 重新绑定，不复制线程本地表）。
  * 4. 静态方法封装：方便在非 Bean 类中调用 Spring 线程池。
  *
  */
@@ -177,55 +176,53 @@ public class AsyncUtils implements ApplicationContextAware {
     // =================================================================================
 
     /**
-     * 包装 Runnable，透传 MDC
+     * 包装 Runnable，透传 AppContext 与 MDC
+     * <p>
+     * AppContext 只捕获一个引用，在执行线程以 ScopedValue 重新绑定；MDC 为空时不复制。
      */
     private static Runnable wrap(Runnable runnable) {
         // 1. 在调用线程捕获上下文
         Map<String, String> context = MDC.getCopyOfContextMap();
-        AppContext appContext = AppContextHolder.getContext();
+        Runnable task = AppContextHolder.wrap(runnable);
         return () -> {
             // 2. 在执行线程(虚拟线程)恢复上下文
             if (context != null) {
                 MDC.setContextMap(context);
             }
-            if (appContext != null) {
-                AppContextHolder.setContext(appContext);
-            }
             try {
-                runnable.run();
+                task.run();
             } catch (Exception e) {
                 // 确保异常日志能打印出 TraceId
                 log.error("Async execution error: {}", e.getMessage(), e);
                 throw e;
             } finally {
                 // 3. 清理，防止污染
-                MDC.clear();
-                AppContextHolder.clearContext();
+                if (context != null) {
+                    MDC.clear();
+                }
             }
         };
     }
 
     /**
-     * 包装 Supplier，透传 MDC
+     * 包装 Supplier，透传 AppContext 与 MDC
      */
     private static <T> Supplier<T> wrap(Supplier<T> supplier) {
         Map<String, String> context = MDC.getCopyOfContextMap();
-        AppContext appContext = AppContextHolder.getContext();
+        Supplier<T> task = AppContextHolder.wrap(supplier);
         return () -> {
             if (context != null) {
                 MDC.setContextMap(context);
             }
-            if (appContext != null) {
-                AppContextHolder.setContext(appContext);
-            }
             try {
-                return supplier.get();
+                return task.get();
             } catch (Exception e) {
                 log.error("Async execution error: {}", e.getMessage(), e);
                 throw e;
             } finally {
-                MDC.clear();
-                AppContextHolder.clearContext();
+                if (context != null) {
+                    MDC.clear();
+                }
             }
         };
     }
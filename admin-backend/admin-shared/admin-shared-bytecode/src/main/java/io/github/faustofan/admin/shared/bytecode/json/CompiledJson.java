@@ -0,0 +1,26 @@
+package io.github.faustofan.admin.shared.bytecode.json;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 编译期生成 Jackson 序列化器
+ * <p>
+ * 标注在 record 上，编译时由 {@code CompiledJsonProcessor} 生成专用的序列化器（泛型 record）
+ * 或序列化器与反序列化器（非泛型 record），按组件声明顺序直接读写字段，不经过运行期的 Bean 内省与反射。
+ * 生成的类通过 {@link CompiledJsonProvider} 以 ServiceLoader 方式注册，由 {@link CompiledJsonModule} 统一装载。
+ * <p>
+ * 支持组件上的 {@code @JsonProperty}（改名）与 {@code @JsonIgnore}；
+ * 使用了其它 Jackson 注解的类型会给出编译警告并保留反射方式，确保输出与 Jackson 默认行为一致。
+ * <p>
+ * 使用该注解的模块需在 maven-compiler-plugin 的 annotationProcessorPaths 中声明本模块
+ * （JDK 23 起不再默认执行类路径上的注解处理器）。
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface CompiledJson {
+}
@@ -0,0 +1,19 @@
+package io.github.faustofan.admin.shared.bytecode.json;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 将编译期生成的序列化器注册到应用的 ObjectMapper
+ * <p>
+ * Spring Boot 会把容器中的 Jackson Module 注册到自动配置的 ObjectMapper
+ * （以及基于同一 Jackson2ObjectMapperBuilder 构建的 CBOR/Smile 转换器）。
+ */
+@Configuration
+public class CompiledJsonConfig {
+
+    @Bean
+    public CompiledJsonModule compiledJsonModule() {
+        return new CompiledJsonModule();
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.faustofan.admin.shared.bytecode.json;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * 装载所有编译期生成序列化器的 Jackson Module
+ * <p>
+ * 通过 ServiceLoader 发现类路径上各模块生成的 {@link CompiledJsonProvider}，
+ * 同一个 Module 可同时注册到 Spring MVC 与消息发送使用的 ObjectMapper。
+ */
+public class CompiledJsonModule extends SimpleModule {
+
+    private final List<Class<?>> types = new ArrayList<>();
+
+    public CompiledJsonModule() {
+        this(CompiledJsonModule.class.getClassLoader());
+    }
+
+    public CompiledJsonModule(ClassLoader classLoader) {
+        super(CompiledJsonModule.class.getSimpleName());
+        for (CompiledJsonProvider provider : ServiceLoader.load(CompiledJsonProvider.class, classLoader)) {
+            register(provider);
+        }
+    }
+
+    /**
+     * @return 已注册的类型
+     */
+    public List<Class<?>> getTypes() {
+        return List.copyOf(types);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void register(CompiledJsonProvider provider) {
+        Class type = provider.type();
+        addSerializer(type, (JsonSerializer) provider.serializer());
+        JsonDeserializer<?> deserializer = provider.deserializer();
+        if (deserializer != null) {
+            addDeserializer(type, (JsonDeserializer) deserializer);
+        }
+        types.add(type);
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.faustofan.admin.shared.bytecode.json;
+
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+
+/**
+ * 编译期生成的序列化器提供者（SPI）
+ * <p>
+ * 由注解处理器为每个 {@link CompiledJson} 类型生成实现，并写入
+ * {@code META-INF/services/io.github.faustofan.admin.shared.bytecode.json.CompiledJsonProvider}。
+ */
+public interface CompiledJsonProvider {
+
+    /**
+     * @return 目标类型
+     */
+    Class<?> type();
+
+    /**
+     * @return 序列化器
+     */
+    JsonSerializer<?> serializer();
+
+    /**
+     * @return 反序列化器；泛型类型需要按上下文解析类型参数，不生成，返回 null 时沿用 Jackson 默认实现
+     */
+    JsonDeserializer<?> deserializer();
+}
@@ -0,0 +1,26 @@
+package io.github.faustofan.admin.shared.bytecode.json;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/**
+ * 生成代码使用的运行期辅助方法
+ */
+public final class CompiledJsonSupport {
+
+    private CompiledJsonSupport() {
+    }
+
+    /**
+     * 是否输出 null 值（遵循全局与按类型配置的属性包含规则）
+     * <p>
+     * 除 ALWAYS / USE_DEFAULTS 外的规则都按“跳过 null”处理。
+     *
+     * @param provider 序列化上下文
+     * @param type     目标类型
+     */
+    public static boolean includeNulls(SerializerProvider provider, Class<?> type) {
+        JsonInclude.Include inclusion = provider.getConfig().getDefaultPropertyInclusion(type).getValueInclusion();
+        return inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS;
+    }
+}
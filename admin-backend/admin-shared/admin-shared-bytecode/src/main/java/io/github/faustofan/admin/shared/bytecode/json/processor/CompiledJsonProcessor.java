@@ -0,0 +1,192 @@
+package io.github.faustofan.admin.shared.bytecode.json.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * {@code @CompiledJson} 注解处理器
+ * <p>
+ * 为每个标注的 record 生成 {@code <Name>_CompiledJson}（同包），并在最后一轮写出 ServiceLoader 声明。
+ * 只依赖 javax.lang.model，生成的是源码文本，编译期不需要 Jackson。
+ */
+@SupportedAnnotationTypes(CompiledJsonProcessor.ANNOTATION)
+public class CompiledJsonProcessor extends AbstractProcessor {
+
+    static final String ANNOTATION = "io.github.faustofan.admin.shared.bytecode.json.CompiledJson";
+    static final String PROVIDER = "io.github.faustofan.admin.shared.bytecode.json.CompiledJsonProvider";
+
+    private static final String SERVICE_FILE = "META-INF/services/" + PROVIDER;
+    private static final String JACKSON_PACKAGE = "com.fasterxml.jackson.";
+    private static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+    private static final String JSON_IGNORE = "com.fasterxml.jackson.annotation.JsonIgnore";
+
+    /** 本次编译生成的提供者类名 */
+    private final Set<String> providers = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.RECORD) {
+                    error("@CompiledJson only supports records", element);
+                    continue;
+                }
+                TypeElement type = (TypeElement) element;
+                List<RecordProperty> properties = analyze(type);
+                if (properties != null) {
+                    generate(type, properties);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 解析 record 组件
+     *
+     * @return 含有不支持的 Jackson 注解时返回 null（保留反射方式）
+     */
+    private List<RecordProperty> analyze(TypeElement type) {
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            if (isJackson(mirror)) {
+                warn("Type-level Jackson annotation " + annotationName(mirror)
+                        + " is not supported, keeping reflective serialization", type);
+                return null;
+            }
+        }
+
+        List<RecordProperty> properties = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (RecordComponentElement component : type.getRecordComponents()) {
+            String name = component.getSimpleName().toString();
+            boolean ignored = false;
+
+            List<AnnotationMirror> mirrors = new ArrayList<>(component.getAnnotationMirrors());
+            ExecutableElement accessor = component.getAccessor();
+            if (accessor != null) {
+                mirrors.addAll(accessor.getAnnotationMirrors());
+            }
+            for (AnnotationMirror mirror : mirrors) {
+                if (!isJackson(mirror)) {
+                    continue;
+                }
+                String annotation = annotationName(mirror);
+                if (JSON_PROPERTY.equals(annotation)) {
+                    String value = stringValue(mirror, "value");
+                    if (value != null && !value.isEmpty()) {
+                        name = value;
+                    }
+                } else if (JSON_IGNORE.equals(annotation)) {
+                    ignored = !Boolean.FALSE.equals(value(mirror, "value"));
+                } else {
+                    warn("Jackson annotation " + annotation + " on component " + component.getSimpleName()
+                            + " is not supported, keeping reflective serialization", type);
+                    return null;
+                }
+            }
+            if (!names.add(name)) {
+                error("Duplicate JSON property \"" + name + "\"", component);
+                return null;
+            }
+            properties.add(new RecordProperty(
+                    name, component.getSimpleName().toString(), component.asType(), ignored));
+        }
+        return properties;
+    }
+
+    private void generate(TypeElement type, List<RecordProperty> properties) {
+        Elements elements = processingEnv.getElementUtils();
+        CompiledJsonSourceWriter writer = new CompiledJsonSourceWriter(elements, type, properties);
+        String className = writer.qualifiedClassName();
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(className, type);
+            try (Writer out = file.openWriter()) {
+                out.write(writer.write());
+            }
+        } catch (IOException e) {
+            error("Failed to generate " + className + ": " + e.getMessage(), type);
+            return;
+        }
+        providers.add(className);
+    }
+
+    private void writeServiceFile() {
+        if (providers.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer out = file.openWriter()) {
+                for (String provider : providers) {
+                    out.write(provider);
+                    out.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write " + SERVICE_FILE + ": " + e.getMessage());
+        }
+    }
+
+    private static boolean isJackson(AnnotationMirror mirror) {
+        return annotationName(mirror).startsWith(JACKSON_PACKAGE);
+    }
+
+    private static String annotationName(AnnotationMirror mirror) {
+        return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    private static Object value(AnnotationMirror mirror, String name) {
+        for (var entry : mirror.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                AnnotationValue value = entry.getValue();
+                return value.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static String stringValue(AnnotationMirror mirror, String name) {
+        Object value = value(mirror, name);
+        return value instanceof String s ? s : null;
+    }
+
+    private void warn(String message, Element element) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message, element);
+    }
+
+    private void error(String message, Element element) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -0,0 +1,469 @@
+package io.github.faustofan.admin.shared.bytecode.json.processor;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.Elements;
+
+/**
+ * 生成 {@code <Name>_CompiledJson} 源码
+ * <p>
+ * 序列化器按组件顺序直接调用访问器并写出预编码的字段名；反序列化器按字段名 switch 后调用构造器，仅对非泛型 record 生成。
+ * String / long / int / double / boolean 及其包装类型走快速路径，其余类型委托给 Jackson，
+ * 委托的（反）序列化器在 createContextual 得到的实例上缓存，每个 ObjectMapper 各自一份。
+ */
+final class CompiledJsonSourceWriter {
+
+    private static final String SUFFIX = "_CompiledJson";
+
+    /** 组件类型分类 */
+    private enum Kind {
+        STRING("String"), LONG("Long"), INT("Int"), DOUBLE("Double"), BOOLEAN("Boolean"), OTHER(null);
+
+        /** StdDeserializer#_parseXxxPrimitive 的后缀 */
+        final String parser;
+
+        Kind(String parser) {
+            this.parser = parser;
+        }
+    }
+
+    private final TypeElement type;
+    private final List<RecordProperty> properties;
+    private final String packageName;
+    private final String className;
+    private final String typeName;
+    private final boolean generic;
+
+    CompiledJsonSourceWriter(Elements elements, TypeElement type, List<RecordProperty> properties) {
+        this.type = type;
+        this.properties = properties;
+        PackageElement pkg = elements.getPackageOf(type);
+        this.packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String qualified = type.getQualifiedName().toString();
+        String nested = packageName.isEmpty() ? qualified : qualified.substring(packageName.length() + 1);
+        this.className = nested.replace('.', '_') + SUFFIX;
+        this.typeName = qualified;
+        this.generic = !type.getTypeParameters().isEmpty();
+    }
+
+    String qualifiedClassName() {
+        return packageName.isEmpty() ? className : packageName + "." + className;
+    }
+
+    String write() {
+        String handled = generic ? typeName + "<?>" : typeName;
+        StringBuilder out = new StringBuilder(4096);
+        if (!packageName.isEmpty()) {
+            out.append("package ").append(packageName).append(";\n\n");
+        }
+        out.append("@javax.annotation.processing.Generated(\"")
+                .append(CompiledJsonProcessor.class.getName()).append("\")\n");
+        out.append("public final class ").append(className)
+                .append(" implements ").append(CompiledJsonProcessor.PROVIDER).append(" {\n\n");
+
+        out.append("    @Override\n");
+        out.append("    public Class<?> type() {\n");
+        out.append("        return ").append(typeName).append(".class;\n");
+        out.append("    }\n\n");
+        out.append("    @Override\n");
+        out.append("    public com.fasterxml.jackson.databind.JsonSerializer<?> serializer() {\n");
+        out.append("        return new Serializer();\n");
+        out.append("    }\n\n");
+        out.append("    @Override\n");
+        out.append("    public com.fasterxml.jackson.databind.JsonDeserializer<?> deserializer() {\n");
+        out.append("        return ").append(generic ? "null" : "new Deserializer()").append(";\n");
+        out.append("    }\n\n");
+
+        writeSerializer(out, handled);
+        if (!generic) {
+            out.append('\n');
+            writeDeserializer(out);
+        }
+        out.append("}\n");
+        return out.toString();
+    }
+
+    private void writeSerializer(StringBuilder out, String handled) {
+        boolean dynamic = hasDelegates();
+        out.append("    static final class Serializer extends com.fasterxml.jackson.databind.ser.std.StdSerializer<")
+                .append(handled).append(">\n")
+                .append("            implements com.fasterxml.jackson.databind.ser.ContextualSerializer {\n\n");
+        for (int i = 0; i < properties.size(); i++) {
+            RecordProperty property = properties.get(i);
+            if (property.ignored()) {
+                continue;
+            }
+            out.append("        private static final com.fasterxml.jackson.core.io.SerializedString F").append(i)
+                    .append(" = new com.fasterxml.jackson.core.io.SerializedString(")
+                    .append(literal(property.jsonName())).append(");\n");
+        }
+        out.append('\n');
+        out.append("        private static final long serialVersionUID = 1L;\n\n");
+        out.append("        private final boolean nulls;\n");
+        if (dynamic) {
+            out.append("        private final com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap[] dynamic =\n")
+                    .append("                new com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap[")
+                    .append(properties.size()).append("];\n");
+        }
+        out.append('\n');
+        out.append("        Serializer() {\n");
+        out.append("            this(true);\n");
+        out.append("        }\n\n");
+        out.append("        private Serializer(boolean nulls) {\n");
+        out.append("            super(").append(typeName).append(".class, false);\n");
+        out.append("            this.nulls = nulls;\n");
+        if (dynamic) {
+            out.append("            java.util.Arrays.fill(dynamic, ")
+                    .append("com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap.emptyForProperties());\n");
+        }
+        out.append("        }\n\n");
+
+        out.append("        @Override\n");
+        out.append("        public com.fasterxml.jackson.databind.JsonSerializer<?> createContextual(")
+                .append("com.fasterxml.jackson.databind.SerializerProvider provider, ")
+                .append("com.fasterxml.jackson.databind.BeanProperty property) {\n");
+        out.append("            return new Serializer(")
+                .append("io.github.faustofan.admin.shared.bytecode.json.CompiledJsonSupport.includeNulls(provider, handledType()));\n");
+        out.append("        }\n\n");
+
+        out.append("        @Override\n");
+        out.append("        public void serialize(").append(handled).append(" value, ")
+                .append("com.fasterxml.jackson.core.JsonGenerator gen, ")
+                .append("com.fasterxml.jackson.databind.SerializerProvider provider) throws java.io.IOException {\n");
+        out.append("            gen.writeStartObject(value);\n");
+        out.append("            writeFields(value, gen, provider);\n");
+        out.append("            gen.writeEndObject();\n");
+        out.append("        }\n\n");
+
+        out.append("        @Override\n");
+        out.append("        public void serializeWithType(").append(handled).append(" value, ")
+                .append("com.fasterxml.jackson.core.JsonGenerator gen, ")
+                .append("com.fasterxml.jackson.databind.SerializerProvider provider, ")
+                .append("com.fasterxml.jackson.databind.jsontype.TypeSerializer typeSer) throws java.io.IOException {\n");
+        out.append("            com.fasterxml.jackson.core.type.WritableTypeId typeId = typeSer.writeTypePrefix(gen, ")
+                .append("typeSer.typeId(value, com.fasterxml.jackson.core.JsonToken.START_OBJECT));\n");
+        out.append("            writeFields(value, gen, provider);\n");
+        out.append("            typeSer.writeTypeSuffix(gen, typeId);\n");
+        out.append("        }\n\n");
+
+        out.append("        private void writeFields(").append(handled).append(" value, ")
+                .append("com.fasterxml.jackson.core.JsonGenerator gen, ")
+                .append("com.fasterxml.jackson.databind.SerializerProvider provider) throws java.io.IOException {\n");
+        for (int i = 0; i < properties.size(); i++) {
+            RecordProperty property = properties.get(i);
+            if (!property.ignored()) {
+                writeField(out, i, property);
+            }
+        }
+        out.append("        }\n");
+
+        if (dynamic) {
+            out.append('\n');
+            out.append("        private com.fasterxml.jackson.databind.JsonSerializer<Object> serializer(int slot, Object value, ")
+                    .append("com.fasterxml.jackson.databind.SerializerProvider provider) ")
+                    .append("throws com.fasterxml.jackson.databind.JsonMappingException {\n");
+            out.append("            Class<?> type = value.getClass();\n");
+            out.append("            com.fasterxml.jackson.databind.JsonSerializer<Object> serializer = dynamic[slot].serializerFor(type);\n");
+            out.append("            if (serializer == null) {\n");
+            out.append("                com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap.SerializerAndMapResult result =\n")
+                    .append("                        dynamic[slot].findAndAddSecondarySerializer(type, provider, null);\n");
+            out.append("                dynamic[slot] = result.map;\n");
+            out.append("                serializer = result.serializer;\n");
+            out.append("            }\n");
+            out.append("            return serializer;\n");
+            out.append("        }\n");
+        }
+        out.append("    }\n");
+    }
+
+    private void writeField(StringBuilder out, int index, RecordProperty property) {
+        TypeMirror mirror = property.type();
+        String getter = "value." + property.accessor() + "()";
+        String field = "F" + index;
+
+        if (mirror.getKind().isPrimitive()) {
+            out.append("            gen.writeFieldName(").append(field).append(");\n");
+            switch (mirror.getKind()) {
+                case BOOLEAN -> out.append("            gen.writeBoolean(").append(getter).append(");\n");
+                case CHAR -> out.append("            gen.writeString(String.valueOf(").append(getter).append("));\n");
+                default -> out.append("            gen.writeNumber(").append(getter).append(");\n");
+            }
+            return;
+        }
+
+        Kind kind = kind(mirror);
+        String local = "v" + index;
+        String localType = kind == Kind.OTHER ? "Object" : render(mirror);
+        String write = switch (kind) {
+            case STRING -> "gen.writeString(" + local + ")";
+            case LONG, INT, DOUBLE -> "gen.writeNumber(" + local + ")";
+            case BOOLEAN -> "gen.writeBoolean(" + local + ")";
+            case OTHER -> "serializer(" + index + ", " + local + ", provider).serialize(" + local + ", gen, provider)";
+        };
+        out.append("            ").append(localType).append(' ').append(local).append(" = ").append(getter).append(";\n");
+        out.append("            if (").append(local).append(" != null) {\n");
+        out.append("                gen.writeFieldName(").append(field).append(");\n");
+        out.append("                ").append(write).append(";\n");
+        out.append("            } else if (nulls) {\n");
+        out.append("                gen.writeFieldName(").append(field).append(");\n");
+        out.append("                gen.writeNull();\n");
+        out.append("            }\n");
+    }
+
+    private void writeDeserializer(StringBuilder out) {
+        boolean delegates = hasDelegates();
+        out.append("    static final class Deserializer extends com.fasterxml.jackson.databind.deser.std.StdDeserializer<")
+                .append(typeName).append(">\n")
+                .append("            implements com.fasterxml.jackson.databind.deser.ContextualDeserializer {\n\n");
+        for (int i = 0; i < properties.size(); i++) {
+            RecordProperty property = properties.get(i);
+            if (property.ignored() || property.type().getKind().isPrimitive() || kind(property.type()) != Kind.OTHER) {
+                continue;
+            }
+            out.append("        private static final com.fasterxml.jackson.databind.JavaType T").append(i)
+                    .append(" = com.fasterxml.jackson.databind.type.TypeFactory.defaultInstance().constructType(")
+                    .append("new com.fasterxml.jackson.core.type.TypeReference<").append(render(property.type()))
+                    .append(">() {\n        });\n");
+        }
+        out.append('\n');
+        out.append("        private static final long serialVersionUID = 1L;\n");
+        if (delegates) {
+            out.append('\n');
+            out.append("        private final com.fasterxml.jackson.databind.JsonDeserializer<?>[] delegates =\n")
+                    .append("                new com.fasterxml.jackson.databind.JsonDeserializer<?>[")
+                    .append(properties.size()).append("];\n");
+        }
+        out.append('\n');
+        out.append("        Deserializer() {\n");
+        out.append("            super(").append(typeName).append(".class);\n");
+        out.append("        }\n\n");
+
+        out.append("        @Override\n");
+        out.append("        public com.fasterxml.jackson.databind.JsonDeserializer<?> createContextual(")
+                .append("com.fasterxml.jackson.databind.DeserializationContext ctxt, ")
+                .append("com.fasterxml.jackson.databind.BeanProperty property) {\n");
+        out.append("            return new Deserializer();\n");
+        out.append("        }\n\n");
+
+        out.append("        @Override\n");
+        if (delegates) {
+            out.append("        @SuppressWarnings(\"unchecked\")\n");
+        }
+        out.append("        public ").append(typeName).append(" deserialize(")
+                .append("com.fasterxml.jackson.core.JsonParser p, ")
+                .append("com.fasterxml.jackson.databind.DeserializationContext ctxt) throws java.io.IOException {\n");
+        out.append("            com.fasterxml.jackson.core.JsonToken t = p.currentToken();\n");
+        out.append("            if (t == com.fasterxml.jackson.core.JsonToken.START_OBJECT) {\n");
+        out.append("                t = p.nextToken();\n");
+        out.append("            } else if (t != com.fasterxml.jackson.core.JsonToken.FIELD_NAME\n");
+        out.append("                    && t != com.fasterxml.jackson.core.JsonToken.END_OBJECT) {\n");
+        out.append("                return (").append(typeName).append(") ctxt.handleUnexpectedToken(")
+                .append(typeName).append(".class, p);\n");
+        out.append("            }\n");
+
+        for (int i = 0; i < properties.size(); i++) {
+            TypeMirror mirror = properties.get(i).type();
+            out.append("            ").append(render(mirror)).append(" v").append(i)
+                    .append(" = ").append(defaultValue(mirror)).append(";\n");
+        }
+
+        out.append("            for (; t == com.fasterxml.jackson.core.JsonToken.FIELD_NAME; t = p.nextToken()) {\n");
+        out.append("                String name = p.currentName();\n");
+        out.append("                boolean isNull = p.nextToken() == com.fasterxml.jackson.core.JsonToken.VALUE_NULL;\n");
+        out.append("                switch (name) {\n");
+        for (int i = 0; i < properties.size(); i++) {
+            RecordProperty property = properties.get(i);
+            out.append("                    case ").append(literal(property.jsonName())).append(" -> ");
+            if (property.ignored()) {
+                out.append("p.skipChildren();\n");
+            } else {
+                out.append("v").append(i).append(" = ").append(readExpression(i, property.type())).append(";\n");
+            }
+        }
+        out.append("                    default -> ctxt.handleUnknownProperty(p, this, ")
+                .append(typeName).append(".class, name);\n");
+        out.append("                }\n");
+        out.append("            }\n");
+
+        StringJoiner args = new StringJoiner(", ");
+        for (int i = 0; i < properties.size(); i++) {
+            args.add("v" + i);
+        }
+        out.append("            return new ").append(typeName).append('(').append(args).append(");\n");
+        out.append("        }\n");
+
+        if (delegates) {
+            out.append('\n');
+            out.append("        private com.fasterxml.jackson.databind.JsonDeserializer<?> delegate(int slot, ")
+                    .append("com.fasterxml.jackson.databind.JavaType type, ")
+                    .append("com.fasterxml.jackson.databind.DeserializationContext ctxt) ")
+                    .append("throws com.fasterxml.jackson.databind.JsonMappingException {\n");
+            out.append("            com.fasterxml.jackson.databind.JsonDeserializer<?> deserializer = delegates[slot];\n");
+            out.append("            if (deserializer == null) {\n");
+            out.append("                deserializer = ctxt.findContextualValueDeserializer(type, null);\n");
+            out.append("                delegates[slot] = deserializer;\n");
+            out.append("            }\n");
+            out.append("            return deserializer;\n");
+            out.append("        }\n");
+        }
+        out.append("    }\n");
+    }
+
+    /**
+     * 是否存在需要委托给 Jackson 的（非快速路径）组件
+     */
+    private boolean hasDelegates() {
+        for (RecordProperty property : properties) {
+            if (!property.ignored() && !property.type().getKind().isPrimitive() && kind(property.type()) == Kind.OTHER) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String readExpression(int index, TypeMirror mirror) {
+        String fallback = defaultValue(mirror);
+        if (mirror.getKind().isPrimitive()) {
+            Kind kind = primitiveKind(mirror.getKind());
+            if (kind != Kind.OTHER) {
+                return "isNull ? " + fallback + " : _parse" + kind.parser + "Primitive(p, ctxt)";
+            }
+            String boxed = boxed(mirror.getKind());
+            return "isNull ? " + fallback + " : ctxt.<" + boxed + ">readValue(p, " + boxed + ".class)";
+        }
+        Kind kind = kind(mirror);
+        return switch (kind) {
+            case STRING -> "isNull ? null : p.hasToken(com.fasterxml.jackson.core.JsonToken.VALUE_STRING)"
+                    + " ? p.getText() : ctxt.readValue(p, String.class)";
+            case LONG, INT, DOUBLE, BOOLEAN -> "isNull ? null : _parse" + kind.parser + "Primitive(p, ctxt)";
+            case OTHER -> "isNull ? null : (" + render(mirror) + ") delegate(" + index + ", T" + index
+                    + ", ctxt).deserialize(p, ctxt)";
+        };
+    }
+
+    private static Kind kind(TypeMirror mirror) {
+        if (mirror.getKind() != TypeKind.DECLARED) {
+            return Kind.OTHER;
+        }
+        String name = ((TypeElement) ((DeclaredType) mirror).asElement()).getQualifiedName().toString();
+        return switch (name) {
+            case "java.lang.String" -> Kind.STRING;
+            case "java.lang.Long" -> Kind.LONG;
+            case "java.lang.Integer" -> Kind.INT;
+            case "java.lang.Double" -> Kind.DOUBLE;
+            case "java.lang.Boolean" -> Kind.BOOLEAN;
+            default -> Kind.OTHER;
+        };
+    }
+
+    private static Kind primitiveKind(TypeKind kind) {
+        return switch (kind) {
+            case LONG -> Kind.LONG;
+            case INT -> Kind.INT;
+            case DOUBLE -> Kind.DOUBLE;
+            case BOOLEAN -> Kind.BOOLEAN;
+            default -> Kind.OTHER;
+        };
+    }
+
+    private static String boxed(TypeKind kind) {
+        return switch (kind) {
+            case BYTE -> "Byte";
+            case SHORT -> "Short";
+            case CHAR -> "Character";
+            case FLOAT -> "Float";
+            case LONG -> "Long";
+            case INT -> "Integer";
+            case DOUBLE -> "Double";
+            case BOOLEAN -> "Boolean";
+            default -> throw new IllegalArgumentException("Not a primitive: " + kind);
+        };
+    }
+
+    private static String defaultValue(TypeMirror mirror) {
+        return switch (mirror.getKind()) {
+            case BOOLEAN -> "false";
+            case CHAR -> "'\\0'";
+            case BYTE -> "(byte) 0";
+            case SHORT -> "(short) 0";
+            case INT -> "0";
+            case LONG -> "0L";
+            case FLOAT -> "0F";
+            case DOUBLE -> "0D";
+            default -> "null";
+        };
+    }
+
+    /**
+     * 输出不带类型注解的源码类型名
+     */
+    private String render(TypeMirror mirror) {
+        switch (mirror.getKind()) {
+            case ARRAY -> {
+                return render(((ArrayType) mirror).getComponentType()) + "[]";
+            }
+            case DECLARED -> {
+                DeclaredType declared = (DeclaredType) mirror;
+                String name = ((TypeElement) declared.asElement()).getQualifiedName().toString();
+                if (declared.getTypeArguments().isEmpty()) {
+                    return name;
+                }
+                StringJoiner args = new StringJoiner(", ", name + "<", ">");
+                for (TypeMirror arg : declared.getTypeArguments()) {
+                    args.add(render(arg));
+                }
+                return args.toString();
+            }
+            case WILDCARD -> {
+                WildcardType wildcard = (WildcardType) mirror;
+                if (wildcard.getExtendsBound() != null) {
+                    return "? extends " + render(wildcard.getExtendsBound());
+                }
+                if (wildcard.getSuperBound() != null) {
+                    return "? super " + render(wildcard.getSuperBound());
+                }
+                return "?";
+            }
+            case TYPEVAR -> {
+                return "Object";
+            }
+            default -> {
+                if (mirror.getKind().isPrimitive()) {
+                    return mirror.getKind().name().toLowerCase(Locale.ROOT);
+                }
+                throw new IllegalArgumentException("Unsupported component type " + mirror + " in " + type);
+            }
+        }
+    }
+
+    private static String literal(String value) {
+        StringBuilder out = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        return out.append('"').toString();
+    }
+}
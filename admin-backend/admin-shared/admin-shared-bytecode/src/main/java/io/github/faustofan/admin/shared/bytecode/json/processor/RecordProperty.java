@@ -0,0 +1,14 @@
+package io.github.faustofan.admin.shared.bytecode.json.processor;
+
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * record 组件的序列化描述
+ *
+ * @param jsonName JSON 字段名（已应用 {@code @JsonProperty}）
+ * @param accessor 组件访问器名
+ * @param type     组件类型
+ * @param ignored  是否被 {@code @JsonIgnore} 忽略
+ */
+record RecordProperty(String jsonName, String accessor, TypeMirror type, boolean ignored) {
+}
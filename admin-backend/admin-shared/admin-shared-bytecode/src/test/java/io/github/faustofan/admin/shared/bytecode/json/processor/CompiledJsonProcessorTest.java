@@ -0,0 +1,229 @@
+package io.github.faustofan.admin.shared.bytecode.json.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import io.github.faustofan.admin.shared.bytecode.json.CompiledJsonModule;
+
+class CompiledJsonProcessorTest {
+
+    private static final String SAMPLE = """
+            package sample;
+
+            import java.util.List;
+            import java.util.Map;
+
+            import com.fasterxml.jackson.annotation.JsonIgnore;
+            import com.fasterxml.jackson.annotation.JsonProperty;
+
+            import io.github.faustofan.admin.shared.bytecode.json.CompiledJson;
+
+            @CompiledJson
+            public record Sample(
+                    long id,
+                    @JsonProperty("user_name") String name,
+                    Integer count,
+                    boolean active,
+                    double score,
+                    char grade,
+                    List<String> tags,
+                    Map<String, Long> counts,
+                    Nested nested,
+                    @JsonIgnore String secret) {
+            }
+            """;
+
+    private static final String NESTED = """
+            package sample;
+
+            import io.github.faustofan.admin.shared.bytecode.json.CompiledJson;
+
+            @CompiledJson
+            public record Nested(String value, Boolean flag) {
+            }
+            """;
+
+    private static final String PAGE = """
+            package sample;
+
+            import java.util.List;
+
+            import io.github.faustofan.admin.shared.bytecode.json.CompiledJson;
+
+            @CompiledJson
+            public record Page<T>(List<T> items, long total) {
+            }
+            """;
+
+    private static final String UNSUPPORTED = """
+            package sample;
+
+            import com.fasterxml.jackson.annotation.JsonInclude;
+
+            import io.github.faustofan.admin.shared.bytecode.json.CompiledJson;
+
+            @CompiledJson
+            @JsonInclude(JsonInclude.Include.NON_EMPTY)
+            public record Unsupported(String value) {
+            }
+            """;
+
+    private static final String JSON = """
+            {"id":7,"user_name":"alice","count":null,"active":true,"score":1.5,"grade":"A",\
+            "tags":["a","b"],"counts":{"x":1,"y":2},"nested":{"value":"v \\"quoted\\"","flag":null},\
+            "secret":"ignored"}""";
+
+    @TempDir
+    Path output;
+
+    private record Compilation(boolean success, List<Diagnostic<? extends JavaFileObject>> diagnostics,
+                               ClassLoader classLoader) {
+    }
+
+    private Compilation compile(Map<String, String> sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager =
+                     compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, List.of(output.toFile()));
+            fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, List.of(output.toFile()));
+            List<JavaFileObject> units = sources.entrySet().stream()
+                    .map(entry -> source(entry.getKey(), entry.getValue()))
+                    .toList();
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                    List.of("-proc:full", "-classpath", System.getProperty("java.class.path")), null, units);
+            task.setProcessors(List.of(new CompiledJsonProcessor()));
+            boolean success = task.call();
+            ClassLoader classLoader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader());
+            return new Compilation(success, diagnostics.getDiagnostics(), classLoader);
+        }
+    }
+
+    private static JavaFileObject source(String className, String code) {
+        URI uri = URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+
+    private Compilation compileSamples() throws IOException {
+        Compilation compilation = compile(Map.of(
+                "sample.Sample", SAMPLE, "sample.Nested", NESTED, "sample.Page", PAGE, "sample.Unsupported", UNSUPPORTED));
+        assertThat(compilation.success()).as("%s", compilation.diagnostics()).isTrue();
+        return compilation;
+    }
+
+    @Test
+    void registersGeneratedProvidersOnly() throws Exception {
+        Compilation compilation = compileSamples();
+        ClassLoader loader = compilation.classLoader();
+
+        CompiledJsonModule module = new CompiledJsonModule(loader);
+
+        assertThat(module.getTypes()).containsExactlyInAnyOrder(
+                loader.loadClass("sample.Nested"), loader.loadClass("sample.Page"), loader.loadClass("sample.Sample"));
+        // 使用了不支持的 Jackson 注解：给出警告并保留反射方式
+        assertThat(compilation.diagnostics())
+                .anyMatch(d -> d.getKind() == Diagnostic.Kind.WARNING
+                        && d.getMessage(null).contains("JsonInclude"));
+    }
+
+    @Test
+    void roundTripsLikeReflectiveJackson() throws Exception {
+        ClassLoader loader = compileSamples().classLoader();
+        Class<?> sample = loader.loadClass("sample.Sample");
+        ObjectMapper compiled = JsonMapper.builder().addModule(new CompiledJsonModule(loader)).build();
+        ObjectMapper reflective = new ObjectMapper();
+
+        Object value = compiled.readValue(JSON, sample);
+        String json = compiled.writeValueAsString(value);
+
+        assertThat(compiled.getSerializerProviderInstance().findValueSerializer(sample).getClass().getName())
+                .isEqualTo("sample.Sample_CompiledJson$Serializer");
+        assertThat(value).isEqualTo(reflective.readValue(JSON, sample));
+        // 按组件声明顺序输出；反射方式可能把改名的属性排到最后，按树比较内容
+        assertThat(json).isEqualTo(JSON.replace(",\"secret\":\"ignored\"", ""));
+        assertThat(reflective.readTree(json)).isEqualTo(reflective.readTree(reflective.writeValueAsString(value)));
+        assertThat(compiled.readValue(json, sample)).isEqualTo(value);
+    }
+
+    @Test
+    void followsMapperNullInclusion() throws Exception {
+        ClassLoader loader = compileSamples().classLoader();
+        Class<?> sample = loader.loadClass("sample.Sample");
+        ObjectMapper compiled = JsonMapper.builder()
+                .addModule(new CompiledJsonModule(loader))
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .build();
+        ObjectMapper reflective = JsonMapper.builder()
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .build();
+
+        Object value = reflective.readValue(JSON, sample);
+        String json = compiled.writeValueAsString(value);
+
+        assertThat(json).doesNotContain("null");
+        assertThat(reflective.readTree(json)).isEqualTo(reflective.readTree(reflective.writeValueAsString(value)));
+    }
+
+    @Test
+    void serializesGenericRecordAndKeepsDefaultDeserializer() throws Exception {
+        ClassLoader loader = compileSamples().classLoader();
+        Class<?> page = loader.loadClass("sample.Page");
+        ObjectMapper compiled = JsonMapper.builder().addModule(new CompiledJsonModule(loader)).build();
+        ObjectMapper reflective = new ObjectMapper();
+        JavaType pageOfSamples = compiled.getTypeFactory()
+                .constructParametricType(page, loader.loadClass("sample.Sample"));
+
+        Object value = compiled.readValue("{\"items\":[" + JSON + "],\"total\":1}", pageOfSamples);
+        String json = compiled.writeValueAsString(value);
+        Object read = compiled.readValue(json, pageOfSamples);
+
+        assertThat(reflective.readTree(json)).isEqualTo(reflective.readTree(reflective.writeValueAsString(value)));
+        assertThat(read).isEqualTo(value);
+    }
+
+    @Test
+    void rejectsNonRecordTypes() throws IOException {
+        Compilation compilation = compile(Map.of("sample.Plain", """
+                package sample;
+
+                @io.github.faustofan.admin.shared.bytecode.json.CompiledJson
+                public class Plain {
+                }
+                """));
+
+        assertThat(compilation.success()).isFalse();
+        assertThat(compilation.diagnostics())
+                .anyMatch(d -> d.getKind() == Diagnostic.Kind.ERROR
+                        && d.getMessage(null).contains("only supports records"));
+    }
+}
@@ -21,6 +21,9 @@ public final class CacheKeys {
     
     public static final String CACHE_DEFAULT = CACHE_PREFIX + "DEFAULT";
     public static final String CACHE_AUTH_USER = CACHE_PREFIX + "AUTH:USER";
+    public static final String CACHE_AUTH_ROLE = CACHE_PREFIX + "AUTH:ROLE";
+    public static final String CACHE_AUTH_ROUTE = CACHE_PREFIX + "AUTH:ROUTE";
+    public static final String CACHE_AUTH_ENTITLEMENT = CACHE_PREFIX + "AUTH:ENTITLEMENT";
     public static final String CACHE_SYS_CONFIG = CACHE_PREFIX + "SYS:CONFIG";
 
     // ========================================================================
@@ -44,6 +47,16 @@ public final class CacheKeys {
     // 3. Topics (缓存同步广播通道)
     // ========================================================================
     public static final String TOPIC_L1_SYNC = CACHE_PREFIX + "TOPIC:L1_SYNC";
+    /** 组织层级索引失效广播（消息体为租户ID） */
+    public static final String TOPIC_ORG_TREE_SYNC = CACHE_PREFIX + "TOPIC:ORG_TREE_SYNC";
+    /** 权限编号表重载广播（消息体为新版本号） */
+    public static final String TOPIC_PERM_REGISTRY_SYNC = CACHE_PREFIX + "TOPIC:PERM_REGISTRY_SYNC";
+    /** 租户准入快照增量同步广播（消息体为发起时间戳） */
+    public static final String TOPIC_TENANT_ADMISSION_SYNC = CACHE_PREFIX + "TOPIC:TENANT_ADMISSION_SYNC";
+    /** 登录锁定广播（消息体为被锁定的限流 Key） */
+    public static final String TOPIC_LOGIN_LOCKOUT_SYNC = CACHE_PREFIX + "TOPIC:LOGIN_LOCKOUT_SYNC";
+    /** 会话推送广播（消息体为事件类型与目标用户ID） */
+    public static final String TOPIC_SESSION_PUSH = CACHE_PREFIX + "TOPIC:SESSION_PUSH";
 
     // 辅助方法：将 SpEL 常量转换为 raw 字符串
     private static String spelToRaw(String spel) {
@@ -1,7 +1,14 @@
 package io.github.faustofan.admin.shared.cache.core;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 
+import org.redisson.api.RMap;
+import org.redisson.api.RMapCache;
 import org.redisson.api.RTopic;
 import org.slf4j.Logger;
 import org.springframework.cache.support.AbstractValueAdaptingCache;
@@ -25,6 +32,7 @@ public class LayeredCache extends AbstractValueAdaptingCache {
     private final org.springframework.cache.Cache l2Cache; // L2 (Redisson的原生Cache)
     private final RTopic topic; // 广播通道
     private final String instanceId; // 实例ID
+    private final CachePolicy policy; // 缓存策略
 
     public LayeredCache(
             String name,
@@ -37,6 +45,7 @@ public class LayeredCache extends AbstractValueAdaptingCache {
         this.l2Cache = l2Cache;
         this.topic = topic;
         this.instanceId = instanceId;
+        this.policy = policy;
 
         // 初始化 L1 (Caffeine)
         this.l1Cache = Caffeine.newBuilder()
@@ -131,6 +140,32 @@ public class LayeredCache extends AbstractValueAdaptingCache {
         publishInvalidate(key);
     }
 
+    /**
+     * 批量写入：L2 通过一次 putAll 完成（单次往返），L1 合并为一条广播失效消息
+     */
+    @SuppressWarnings("unchecked")
+    public void putAll(@NonNull Map<?, ?> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        logger.info("[Cache PutAll] size={}", entries.size());
+
+        Map<Object, Object> storeValues = new LinkedHashMap<>(entries.size());
+        entries.forEach((key, value) -> storeValues.put(key, toStoreValue(value)));
+
+        // 1. 写 L2
+        switch (l2Cache.getNativeCache()) {
+            case RMapCache<?, ?> mapCache -> ((RMapCache<Object, Object>) mapCache)
+                    .putAll(storeValues, policy.l2Ttl().toMillis(), TimeUnit.MILLISECONDS);
+            case RMap<?, ?> map -> ((RMap<Object, Object>) map).putAll(storeValues);
+            default -> entries.forEach(l2Cache::put);
+        }
+        // 2. 写 L1
+        l1Cache.putAll(storeValues);
+        // 3. 广播失效 (一条消息携带全部 Key)
+        publishInvalidate(List.copyOf(entries.keySet()));
+    }
+
     @Override
     public void evict(@NonNull Object key) {
         logger.info("[Cache Evict] key={}", key);
@@ -169,6 +204,7 @@ public class LayeredCache extends AbstractValueAdaptingCache {
 
         switch (msg.key()) {
             case null -> l1Cache.invalidateAll();
+            case Collection<?> keys -> l1Cache.invalidateAll(keys);
             default -> l1Cache.invalidate(msg.key());
         }
     }
@@ -19,7 +19,16 @@ public enum CachePolicy {
 
     // 用户认证信息：L1 保留 1 分钟防抖，L2 保留 30 分钟
     // 为什么 L1 只有 1 分钟？为了让权限变更/封号能较快在所有节点生效
-    USER_AUTH(CacheKeys.CACHE_AUTH_USER, Duration.ofMinutes(1), Duration.ofMinutes(30), 2000);
+    USER_AUTH(CacheKeys.CACHE_AUTH_USER, Duration.ofMinutes(1), Duration.ofMinutes(30), 2000),
+
+    // 角色权限快照：角色数量少且被大量用户共享，变更时由事件主动失效 (L1=10分钟, L2=12小时)
+    ROLE_AUTH(CacheKeys.CACHE_AUTH_ROLE, Duration.ofMinutes(10), Duration.ofHours(12), 1000),
+
+    // 路由树：按 (产品包, 角色集合) 指纹共享，菜单/角色变更时按反向索引失效 (L1=10分钟, L2=12小时)
+    AUTH_ROUTE(CacheKeys.CACHE_AUTH_ROUTE, Duration.ofMinutes(10), Duration.ofHours(12), 2000),
+
+    // 租户授权：产品包数量少、每个请求都要读取，变更时主动推送 (L1=30分钟, L2=24小时)
+    AUTH_ENTITLEMENT(CacheKeys.CACHE_AUTH_ENTITLEMENT, Duration.ofMinutes(30), Duration.ofHours(24), 1000);
 
     private final String cacheName;
     private final Duration l1Ttl;
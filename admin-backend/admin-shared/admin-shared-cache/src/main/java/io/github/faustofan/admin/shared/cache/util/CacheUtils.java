@@ -1,8 +1,10 @@
 package io.github.faustofan.admin.shared.cache.util;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.slf4j.Logger;
@@ -12,6 +14,8 @@ import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
+import io.github.faustofan.admin.shared.cache.core.LayeredCache;
+import io.github.faustofan.admin.shared.common.context.AppContextHolder;
 import io.github.faustofan.admin.shared.common.exception.SystemException;
 import io.github.faustofan.admin.shared.common.exception.errcode.SystemErrorCode;
 
@@ -45,7 +49,7 @@ public class CacheUtils {
         Cache cache = getCache(cacheName);
         // 这里直接调用我们在 LayeredCache 中修复过的 get(key, loader)
         // 它会自动处理：查L1 -> 查L2 -> 分布式锁查DB -> 回填L2 -> 回填L1
-        return cache.get(key, loader);
+        return getOrLoad(cache, key, loader);
     }
 
     /**
@@ -53,7 +57,23 @@ public class CacheUtils {
      */
     public <T> T get(String cacheName, Object key, Class<T> type, Callable<T> loader) {
         Cache cache = getCache(cacheName);
-        return cache.get(key, loader);
+        return getOrLoad(cache, key, loader);
+    }
+
+    /**
+     * 二级索引读取：别名 Key 只保存主键，值只在主 Key 下保存一份
+     * 通过别名读取只多一次 L1 命中，主条目失效时无需同步清理别名
+     *
+     * @param cacheName     缓存名称
+     * @param aliasKey      别名 Key
+     * @param idType        主键类型
+     * @param idResolver    别名未命中时解析主键 (可顺带回填主条目)
+     * @param primaryGetter 按主键读取主条目 (通常自身也是一次缓存读取)
+     */
+    public <I, T> T getByAlias(String cacheName, Object aliasKey, Class<I> idType,
+                               Callable<I> idResolver, Function<I, T> primaryGetter) {
+        I id = get(cacheName, aliasKey, idType, idResolver);
+        return primaryGetter.apply(id);
     }
 
     /**
@@ -70,6 +90,19 @@ public class CacheUtils {
         getCache(cacheName).put(key, value);
     }
 
+    /**
+     * 批量写入 (L2 单次往返)
+     * 适用于后台批量重建缓存，普通 Cache 实现退化为逐条写入
+     */
+    public void putAll(String cacheName, Map<?, ?> entries) {
+        Cache cache = getCache(cacheName);
+        if (cache instanceof LayeredCache layeredCache) {
+            layeredCache.putAll(entries);
+        } else {
+            entries.forEach(cache::put);
+        }
+    }
+
     /**
      * 手动删除
      */
@@ -82,8 +115,8 @@ public class CacheUtils {
      * 场景：主流程返回旧值(或者不等待写缓存)，后台开启虚拟线程去更新缓存，不阻塞 HTTP 响应
      */
     public <T> void refreshAsync(String cacheName, Object key, Supplier<T> valueLoader) {
-        // JDK 25 Virtual Thread
-        Thread.ofVirtual().start(() -> {
+        // JDK 25 Virtual Thread，加载逻辑可能依赖调用方上下文（如租户过滤）
+        Thread.ofVirtual().start(AppContextHolder.wrap(() -> {
             try {
                 T value = valueLoader.get();
                 put(cacheName, key, value);
@@ -91,7 +124,7 @@ public class CacheUtils {
             } catch (Exception e) {
                 logger.error("Async cache refresh failed: {}", e.getMessage());
             }
-        });
+        }));
     }
 
     /**
@@ -107,6 +140,21 @@ public class CacheUtils {
 
     // --- Private Helper ---
 
+    /**
+     * 加载器抛出的业务异常会被底层包装为 ValueRetrievalException，
+     * 这里还原为原始异常，与 @Cacheable(sync = true) 的行为保持一致
+     */
+    private <T> T getOrLoad(Cache cache, Object key, Callable<T> loader) {
+        try {
+            return cache.get(key, loader);
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
     private Cache getCache(String cacheName) {
         Cache cache = cacheManager.getCache(cacheName);
         if (cache == null) {
@@ -28,18 +28,29 @@ public record AppContext(
         Boolean isSuperAdmin
 ) {
     /**
-     * 获取traceId，如果为null则自动生成一个新的UUID。
+     * 获取traceId，如果为null则自动生成一个新的ID。
      *
-     * @return traceId，若原值为null则返回新生成的UUID
+     * @return traceId，若原值为null则返回新生成的ID
      */
     @Override
     public UUID traceId() {
         if (traceId == null) {
-            return UUID.randomUUID();
+            return TraceContext.newTraceId();
         }
         return traceId;
     }
 
+    /**
+     * 复制身份信息，替换链路追踪信息。
+     *
+     * @param traceId   链路追踪ID
+     * @param requestId 请求唯一标识
+     * @return 新的上下文
+     */
+    public AppContext withTrace(UUID traceId, String requestId) {
+        return new AppContext(traceId, requestId, tenantId, userId, username, orgId, currentUserRoles, isSuperAdmin);
+    }
+
     public static AppContextBuilder builder() {
         return new AppContextBuilder();
     }
@@ -100,7 +111,7 @@ public record AppContext(
 
         public AppContext build() {
             return new AppContext(
-                    traceId != null ? traceId : UUID.randomUUID(),
+                    traceId != null ? traceId : TraceContext.newTraceId(),
                     requestId,
                     tenantId,
                     userId,
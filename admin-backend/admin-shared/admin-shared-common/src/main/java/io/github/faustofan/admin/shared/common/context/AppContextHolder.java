@@ -1,12 +1,30 @@
 package io.github.faustofan.admin.shared.common.context;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
 /**
- * Holder for the AppContext using ThreadLocal storage.
+ * Holder for the AppContext.
+ * <p>
+ * The preferred carrier is a {@link ScopedValue}: the immutable context is bound once per request
+ * (or task) with {@link #runWith} / {@link #callWith}, read without any per-thread map, and rebound
+ * in worker tasks through {@link #wrap} by capturing a single reference.
+ * <p>
+ * {@link #setContext} / {@link #clearContext} are kept for existing callers; a value set this way
+ * overrides the scoped binding on the current thread and is NOT inherited by child threads.
  */
 public class AppContextHolder {
 
-    // InheritableThreadLocal to allow child threads to inherit the context
-    private static final ThreadLocal<AppContext> CONTEXT = new InheritableThreadLocal<>();
+    // Scoped binding, visible to the bound call and its structured children
+    private static final ScopedValue<AppContext> SCOPED = ScopedValue.newInstance();
+
+    // Per-thread override for imperative callers
+    private static final ThreadLocal<AppContext> CONTEXT = new ThreadLocal<>();
+
+    // Threads currently holding an override. While zero, reads skip CONTEXT: ThreadLocal.get() on a fresh
+    // (virtual) thread allocates a ThreadLocalMap. A thread always sees its own increment, so a non-zero
+    // override is never missed; an override that is never cleared only disables the shortcut.
+    private static final AtomicInteger OVERRIDES = new AtomicInteger();
 
     // Private constructor to prevent instantiation
     private AppContextHolder() {
@@ -14,24 +32,88 @@ public class AppContextHolder {
 
     /**
      * Get the current AppContext.
-     * @return the current AppContext
+     * @return the thread-level override if set, otherwise the scoped binding, otherwise null
      */
     public static AppContext getContext() {
-        return CONTEXT.get();
+        if (OVERRIDES.get() > 0) {
+            AppContext context = CONTEXT.get();
+            if (context != null) {
+                return context;
+            }
+        }
+        return SCOPED.isBound() ? SCOPED.get() : null;
     }
 
     /**
-     * Set the current AppContext.
-     * @param context the AppContext to set
+     * Set the current AppContext for this thread only.
+     * @param context the AppContext to set, null clears the override
      */
     public static void setContext(AppContext context) {
+        if (context == null) {
+            clearContext();
+            return;
+        }
+        if (CONTEXT.get() == null) {
+            OVERRIDES.incrementAndGet();
+        }
         CONTEXT.set(context);
     }
 
     /**
-     * Clear the current AppContext.
+     * Clear the thread-level AppContext. Scoped bindings end with their scope.
      */
     public static void clearContext() {
-        CONTEXT.remove();
+        if (OVERRIDES.get() > 0 && CONTEXT.get() != null) {
+            CONTEXT.remove();
+            OVERRIDES.decrementAndGet();
+        }
+    }
+
+    /**
+     * Run a task with the context bound for its whole extent.
+     * @param context the AppContext to bind, null runs the task unchanged
+     * @param task    the task
+     */
+    public static void runWith(AppContext context, Runnable task) {
+        if (context == null) {
+            task.run();
+            return;
+        }
+        ScopedValue.where(SCOPED, context).run(task);
+    }
+
+    /**
+     * Call an operation with the context bound for its whole extent.
+     * @param context the AppContext to bind, null calls the operation unchanged
+     * @param op      the operation
+     * @return the operation result
+     * @throws X the operation's exception
+     */
+    public static <R, X extends Throwable> R callWith(AppContext context, ScopedValue.CallableOp<? extends R, X> op)
+            throws X {
+        if (context == null) {
+            return op.call();
+        }
+        return ScopedValue.where(SCOPED, context).call(op);
+    }
+
+    /**
+     * Capture the current context and rebind it when the returned task runs on another thread.
+     * @param task the task
+     * @return the wrapped task, or the task itself when there is no current context
+     */
+    public static Runnable wrap(Runnable task) {
+        AppContext context = getContext();
+        return context == null ? task : () -> runWith(context, task);
+    }
+
+    /**
+     * Capture the current context and rebind it when the returned supplier runs on another thread.
+     * @param supplier the supplier
+     * @return the wrapped supplier, or the supplier itself when there is no current context
+     */
+    public static <T> Supplier<T> wrap(Supplier<T> supplier) {
+        AppContext context = getContext();
+        return context == null ? supplier : () -> callWith(context, supplier::get);
     }
 }
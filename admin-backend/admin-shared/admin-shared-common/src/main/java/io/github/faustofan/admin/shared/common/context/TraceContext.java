@@ -0,0 +1,124 @@
+package io.github.faustofan.admin.shared.common.context;
+
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * W3C Trace Context 工具类
+ * <p>
+ * 链路ID与 traceparent 的 trace-id 一致（128 位，即 {@link AppContext#traceId()} 的 UUID），
+ * 本服务处理单个请求的 span-id（64 位，16 位十六进制）作为 {@link AppContext#requestId()}。
+ * 随机数取自 {@link ThreadLocalRandom}：链路ID只需唯一、不需要不可预测，无需 SecureRandom 与 UUID v4 的加锁熵源。
+ *
+ * @see <a href="https://www.w3.org/TR/trace-context/">W3C Trace Context</a>
+ */
+public final class TraceContext {
+
+    /** W3C 传播头 */
+    public static final String TRACEPARENT = "traceparent";
+
+    private static final HexFormat HEX = HexFormat.of();
+    /** version(2)-trace-id(32)-parent-id(16)-flags(2) */
+    private static final int TRACEPARENT_LENGTH = 55;
+
+    private TraceContext() {
+    }
+
+    /**
+     * 生成新的 trace-id（非全零）
+     */
+    public static UUID newTraceId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long high;
+        long low;
+        do {
+            high = random.nextLong();
+            low = random.nextLong();
+        } while (high == 0 && low == 0);
+        return new UUID(high, low);
+    }
+
+    /**
+     * 生成新的 span-id（16 位小写十六进制，非全零）
+     */
+    public static String newSpanId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long id;
+        do {
+            id = random.nextLong();
+        } while (id == 0);
+        return HEX.toHexDigits(id);
+    }
+
+    /**
+     * 构造 traceparent 头：00-{trace-id}-{span-id}-01
+     *
+     * @param traceId trace-id
+     * @param spanId  当前 span-id，非法时重新生成
+     */
+    public static String traceparent(UUID traceId, String spanId) {
+        if (!isHex(spanId, 16)) {
+            spanId = newSpanId();
+        }
+        return new StringBuilder(TRACEPARENT_LENGTH)
+                .append("00-")
+                .append(HEX.toHexDigits(traceId.getMostSignificantBits()))
+                .append(HEX.toHexDigits(traceId.getLeastSignificantBits()))
+                .append('-').append(spanId)
+                .append("-01")
+                .toString();
+    }
+
+    /**
+     * 构造当前上下文的 traceparent 头
+     *
+     * @return 无上下文时返回 null
+     */
+    public static String currentTraceparent() {
+        AppContext context = AppContextHolder.getContext();
+        return context == null ? null : traceparent(context.traceId(), context.requestId());
+    }
+
+    /**
+     * 解析 traceparent 头中的 trace-id
+     *
+     * @param traceparent 请求头值，可为 null
+     * @return 格式非法、trace-id 全零或版本为 ff 时返回 null
+     */
+    public static UUID parseTraceId(String traceparent) {
+        if (traceparent == null || traceparent.length() < TRACEPARENT_LENGTH) {
+            return null;
+        }
+        // 未来版本可能在末尾追加字段，只校验已知前缀
+        if (traceparent.length() > TRACEPARENT_LENGTH && traceparent.charAt(TRACEPARENT_LENGTH) != '-') {
+            return null;
+        }
+        if (traceparent.charAt(2) != '-' || traceparent.charAt(35) != '-' || traceparent.charAt(52) != '-'
+                || !isHex(traceparent, 0, 2) || traceparent.startsWith("ff")
+                || !isHex(traceparent, 3, 35) || !isHex(traceparent, 36, 52) || !isHex(traceparent, 53, 55)) {
+            return null;
+        }
+        long high = HEX.fromHexDigitsToLong(traceparent, 3, 19);
+        long low = HEX.fromHexDigitsToLong(traceparent, 19, 35);
+        if (high == 0 && low == 0) {
+            return null;
+        }
+        return new UUID(high, low);
+    }
+
+    private static boolean isHex(String s, int length) {
+        return s != null && s.length() == length && isHex(s, 0, length);
+    }
+
+    /** 小写十六进制（规范要求小写） */
+    private static boolean isHex(CharSequence s, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
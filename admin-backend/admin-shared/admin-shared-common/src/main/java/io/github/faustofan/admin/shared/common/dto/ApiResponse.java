@@ -1,6 +1,7 @@
 package io.github.faustofan.admin.shared.common.dto;
 
 
+import io.github.faustofan.admin.shared.bytecode.json.CompiledJson;
 import io.github.faustofan.admin.shared.common.context.AppContextHolder;
 import io.github.faustofan.admin.shared.common.exception.ErrorCode;
 
@@ -15,6 +16,7 @@ import java.util.UUID;
  * @param data    Response data of generic type T
  * @param <T>     Type of the response data
  */
+@CompiledJson
 public record ApiResponse<T>(
         UUID traceId,
         String code,
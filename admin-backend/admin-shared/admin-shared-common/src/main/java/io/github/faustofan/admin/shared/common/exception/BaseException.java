@@ -2,23 +2,26 @@ package io.github.faustofan.admin.shared.common.exception;
 
 /**
  * 系统所有异常的基类
+ * <p>
+ * 是否采集堆栈由 {@link ErrorCode#captureStackTrace()} 决定，不采集时也不记录被抑制的异常。
  */
 public abstract class BaseException extends RuntimeException {
 
     private final ErrorCode errorCode;
 
     protected BaseException(ErrorCode errorCode) {
-        super(errorCode.getMessage());
+        super(errorCode.getMessage(), null, errorCode.captureStackTrace(), errorCode.captureStackTrace());
         this.errorCode = errorCode;
     }
 
     protected BaseException(ErrorCode errorCode, String detailMessage) {
-        super(errorCode.getMessage() + ": " + detailMessage);
+        super(errorCode.getMessage() + ": " + detailMessage, null,
+                errorCode.captureStackTrace(), errorCode.captureStackTrace());
         this.errorCode = errorCode;
     }
 
     protected BaseException(ErrorCode errorCode, Throwable cause) {
-        super(errorCode.getMessage(), cause);
+        super(errorCode.getMessage(), cause, errorCode.captureStackTrace(), errorCode.captureStackTrace());
         this.errorCode = errorCode;
     }
 
@@ -15,4 +15,21 @@ public interface ErrorCode {
      * 面向用户或调用方的错误描述
      */
     String getMessage();
+
+    /**
+     * 对应的 HTTP 状态码，默认 200（错误信息由响应体中的 code 表达）
+     */
+    default int getHttpStatus() {
+        return 200;
+    }
+
+    /**
+     * 抛出异常时是否采集堆栈，默认不采集
+     * <p>
+     * 业务/用户错误是预期内的拒绝（密码错误、Token 无效等），堆栈没有排查价值，
+     * 高频失败时填充堆栈反而是主要的 CPU 开销；系统错误需要定位问题，应返回 true。
+     */
+    default boolean captureStackTrace() {
+        return false;
+    }
 }
@@ -15,14 +15,30 @@ public enum BizErrorCode implements ErrorCode {
     USER_DISABLED("B0203", "用户已被禁用"),
     BIND_TENANT_NOT_EXIST("B0204", "用户绑定的租户不存在"),
     BIND_ORG_NOT_EXIST("B0205", "用户绑定的组织不存在"),
-    BIND_ROLE_NOT_EXIST("B0206", "用户绑定的角色不存在");
+    BIND_ROLE_NOT_EXIST("B0206", "用户绑定的角色不存在"),
+    ORG_NOT_EXIST("B0301", "组织不存在"),
+    ORG_MOVE_INTO_SUBTREE("B0302", "不能将组织移动到自身或其下级组织"),
+    TENANT_DISABLED("B0401", "租户已被禁用", 403),
+    TENANT_EXPIRED("B0402", "租户已过期", 403),
+    TENANT_NOT_EXIST("B0403", "租户不存在"),
+    ROLE_NOT_EXIST("B0501", "角色不存在"),
+    MENU_NOT_EXIST("B0601", "菜单不存在"),
+    POLICY_NOT_EXIST("B0701", "数据策略不存在"),
+    POLICY_INVALID("B0702", "数据策略规则无效"),
+    PACKAGE_NOT_EXIST("B0801", "产品包不存在");
 
     private final String code;
     private final String message;
+    private final int httpStatus;
 
     BizErrorCode(String code, String message) {
+        this(code, message, 200);
+    }
+
+    BizErrorCode(String code, String message, int httpStatus) {
         this.code = code;
         this.message = message;
+        this.httpStatus = httpStatus;
     }
 
     @Override
@@ -34,4 +50,9 @@ public enum BizErrorCode implements ErrorCode {
     public String getMessage() {
         return message;
     }
+
+    @Override
+    public int getHttpStatus() {
+        return httpStatus;
+    }
 }
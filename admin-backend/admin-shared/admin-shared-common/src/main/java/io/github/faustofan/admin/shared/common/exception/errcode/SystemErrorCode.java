@@ -6,8 +6,12 @@ public enum SystemErrorCode implements ErrorCode {
     SYSTEM_ERROR("C0000", "系统内部异常"),
     DATABASE_ERROR("C0100", "数据库访问异常"),
     CACHE_ERROR("C0101", "缓存访问异常"),
+    /** 租户数据库并发隔离舱等待超时，属于预期内的快速失败，不采集堆栈 */
+    DATABASE_BUSY("C0102", "数据库繁忙，请稍后重试", 503, false),
     RPC_ERROR("C0200", "远程服务调用失败"),
     TIMEOUT("C0300", "系统处理超时"),
+    /** 过载保护拒绝，属于预期内的快速失败，不采集堆栈 */
+    SERVICE_OVERLOADED("C0301", "系统繁忙，请稍后重试", 503, false),
     CONTEXT_MISSING("C0400", "上下文信息缺失"),
     TENANT_ID_MISSING("C0401", "租户ID缺失"),
     DISTRIBUTED_ACQUIRE_LOCK_FAIL("C0500", "分布式锁获取失败"),
@@ -17,10 +21,18 @@ public enum SystemErrorCode implements ErrorCode {
 
     private final String code;
     private final String message;
+    private final int httpStatus;
+    private final boolean captureStackTrace;
 
     SystemErrorCode(String code, String message) {
+        this(code, message, 200, true);
+    }
+
+    SystemErrorCode(String code, String message, int httpStatus, boolean captureStackTrace) {
         this.code = code;
         this.message = message;
+        this.httpStatus = httpStatus;
+        this.captureStackTrace = captureStackTrace;
     }
 
     @Override
@@ -33,4 +45,14 @@ public enum SystemErrorCode implements ErrorCode {
         return message;
     }
 
+    @Override
+    public int getHttpStatus() {
+        return httpStatus;
+    }
+
+    @Override
+    public boolean captureStackTrace() {
+        return captureStackTrace;
+    }
+
 }
@@ -11,16 +11,24 @@ public enum UserErrorCode implements ErrorCode {
     INVALID_ACCESS_TOKEN("A0204", "无效的访问令牌"),
     INVALID_REFRESH_TOKEN("A0205", "无效的刷新令牌"),
     USERNAME_ALREADY_EXISTS("A0206", "用户名已存在"),
+    ACCOUNT_LOCKED("A0207", "登录失败次数过多，请稍后再试", 423),
     IDEMPOTENT_FAIL("A0300", "请求处理失败，请重试"),
-    IDEMPOTENT_PENDING("A0301", "请求正在处理中，请勿重复提交")
+    IDEMPOTENT_PENDING("A0301", "请求正在处理中，请勿重复提交"),
+    TOO_MANY_REQUESTS("A0501", "请求过于频繁，请稍后重试", 429)
     ;
 
     private final String code;
     private final String message;
+    private final int httpStatus;
 
     UserErrorCode(String code, String message) {
+        this(code, message, 200);
+    }
+
+    UserErrorCode(String code, String message, int httpStatus) {
         this.code = code;
         this.message = message;
+        this.httpStatus = httpStatus;
     }
 
     @Override
@@ -32,4 +40,9 @@ public enum UserErrorCode implements ErrorCode {
     public String getMessage() {
         return message;
     }
+
+    @Override
+    public int getHttpStatus() {
+        return httpStatus;
+    }
 }
@@ -0,0 +1,82 @@
+package io.github.faustofan.admin.shared.common.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class AppContextHolderTest {
+
+    private static final AppContext SCOPED = AppContext.builder().userId(1L).username("scoped").build();
+    private static final AppContext OVERRIDE = AppContext.builder().userId(2L).username("override").build();
+
+    @AfterEach
+    void tearDown() {
+        AppContextHolder.clearContext();
+    }
+
+    @Test
+    void overrideTakesPrecedenceOverBinding() {
+        AppContextHolder.runWith(SCOPED, () -> {
+            assertThat(AppContextHolder.getContext()).isSameAs(SCOPED);
+
+            AppContextHolder.setContext(OVERRIDE);
+            assertThat(AppContextHolder.getContext()).isSameAs(OVERRIDE);
+
+            AppContextHolder.clearContext();
+            assertThat(AppContextHolder.getContext()).isSameAs(SCOPED);
+        });
+        assertThat(AppContextHolder.getContext()).isNull();
+    }
+
+    @Test
+    void settingNullClearsOverride() {
+        AppContextHolder.setContext(OVERRIDE);
+        AppContextHolder.setContext(OVERRIDE);
+        AppContextHolder.setContext(null);
+
+        assertThat(AppContextHolder.getContext()).isNull();
+        // 重复清理不会让覆盖计数失衡
+        AppContextHolder.clearContext();
+        AppContextHolder.setContext(OVERRIDE);
+        assertThat(AppContextHolder.getContext()).isSameAs(OVERRIDE);
+    }
+
+    @Test
+    void overrideIsNotVisibleToOtherThreads() throws Exception {
+        AppContextHolder.setContext(OVERRIDE);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            assertThat(executor.submit(AppContextHolder::getContext).get(5, TimeUnit.SECONDS)).isNull();
+            // wrap 捕获当前上下文，在执行线程中重新绑定
+            AppContext[] seen = new AppContext[1];
+            executor.submit(AppContextHolder.wrap(() -> seen[0] = AppContextHolder.getContext()))
+                    .get(5, TimeUnit.SECONDS);
+            assertThat(seen[0]).isSameAs(OVERRIDE);
+        }
+    }
+
+    @Test
+    void otherThreadsOverrideDoesNotLeak() throws Exception {
+        CompletableFuture<Void> set = new CompletableFuture<>();
+        CompletableFuture<Void> release = new CompletableFuture<>();
+        Thread other = Thread.ofVirtual().start(() -> {
+            AppContextHolder.setContext(OVERRIDE);
+            set.complete(null);
+            release.join();
+            AppContextHolder.clearContext();
+        });
+        set.get(5, TimeUnit.SECONDS);
+
+        AppContextHolder.runWith(SCOPED, () -> assertThat(AppContextHolder.getContext()).isSameAs(SCOPED));
+        assertThat(AppContextHolder.getContext()).isNull();
+
+        release.complete(null);
+        other.join();
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.faustofan.admin.shared.common.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class TraceContextTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String VALID = "00-" + TRACE_ID + "-00f067aa0ba902b7-01";
+
+    @Test
+    void parsesValidTraceparent() {
+        assertThat(TraceContext.parseTraceId(VALID))
+                .isEqualTo(new UUID(0x4bf92f3577b34da6L, 0xa3ce929d0e0e4736L));
+    }
+
+    @Test
+    void acceptsFutureVersionWithTrailingFields() {
+        assertThat(TraceContext.parseTraceId("01-" + TRACE_ID + "-00f067aa0ba902b7-01-extra"))
+                .isEqualTo(TraceContext.parseTraceId(VALID));
+    }
+
+    @Test
+    void rejectsMalformedTraceparent() {
+        assertThat(TraceContext.parseTraceId(null)).isNull();
+        assertThat(TraceContext.parseTraceId("")).isNull();
+        // 长度不足、末尾多出非分隔符
+        assertThat(TraceContext.parseTraceId(VALID.substring(1))).isNull();
+        assertThat(TraceContext.parseTraceId(VALID + "0")).isNull();
+        // 分隔符错位
+        assertThat(TraceContext.parseTraceId(VALID.replace('-', '_'))).isNull();
+        // 大写十六进制
+        assertThat(TraceContext.parseTraceId(VALID.toUpperCase())).isNull();
+        // 非十六进制字符
+        assertThat(TraceContext.parseTraceId("00-" + TRACE_ID + "-00f067aa0ba902bg-01")).isNull();
+        assertThat(TraceContext.parseTraceId("0x-" + TRACE_ID + "-00f067aa0ba902b7-01")).isNull();
+        assertThat(TraceContext.parseTraceId("00-" + TRACE_ID + "-00f067aa0ba902b7-0z")).isNull();
+    }
+
+    @Test
+    void rejectsForbiddenVersionAndZeroTraceId() {
+        assertThat(TraceContext.parseTraceId("ff-" + TRACE_ID + "-00f067aa0ba902b7-01")).isNull();
+        assertThat(TraceContext.parseTraceId("00-" + "0".repeat(32) + "-00f067aa0ba902b7-01")).isNull();
+    }
+
+    @Test
+    void roundTripsGeneratedIds() {
+        for (int i = 0; i < 1_000; i++) {
+            UUID traceId = TraceContext.newTraceId();
+            String spanId = TraceContext.newSpanId();
+
+            String traceparent = TraceContext.traceparent(traceId, spanId);
+
+            assertThat(traceparent).hasSize(55).matches("00-[0-9a-f]{32}-[0-9a-f]{16}-01");
+            assertThat(traceparent.substring(36, 52)).isEqualTo(spanId);
+            assertThat(TraceContext.parseTraceId(traceparent)).isEqualTo(traceId);
+        }
+    }
+
+    @Test
+    void replacesInvalidSpanId() {
+        UUID traceId = TraceContext.newTraceId();
+
+        String traceparent = TraceContext.traceparent(traceId, "not-a-span");
+
+        assertThat(traceparent).matches("00-[0-9a-f]{32}-[0-9a-f]{16}-01");
+        assertThat(TraceContext.parseTraceId(traceparent)).isEqualTo(traceId);
+    }
+}
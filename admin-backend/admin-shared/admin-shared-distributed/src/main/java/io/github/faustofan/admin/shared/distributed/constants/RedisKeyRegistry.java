@@ -16,6 +16,21 @@ public enum RedisKeyRegistry implements KeyDefinition {
     /** 黑名单: ADMIN:SEC:BLOCK:{id} */
     SEC_BLACKLIST("SEC", "BLOCK", Duration.ofDays(7), "安全管控黑名单"),
 
+    /** 登录失败滑动窗口计数 (Hash: 时间片 -> 次数): ADMIN:SEC:LOGIN:FAIL:{U|IP}:{tenantId}:{subject} */
+    SEC_LOGIN_FAILURE("SEC", "LOGIN:FAIL", Duration.ofMinutes(15), "登录失败滑动窗口计数"),
+
+    /** 租户限流全局令牌预算 (按秒): ADMIN:SEC:RATE:{tenantId}:{route}:{epochSecond} */
+    SEC_RATE_LIMIT("SEC", "RATE", Duration.ofSeconds(2), "租户限流全局令牌预算"),
+
+    /** 路由树指纹反向索引 (ZSet: 指纹 -> 登记时间，超过 TTL 未刷新的指纹被清理): ADMIN:AUTH:ROUTE:FPIDX:{ROLE:id|PKG:id|ALL} */
+    AUTH_ROUTE_INDEX("AUTH", "ROUTE:FPIDX", Duration.ofHours(12), "路由树指纹反向索引"),
+
+    /** 路由树失效代数 (每次失效递增，构建期间变化则不保留构建结果): ADMIN:AUTH:ROUTE:GEN:ALL */
+    AUTH_ROUTE_GENERATION("AUTH", "ROUTE:GEN", Duration.ZERO, "路由树失效代数"),
+
+    /** 租户数据版本号 (ETag 校验值): ADMIN:SYS:VER:{tenantId|ALL} */
+    SYS_DATA_VERSION("SYS", "VER", Duration.ofDays(7), "租户数据版本号"),
+
     /** 系统配置: ADMIN:SYS:CONF:{key} */
     SYS_CONFIG("SYS", "CONF", Duration.ofDays(30), "系统全局配置");
 
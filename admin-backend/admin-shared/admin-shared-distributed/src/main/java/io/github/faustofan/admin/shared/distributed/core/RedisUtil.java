@@ -1,10 +1,14 @@
 package io.github.faustofan.admin.shared.distributed.core;
 
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
+import org.redisson.api.RAtomicLong;
 import org.redisson.api.RBucket;
 import org.redisson.api.RMap;
+import org.redisson.api.RScoredSortedSet;
 import org.redisson.api.RSet;
 import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Component;
@@ -84,6 +88,59 @@ public class RedisUtil {
         redissonClient.getSet(keyDef.buildKey(suffix)).remove(value);
     }
 
+    /**
+     * 原子弹出集合中的全部成员 (SPOP count)，并发写入的新成员不会被误删
+     */
+    public <T> Set<T> popAllFromSet(KeyDefinition keyDef, String suffix) {
+        RSet<T> set = redissonClient.getSet(keyDef.buildKey(suffix));
+        return set.removeRandom(Integer.MAX_VALUE);
+    }
+
+    // ---------------- 过期集合 (ZSet: 成员 -> 写入时间) ----------------
+
+    /**
+     * 加入过期集合：成员分值为写入时间（重复写入刷新时间），并顺带清理超过 TTL 未刷新的成员，
+     * 集合大小只取决于 TTL 内仍在使用的成员
+     */
+    public <T> void addToExpiringSet(KeyDefinition keyDef, String suffix, T value) {
+        RScoredSortedSet<T> set = redissonClient.getScoredSortedSet(keyDef.buildKey(suffix));
+        long now = System.currentTimeMillis();
+        set.add(now, value);
+        if (!keyDef.getTtl().isZero()) {
+            set.removeRangeByScore(0, true, now - keyDef.getTtl().toMillis(), true);
+            set.expire(keyDef.getTtl());
+        }
+    }
+
+    /**
+     * 原子弹出过期集合中的全部成员 (ZPOPMIN count)，并发写入的新成员不会被误删
+     */
+    public <T> Collection<T> popAllFromExpiringSet(KeyDefinition keyDef, String suffix) {
+        RScoredSortedSet<T> set = redissonClient.getScoredSortedSet(keyDef.buildKey(suffix));
+        return set.pollFirst(Integer.MAX_VALUE);
+    }
+
+    // ---------------- 计数器 ----------------
+
+    /**
+     * 计数器自增并返回新值
+     */
+    public long increment(KeyDefinition keyDef, String suffix) {
+        RAtomicLong counter = redissonClient.getAtomicLong(keyDef.buildKey(suffix));
+        long value = counter.incrementAndGet();
+        if (!keyDef.getTtl().isZero()) {
+            counter.expire(keyDef.getTtl());
+        }
+        return value;
+    }
+
+    /**
+     * 读取计数器，不存在时为 0
+     */
+    public long getCounter(KeyDefinition keyDef, String suffix) {
+        return redissonClient.getAtomicLong(keyDef.buildKey(suffix)).get();
+    }
+
     // ---------------- Map (哈希 - 用于配置项) ----------------
 
     public <K, V> void putInMap(KeyDefinition keyDef, String suffix, K mapKey, V mapValue) {
@@ -2,17 +2,22 @@ package io.github.faustofan.admin.shared.messaging.config;
 
 import java.util.concurrent.Executors;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.apache.pulsar.client.api.PulsarClient;
-import org.apache.pulsar.shade.com.fasterxml.jackson.databind.ObjectMapper;
-import org.apache.pulsar.shade.com.fasterxml.jackson.databind.SerializationFeature;
-import org.apache.pulsar.shade.com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.pulsar.core.DefaultSchemaResolver;
+import org.springframework.pulsar.core.SchemaResolver.SchemaResolverCustomizer;
 
+import io.github.faustofan.admin.shared.bytecode.json.CompiledJsonModule;
+import io.github.faustofan.admin.shared.common.context.AppContextHolder;
 import io.github.faustofan.admin.shared.messaging.core.NoOpMessageProvider;
 import io.github.faustofan.admin.shared.messaging.core.PulsarMessageProvider;
 import io.github.faustofan.admin.shared.messaging.core.RemoteMessageProvider;
@@ -20,6 +25,13 @@ import io.github.faustofan.admin.shared.messaging.core.RemoteMessageProvider;
 @Configuration
 public class MessageConfig {
 
+    /** 消息收发共用：发送端序列化与 @PulsarListener 的 JSON Schema 解码使用同一份配置 */
+    private final ObjectMapper msgObjectMapper;
+
+    public MessageConfig(CompiledJsonModule compiledJsonModule) {
+        this.msgObjectMapper = msgObjectMapper(compiledJsonModule);
+    }
+
     /**
      * JDK 21+ 核心特性：虚拟线程执行器
      * 用于托管所有消息发送、IO密集型任务，替代传统线程池
@@ -27,25 +39,25 @@ public class MessageConfig {
     @Bean("msgVirtualExecutor")
     public AsyncTaskExecutor msgVirtualExecutor() {
         // 使用每个任务一个虚拟线程的策略，无界且极轻量
-        return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+        TaskExecutorAdapter executor = new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+        // 上下文不再经 InheritableThreadLocal 继承，提交时捕获并在虚拟线程中重新绑定
+        executor.setTaskDecorator(AppContextHolder::wrap);
+        return executor;
     }
 
-    /**
-     * 生产级 Jackson 配置
-     * 必须支持 Java 8/JDK 25 的时间日期类型 (JSR310)
-     */
     @Bean
-    public ObjectMapper msgObjectMapper() {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
-        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        return mapper;
+    @ConditionalOnBean(PulsarClient.class)
+    public RemoteMessageProvider pulsarMessageProvider(PulsarClient pulsarClient) {
+        return new PulsarMessageProvider(pulsarClient, msgObjectMapper);
     }
 
+    /**
+     * 接收端：Spring Pulsar 默认按 JSON Schema 解码 @PulsarListener 的载荷，
+     * 改用消息专用的 ObjectMapper，事件 record 走编译期生成的反序列化器，时间类型与发送端一致。
+     */
     @Bean
-    @ConditionalOnBean(PulsarClient.class)
-    public RemoteMessageProvider pulsarMessageProvider(PulsarClient pulsarClient, ObjectMapper objectMapper) {
-        return new PulsarMessageProvider(pulsarClient, objectMapper);
+    public SchemaResolverCustomizer<DefaultSchemaResolver> msgSchemaResolverCustomizer() {
+        return schemaResolver -> schemaResolver.setObjectMapper(msgObjectMapper);
     }
 
     @Bean
@@ -53,4 +65,18 @@ public class MessageConfig {
     public RemoteMessageProvider noOpMessageProvider() {
         return new NoOpMessageProvider();
     }
+
+    /**
+     * 生产级 Jackson 配置
+     * 必须支持 Java 8/JDK 25 的时间日期类型 (JSR310)，并注册编译期生成的事件序列化器。
+     * <p>
+     * 不注册为 ObjectMapper Bean：否则 Spring Boot 自动配置的 ObjectMapper 会退让，Web 层也会改用这份配置。
+     */
+    private static ObjectMapper msgObjectMapper(CompiledJsonModule compiledJsonModule) {
+        return JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .addModule(compiledJsonModule)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
 }
\ No newline at end of file
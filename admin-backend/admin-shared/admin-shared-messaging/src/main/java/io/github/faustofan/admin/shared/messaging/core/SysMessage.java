@@ -2,10 +2,12 @@ package io.github.faustofan.admin.shared.messaging.core;
 
 import java.io.Serializable;
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
+import io.github.faustofan.admin.shared.common.context.TraceContext;
 import io.github.faustofan.admin.shared.messaging.enums.MsgScope;
 
 /**
@@ -15,7 +17,7 @@ import io.github.faustofan.admin.shared.messaging.enums.MsgScope;
  * @param topic     业务主题
  * @param scope     传播范围
  * @param payload   业务数据 (需可序列化)
- * @param headers   元数据 (TraceId, UserContext等)
+ * @param headers   元数据 (traceparent, UserContext等)，构建时自动注入当前链路上下文
  * @param timestamp 这是产生时间
  * @param <T>       载荷类型
  */
@@ -73,9 +75,28 @@ public record SysMessage<T>(
                     topic,
                     scope,
                     payload,
-                    headers,
+                    withTraceparent(headers),
                     Instant.now());
         }
+
+        /**
+         * 在发布方线程注入 traceparent（消息在虚拟线程上异步分发，届时已无法取得调用方上下文）
+         */
+        private static Map<String, String> withTraceparent(Map<String, String> headers) {
+            if (headers != null && headers.containsKey(TraceContext.TRACEPARENT)) {
+                return headers;
+            }
+            String traceparent = TraceContext.currentTraceparent();
+            if (traceparent == null) {
+                return headers;
+            }
+            if (headers == null || headers.isEmpty()) {
+                return Map.of(TraceContext.TRACEPARENT, traceparent);
+            }
+            Map<String, String> merged = new HashMap<>(headers);
+            merged.put(TraceContext.TRACEPARENT, traceparent);
+            return Map.copyOf(merged);
+        }
     }
 
     // 快速转换载荷类型
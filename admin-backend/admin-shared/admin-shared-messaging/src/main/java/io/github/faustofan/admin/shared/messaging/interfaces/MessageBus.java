@@ -8,6 +8,8 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import io.github.faustofan.admin.shared.messaging.core.RemoteMessageProvider;
 import io.github.faustofan.admin.shared.messaging.core.SysMessage;
@@ -59,6 +61,27 @@ public class MessageBus {
         virtualExecutor.execute(() -> dispatch(message));
     }
 
+    /**
+     * 在当前事务提交后发送消息，无事务时立即发送
+     * <p>
+     * 用于数据变更通知：监听方不会在提交前读到旧数据，事务回滚时也不会发出。
+     *
+     * @param message 待分发的系统消息
+     * @param <T>     消息载荷类型
+     */
+    public <T> void publishAfterCommit(SysMessage<T> message) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(message);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(message);
+            }
+        });
+    }
+
     /**
      * 路由分发逻辑
      * <p>
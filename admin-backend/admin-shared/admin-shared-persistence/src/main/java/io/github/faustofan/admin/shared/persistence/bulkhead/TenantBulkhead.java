@@ -0,0 +1,242 @@
+package io.github.faustofan.admin.shared.persistence.bulkhead;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import io.github.faustofan.admin.shared.common.exception.SystemException;
+import io.github.faustofan.admin.shared.common.exception.errcode.SystemErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 租户数据库并发隔离舱
+ * <p>
+ * 在连接池之前按租户限制同时持有的连接数，避免单个租户的慢查询占满整个连接池：
+ * <ul>
+ * <li>每个租户最多持有 maxConcurrentPerTenant 个许可，全部租户合计不超过连接池大小</li>
+ * <li>无人排队时直接放行；有人排队时按加权公平调度：释放许可后优先分给 已持有数/权重 最小的租户，同比值先到先得</li>
+ * <li>等待超过 acquireTimeout 抛出 {@link SystemErrorCode#DATABASE_BUSY}，不再等满连接池的 connection-timeout</li>
+ * </ul>
+ * 同一线程嵌套获取连接（如 REQUIRES_NEW）也会占用许可，达到租户上限时由超时兜底，不会死锁。
+ * <p>
+ * 许可默认记在上下文的租户名下；以系统身份执行、实际代表某个租户的操作（如登录查用户）
+ * 用 {@link #callAs} 指定归属租户，不与后台任务争用系统租户的额度。
+ */
+public class TenantBulkhead {
+
+    /** 显式指定的许可归属租户，优先于上下文中的租户 */
+    private static final ScopedValue<Long> PERMIT_TENANT = ScopedValue.newInstance();
+
+    private final int maxConcurrent;
+    private final int maxConcurrentPerTenant;
+    private final long acquireTimeoutNanos;
+    private final int defaultWeight;
+    private final Map<Long, Integer> weights;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 以下字段由 lock 保护
+    private final Map<Long, TenantState> tenants = new HashMap<>();
+    /** 有等待者的租户 */
+    private final Set<TenantState> backlogged = new LinkedHashSet<>();
+    private int inUse;
+    private long sequence;
+    private MeterRegistry meterRegistry;
+
+    public TenantBulkhead(
+            TenantBulkheadProperties properties,
+            int maxConcurrent,
+            ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.maxConcurrentPerTenant = Math.max(1, Math.min(properties.getMaxConcurrentPerTenant(), this.maxConcurrent));
+        this.acquireTimeoutNanos = properties.getAcquireTimeout().toNanos();
+        this.defaultWeight = Math.max(1, properties.getDefaultWeight());
+        this.weights = Map.copyOf(properties.getWeights());
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    /**
+     * 在操作执行期间把数据库许可记在指定租户名下，不改变上下文（数据可见范围）
+     *
+     * @param tenantId 许可归属的租户ID
+     * @param op       操作
+     * @return 操作结果
+     */
+    public static <R, X extends Throwable> R callAs(Long tenantId, ScopedValue.CallableOp<? extends R, X> op)
+            throws X {
+        return ScopedValue.where(PERMIT_TENANT, tenantId).call(op);
+    }
+
+    /**
+     * 当前显式指定的许可归属租户，未指定时返回 null
+     */
+    static Long permitTenantId() {
+        return PERMIT_TENANT.isBound() ? PERMIT_TENANT.get() : null;
+    }
+
+    /**
+     * 获取许可，成功后调用方必须调用 {@link #release(Long)}
+     *
+     * @param tenantId 租户ID
+     * @throws SystemException 等待超时 ({@link SystemErrorCode#DATABASE_BUSY}) 或线程被中断
+     */
+    public void acquire(Long tenantId) {
+        long start = System.nanoTime();
+        TenantState state;
+        lock.lock();
+        try {
+            state = tenants.computeIfAbsent(tenantId, this::newState);
+            if (backlogged.isEmpty() && inUse < maxConcurrent && state.inUse < maxConcurrentPerTenant) {
+                state.inUse++;
+                inUse++;
+            } else {
+                await(state);
+            }
+        } finally {
+            lock.unlock();
+        }
+        state.waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 释放许可
+     *
+     * @param tenantId 租户ID
+     */
+    public void release(Long tenantId) {
+        lock.lock();
+        try {
+            TenantState state = tenants.get(tenantId);
+            state.inUse--;
+            inUse--;
+            dispatch();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void await(TenantState state) {
+        Waiter waiter = new Waiter(lock.newCondition(), sequence++);
+        state.waiters.addLast(waiter);
+        backlogged.add(state);
+        dispatch();
+
+        long remaining = acquireTimeoutNanos;
+        try {
+            while (!waiter.granted && remaining > 0) {
+                remaining = waiter.condition.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            if (waiter.granted) {
+                // 已分到许可，交给调用方正常释放
+                Thread.currentThread().interrupt();
+                return;
+            }
+            leave(state, waiter);
+            Thread.currentThread().interrupt();
+            throw new SystemException(SystemErrorCode.INTERRUPT_EXCEPTION, e);
+        }
+        if (!waiter.granted) {
+            leave(state, waiter);
+            state.rejected.increment();
+            throw new SystemException(SystemErrorCode.DATABASE_BUSY);
+        }
+    }
+
+    private void leave(TenantState state, Waiter waiter) {
+        state.waiters.remove(waiter);
+        if (state.waiters.isEmpty()) {
+            backlogged.remove(state);
+        }
+    }
+
+    /**
+     * 把空闲许可依次分给 已持有数/权重 最小的排队租户
+     */
+    private void dispatch() {
+        while (inUse < maxConcurrent && !backlogged.isEmpty()) {
+            TenantState next = null;
+            for (TenantState candidate : backlogged) {
+                if (candidate.inUse < maxConcurrentPerTenant && (next == null || candidate.before(next))) {
+                    next = candidate;
+                }
+            }
+            if (next == null) {
+                return;
+            }
+            Waiter waiter = next.waiters.pollFirst();
+            if (next.waiters.isEmpty()) {
+                backlogged.remove(next);
+            }
+            next.inUse++;
+            inUse++;
+            waiter.granted = true;
+            waiter.condition.signal();
+        }
+    }
+
+    private TenantState newState(Long tenantId) {
+        if (meterRegistry == null) {
+            // 延迟到首次请求再取，避免数据源初始化时提前创建监控组件
+            meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+        }
+        String tenant = String.valueOf(tenantId);
+        Timer waitTimer = Timer.builder("admin.db.bulkhead.wait")
+                .description("租户获取数据库连接许可的等待时间")
+                .tag("tenant", tenant)
+                .register(meterRegistry);
+        Counter rejected = Counter.builder("admin.db.bulkhead.rejected")
+                .description("租户因等待连接许可超时被拒绝的次数")
+                .tag("tenant", tenant)
+                .register(meterRegistry);
+        return new TenantState(weights.getOrDefault(tenantId, defaultWeight), waitTimer, rejected);
+    }
+
+    private static final class TenantState {
+
+        private final int weight;
+        private final Timer waitTimer;
+        private final Counter rejected;
+        private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+        private int inUse;
+
+        TenantState(int weight, Timer waitTimer, Counter rejected) {
+            this.weight = Math.max(1, weight);
+            this.waitTimer = waitTimer;
+            this.rejected = rejected;
+        }
+
+        /** 比较 inUse/weight，相同时比较队首等待者的先后 */
+        boolean before(TenantState other) {
+            long left = (long) inUse * other.weight;
+            long right = (long) other.inUse * weight;
+            if (left != right) {
+                return left < right;
+            }
+            return waiters.peekFirst().sequence < other.waiters.peekFirst().sequence;
+        }
+    }
+
+    private static final class Waiter {
+
+        private final Condition condition;
+        private final long sequence;
+        private boolean granted;
+
+        Waiter(Condition condition, long sequence) {
+            this.condition = condition;
+            this.sequence = sequence;
+        }
+    }
+}
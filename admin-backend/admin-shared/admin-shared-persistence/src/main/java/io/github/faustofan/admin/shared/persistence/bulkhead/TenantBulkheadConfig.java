@@ -0,0 +1,53 @@
+package io.github.faustofan.admin.shared.persistence.bulkhead;
+
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(TenantBulkheadProperties.class)
+class TenantBulkheadConfig {
+
+    /**
+     * 用租户并发隔离舱包装容器中的数据源
+     */
+    @Bean
+    static BeanPostProcessor tenantBulkheadDataSourcePostProcessor(
+            ObjectProvider<TenantBulkheadProperties> properties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof TenantBulkheadDataSource) {
+                    return bean;
+                }
+                TenantBulkheadProperties props = properties.getObject();
+                if (!props.isEnabled()) {
+                    return bean;
+                }
+                int maxConcurrent = props.getMaxConcurrent() > 0 ? props.getMaxConcurrent() : poolSize(dataSource);
+                return new TenantBulkheadDataSource(dataSource, new TenantBulkhead(props, maxConcurrent, meterRegistry));
+            }
+        };
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException ignored) {
+            // 无法识别连接池时退化为只限制单租户
+        }
+        return Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.faustofan.admin.shared.persistence.bulkhead;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import io.github.faustofan.admin.shared.common.context.AppContext;
+import io.github.faustofan.admin.shared.common.context.AppContextHolder;
+
+/**
+ * 带租户并发隔离舱的数据源
+ * <p>
+ * 获取连接前按 {@link TenantBulkhead#callAs} 指定的租户或当前上下文的租户申请许可，连接关闭（归还连接池）时释放。
+ * 没有上下文或租户的调用（启动迁移、后台初始化）不受限制。
+ */
+final class TenantBulkheadDataSource extends DelegatingDataSource {
+
+    private final TenantBulkhead bulkhead;
+
+    TenantBulkheadDataSource(DataSource target, TenantBulkhead bulkhead) {
+        super(target);
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Long tenantId = currentTenantId();
+        if (tenantId == null) {
+            return super.getConnection();
+        }
+        bulkhead.acquire(tenantId);
+        try {
+            return guard(super.getConnection(), tenantId);
+        } catch (SQLException | RuntimeException e) {
+            bulkhead.release(tenantId);
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Long tenantId = currentTenantId();
+        if (tenantId == null) {
+            return super.getConnection(username, password);
+        }
+        bulkhead.acquire(tenantId);
+        try {
+            return guard(super.getConnection(username, password), tenantId);
+        } catch (SQLException | RuntimeException e) {
+            bulkhead.release(tenantId);
+            throw e;
+        }
+    }
+
+    private static Long currentTenantId() {
+        Long permitTenantId = TenantBulkhead.permitTenantId();
+        if (permitTenantId != null) {
+            return permitTenantId;
+        }
+        AppContext context = AppContextHolder.getContext();
+        return context == null ? null : context.tenantId();
+    }
+
+    private Connection guard(Connection target, Long tenantId) {
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionProxy.class.getClassLoader(),
+                new Class<?>[]{ConnectionProxy.class},
+                new PermitReleasingHandler(target, tenantId));
+    }
+
+    /**
+     * 连接关闭时释放许可（只释放一次），其余调用直接转发
+     */
+    private final class PermitReleasingHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final Long tenantId;
+        private boolean released;
+
+        PermitReleasingHandler(Connection target, Long tenantId) {
+            this.target = target;
+            this.tenantId = tenantId;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (released) {
+                        return null;
+                    }
+                    released = true;
+                    try {
+                        target.close();
+                    } finally {
+                        bulkhead.release(tenantId);
+                    }
+                    return null;
+                }
+                case "getTargetConnection" -> {
+                    return target;
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                default -> {
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                }
+            }
+        }
+    }
+}
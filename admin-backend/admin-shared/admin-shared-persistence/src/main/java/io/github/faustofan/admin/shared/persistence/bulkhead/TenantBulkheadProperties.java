@@ -0,0 +1,81 @@
+package io.github.faustofan.admin.shared.persistence.bulkhead;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 租户数据库并发隔离舱配置
+ */
+@ConfigurationProperties(prefix = "app.persistence.bulkhead")
+public class TenantBulkheadProperties {
+
+    private boolean enabled = true;
+
+    /** 单个租户同时持有的连接数上限 */
+    private int maxConcurrentPerTenant = 8;
+
+    /** 所有租户同时持有的连接数上限，0 表示取连接池的 maximum-pool-size */
+    private int maxConcurrent = 0;
+
+    /** 排队等待许可的最长时间，超时后快速失败，不再落到连接池的 connection-timeout */
+    private Duration acquireTimeout = Duration.ofMillis(500);
+
+    /** 未单独配置的租户的调度权重 */
+    private int defaultWeight = 1;
+
+    /** 按租户的调度权重 (租户ID -> 权重)，权重越大，排队时分得的连接越多 */
+    private Map<Long, Integer> weights = new LinkedHashMap<>();
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxConcurrentPerTenant() {
+        return maxConcurrentPerTenant;
+    }
+
+    public void setMaxConcurrentPerTenant(int maxConcurrentPerTenant) {
+        this.maxConcurrentPerTenant = maxConcurrentPerTenant;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public void setMaxConcurrent(int maxConcurrent) {
+        this.maxConcurrent = maxConcurrent;
+    }
+
+    public Duration getAcquireTimeout() {
+        return acquireTimeout;
+    }
+
+    public void setAcquireTimeout(Duration acquireTimeout) {
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    public int getDefaultWeight() {
+        return defaultWeight;
+    }
+
+    public void setDefaultWeight(int defaultWeight) {
+        this.defaultWeight = defaultWeight;
+    }
+
+    public Map<Long, Integer> getWeights() {
+        return weights;
+    }
+
+    public void setWeights(Map<Long, Integer> weights) {
+        this.weights = weights;
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.faustofan.admin.shared.persistence.filter;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.babyfish.jimmer.sql.ast.Predicate;
+import org.babyfish.jimmer.sql.filter.Filter;
+import org.babyfish.jimmer.sql.filter.FilterArgs;
+import org.springframework.stereotype.Component;
+
+import io.github.faustofan.admin.shared.common.constant.SystemConstants;
+import io.github.faustofan.admin.shared.common.context.AppContext;
+import io.github.faustofan.admin.shared.common.context.AppContextHolder;
+import io.github.faustofan.admin.shared.common.context.RoleDataScopeInfo;
+import io.github.faustofan.admin.shared.common.exception.SystemException;
+import io.github.faustofan.admin.shared.common.exception.errcode.SystemErrorCode;
+import io.github.faustofan.admin.shared.persistence.model.DataScopedProps;
+import io.github.faustofan.admin.shared.persistence.model.UserIdentity;
+
+/**
+ * 数据权限过滤器
+ * <p>
+ * 根据当前用户各角色的数据范围为 {@code DataScoped} 实体追加条件，多个角色之间取并集：
+ * <ul>
+ * <li>ALL：不限制</li>
+ * <li>CUSTOM：角色指定的组织</li>
+ * <li>DEPT：本部门；用户未归属部门时按 SELF 处理</li>
+ * <li>DEPT_AND_CHILD：本部门及下级部门（由内存组织索引展开，不使用递归查询）；用户未归属部门时按 SELF 处理</li>
+ * <li>SELF：本人创建的数据；{@link UserIdentity} 标记的用户实体为本人</li>
+ * </ul>
+ * 组织条件合并为一次 {@code owner_org_id = any(?)}。
+ */
+@Component
+public class DataScopeFilter implements Filter<DataScopedProps> {
+
+    /** 实体类型是否以 id 表示本人 */
+    private static final ClassValue<Boolean> USER_IDENTITY = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return type.isAnnotationPresent(UserIdentity.class);
+        }
+    };
+
+    private final OrgHierarchyIndex orgHierarchyIndex;
+
+    public DataScopeFilter(OrgHierarchyIndex orgHierarchyIndex) {
+        this.orgHierarchyIndex = orgHierarchyIndex;
+    }
+
+    /**
+     * 添加数据权限过滤条件
+     */
+    @Override
+    public void filter(FilterArgs<DataScopedProps> args) {
+        AppContext appContext = AppContextHolder.getContext();
+        if (appContext == null)
+            throw new SystemException(SystemErrorCode.CONTEXT_MISSING);
+
+        // 系统操作与超级管理员放行
+        if (SystemConstants.SYSTEM_TENANT_ID.equals(appContext.tenantId()))
+            return;
+        if (Boolean.TRUE.equals(appContext.isSuperAdmin()))
+            return;
+
+        List<RoleDataScopeInfo> roles = appContext.currentUserRoles();
+        Long orgId = appContext.orgId();
+        Set<Long> orgIds = new HashSet<>();
+        boolean self = roles == null || roles.isEmpty();
+        if (roles != null) {
+            for (RoleDataScopeInfo role : roles) {
+                switch (role.dataScope()) {
+                    case ALL -> {
+                        return;
+                    }
+                    case CUSTOM -> orgIds.addAll(role.specificOrgIds());
+                    // 未归属部门的用户没有“本部门”，退化为仅本人数据
+                    case DEPT -> {
+                        if (orgId == null) {
+                            self = true;
+                        } else {
+                            orgIds.add(orgId);
+                        }
+                    }
+                    case DEPT_AND_CHILD -> {
+                        if (orgId == null) {
+                            self = true;
+                        } else {
+                            orgIds.addAll(orgHierarchyIndex.subtreeOrgIds(appContext.tenantId(), orgId));
+                        }
+                    }
+                    case SELF -> self = true;
+                }
+            }
+        }
+
+        var table = args.getTable();
+        Predicate byOrg = orgIds.isEmpty() ? null : table.ownerOrgId().in(orgIds);
+        Predicate bySelf = null;
+        if (self) {
+            bySelf = USER_IDENTITY.get(table.getImmutableType().getJavaClass())
+                    ? table.id().eq(appContext.userId())
+                    : table.createdBy().eq(appContext.userId());
+        }
+        if (byOrg == null && bySelf == null) {
+            // 角色都是 CUSTOM 且未指定组织：无可见数据
+            args.where(table.id().isNull());
+            return;
+        }
+        args.where(Predicate.or(byOrg, bySelf));
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.faustofan.admin.shared.persistence.filter;
+
+import java.util.List;
+
+/**
+ * 组织层级索引
+ * <p>
+ * 供数据权限过滤器判断“本部门及以下”，由系统模块实现。
+ */
+public interface OrgHierarchyIndex {
+
+    /**
+     * 获取组织及其全部下级组织ID
+     *
+     * @param tenantId 租户ID
+     * @param orgId    组织ID
+     * @return 子树内的组织ID（包含自身）；组织不存在时只包含自身
+     */
+    List<Long> subtreeOrgIds(long tenantId, long orgId);
+}
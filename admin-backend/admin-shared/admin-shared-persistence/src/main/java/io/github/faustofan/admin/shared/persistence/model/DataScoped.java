@@ -1,11 +1,15 @@
 package io.github.faustofan.admin.shared.persistence.model;
 
 import org.babyfish.jimmer.sql.MappedSuperclass;
+import org.jspecify.annotations.Nullable;
 
 /**
  * 数据范围实体，包含数据所属组织ID字段
+ * <p>
+ * 所属组织为空的数据只对 ALL 与 SELF 数据范围可见。
  */
 @MappedSuperclass
 public interface DataScoped extends TenantAware {
-    long ownerOrgId();
+    @Nullable
+    Long ownerOrgId();
 }
@@ -0,0 +1,18 @@
+package io.github.faustofan.admin.shared.persistence.model;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 标记代表用户本身的 {@link DataScoped} 实体
+ * <p>
+ * SELF 数据范围对此类实体按 {@code id = 当前用户ID} 判断（即本人），而不是按创建人。
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface UserIdentity {
+}
@@ -0,0 +1,192 @@
+package io.github.faustofan.admin.shared.persistence.projection;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.babyfish.jimmer.sql.fetcher.Fetcher;
+
+import io.github.faustofan.admin.shared.common.exception.UserException;
+import io.github.faustofan.admin.shared.common.exception.errcode.UserErrorCode;
+
+/**
+ * 字段投影（?fields=）
+ * <p>
+ * 按白名单把请求的字段集合翻译为 Jimmer 动态 Fetcher，SQL 只查询所需的列与关联，
+ * 响应只包含所需的字段：
+ * <ul>
+ * <li>白名单字段按声明顺序编号，字段集合归一化为位掩码，相同集合（不论顺序、重复）共用一份编译结果</li>
+ * <li>白名单之外的字段直接拒绝，敏感列（如密码）不在白名单中即永远不会被查询</li>
+ * <li>输出字段名由白名单定义，可与实体属性不同（如关联展平为 orgName）</li>
+ * </ul>
+ *
+ * @param <E> 实体类型
+ */
+public final class FieldProjection<E> {
+
+    /** 字段参数分隔符 */
+    private static final char SEPARATOR = ',';
+
+    private final Fetcher<E> base;
+    private final List<Field<E>> fields;
+    private final Map<String, Integer> indexes;
+    private final Map<Long, Compiled<E>> compiled = new ConcurrentHashMap<>();
+    private final long all;
+
+    private FieldProjection(Fetcher<E> base, List<Field<E>> fields) {
+        this.base = base;
+        this.fields = List.copyOf(fields);
+        Map<String, Integer> map = new LinkedHashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            map.put(fields.get(i).name(), i);
+        }
+        this.indexes = Map.copyOf(map);
+        this.all = fields.size() == Long.SIZE ? -1L : (1L << fields.size()) - 1;
+    }
+
+    /**
+     * @param base 基础 Fetcher（通常为生成的 XxxFetcher.$，只包含ID）
+     */
+    public static <E> Builder<E> builder(Fetcher<E> base) {
+        return new Builder<>(base);
+    }
+
+    /**
+     * 解析字段参数
+     *
+     * @param fields 逗号分隔的字段名，为空时返回全部白名单字段
+     * @return 编译好的投影（按字段集合缓存）
+     * @throws UserException 包含白名单之外的字段
+     */
+    public Compiled<E> resolve(String fields) {
+        long mask = fields == null || fields.isBlank() ? all : mask(fields);
+        return compiled.computeIfAbsent(mask, this::compile);
+    }
+
+    private long mask(String fields) {
+        long mask = 0;
+        int start = 0;
+        int length = fields.length();
+        while (start <= length) {
+            int end = fields.indexOf(SEPARATOR, start);
+            if (end < 0) {
+                end = length;
+            }
+            String name = fields.substring(start, end).strip();
+            if (!name.isEmpty()) {
+                Integer index = indexes.get(name);
+                if (index == null) {
+                    throw new UserException(UserErrorCode.PARAM_INVALID, "不支持的字段: " + name);
+                }
+                mask |= 1L << index;
+            }
+            start = end + 1;
+        }
+        return mask == 0 ? all : mask;
+    }
+
+    private Compiled<E> compile(long mask) {
+        Fetcher<E> fetcher = base;
+        List<Field<E>> selected = new ArrayList<>(Long.bitCount(mask));
+        for (int i = 0; i < fields.size(); i++) {
+            if ((mask & (1L << i)) == 0) {
+                continue;
+            }
+            Field<E> field = fields.get(i);
+            if (field.prop() != null) {
+                fetcher = field.child() == null
+                        ? fetcher.add(field.prop())
+                        : fetcher.add(field.prop(), field.child());
+            }
+            selected.add(field);
+        }
+        return new Compiled<>(fetcher, List.copyOf(selected));
+    }
+
+    /**
+     * 编译后的投影
+     *
+     * @param fetcher 动态 Fetcher
+     * @param fields  输出字段（白名单顺序）
+     */
+    public record Compiled<E>(Fetcher<E> fetcher, List<Field<E>> fields) {
+
+        /**
+         * 把按 {@link #fetcher()} 查询出的实体转换为只含所需字段的 Map
+         */
+        public Map<String, Object> project(E entity) {
+            Map<String, Object> map = LinkedHashMap.newLinkedHashMap(fields.size());
+            for (Field<E> field : fields) {
+                map.put(field.name(), field.getter().apply(entity));
+            }
+            return map;
+        }
+
+        public List<Map<String, Object>> project(List<E> entities) {
+            List<Map<String, Object>> rows = new ArrayList<>(entities.size());
+            for (E entity : entities) {
+                rows.add(project(entity));
+            }
+            return rows;
+        }
+    }
+
+    /**
+     * 白名单字段
+     * <p>
+     * 多个字段映射到同一关联属性时按声明顺序编译，后声明的子 Fetcher 覆盖先声明的，应包含前者所需的属性。
+     *
+     * @param name   输出字段名
+     * @param prop   实体属性名，为 null 时不需要额外抓取（如ID）
+     * @param child  关联属性的子 Fetcher，标量属性为 null
+     * @param getter 取值函数
+     */
+    public record Field<E>(String name, String prop, Fetcher<?> child, Function<E, ?> getter) {
+    }
+
+    public static final class Builder<E> {
+
+        private final Fetcher<E> base;
+        private final List<Field<E>> fields = new ArrayList<>();
+
+        private Builder(Fetcher<E> base) {
+            this.base = base;
+        }
+
+        /**
+         * 基础 Fetcher 已包含的字段（如ID）
+         */
+        public Builder<E> field(String name, Function<E, ?> getter) {
+            return add(new Field<>(name, null, null, getter));
+        }
+
+        /**
+         * 标量字段
+         */
+        public Builder<E> field(String name, String prop, Function<E, ?> getter) {
+            return add(new Field<>(name, prop, null, getter));
+        }
+
+        /**
+         * 关联字段
+         */
+        public Builder<E> field(String name, String prop, Fetcher<?> child, Function<E, ?> getter) {
+            return add(new Field<>(name, prop, child, getter));
+        }
+
+        private Builder<E> add(Field<E> field) {
+            if (fields.size() == Long.SIZE) {
+                throw new IllegalStateException("Too many projection fields, max " + Long.SIZE);
+            }
+            fields.add(field);
+            return this;
+        }
+
+        public FieldProjection<E> build() {
+            return new FieldProjection<>(base, fields);
+        }
+    }
+}
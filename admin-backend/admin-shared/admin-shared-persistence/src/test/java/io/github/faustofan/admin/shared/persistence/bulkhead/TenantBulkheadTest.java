@@ -0,0 +1,162 @@
+package io.github.faustofan.admin.shared.persistence.bulkhead;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import io.github.faustofan.admin.shared.common.constant.SystemConstants;
+import io.github.faustofan.admin.shared.common.context.AppContextHolder;
+import io.github.faustofan.admin.shared.common.exception.SystemException;
+import io.github.faustofan.admin.shared.common.exception.errcode.SystemErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TenantBulkheadTest {
+
+    private static final Long TENANT_A = 1L;
+    private static final Long TENANT_B = 2L;
+
+    private static TenantBulkhead bulkhead(int maxConcurrent, int perTenant, Duration timeout, Map<Long, Integer> weights) {
+        TenantBulkheadProperties properties = new TenantBulkheadProperties();
+        properties.setMaxConcurrentPerTenant(perTenant);
+        properties.setAcquireTimeout(timeout);
+        properties.setWeights(weights);
+        @SuppressWarnings("unchecked")
+        ObjectProvider<MeterRegistry> meterRegistry = mock(ObjectProvider.class);
+        when(meterRegistry.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
+        return new TenantBulkhead(properties, maxConcurrent, meterRegistry);
+    }
+
+    private static void assertBusy(Runnable acquire) {
+        assertThatThrownBy(acquire::run)
+                .isInstanceOfSatisfying(SystemException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(SystemErrorCode.DATABASE_BUSY));
+    }
+
+    /** 启动线程获取许可，返回时线程已在排队 */
+    private static Thread waitFor(TenantBulkhead bulkhead, Long tenantId, List<Long> order) throws InterruptedException {
+        Thread thread = Thread.ofPlatform().start(() -> {
+            bulkhead.acquire(tenantId);
+            order.add(tenantId);
+        });
+        while (thread.getState() != Thread.State.TIMED_WAITING && thread.isAlive()) {
+            Thread.sleep(1);
+        }
+        return thread;
+    }
+
+    @Test
+    void limitsEachTenantWithoutBlockingOthers() {
+        TenantBulkhead bulkhead = bulkhead(4, 2, Duration.ofMillis(20), Map.of());
+
+        bulkhead.acquire(TENANT_A);
+        bulkhead.acquire(TENANT_A);
+        assertBusy(() -> bulkhead.acquire(TENANT_A));
+        assertThatCode(() -> bulkhead.acquire(TENANT_B)).doesNotThrowAnyException();
+
+        bulkhead.release(TENANT_A);
+        assertThatCode(() -> bulkhead.acquire(TENANT_A)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void limitsAllTenantsToPoolSize() {
+        TenantBulkhead bulkhead = bulkhead(2, 2, Duration.ofMillis(20), Map.of());
+
+        bulkhead.acquire(TENANT_A);
+        bulkhead.acquire(TENANT_B);
+
+        assertBusy(() -> bulkhead.acquire(3L));
+    }
+
+    @Test
+    void grantsFreedPermitToLeastLoadedTenant() throws InterruptedException {
+        TenantBulkhead bulkhead = bulkhead(2, 2, Duration.ofSeconds(5), Map.of());
+        List<Long> order = new CopyOnWriteArrayList<>();
+        bulkhead.acquire(TENANT_A);
+        bulkhead.acquire(TENANT_A);
+
+        // A 先排队，但 B 持有数更少，先分到许可
+        Thread a = waitFor(bulkhead, TENANT_A, order);
+        Thread b = waitFor(bulkhead, TENANT_B, order);
+        bulkhead.release(TENANT_A);
+        b.join();
+        bulkhead.release(TENANT_A);
+        a.join();
+
+        assertThat(order).containsExactly(TENANT_B, TENANT_A);
+    }
+
+    @Test
+    void weightsSharePermitsProportionally() throws InterruptedException {
+        TenantBulkhead bulkhead = bulkhead(3, 3, Duration.ofSeconds(5), Map.of(TENANT_B, 2));
+        List<Long> order = new CopyOnWriteArrayList<>();
+        bulkhead.acquire(TENANT_A);
+        bulkhead.acquire(TENANT_B);
+        bulkhead.acquire(3L);
+
+        // A 持有 1/1，B 持有 1/2：B 优先
+        Thread a = waitFor(bulkhead, TENANT_A, order);
+        Thread b = waitFor(bulkhead, TENANT_B, order);
+        bulkhead.release(3L);
+        b.join();
+        bulkhead.release(TENANT_B);
+        a.join();
+
+        assertThat(order).containsExactly(TENANT_B, TENANT_A);
+    }
+
+    @Test
+    void chargesConnectionToExplicitPermitTenant() throws SQLException {
+        TenantBulkhead bulkhead = bulkhead(8, 1, Duration.ofMillis(20), Map.of());
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        TenantBulkheadDataSource dataSource = new TenantBulkheadDataSource(target, bulkhead);
+
+        AppContextHolder.runWith(SystemConstants.Identity.SYSTEM_CONTEXT, () -> {
+            try {
+                // 以系统身份执行，许可记在 A 名下，系统租户的额度不受影响
+                Connection login = TenantBulkhead.callAs(TENANT_A, dataSource::getConnection);
+                try (Connection system = dataSource.getConnection()) {
+                    assertThat(system).isNotNull();
+                }
+                assertBusy(() -> bulkhead.acquire(TENANT_A));
+
+                // 关闭连接归还许可，重复关闭只归还一次
+                login.close();
+                login.close();
+                bulkhead.acquire(TENANT_A);
+                assertBusy(() -> bulkhead.acquire(TENANT_A));
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    @Test
+    void passesThroughWithoutContext() throws SQLException {
+        TenantBulkhead bulkhead = bulkhead(1, 1, Duration.ofMillis(20), Map.of());
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        TenantBulkheadDataSource dataSource = new TenantBulkheadDataSource(target, bulkhead);
+
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThatCode(() -> bulkhead.acquire(TENANT_A)).doesNotThrowAnyException();
+    }
+}
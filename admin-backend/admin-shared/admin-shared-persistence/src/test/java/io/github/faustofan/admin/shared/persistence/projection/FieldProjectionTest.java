@@ -0,0 +1,100 @@
+package io.github.faustofan.admin.shared.persistence.projection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Map;
+
+import org.babyfish.jimmer.sql.fetcher.Fetcher;
+import org.junit.jupiter.api.Test;
+
+import io.github.faustofan.admin.shared.common.exception.UserException;
+import io.github.faustofan.admin.shared.common.exception.errcode.UserErrorCode;
+
+class FieldProjectionTest {
+
+    private record User(long id, String username, String nickname, String orgName) {
+    }
+
+    @SuppressWarnings("unchecked")
+    private final Fetcher<User> base = mock(Fetcher.class, RETURNS_SELF);
+    private final Fetcher<?> orgFetcher = mock(Fetcher.class);
+
+    private final FieldProjection<User> projection = FieldProjection.builder(base)
+            .field("id", User::id)
+            .field("username", "username", User::username)
+            .field("nickname", "nickname", User::nickname)
+            .field("orgName", "org", orgFetcher, User::orgName)
+            .build();
+
+    private static List<String> names(FieldProjection.Compiled<User> compiled) {
+        return compiled.fields().stream().map(FieldProjection.Field::name).toList();
+    }
+
+    @Test
+    void resolvesInWhitelistOrder() {
+        FieldProjection.Compiled<User> compiled = projection.resolve(" nickname , id,nickname");
+
+        assertThat(names(compiled)).containsExactly("id", "nickname");
+        // 相同的字段集合共用一份编译结果
+        assertThat(projection.resolve("id,nickname")).isSameAs(compiled);
+    }
+
+    @Test
+    void resolvesAllFieldsWhenEmpty() {
+        FieldProjection.Compiled<User> all = projection.resolve(null);
+
+        assertThat(names(all)).containsExactly("id", "username", "nickname", "orgName");
+        assertThat(projection.resolve("")).isSameAs(all);
+        assertThat(projection.resolve("  ")).isSameAs(all);
+        assertThat(projection.resolve(" , ,")).isSameAs(all);
+        assertThat(projection.resolve("orgName,nickname,username,id")).isSameAs(all);
+    }
+
+    @Test
+    void rejectsFieldsOutsideWhitelist() {
+        assertThatThrownBy(() -> projection.resolve("id,password"))
+                .isInstanceOfSatisfying(UserException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(UserErrorCode.PARAM_INVALID));
+        // 字段名区分大小写
+        assertThatThrownBy(() -> projection.resolve("ID")).isInstanceOf(UserException.class);
+    }
+
+    @Test
+    void fetchesOnlySelectedProps() {
+        projection.resolve("orgName,id");
+
+        verify(base).add("org", orgFetcher);
+        verify(base, never()).add(anyString());
+    }
+
+    @Test
+    void projectsSelectedFields() {
+        User user = new User(1L, "alice", "Alice", "R&D");
+
+        assertThat(projection.resolve("orgName,username").project(user))
+                .containsExactly(entry("username", "alice"), entry("orgName", "R&D"));
+        assertThat(projection.resolve("id").project(List.of(user, new User(2L, "bob", null, null))))
+                .containsExactly(Map.of("id", 1L), Map.of("id", 2L));
+    }
+
+    @Test
+    void limitsWhitelistToMaskWidth() {
+        FieldProjection.Builder<User> builder = FieldProjection.builder(base);
+        for (int i = 0; i < Long.SIZE; i++) {
+            builder.field("f" + i, User::id);
+        }
+        FieldProjection<User> full = builder.build();
+
+        assertThat(full.resolve("f63").fields()).hasSize(1);
+        assertThat(full.resolve(null).fields()).hasSize(Long.SIZE);
+        assertThatThrownBy(() -> builder.field("f64", User::id)).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.faustofan.admin.shared.web.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 二进制内容协商 (CBOR / Smile)
+ * <p>
+ * 内部批处理与服务间调用通过 {@code Accept: application/cbor} 或 {@code application/x-jackson-smile}
+ * 获取同一 ApiResponse 模型的二进制编码，省去双方的 JSON 文本编解码；浏览器不会请求这两种类型，仍走 JSON。
+ * <p>
+ * 两个转换器都基于应用的 {@link Jackson2ObjectMapperBuilder} 构建，与 JSON 共用 spring.jackson.* 配置与
+ * 已注册的 Module（如 Jimmer），避免 Spring 默认转换器各自创建、配置不一致的 ObjectMapper。
+ */
+@Configuration
+public class BinaryContentConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -2,27 +2,34 @@ package io.github.faustofan.admin.shared.web.filter;
 
 import io.github.faustofan.admin.shared.common.context.AppContext;
 import io.github.faustofan.admin.shared.common.context.AppContextHolder;
+import io.github.faustofan.admin.shared.common.context.TraceContext;
 import jakarta.annotation.Nonnull;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
-import org.springframework.util.SimpleIdGenerator;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.UUID;
 
 /**
- * Filter that generates a trace ID for each incoming HTTP request if one is not
- * already present.
+ * Filter that establishes the trace context for each incoming HTTP request.
+ * <p>
+ * The trace ID is taken from an incoming W3C {@code traceparent} header when it is valid,
+ * otherwise a new one is generated; every request gets a fresh span ID as its request ID.
+ * Runs before all other filters so that access logs, authentication errors and published
+ * messages all carry the same trace.
  */
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
 public class TraceIdGenFilter extends OncePerRequestFilter {
     /**
      * Filter method that ensures an AppContext with a trace ID is present for each
-     * request.
+     * request. Identity fields are filled in later by the authentication filter.
      *
      * @param request     the HTTP request
      * @param response    the HTTP response
@@ -36,22 +43,31 @@ public class TraceIdGenFilter extends OncePerRequestFilter {
             @Nonnull HttpServletResponse response,
             @Nonnull FilterChain filterChain) throws ServletException, IOException {
 
+        AppContext ctx = AppContextHolder.getContext();
+        if (ctx == null) {
+            UUID traceId = TraceContext.parseTraceId(request.getHeader(TraceContext.TRACEPARENT));
+            ctx = new AppContext(
+                    traceId != null ? traceId : TraceContext.newTraceId(),
+                    TraceContext.newSpanId(),
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    false);
+        }
         try {
-            AppContext ctx = AppContextHolder.getContext();
-            if (ctx == null) {
-                ctx = new AppContext(
-                        UUID.randomUUID(),
-                        new SimpleIdGenerator().generateId().toString(),
-                        null,
-                        null,
-                        null,
-                        null,
-                        null,
-                        false);
-            }
-            AppContextHolder.setContext(ctx);
-            filterChain.doFilter(request, response);
+            // Bind once for the whole request; no per-thread map entry to copy or clean up
+            AppContextHolder.callWith(ctx, () -> {
+                filterChain.doFilter(request, response);
+                return null;
+            });
+        } catch (IOException | ServletException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServletException(e);
         } finally {
+            // Drop any thread-level override left behind by downstream code
             AppContextHolder.clearContext();
         }
     }
@@ -1,14 +1,22 @@
 package io.github.faustofan.admin.shared.web.handler;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.BindException;
 import org.springframework.validation.FieldError;
@@ -16,8 +24,11 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import io.github.faustofan.admin.shared.common.context.AppContext;
+import io.github.faustofan.admin.shared.common.context.AppContextHolder;
 import io.github.faustofan.admin.shared.common.dto.ApiResponse;
 import io.github.faustofan.admin.shared.common.exception.BizException;
+import io.github.faustofan.admin.shared.common.exception.ErrorCode;
 import io.github.faustofan.admin.shared.common.exception.SystemException;
 import io.github.faustofan.admin.shared.common.exception.UserException;
 import io.github.faustofan.admin.shared.common.exception.errcode.SystemErrorCode;
@@ -28,6 +39,9 @@ import io.github.faustofan.admin.shared.common.exception.errcode.UserErrorCode;
  * <p>
  * 统一处理控制器层抛出的异常，返回标准的 API 响应格式，便于前端统一处理错误。
  * 支持参数校验异常、业务异常、用户异常、系统异常及未知异常。
+ * <p>
+ * 业务/用户异常的响应体按错误码预先序列化，请求时只拼接 traceId，
+ * 高频失败（撞库、无效 Token）不再逐次经过对象序列化。
  */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -35,6 +49,19 @@ public class GlobalExceptionHandler {
     /** 日志记录器 */
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    /** 预序列化时 traceId 的占位值 */
+    private static final String TRACE_PLACEHOLDER = "\"" + new UUID(0, 0) + "\"";
+    private static final byte[] NULL_TRACE = "null".getBytes(StandardCharsets.US_ASCII);
+
+    private final ObjectMapper objectMapper;
+
+    /** 错误码 -> 以 traceId 为界切分的响应体字节 [前段, 后段] */
+    private final Map<ErrorCode, byte[][]> errorBodies = new ConcurrentHashMap<>();
+
+    public GlobalExceptionHandler(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
     /**
      * 处理请求体不可读异常（通常是 JSON 解析错误）
      *
@@ -126,50 +153,96 @@ public class GlobalExceptionHandler {
      * 处理业务异常
      *
      * @param ex 业务异常
-     * @return 业务异常对应的失败响应
+     * @return 业务异常对应的失败响应（预序列化）
      */
     @ExceptionHandler(BizException.class)
-    public ApiResponse<?> handleBizException(BizException ex) {
+    public ResponseEntity<byte[]> handleBizException(BizException ex) {
         logger.warn(ex.getMessage());
-        return ApiResponse.fail(ex.getErrorCode());
+        return errorResponse(ex.getErrorCode());
     }
 
     /**
      * 处理用户异常
      *
      * @param ex 用户异常
-     * @return 用户异常对应的失败响应
+     * @return 用户异常对应的失败响应（预序列化）
      */
     @ExceptionHandler(UserException.class)
-    public ApiResponse<?> handleUserException(UserException ex) {
+    public ResponseEntity<byte[]> handleUserException(UserException ex) {
         logger.warn(ex.getMessage());
-        return ApiResponse.fail(ex.getErrorCode());
+        return errorResponse(ex.getErrorCode());
     }
 
     /**
      * 处理系统异常
      *
      * @param ex 系统异常
-     * @return 系统异常对应的失败响应，并记录错误日志
+     * @return 系统异常对应的失败响应，并记录错误日志；过载保护等快速失败只记录告警
      */
     @ExceptionHandler(SystemException.class)
-    public ApiResponse<?> handleSystemException(SystemException ex) {
-        logger.error("System error", ex);
-        ex.printStackTrace();
-        return ApiResponse.fail(ex.getErrorCode());
+    public ResponseEntity<byte[]> handleSystemException(SystemException ex) {
+        if (ex.getErrorCode().captureStackTrace()) {
+            logger.error("System error", ex);
+        } else {
+            logger.warn(ex.getMessage());
+        }
+        return errorResponse(ex.getErrorCode());
     }
 
     /**
      * 处理未知异常
      *
      * @param ex 未知异常
-     * @return 通用系统错误的失败响应，并记录错误日志
+     * @return 通用系统错误的失败响应，并记录错误日志；
+     *         被框架包装的系统异常（如开启事务时获取连接失败）按原错误码响应
      */
     @ExceptionHandler(Exception.class)
-    public ApiResponse<?> handleUnknownException(Exception ex) {
+    public ResponseEntity<?> handleUnknownException(Exception ex) {
+        for (Throwable cause = ex.getCause(); cause != null && cause != cause.getCause(); cause = cause.getCause()) {
+            if (cause instanceof SystemException systemException) {
+                return handleSystemException(systemException);
+            }
+        }
         logger.error("Unknown error", ex);
         ex.printStackTrace();
-        return ApiResponse.fail(SystemErrorCode.SYSTEM_ERROR);
+        return ResponseEntity.ok(ApiResponse.fail(SystemErrorCode.SYSTEM_ERROR));
+    }
+
+    /**
+     * 按错误码构建响应：拼接预序列化的前后段与当前 traceId，状态码取自错误码
+     */
+    private ResponseEntity<byte[]> errorResponse(ErrorCode errorCode) {
+        byte[][] parts = errorBodies.computeIfAbsent(errorCode, this::serialize);
+        AppContext context = AppContextHolder.getContext();
+        byte[] trace = context == null
+                ? NULL_TRACE
+                : ("\"" + context.traceId() + "\"").getBytes(StandardCharsets.US_ASCII);
+
+        byte[] body = new byte[parts[0].length + trace.length + parts[1].length];
+        System.arraycopy(parts[0], 0, body, 0, parts[0].length);
+        System.arraycopy(trace, 0, body, parts[0].length, trace.length);
+        System.arraycopy(parts[1], 0, body, parts[0].length + trace.length, parts[1].length);
+
+        return ResponseEntity.status(errorCode.getHttpStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 
-}
\ No newline at end of file
+    /**
+     * 用应用的 ObjectMapper 序列化一次模板响应，按 traceId 占位值切分
+     */
+    private byte[][] serialize(ErrorCode errorCode) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(
+                    new ApiResponse<>(new UUID(0, 0), errorCode.getCode(), errorCode.getMessage(), null));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize error response: " + errorCode.getCode(), e);
+        }
+        int index = json.indexOf(TRACE_PLACEHOLDER);
+        return new byte[][]{
+                json.substring(0, index).getBytes(StandardCharsets.UTF_8),
+                json.substring(index + TRACE_PLACEHOLDER.length()).getBytes(StandardCharsets.UTF_8)
+        };
+    }
+}
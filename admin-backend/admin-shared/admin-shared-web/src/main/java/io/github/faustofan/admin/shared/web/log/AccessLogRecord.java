@@ -0,0 +1,38 @@
+package io.github.faustofan.admin.shared.web.log;
+
+import java.util.Map;
+
+/**
+ * 访问日志原始记录
+ * <p>
+ * 请求线程只采集元数据与原始字节片段，不做任何格式化，格式化由 {@link AccessLogWriter} 在后台完成。
+ *
+ * @param timestamp           请求开始时间 (epoch millis)
+ * @param method              请求方法
+ * @param uri                 请求路径
+ * @param query               查询字符串，可能为 null
+ * @param status              响应状态码
+ * @param durationMs          耗时 (ms)
+ * @param headers             保留的请求头（已脱敏）
+ * @param requestContentType  请求体类型，可能为 null
+ * @param requestBody         请求体前 maxBodySize 字节
+ * @param requestTruncated    请求体是否被截断
+ * @param responseContentType 响应体类型，可能为 null
+ * @param responseBody        响应体前 maxBodySize 字节
+ * @param responseTruncated   响应体是否被截断
+ */
+record AccessLogRecord(
+        long timestamp,
+        String method,
+        String uri,
+        String query,
+        int status,
+        long durationMs,
+        Map<String, String> headers,
+        String requestContentType,
+        byte[] requestBody,
+        boolean requestTruncated,
+        String responseContentType,
+        byte[] responseBody,
+        boolean responseTruncated
+) {}
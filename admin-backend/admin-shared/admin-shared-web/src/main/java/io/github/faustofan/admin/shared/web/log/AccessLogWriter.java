@@ -0,0 +1,190 @@
+package io.github.faustofan.admin.shared.web.log;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * 访问日志异步写出器
+ * <p>
+ * 请求线程只把 {@link AccessLogRecord} 放入有界队列（O(1)，不阻塞），队列满时丢弃并计数；
+ * 后台虚拟线程按批取出记录，经 {@link JsonBodyMasker} 单次流式脱敏后格式化为单行 JSON 写入日志。
+ */
+class AccessLogWriter implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(AccessLogWriter.class);
+
+    /** 丢弃统计的输出间隔 */
+    private static final long DROP_REPORT_INTERVAL_MS = 10_000;
+
+    private final HttpLogProperties properties;
+    private final BlockingQueue<AccessLogRecord> queue;
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final JsonBodyMasker masker;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread worker;
+
+    private long lastDropReport;
+
+    AccessLogWriter(HttpLogProperties properties) {
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.masker = new JsonBodyMasker(jsonFactory,
+                properties.isMaskEnabled() ? properties.getSensitiveFields() : List.of());
+        this.worker = Thread.ofVirtual().name("http-access-log").start(this::run);
+    }
+
+    /**
+     * 提交一条记录，队列满时丢弃
+     *
+     * @return 是否已入队
+     */
+    boolean submit(AccessLogRecord record) {
+        if (queue.offer(record)) {
+            return true;
+        }
+        dropped.incrementAndGet();
+        return false;
+    }
+
+    @Override
+    public void destroy() {
+        worker.interrupt();
+        // 停机前尽量写出剩余记录
+        List<AccessLogRecord> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(this::write);
+    }
+
+    private void run() {
+        List<AccessLogRecord> batch = new ArrayList<>(properties.getBatchSize());
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                AccessLogRecord first = queue.poll(1, TimeUnit.SECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, properties.getBatchSize() - 1);
+                    batch.forEach(this::write);
+                }
+                reportDropped();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.warn("Access log write failed: {}", e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(AccessLogRecord record) {
+        String line;
+        try {
+            line = format(record);
+        } catch (IOException e) {
+            log.warn("Access log format failed: {} {}", record.method(), record.uri());
+            return;
+        }
+        if (record.status() >= 500) {
+            log.error(line);
+        } else if (record.status() >= 400) {
+            log.warn(line);
+        } else {
+            log.info(line);
+        }
+    }
+
+    /**
+     * 格式化为单行 JSON
+     */
+    private String format(AccessLogRecord record) throws IOException {
+        StringWriter out = new StringWriter(256
+                + record.requestBody().length + record.responseBody().length);
+        try (JsonGenerator gen = jsonFactory.createGenerator(out)) {
+            gen.writeStartObject();
+            gen.writeNumberField("ts", record.timestamp());
+            gen.writeStringField("method", record.method());
+            gen.writeStringField("uri", record.uri());
+            if (record.query() != null) {
+                gen.writeStringField("query", record.query());
+            }
+            gen.writeNumberField("status", record.status());
+            gen.writeNumberField("durationMs", record.durationMs());
+            if (!record.headers().isEmpty()) {
+                gen.writeObjectFieldStart("headers");
+                for (Map.Entry<String, String> header : record.headers().entrySet()) {
+                    gen.writeStringField(header.getKey(), header.getValue());
+                }
+                gen.writeEndObject();
+            }
+            writeBody(gen, "request", record.requestContentType(), record.requestBody(), record.requestTruncated());
+            writeBody(gen, "response", record.responseContentType(), record.responseBody(), record.responseTruncated());
+            gen.writeEndObject();
+        }
+        return out.toString();
+    }
+
+    /**
+     * 写出请求/响应体：JSON 体流式脱敏后按紧凑格式内嵌（截断时闭合已输出的结构），
+     * 非 JSON 体在开启脱敏时只记录长度，避免无法识别的敏感内容落入日志
+     */
+    private void writeBody(JsonGenerator gen, String field, String contentType, byte[] body, boolean truncated)
+            throws IOException {
+        if (body.length == 0) {
+            return;
+        }
+        gen.writeFieldName(field);
+        boolean complete = true;
+        if (JsonBodyMasker.isJson(contentType, body)) {
+            complete = masker.mask(body, gen);
+        } else if (properties.isMaskEnabled() || isBinary(contentType)) {
+            gen.writeString("[" + (contentType != null ? contentType : "unknown") + ", " + body.length + " bytes]");
+        } else {
+            gen.writeString(new String(body, StandardCharsets.UTF_8));
+        }
+        if (truncated) {
+            gen.writeBooleanField(field + "Truncated", true);
+        } else if (!complete) {
+            gen.writeBooleanField(field + "Invalid", true);
+        }
+    }
+
+    /**
+     * 二进制编码（CBOR/Smile 等）不能按 UTF-8 文本记录
+     */
+    private static boolean isBinary(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String type = contentType.toLowerCase();
+        return type.startsWith("application/cbor")
+                || type.startsWith("application/x-jackson-smile")
+                || type.startsWith("application/octet-stream");
+    }
+
+    private void reportDropped() {
+        long now = System.currentTimeMillis();
+        if (now - lastDropReport < DROP_REPORT_INTERVAL_MS) {
+            return;
+        }
+        lastDropReport = now;
+        long count = dropped.getAndSet(0);
+        if (count > 0) {
+            log.warn("Access log queue full, dropped {} records in the last {}s", count, DROP_REPORT_INTERVAL_MS / 1000);
+        }
+    }
+}
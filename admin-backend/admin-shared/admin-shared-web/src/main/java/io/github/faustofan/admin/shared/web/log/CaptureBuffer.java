@@ -0,0 +1,117 @@
+package io.github.faustofan.admin.shared.web.log;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 请求/响应体的有界截获缓冲区
+ * <p>
+ * 只保留前 capacity 个字节，其余字节只计数；底层数组在首次写入时从 {@link Pool} 借出，
+ * 请求结束后归还，没有请求体/响应体的请求不占用缓冲区。
+ * 非线程安全：同一请求内按 Servlet 规范串行读写。
+ */
+final class CaptureBuffer {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final Pool pool;
+    private byte[] buf;
+    private int count;
+    private long total;
+    private volatile boolean closed;
+
+    CaptureBuffer(Pool pool) {
+        this.pool = pool;
+    }
+
+    void write(int b) {
+        total++;
+        if (closed || !ensureBuffer() || count >= buf.length) {
+            return;
+        }
+        buf[count++] = (byte) b;
+    }
+
+    void write(byte[] b, int off, int len) {
+        total += len;
+        if (closed || len <= 0 || !ensureBuffer()) {
+            return;
+        }
+        int n = Math.min(len, buf.length - count);
+        if (n > 0) {
+            System.arraycopy(b, off, buf, count, n);
+            count += n;
+        }
+    }
+
+    /**
+     * @return 已截获字节的副本
+     */
+    byte[] toByteArray() {
+        return count == 0 ? EMPTY : Arrays.copyOf(buf, count);
+    }
+
+    /**
+     * @return 实际经过的字节数是否超过已截获的字节数
+     */
+    boolean truncated() {
+        return total > count;
+    }
+
+    long total() {
+        return total;
+    }
+
+    /**
+     * 停止截获并归还底层数组
+     */
+    void release() {
+        closed = true;
+        if (buf != null) {
+            pool.release(buf);
+            buf = null;
+        }
+    }
+
+    /**
+     * 停止截获但不归还数组：异步请求在过滤器返回后仍可能有其他线程写入
+     */
+    void abandon() {
+        closed = true;
+    }
+
+    private boolean ensureBuffer() {
+        if (buf == null) {
+            buf = pool.acquire();
+        }
+        return buf.length > 0;
+    }
+
+    /**
+     * 定长字节数组池，池空时临时分配，池满时丢弃归还的数组
+     */
+    static final class Pool {
+
+        private final int bufferSize;
+        private final BlockingQueue<byte[]> free;
+
+        Pool(int bufferSize, int poolSize) {
+            this.bufferSize = bufferSize;
+            this.free = new ArrayBlockingQueue<>(Math.max(1, poolSize));
+        }
+
+        CaptureBuffer newBuffer() {
+            return new CaptureBuffer(this);
+        }
+
+        private byte[] acquire() {
+            byte[] b = free.poll();
+            return b != null ? b : new byte[bufferSize];
+        }
+
+        private void release(byte[] b) {
+            free.offer(b);
+        }
+    }
+}
@@ -10,7 +10,12 @@ import org.springframework.context.annotation.Configuration;
 class HttpLogConfig {
 
     @Bean
-    public HttpLoggingFilter httpLoggingFilter(HttpLogProperties properties) {
-        return new HttpLoggingFilter(properties);
+    public AccessLogWriter accessLogWriter(HttpLogProperties properties) {
+        return new AccessLogWriter(properties);
+    }
+
+    @Bean
+    public HttpLoggingFilter httpLoggingFilter(HttpLogProperties properties, AccessLogWriter accessLogWriter) {
+        return new HttpLoggingFilter(properties, accessLogWriter);
     }
 }
@@ -3,6 +3,8 @@ package io.github.faustofan.admin.shared.web.log;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 
 @ConfigurationProperties(prefix = "app.http-log")
@@ -13,6 +15,21 @@ public class HttpLogProperties {
     private int minimumStatus = 0;
     private int maxBodySize = 8192;
 
+    /** 请求体/响应体截获缓冲区（每个 maxBodySize 字节）的池容量 */
+    private int bufferPoolSize = 256;
+
+    /** 待写出日志队列容量，队列满时直接丢弃新记录，不阻塞请求线程 */
+    private int queueCapacity = 8192;
+
+    /** 后台写出线程每批处理的最大记录数 */
+    private int batchSize = 256;
+
+    /** 状态码不低于该值的请求不参与采样，总是记录 */
+    private int alwaysLogStatus = 400;
+
+    /** 按路由采样率 (Ant 风格路径 -> 0~1)，按配置顺序首个匹配生效，未匹配的路由全部记录 */
+    private Map<String, Double> sampleRates = new LinkedHashMap<>();
+
     private Set<String> includePaths = new HashSet<>(Set.of("/api/**"));
 
     private Set<String> excludePaths = new HashSet<>(Set.of(
@@ -67,6 +84,46 @@ public class HttpLogProperties {
         this.maxBodySize = maxBodySize;
     }
 
+    public int getBufferPoolSize() {
+        return bufferPoolSize;
+    }
+
+    public void setBufferPoolSize(int bufferPoolSize) {
+        this.bufferPoolSize = bufferPoolSize;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getAlwaysLogStatus() {
+        return alwaysLogStatus;
+    }
+
+    public void setAlwaysLogStatus(int alwaysLogStatus) {
+        this.alwaysLogStatus = alwaysLogStatus;
+    }
+
+    public Map<String, Double> getSampleRates() {
+        return sampleRates;
+    }
+
+    public void setSampleRates(Map<String, Double> sampleRates) {
+        this.sampleRates = sampleRates;
+    }
+
     public Set<String> getIncludePaths() {
         return includePaths;
     }
@@ -1,54 +1,58 @@
 package io.github.faustofan.admin.shared.web.log;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.databind.json.JsonMapper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.slf4j.LoggerFactory;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
-import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
-import java.util.Enumeration;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
 
 /**
  * HTTP 日志过滤器，用于记录请求和响应的详细信息，包括请求体、响应体、头信息等。
- * 支持敏感字段脱敏、路径过滤、最大体积限制等功能。
+ * 支持敏感字段脱敏、路径过滤、按路由采样、最大体积限制等功能。
+ * 请求/响应体以旁路方式截获前 maxBodySize 个字节（{@link TeeRequestWrapper}、{@link TeeResponseWrapper}），
+ * 响应直接流式写给客户端；请求线程只采集元数据与原始字节片段，格式化与脱敏由 {@link AccessLogWriter} 在后台完成。
  * 适用于 Spring Web 应用，确保每个请求仅记录一次。
  */
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE + 10)
 public class HttpLoggingFilter extends OncePerRequestFilter {
 
-    /** 日志记录器 */
-    private static final org.slf4j.Logger log = LoggerFactory.getLogger(HttpLoggingFilter.class);
     /** 脱敏显示内容 */
     private static final String MASK = "***";
-    /** 敏感字段正则缓存 */
-    private static final Map<String, java.util.regex.Pattern> SENSITIVE_FIELD_REGEX_CACHE = new HashMap<>();
+    /** 记录的请求头 */
+    private static final List<String> LOGGED_HEADERS = List.of("content-type", "user-agent", "x-request-id");
     /** 日志配置属性 */
     private final HttpLogProperties properties;
-    /** 美化 JSON 的 ObjectMapper */
-    private final ObjectMapper prettyMapper;
+    /** 异步写出器 */
+    private final AccessLogWriter writer;
+    /** 预编译的路径规则 */
+    private final List<Pattern> includePatterns;
+    private final List<Pattern> excludePatterns;
+    private final Map<Pattern, Double> sampleRates;
+    /** 截获缓冲区池 */
+    private final CaptureBuffer.Pool bufferPool;
 
     /**
-     * 构造方法，注入日志配置属性。
+     * 构造方法，注入日志配置属性与异步写出器。
      * @param properties 日志配置
+     * @param writer     异步写出器
      */
-    public HttpLoggingFilter(HttpLogProperties properties) {
+    public HttpLoggingFilter(HttpLogProperties properties, AccessLogWriter writer) {
         this.properties = properties;
-        this.prettyMapper = JsonMapper.builder()
-                .enable(SerializationFeature.INDENT_OUTPUT)
-                .build();
+        this.writer = writer;
+        this.includePatterns = compile(properties.getIncludePaths());
+        this.excludePatterns = compile(properties.getExcludePaths());
+        this.sampleRates = new LinkedHashMap<>();
+        properties.getSampleRates().forEach((pattern, rate) -> sampleRates.put(toRegex(pattern), rate));
+        this.bufferPool = new CaptureBuffer.Pool(properties.getMaxBodySize(), properties.getBufferPoolSize());
     }
 
     /**
@@ -61,8 +65,6 @@ public class HttpLoggingFilter extends OncePerRequestFilter {
      */
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws java.io.IOException, jakarta.servlet.ServletException {
-        String path = request.getRequestURI();
-
         // 如果禁用，直接放行
         if (!properties.isEnabled()) {
             filterChain.doFilter(request, response);
@@ -74,22 +76,32 @@ public class HttpLoggingFilter extends OncePerRequestFilter {
             return;
         }
 
-        ContentCachingRequestWrapper wrappedRequest = new ContentCachingRequestWrapper(request, properties.getMaxBodySize());
-        ContentCachingResponseWrapper wrappedResponse = new ContentCachingResponseWrapper(response);
+        TeeRequestWrapper wrappedRequest = new TeeRequestWrapper(request, bufferPool.newBuffer());
+        TeeResponseWrapper wrappedResponse = new TeeResponseWrapper(response, bufferPool.newBuffer());
 
         long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
         try {
             filterChain.doFilter(wrappedRequest, wrappedResponse);
         } finally {
-            long duration = System.currentTimeMillis() - startTime;
+            long duration = (System.nanoTime() - startNanos) / 1_000_000;
             int status = wrappedResponse.getStatus();
+            // 异步请求（如 SSE）在过滤器返回后仍会继续写出，不记录响应体，缓冲区也不回收
+            boolean async = request.isAsyncStarted();
+            if (!async) {
+                wrappedResponse.flushWriter();
+            }
 
-            if (status >= properties.getMinimumStatus()) {
-                logRequestAndResponse(wrappedRequest, wrappedResponse, duration);
+            if (status >= properties.getMinimumStatus() && sampled(request.getRequestURI(), status)) {
+                writer.submit(capture(wrappedRequest, wrappedResponse, async, startTime, duration));
             }
 
-            // 重要：必须将响应体拷贝回原始响应
-            wrappedResponse.copyBodyToResponse();
+            wrappedRequest.capture().release();
+            if (async) {
+                wrappedResponse.capture().abandon();
+            } else {
+                wrappedResponse.capture().release();
+            }
         }
     }
 
@@ -102,94 +114,52 @@ public class HttpLoggingFilter extends OncePerRequestFilter {
         String path = request.getRequestURI();
 
         // 检查排除路径
-        if (properties.getExcludePaths().stream().anyMatch(pattern -> matchPath(path, pattern))) {
+        if (excludePatterns.stream().anyMatch(pattern -> pattern.matcher(path).matches())) {
             return false;
         }
 
         // 检查包含路径
-        return properties.getIncludePaths().isEmpty() || properties.getIncludePaths().stream().anyMatch(pattern -> matchPath(path, pattern));
-    }
-
-    /**
-     * 路径匹配，支持 Ant 风格通配符。
-     * @param path    实际路径
-     * @param pattern 匹配模式
-     * @return 是否匹配
-     */
-    private boolean matchPath(String path, String pattern) {
-        // 将 Ant 风格的通配符转换为正则表达式
-        String regex = "^" + pattern
-                .replace(".", "\\.")
-                .replace("**", "§§§")  // 临时占位符
-                .replace("*", "[^/]*")
-                .replace("§§§", ".*") + "$";
-        return path.matches(regex);
+        return includePatterns.isEmpty() || includePatterns.stream().anyMatch(pattern -> pattern.matcher(path).matches());
     }
 
     /**
-     * 记录请求和响应日志。
-     * @param request  包装后的请求
-     * @param response 包装后的响应
-     * @param duration 请求耗时
+     * 按路由采样，错误响应总是记录。
+     * @param path   请求路径
+     * @param status 响应状态码
+     * @return 是否记录
      */
-    private void logRequestAndResponse(ContentCachingRequestWrapper request, ContentCachingResponseWrapper response, long duration) {
-        String method = request.getMethod();
-        String uri = request.getRequestURI();
-        String query = request.getQueryString() != null ? "?" + request.getQueryString() : "";
-        int status = response.getStatus();
-
-        // 获取请求体（根据开关决定是否脱敏）
-        String requestBody = getRequestBody(request);
-        String displayRequestBody = properties.isMaskEnabled() ? maskSensitiveData(requestBody) : requestBody;
-
-        // 获取响应体（根据开关决定是否脱敏）
-        String responseBody = getResponseBody(response);
-        String displayResponseBody = properties.isMaskEnabled() ? maskSensitiveData(responseBody) : responseBody;
-
-        // 获取请求头（根据开关决定是否脱敏）
-        Map<String, String> headers = getHeaders(request);
-
-        StringBuilder logMessage = new StringBuilder();
-        logMessage.append("\n┌──────────────────────────────────────────────────────────────────────────")
-                .append("\n ✅ ").append(method).append(" ").append(uri).append(query)
-                .append("\n ⏱️  ").append(duration).append("ms | Status: ").append(status);
-
-        if (!headers.isEmpty()) {
-            logMessage.append("\n 📋 Headers: ").append(headers);
-        }
-        if (!displayRequestBody.isEmpty()) {
-            logMessage.append("\n 📥 Request:");
-            Arrays.stream(formatJsonBody(displayRequestBody).split("\n")).forEach(line -> logMessage.append("\n     ").append(line));
-        }
-        if (!displayResponseBody.isEmpty()) {
-            logMessage.append("\n 📤 Response:");
-            Arrays.stream(formatJsonBody(truncate(displayResponseBody)).split("\n")).forEach(line -> logMessage.append("\n     ").append(line));
+    private boolean sampled(String path, int status) {
+        if (status >= properties.getAlwaysLogStatus()) {
+            return true;
         }
-        logMessage.append("\n└──────────────────────────────────────────────────────────────────────────");
-
-        if (status >= 500) {
-            log.error(logMessage.toString());
-        } else if (status >= 400) {
-            log.warn(logMessage.toString());
-        } else {
-            log.info(logMessage.toString());
+        for (Map.Entry<Pattern, Double> entry : sampleRates.entrySet()) {
+            if (entry.getKey().matcher(path).matches()) {
+                return ThreadLocalRandom.current().nextDouble() < entry.getValue();
+            }
         }
+        return true;
     }
 
     /**
-     * 格式化 JSON 为多行字符串。
-     * @param json 原始 JSON 字符串
-     * @return 格式化后的字符串
+     * 采集原始记录：只拷贝已截获的字节片段，不做解码与格式化。
      */
-    private String formatJsonBody(String json) {
-        if (json.isBlank()) return json;
-        try {
-            Object obj = prettyMapper.readTree(json);
-            return prettyMapper.writeValueAsString(obj);
-        } catch (Exception e) {
-            // 如果不是有效的 JSON，直接返回原内容
-            return json;
-        }
+    private AccessLogRecord capture(TeeRequestWrapper request, TeeResponseWrapper response, boolean async,
+                                    long startTime, long duration) {
+        CaptureBuffer responseCapture = async ? null : response.capture();
+        return new AccessLogRecord(
+                startTime,
+                request.getMethod(),
+                request.getRequestURI(),
+                request.getQueryString(),
+                response.getStatus(),
+                duration,
+                getHeaders(request),
+                request.getContentType(),
+                request.capture().toByteArray(),
+                request.truncated(),
+                response.getContentType(),
+                responseCapture != null ? responseCapture.toByteArray() : new byte[0],
+                responseCapture != null && responseCapture.truncated());
     }
 
     /**
@@ -198,70 +168,33 @@ public class HttpLoggingFilter extends OncePerRequestFilter {
      * @return 头信息映射
      */
     private Map<String, String> getHeaders(HttpServletRequest request) {
-        Map<String, String> headers = new HashMap<>();
-        Enumeration<String> headerNames = request.getHeaderNames();
-        if (headerNames != null) {
-            while (headerNames.hasMoreElements()) {
-                String name = headerNames.nextElement();
-                String value = (properties.isMaskEnabled() && properties.getSensitiveHeaders().contains(name.toLowerCase()))
+        Map<String, String> headers = new LinkedHashMap<>(4);
+        for (String name : LOGGED_HEADERS) {
+            String value = request.getHeader(name);
+            if (value != null) {
+                headers.put(name, properties.isMaskEnabled() && properties.getSensitiveHeaders().contains(name)
                         ? MASK
-                        : request.getHeader(name);
-                headers.put(name, value);
+                        : value);
             }
         }
-        return headers.entrySet().stream()
-                .filter(entry -> Arrays.asList("content-type", "user-agent", "x-request-id").contains(entry.getKey().toLowerCase()))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-    }
-
-    /**
-     * 获取请求体内容。
-     * @param request 包装后的请求
-     * @return 请求体字符串
-     */
-    private String getRequestBody(ContentCachingRequestWrapper request) {
-        byte[] content = request.getContentAsByteArray();
-        if (content.length == 0) return "";
-        return new String(content, StandardCharsets.UTF_8);
-    }
-
-    /**
-     * 获取响应体内容。
-     * @param response 包装后的响应
-     * @return 响应体字符串
-     */
-    private String getResponseBody(ContentCachingResponseWrapper response) {
-        byte[] content = response.getContentAsByteArray();
-        if (content.length == 0) return "";
-        return new String(content, StandardCharsets.UTF_8);
+        return headers;
     }
 
-    /**
-     * 对内容中的敏感字段进行脱敏处理。
-     * @param content 原始内容
-     * @return 脱敏后的内容
-     */
-    private String maskSensitiveData(String content) {
-        if (content.isEmpty()) return content;
-
-        String masked = content;
-        for (String field : properties.getSensitiveFields()) {
-            java.util.regex.Pattern regex = SENSITIVE_FIELD_REGEX_CACHE.computeIfAbsent(field, k ->
-                    java.util.regex.Pattern.compile("\"" + field + "\"\\s*:\\s*\"[^\"]*\"", java.util.regex.Pattern.CASE_INSENSITIVE)
-            );
-            masked = regex.matcher(masked).replaceAll("\"" + field + "\":\"" + MASK + "\"");
-        }
-        return masked;
+    private static List<Pattern> compile(Set<String> patterns) {
+        return patterns.stream().map(HttpLoggingFilter::toRegex).toList();
     }
 
     /**
-     * 超出最大体积时截断内容。
-     * @param content 原始内容
-     * @return 截断后的内容
+     * 将 Ant 风格的通配符转换为正则表达式。
+     * @param pattern 匹配模式
+     * @return 预编译的正则
      */
-    private String truncate(String content) {
-        return content.length() > properties.getMaxBodySize()
-                ? content.substring(0, properties.getMaxBodySize()) + "...(truncated)"
-                : content;
+    private static Pattern toRegex(String pattern) {
+        String regex = "^" + pattern
+                .replace(".", "\\.")
+                .replace("**", "§§§")  // 临时占位符
+                .replace("*", "[^/]*")
+                .replace("§§§", ".*") + "$";
+        return Pattern.compile(regex);
     }
-}
\ No newline at end of file
+}
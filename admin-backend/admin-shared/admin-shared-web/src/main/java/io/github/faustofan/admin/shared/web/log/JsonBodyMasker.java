@@ -0,0 +1,131 @@
+package io.github.faustofan.admin.shared.web.log;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * 流式 JSON 脱敏器
+ * <p>
+ * 用 Jackson 的 UTF-8 字节流解析器单次遍历原始字节，逐个 Token 直接写入目标生成器：
+ * <ul>
+ * <li>字段名命中敏感字段集合（忽略大小写）时，整个值（字符串、数字、对象、数组）替换为掩码，任意层级均生效</li>
+ * <li>字段名来自解析器的符号表，字符串值以字符数组直接写出，不创建中间 String</li>
+ * <li>内容被截断或不是合法 JSON 时，闭合已输出的结构后停止，已输出部分同样经过脱敏</li>
+ * </ul>
+ * 线程安全：无可变状态。
+ */
+final class JsonBodyMasker {
+
+    /** 脱敏显示内容 */
+    static final String MASK = "***";
+
+    private final JsonFactory jsonFactory;
+    private final Set<String> sensitiveFields;
+
+    /**
+     * @param jsonFactory     解析器工厂
+     * @param sensitiveFields 敏感字段名，为空时只做紧凑化拷贝
+     */
+    JsonBodyMasker(JsonFactory jsonFactory, Collection<String> sensitiveFields) {
+        this.jsonFactory = jsonFactory;
+        TreeSet<String> fields = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        fields.addAll(sensitiveFields);
+        this.sensitiveFields = Collections.unmodifiableSet(fields);
+    }
+
+    /**
+     * 判断内容是否按 JSON 处理：声明为 JSON，或未声明类型但以 { / [ 开头
+     */
+    static boolean isJson(String contentType, byte[] body) {
+        if (contentType != null) {
+            return contentType.toLowerCase().contains("json");
+        }
+        for (byte b : body) {
+            if (b == '{' || b == '[') {
+                return true;
+            }
+            if (b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 将脱敏后的 JSON 值写入生成器（调用方已写出字段名）
+     *
+     * @param body 原始 UTF-8 字节
+     * @param out  目标生成器
+     * @return 是否完整输出；false 表示内容被截断或不合法，已输出部分的结构已闭合
+     */
+    boolean mask(byte[] body, JsonGenerator out) throws IOException {
+        int depth = 0;
+        boolean written = false;
+        boolean pendingName = false;
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                switch (token) {
+                    case FIELD_NAME -> {
+                        out.copyCurrentEvent(parser);
+                        pendingName = true;
+                        if (sensitiveFields.contains(parser.currentName())) {
+                            parser.nextToken();
+                            parser.skipChildren();
+                            out.writeString(MASK);
+                            pendingName = false;
+                        }
+                    }
+                    case START_OBJECT, START_ARRAY -> {
+                        out.copyCurrentEvent(parser);
+                        depth++;
+                        pendingName = false;
+                    }
+                    case END_OBJECT, END_ARRAY -> {
+                        out.copyCurrentEvent(parser);
+                        depth--;
+                    }
+                    default -> {
+                        out.copyCurrentEvent(parser);
+                        pendingName = false;
+                    }
+                }
+                written = true;
+                if (depth == 0 && !pendingName) {
+                    // 根值结束，忽略其后的内容
+                    return true;
+                }
+            }
+        } catch (JsonProcessingException e) {
+            // 截断或非法内容：闭合已输出的结构
+            if (!written) {
+                out.writeString("[invalid JSON, " + body.length + " bytes]");
+                return false;
+            }
+            if (pendingName) {
+                out.writeString(MASK);
+            }
+            for (; depth > 0; depth--) {
+                if (out.getOutputContext().inArray()) {
+                    out.writeEndArray();
+                } else {
+                    out.writeEndObject();
+                }
+            }
+            return false;
+        }
+        if (!written) {
+            out.writeNull();
+        }
+        return !written || depth == 0;
+    }
+}
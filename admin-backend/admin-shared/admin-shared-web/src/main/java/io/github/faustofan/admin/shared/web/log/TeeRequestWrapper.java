@@ -0,0 +1,108 @@
+package io.github.faustofan.admin.shared.web.log;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+/**
+ * 请求体旁路截获包装器
+ * <p>
+ * 应用读取请求体时，字节原样交给调用方，同时把前 maxBodySize 个字节复制到 {@link CaptureBuffer}，
+ * 不会预先读取或缓存完整请求体。未被应用读取的请求体不会被记录。
+ */
+class TeeRequestWrapper extends HttpServletRequestWrapper {
+
+    private final CaptureBuffer capture;
+    private ServletInputStream inputStream;
+    private BufferedReader reader;
+
+    TeeRequestWrapper(HttpServletRequest request, CaptureBuffer capture) {
+        super(request);
+        this.capture = capture;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        if (inputStream == null) {
+            inputStream = new TeeInputStream(super.getInputStream(), capture);
+        }
+        return inputStream;
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        if (reader == null) {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            reader = new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+        return reader;
+    }
+
+    CaptureBuffer capture() {
+        return capture;
+    }
+
+    /**
+     * 请求体是否未被完整截获（按 Content-Length 与实际读取字节数中较大者判断）
+     */
+    boolean truncated() {
+        return capture.truncated() || getContentLengthLong() > capture.total();
+    }
+
+    private static final class TeeInputStream extends ServletInputStream {
+
+        private final ServletInputStream delegate;
+        private final CaptureBuffer capture;
+
+        TeeInputStream(ServletInputStream delegate, CaptureBuffer capture) {
+            this.delegate = delegate;
+            this.capture = capture;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b >= 0) {
+                capture.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = delegate.read(b, off, len);
+            if (n > 0) {
+                capture.write(b, off, n);
+            }
+            return n;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            delegate.setReadListener(readListener);
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
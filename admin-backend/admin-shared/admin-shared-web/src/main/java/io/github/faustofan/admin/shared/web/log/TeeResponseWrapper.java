@@ -0,0 +1,117 @@
+package io.github.faustofan.admin.shared.web.log;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * 响应体旁路截获包装器
+ * <p>
+ * 与 ContentCachingResponseWrapper 不同，字节直接写入原始响应、按容器缓冲区照常提交给客户端，
+ * 只把前 maxBodySize 个字节复制到 {@link CaptureBuffer}，不在堆中保留完整响应体，也不推迟首字节。
+ */
+class TeeResponseWrapper extends HttpServletResponseWrapper {
+
+    private final CaptureBuffer capture;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    TeeResponseWrapper(HttpServletResponse response, CaptureBuffer capture) {
+        super(response);
+        this.capture = capture;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called on this response");
+        }
+        if (outputStream == null) {
+            outputStream = new TeeOutputStream(super.getOutputStream(), capture);
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (outputStream != null) {
+            throw new IllegalStateException("getOutputStream() has already been called on this response");
+        }
+        if (writer == null) {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.ISO_8859_1;
+            writer = new PrintWriter(new OutputStreamWriter(
+                    new TeeOutputStream(super.getOutputStream(), capture), charset));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        flushWriter();
+        super.flushBuffer();
+    }
+
+    /**
+     * 刷出 Writer 中尚未编码写出的字符：容器只会刷新原始输出流，看不到包装的 Writer
+     */
+    void flushWriter() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    CaptureBuffer capture() {
+        return capture;
+    }
+
+    private static final class TeeOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private final CaptureBuffer capture;
+
+        TeeOutputStream(ServletOutputStream delegate, CaptureBuffer capture) {
+            this.delegate = delegate;
+            this.capture = capture;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            capture.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            capture.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
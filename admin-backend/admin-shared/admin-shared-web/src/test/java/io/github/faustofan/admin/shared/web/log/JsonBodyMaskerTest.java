@@ -0,0 +1,87 @@
+package io.github.faustofan.admin.shared.web.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+class JsonBodyMaskerTest {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final JsonBodyMasker masker = new JsonBodyMasker(jsonFactory, List.of("password", "tokens", "secret"));
+
+    /** 脱敏结果与是否完整输出 */
+    private record Masked(String json, boolean complete) {}
+
+    private Masked mask(String body) throws IOException {
+        StringWriter writer = new StringWriter();
+        boolean complete;
+        try (JsonGenerator out = jsonFactory.createGenerator(writer)) {
+            complete = masker.mask(body.getBytes(StandardCharsets.UTF_8), out);
+        }
+        return new Masked(writer.toString(), complete);
+    }
+
+    @Test
+    void masksSensitiveValuesAtAnyDepthIgnoringCase() throws IOException {
+        Masked masked = mask("""
+                {"user": {"Password": "x", "name": "a"},
+                 "tokens": [1, 2],
+                 "list": [{"secret": {"a": 1}}, {"PASSWORD": 1}]}""");
+
+        assertThat(masked.complete()).isTrue();
+        assertThat(masked.json()).isEqualTo(
+                "{\"user\":{\"Password\":\"***\",\"name\":\"a\"},\"tokens\":\"***\","
+                        + "\"list\":[{\"secret\":\"***\"},{\"PASSWORD\":\"***\"}]}");
+    }
+
+    @Test
+    void compactsWithoutSensitiveFields() throws IOException {
+        assertThat(mask("{ \"a\" : [ 1 , 2 ] ,\n \"b\" : { } }")).isEqualTo(new Masked("{\"a\":[1,2],\"b\":{}}", true));
+        assertThat(mask("\"str\"")).isEqualTo(new Masked("\"str\"", true));
+        assertThat(mask("42")).isEqualTo(new Masked("42", true));
+    }
+
+    @Test
+    void ignoresContentAfterRootValue() throws IOException {
+        assertThat(mask("{\"a\":1} garbage")).isEqualTo(new Masked("{\"a\":1}", true));
+    }
+
+    @Test
+    void closesStructuresWhenTruncated() throws IOException {
+        assertThat(mask("{\"a\":{\"b\":[1,2")).isEqualTo(new Masked("{\"a\":{\"b\":[1,2]}}", false));
+        assertThat(mask("{\"a\":[1,{\"b\":tru")).isEqualTo(new Masked("{\"a\":[1,{}]}", false));
+    }
+
+    @Test
+    void masksValueCutOffMidway() throws IOException {
+        // 截断的值无论是否敏感都不输出半截内容
+        assertThat(mask("{\"password\":\"abc")).isEqualTo(new Masked("{\"password\":\"***\"}", false));
+        assertThat(mask("{\"name\":\"va")).isEqualTo(new Masked("{\"name\":\"***\"}", false));
+    }
+
+    @Test
+    void reportsInvalidAndEmptyBodies() throws IOException {
+        assertThat(mask("not json")).isEqualTo(new Masked("\"[invalid JSON, 8 bytes]\"", false));
+        assertThat(mask("")).isEqualTo(new Masked("null", true));
+    }
+
+    @Test
+    void detectsJsonByContentTypeOrLeadingBracket() {
+        byte[] object = " \n{\"a\":1}".getBytes(StandardCharsets.UTF_8);
+        byte[] text = "hello".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(JsonBodyMasker.isJson("application/problem+json", text)).isTrue();
+        assertThat(JsonBodyMasker.isJson("text/plain", object)).isFalse();
+        assertThat(JsonBodyMasker.isJson(null, object)).isTrue();
+        assertThat(JsonBodyMasker.isJson(null, text)).isFalse();
+        assertThat(JsonBodyMasker.isJson(null, new byte[0])).isFalse();
+    }
+}
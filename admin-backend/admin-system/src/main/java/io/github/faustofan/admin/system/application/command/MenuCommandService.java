@@ -0,0 +1,52 @@
+package io.github.faustofan.admin.system.application.command;
+
+import org.springframework.stereotype.Service;
+
+import io.github.faustofan.admin.system.domain.model.Immutables;
+import io.github.faustofan.admin.system.domain.service.MenuDomainService;
+import io.github.faustofan.admin.system.dto.SysMenuSaveCommand;
+
+/**
+ * 菜单命令服务
+ * <p>
+ * 负责处理菜单相关的应用层命令，如新增、修改、删除菜单。
+ */
+@Service
+public class MenuCommandService {
+
+    /** 菜单领域服务，封装菜单相关的领域逻辑 */
+    private final MenuDomainService menuDomainService;
+
+    public MenuCommandService(MenuDomainService menuDomainService) {
+        this.menuDomainService = menuDomainService;
+    }
+
+    /**
+     * 新增菜单
+     *
+     * @param cmd 菜单保存命令
+     * @return 新增菜单的主键ID
+     */
+    public Long create(SysMenuSaveCommand cmd) {
+        return menuDomainService.createMenu(cmd.toEntity()).id();
+    }
+
+    /**
+     * 修改菜单
+     *
+     * @param menuId 菜单ID
+     * @param cmd    菜单保存命令
+     */
+    public void update(Long menuId, SysMenuSaveCommand cmd) {
+        menuDomainService.updateMenu(Immutables.createSysMenu(cmd.toEntity(), draft -> draft.setId(menuId)));
+    }
+
+    /**
+     * 删除菜单（连同下级菜单）
+     *
+     * @param menuId 菜单ID
+     */
+    public void delete(Long menuId) {
+        menuDomainService.deleteMenu(menuId);
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.faustofan.admin.system.application.command;
+
+import org.springframework.stereotype.Service;
+
+import io.github.faustofan.admin.system.domain.model.Immutables;
+import io.github.faustofan.admin.system.domain.service.PackageDomainService;
+import io.github.faustofan.admin.system.dto.SysPackageMenuCommand;
+
+/**
+ * 产品包命令服务
+ * <p>
+ * 负责处理产品包相关的应用层命令，如分配菜单。
+ */
+@Service
+public class PackageCommandService {
+
+    /** 产品包领域服务，封装产品包相关的领域逻辑 */
+    private final PackageDomainService packageDomainService;
+
+    public PackageCommandService(PackageDomainService packageDomainService) {
+        this.packageDomainService = packageDomainService;
+    }
+
+    /**
+     * 分配产品包菜单
+     *
+     * @param packageId 产品包ID
+     * @param cmd       菜单分配命令
+     */
+    public void assignMenus(Long packageId, SysPackageMenuCommand cmd) {
+        packageDomainService.updateMenus(
+                Immutables.createSysProductPackage(cmd.toEntity(), draft -> draft.setId(packageId)));
+    }
+}
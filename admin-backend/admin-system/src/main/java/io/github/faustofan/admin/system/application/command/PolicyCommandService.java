@@ -0,0 +1,53 @@
+package io.github.faustofan.admin.system.application.command;
+
+import org.springframework.stereotype.Service;
+
+import io.github.faustofan.admin.system.domain.model.Immutables;
+import io.github.faustofan.admin.system.domain.service.PolicyDomainService;
+import io.github.faustofan.admin.system.dto.SysPolicySaveCommand;
+
+/**
+ * 数据策略命令服务
+ * <p>
+ * 负责处理数据策略相关的应用层命令，如新增、修改、删除策略。
+ */
+@Service
+public class PolicyCommandService {
+
+    /** 策略领域服务，封装数据策略相关的领域逻辑 */
+    private final PolicyDomainService policyDomainService;
+
+    public PolicyCommandService(PolicyDomainService policyDomainService) {
+        this.policyDomainService = policyDomainService;
+    }
+
+    /**
+     * 新增策略
+     *
+     * @param cmd 策略保存命令
+     * @return 新增策略的主键ID
+     */
+    public Long create(SysPolicySaveCommand cmd) {
+        return policyDomainService.createPolicy(cmd.toEntity()).id();
+    }
+
+    /**
+     * 修改策略
+     *
+     * @param policyId 策略ID
+     * @param cmd      策略保存命令
+     */
+    public void update(Long policyId, SysPolicySaveCommand cmd) {
+        policyDomainService.updatePolicy(
+                Immutables.createSysAbacPolicy(cmd.toEntity(), draft -> draft.setId(policyId)));
+    }
+
+    /**
+     * 删除策略
+     *
+     * @param policyId 策略ID
+     */
+    public void delete(Long policyId) {
+        policyDomainService.deletePolicy(policyId);
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.faustofan.admin.system.application.command;
+
+import org.springframework.stereotype.Service;
+
+import io.github.faustofan.admin.system.domain.model.Immutables;
+import io.github.faustofan.admin.system.domain.model.SysRole;
+import io.github.faustofan.admin.system.domain.service.RoleDomainService;
+import io.github.faustofan.admin.system.dto.SysRoleDataScopeCommand;
+import io.github.faustofan.admin.system.dto.SysRoleMenuCommand;
+import io.github.faustofan.admin.system.dto.SysRolePolicyCommand;
+
+/**
+ * 角色命令服务
+ * <p>
+ * 负责处理角色授权相关的应用层命令，如分配菜单、数据策略和数据范围。
+ */
+@Service
+public class RoleCommandService {
+
+    /** 角色领域服务，封装角色相关的领域逻辑 */
+    private final RoleDomainService roleDomainService;
+
+    public RoleCommandService(RoleDomainService roleDomainService) {
+        this.roleDomainService = roleDomainService;
+    }
+
+    /**
+     * 分配角色菜单
+     *
+     * @param roleId 角色ID
+     * @param cmd    菜单分配命令
+     */
+    public void assignMenus(Long roleId, SysRoleMenuCommand cmd) {
+        roleDomainService.updateAuthorization(withId(cmd.toEntity(), roleId));
+    }
+
+    /**
+     * 分配角色数据策略
+     *
+     * @param roleId 角色ID
+     * @param cmd    数据策略分配命令
+     */
+    public void assignPolicies(Long roleId, SysRolePolicyCommand cmd) {
+        roleDomainService.updateAuthorization(withId(cmd.toEntity(), roleId));
+    }
+
+    /**
+     * 修改角色数据范围
+     *
+     * @param roleId 角色ID
+     * @param cmd    数据范围命令
+     */
+    public void changeDataScope(Long roleId, SysRoleDataScopeCommand cmd) {
+        roleDomainService.updateAuthorization(withId(cmd.toEntity(), roleId));
+    }
+
+    private static SysRole withId(SysRole changes, Long roleId) {
+        return Immutables.createSysRole(changes, draft -> draft.setId(roleId));
+    }
+}
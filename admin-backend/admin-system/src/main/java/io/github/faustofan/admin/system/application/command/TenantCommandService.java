@@ -0,0 +1,49 @@
+package io.github.faustofan.admin.system.application.command;
+
+import org.springframework.stereotype.Service;
+
+import io.github.faustofan.admin.system.domain.model.Immutables;
+import io.github.faustofan.admin.system.domain.model.SysTenant;
+import io.github.faustofan.admin.system.domain.service.TenantDomainService;
+import io.github.faustofan.admin.system.dto.SysTenantPackageCommand;
+import io.github.faustofan.admin.system.dto.SysTenantStatusCommand;
+
+/**
+ * 租户命令服务
+ * <p>
+ * 负责处理租户相关的应用层命令，如启停、续期和更换产品包。
+ */
+@Service
+public class TenantCommandService {
+
+    /** 租户领域服务，封装租户相关的领域逻辑 */
+    private final TenantDomainService tenantDomainService;
+
+    public TenantCommandService(TenantDomainService tenantDomainService) {
+        this.tenantDomainService = tenantDomainService;
+    }
+
+    /**
+     * 修改租户状态（启停、续期）
+     *
+     * @param tenantId 租户ID
+     * @param cmd      状态命令
+     */
+    public void changeStatus(Long tenantId, SysTenantStatusCommand cmd) {
+        tenantDomainService.updateTenant(withId(cmd.toEntity(), tenantId));
+    }
+
+    /**
+     * 更换租户产品包
+     *
+     * @param tenantId 租户ID
+     * @param cmd      产品包命令
+     */
+    public void changePackage(Long tenantId, SysTenantPackageCommand cmd) {
+        tenantDomainService.updateTenant(withId(cmd.toEntity(), tenantId));
+    }
+
+    private static SysTenant withId(SysTenant changes, Long tenantId) {
+        return Immutables.createSysTenant(changes, draft -> draft.setId(tenantId));
+    }
+}
@@ -15,6 +15,7 @@ import io.github.faustofan.admin.system.domain.service.RoleDomainService;
 import io.github.faustofan.admin.system.domain.service.TenantDomainService;
 import io.github.faustofan.admin.system.domain.service.UserDomainService;
 import io.github.faustofan.admin.system.dto.SysUserCreateCommand;
+import io.github.faustofan.admin.system.dto.SysUserRoleCommand;
 
 /**
  * 用户命令服务
@@ -76,4 +77,20 @@ public class UserCommandService {
         SysUser savedUser = userDomainService.createUser(cmd.toEntity());
         return savedUser.id();
     }
-}
\ No newline at end of file
+
+    /**
+     * 分配用户角色（整体替换）
+     *
+     * @param userId 用户ID
+     * @param cmd    角色分配命令
+     */
+    public void assignRoles(Long userId, SysUserRoleCommand cmd) {
+        List<Long> notExistRoleIds = roleDomainService.existsById(cmd.getRoleIds());
+        if (!notExistRoleIds.isEmpty())
+            throw new BizException(
+                    BizErrorCode.BIND_ROLE_NOT_EXIST,
+                    "以下角色ID不存在：" + Joiner.on(",").join(notExistRoleIds));
+
+        userDomainService.assignRoles(userId, cmd.getRoleIds());
+    }
+}
@@ -2,14 +2,26 @@ package io.github.faustofan.admin.system.application.query;
 
 import io.github.faustofan.admin.shared.common.dto.PageRequestDto;
 import io.github.faustofan.admin.shared.common.dto.PageResponse;
+import io.github.faustofan.admin.shared.persistence.projection.FieldProjection;
+import io.github.faustofan.admin.system.domain.constants.SysPolicyResources;
+import io.github.faustofan.admin.system.domain.model.SysOrgFetcher;
+import io.github.faustofan.admin.system.domain.model.SysRole;
+import io.github.faustofan.admin.system.domain.model.SysRoleFetcher;
+import io.github.faustofan.admin.system.domain.model.SysUser;
+import io.github.faustofan.admin.system.domain.model.SysUserFetcher;
+import io.github.faustofan.admin.system.domain.policy.PolicyEngine;
+import io.github.faustofan.admin.system.domain.policy.PolicySubjectResolver;
 import io.github.faustofan.admin.system.dto.SysUserSearchQuery;
 import io.github.faustofan.admin.system.dto.SysUserView;
 import io.github.faustofan.admin.system.infrastructure.reponsitory.SysUserRepository;
+import io.github.faustofan.admin.system.infrastructure.version.SysDataVersion;
 import org.babyfish.jimmer.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+
 /**
  * 用户查询服务
  * 提供用户相关的查询操作
@@ -17,20 +29,92 @@ import org.springframework.stereotype.Service;
 @Service
 public class UserQueryService {
 
+    /**
+     * 用户列表可投影的字段（与 SysUserView 对齐，不含密码）
+     * orgId 与 orgName 共用 org 关联，orgName 在后，其子 Fetcher 覆盖 orgId 的
+     */
+    private static final FieldProjection<SysUser> USER_FIELDS = FieldProjection.builder(SysUserFetcher.$)
+            .field("id", SysUser::id)
+            .field("tenantId", "tenantId", SysUser::tenantId)
+            .field("username", "username", SysUser::username)
+            .field("nickname", "nickname", SysUser::nickname)
+            .field("email", "email", SysUser::email)
+            .field("mobile", "mobile", SysUser::mobile)
+            .field("status", "status", SysUser::status)
+            .field("isSuperAdmin", "isSuperAdmin", SysUser::isSuperAdmin)
+            .field("attributes", "attributes", SysUser::attributes)
+            .field("createdTime", "createdTime", SysUser::createdTime)
+            .field("updatedTime", "updatedTime", SysUser::updatedTime)
+            .field("orgId", "org", SysOrgFetcher.$, user -> user.org().id())
+            .field("orgName", "org", SysOrgFetcher.$.name(), user -> user.org().name())
+            .field("roleIds", "roles", SysRoleFetcher.$, user -> user.roles().stream().map(SysRole::id).toList())
+            .build();
+
     private final SysUserRepository sysUserRepository;
 
-    public UserQueryService(SysUserRepository sysUserRepository) {
+    private final PolicyEngine policyEngine;
+
+    private final PolicySubjectResolver policySubjectResolver;
+
+    private final SysDataVersion dataVersion;
+
+    public UserQueryService(
+            SysUserRepository sysUserRepository,
+            PolicyEngine policyEngine,
+            PolicySubjectResolver policySubjectResolver,
+            SysDataVersion dataVersion) {
         this.sysUserRepository = sysUserRepository;
+        this.policyEngine = policyEngine;
+        this.policySubjectResolver = policySubjectResolver;
+        this.dataVersion = dataVersion;
+    }
+
+    /**
+     * 用户列表的 ETag
+     * <p>
+     * 只读取租户数据版本号，不访问数据库，命中 If-None-Match 时可直接返回 304。
+     *
+     * @param variant 请求变体（原始查询串与响应格式）
+     * @return ETag，无上下文时返回 null
+     */
+    public String listUsersETag(String variant) {
+        return dataVersion.etag("user:list?" + variant);
     }
 
     /**
      * 列出用户，支持分页和查询条件
+     * <p>
+     * 当前用户的 ABAC 策略会翻译为查询条件，在数据库中完成行级过滤。
      *
      * @param pageRequest 分页请求参数
      * @param query       用户搜索查询参数
      * @return 分页的用户视图列表
      */
     public Page<SysUserView> listUsers(Pageable pageRequest, SysUserSearchQuery query) {
-        return sysUserRepository.findPage(query, pageRequest);
+        var subject = policySubjectResolver.current();
+        var dataPolicy = subject == null
+                ? null
+                : policyEngine.toPredicate(SysPolicyResources.USER, SysUserRepository.table, subject);
+        return sysUserRepository.findPage(query, pageRequest, dataPolicy);
+    }
+
+    /**
+     * 按字段投影列出用户
+     * <p>
+     * 字段集合翻译为动态 Fetcher（按集合缓存），只查询所需的列与关联。
+     *
+     * @param pageRequest 分页请求参数
+     * @param query       用户搜索查询参数
+     * @param fields      逗号分隔的字段名，为空时返回全部字段
+     * @return 只含所需字段的分页结果
+     */
+    public Page<Map<String, Object>> listUsers(Pageable pageRequest, SysUserSearchQuery query, String fields) {
+        var projection = USER_FIELDS.resolve(fields);
+        var subject = policySubjectResolver.current();
+        var dataPolicy = subject == null
+                ? null
+                : policyEngine.toPredicate(SysPolicyResources.USER, SysUserRepository.table, subject);
+        Page<SysUser> page = sysUserRepository.findPage(query, pageRequest, dataPolicy, projection.fetcher());
+        return new Page<>(projection.project(page.getRows()), page.getTotalRowCount(), page.getTotalPageCount());
     }
 }
@@ -0,0 +1,9 @@
+package io.github.faustofan.admin.system.domain.constants;
+
+public final class SysMenuTopics {
+    private SysMenuTopics() {}
+
+    // 格式：业务域.聚合.动作
+    // 菜单权限码/路由等发生变化
+    public static final String MENU_CHANGED = "sys.menu.changed";
+}
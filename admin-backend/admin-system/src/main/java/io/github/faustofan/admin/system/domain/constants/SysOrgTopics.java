@@ -0,0 +1,9 @@
+package io.github.faustofan.admin.system.domain.constants;
+
+public final class SysOrgTopics {
+    private SysOrgTopics() {}
+
+    // 格式：业务域.聚合.动作
+    // 组织新增/删除/移动，组织层级发生变化
+    public static final String ORG_CHANGED = "sys.org.changed";
+}
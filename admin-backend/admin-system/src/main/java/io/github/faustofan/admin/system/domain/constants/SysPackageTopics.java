@@ -0,0 +1,9 @@
+package io.github.faustofan.admin.system.domain.constants;
+
+public final class SysPackageTopics {
+    private SysPackageTopics() {}
+
+    // 格式：业务域.聚合.动作
+    // 产品包包含的菜单发生变化
+    public static final String PACKAGE_CHANGED = "sys.package.changed";
+}
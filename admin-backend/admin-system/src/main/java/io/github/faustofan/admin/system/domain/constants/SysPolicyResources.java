@@ -0,0 +1,18 @@
+package io.github.faustofan.admin.system.domain.constants;
+
+import java.util.Locale;
+import java.util.Set;
+
+public final class SysPolicyResources {
+    private SysPolicyResources() {}
+
+    // ABAC 策略的 targetResource 取值
+    public static final String USER = "SYS_USER";
+
+    // 以分页列表方式查询的资源：策略必须能下推为查询条件（JSON / SQL 片段），不接受 SpEL
+    private static final Set<String> LIST_RESOURCES = Set.of(USER);
+
+    public static boolean isListResource(String targetResource) {
+        return targetResource != null && LIST_RESOURCES.contains(targetResource.toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,9 @@
+package io.github.faustofan.admin.system.domain.constants;
+
+public final class SysPolicyTopics {
+    private SysPolicyTopics() {}
+
+    // 格式：业务域.聚合.动作
+    // ABAC 数据策略内容发生变化
+    public static final String POLICY_CHANGED = "sys.policy.changed";
+}
@@ -0,0 +1,9 @@
+package io.github.faustofan.admin.system.domain.constants;
+
+public final class SysRoleTopics {
+    private SysRoleTopics() {}
+
+    // 格式：业务域.聚合.动作
+    // 角色的菜单/策略/数据范围发生变化
+    public static final String ROLE_CHANGED = "sys.role.changed";
+}
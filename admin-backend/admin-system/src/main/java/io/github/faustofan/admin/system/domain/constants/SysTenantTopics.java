@@ -0,0 +1,9 @@
+package io.github.faustofan.admin.system.domain.constants;
+
+public final class SysTenantTopics {
+    private SysTenantTopics() {}
+
+    // 格式：业务域.聚合.动作
+    // 租户状态、到期时间或产品包发生变化
+    public static final String TENANT_CHANGED = "sys.tenant.changed";
+}
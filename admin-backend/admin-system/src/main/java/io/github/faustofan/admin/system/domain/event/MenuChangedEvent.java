@@ -0,0 +1,19 @@
+package io.github.faustofan.admin.system.domain.event;
+
+import io.github.faustofan.admin.shared.bytecode.json.CompiledJson;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 菜单变更事件 (权限码、路由、可见性等变化)
+ * 菜单为全局数据，不区分租户；roleIds/packageIds 为写入前关联这些菜单的角色和产品包（删除后关联不可再查）
+ */
+@CompiledJson
+public record MenuChangedEvent(
+        List<Long> menuIds,
+        List<Long> roleIds,
+        List<Long> packageIds,
+        Instant timestamp
+) implements Serializable {}
@@ -0,0 +1,17 @@
+package io.github.faustofan.admin.system.domain.event;
+
+import io.github.faustofan.admin.shared.bytecode.json.CompiledJson;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 组织层级变更事件 (新增、删除、移动)
+ */
+@CompiledJson
+public record OrgChangedEvent(
+        Long tenantId,
+        List<Long> orgIds,
+        Instant timestamp
+) implements Serializable {}
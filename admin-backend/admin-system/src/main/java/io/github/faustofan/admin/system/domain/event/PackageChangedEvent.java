@@ -0,0 +1,17 @@
+package io.github.faustofan.admin.system.domain.event;
+
+import io.github.faustofan.admin.shared.bytecode.json.CompiledJson;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 产品包变更事件 (包含的菜单变化)
+ * 产品包为全局数据，不区分租户
+ */
+@CompiledJson
+public record PackageChangedEvent(
+        List<Long> packageIds,
+        Instant timestamp
+) implements Serializable {}
@@ -0,0 +1,19 @@
+package io.github.faustofan.admin.system.domain.event;
+
+import io.github.faustofan.admin.shared.bytecode.json.CompiledJson;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * ABAC 数据策略变更事件
+ * roleIds 为写入前绑定这些策略的角色（删除后关联不可再查）
+ */
+@CompiledJson
+public record PolicyChangedEvent(
+        Long tenantId,
+        List<Long> policyIds,
+        List<Long> roleIds,
+        Instant timestamp
+) implements Serializable {}
@@ -0,0 +1,19 @@
+package io.github.faustofan.admin.system.domain.event;
+
+import io.github.faustofan.admin.shared.bytecode.json.CompiledJson;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 角色权限变更事件 (菜单、数据策略、数据范围、成员变化)
+ * userIds 为成员变更的用户（含已被移出角色的用户），与角色当前成员一并重建
+ */
+@CompiledJson
+public record RoleChangedEvent(
+        Long tenantId,
+        List<Long> roleIds,
+        List<Long> userIds,
+        Instant timestamp
+) implements Serializable {}
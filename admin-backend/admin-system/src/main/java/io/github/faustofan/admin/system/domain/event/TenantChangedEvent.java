@@ -0,0 +1,17 @@
+package io.github.faustofan.admin.system.domain.event;
+
+import io.github.faustofan.admin.shared.bytecode.json.CompiledJson;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 租户变更事件 (状态/到期时间/产品包变化)
+ * 租户为全局数据，不区分租户
+ */
+@CompiledJson
+public record TenantChangedEvent(
+        List<Long> tenantIds,
+        Instant timestamp
+) implements Serializable {}
@@ -1,11 +1,14 @@
 package io.github.faustofan.admin.system.domain.event;
 
+import io.github.faustofan.admin.shared.bytecode.json.CompiledJson;
+
 import java.io.Serializable;
 import java.time.Instant;
 
 /**
  * 用户已创建事件
  */
+@CompiledJson
 public record UserCreatedEvent(
         Long userId,
         Long tenantId,
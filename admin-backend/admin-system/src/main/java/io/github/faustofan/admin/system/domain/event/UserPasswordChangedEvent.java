@@ -1,11 +1,14 @@
 package io.github.faustofan.admin.system.domain.event;
 
+import io.github.faustofan.admin.shared.bytecode.json.CompiledJson;
+
 import java.io.Serializable;
 import java.time.Instant;
 
 /**
  * 用户密码变更事件
  */
+@CompiledJson
 public record UserPasswordChangedEvent(
         Long userId,
         Long tenantId,
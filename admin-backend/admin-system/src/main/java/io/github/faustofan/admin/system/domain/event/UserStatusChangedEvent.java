@@ -1,5 +1,6 @@
 package io.github.faustofan.admin.system.domain.event;
 
+import io.github.faustofan.admin.shared.bytecode.json.CompiledJson;
 import io.github.faustofan.admin.system.domain.enums.UserStatus;
 
 import java.io.Serializable;
@@ -7,6 +8,7 @@ import java.io.Serializable;
 /**
  * 用户状态变更事件 (如：禁用/解禁)
  */
+@CompiledJson
 public record UserStatusChangedEvent(
         Long userId,
         Long tenantId,
@@ -1,5 +1,6 @@
 package io.github.faustofan.admin.system.domain.model;
 
+import io.github.faustofan.admin.shared.common.enums.DataScope;
 import io.github.faustofan.admin.shared.persistence.model.TenantAware;
 import org.babyfish.jimmer.sql.*;
 import java.util.List;
@@ -15,6 +16,19 @@ public interface SysRole extends TenantAware {
 
     String code();
 
+    // 数据权限范围
+    @Default("SELF")
+    DataScope dataScope();
+
+    // 数据权限: CUSTOM 范围下可见的部门
+    @ManyToMany
+    @JoinTable(
+            name = "sys_role_org",
+            joinColumnName = "role_id",
+            inverseJoinColumnName = "org_id"
+    )
+    List<SysOrg> dataScopeOrgs();
+
     // RBAC: 角色关联的菜单
     @ManyToMany
     @JoinTable(
@@ -1,6 +1,7 @@
 package io.github.faustofan.admin.system.domain.model;
 
-import io.github.faustofan.admin.shared.persistence.model.TenantAware;
+import io.github.faustofan.admin.shared.persistence.model.DataScoped;
+import io.github.faustofan.admin.shared.persistence.model.UserIdentity;
 import io.github.faustofan.admin.system.domain.enums.UserStatus;
 import org.babyfish.jimmer.sql.*;
 import org.jspecify.annotations.Nullable;
@@ -10,10 +11,13 @@ import java.util.Map;
 
 /**
  * 系统用户实体
+ * <p>
+ * 受角色数据范围约束，数据所属组织（owner_org_id）即归属部门；SELF 范围只能看到本人。
  */
 @Entity
+@UserIdentity
 @Table(name = "sys_user")
-public interface SysUser extends TenantAware {
+public interface SysUser extends DataScoped {
 
     @Key
     String username();
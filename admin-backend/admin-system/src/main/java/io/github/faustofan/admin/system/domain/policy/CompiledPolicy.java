@@ -0,0 +1,35 @@
+package io.github.faustofan.admin.system.domain.policy;
+
+import org.babyfish.jimmer.sql.ast.Predicate;
+import org.babyfish.jimmer.sql.ast.table.Table;
+
+/**
+ * 编译后的策略
+ * <p>
+ * 同一策略版本只编译一次，求值时不再解析规则文本。
+ */
+public interface CompiledPolicy {
+
+    /**
+     * 在内存中对单个资源求值
+     *
+     * @param subject  当前用户
+     * @param resource 资源对象（Jimmer 实体、Map 或普通 Bean）
+     * @return 是否允许访问
+     */
+    boolean evaluate(PolicySubject subject, Object resource);
+
+    /**
+     * 是否可以下推为 SQL 条件
+     */
+    boolean isPushdownSupported();
+
+    /**
+     * 翻译为 Jimmer 查询条件，使行级过滤在数据库中完成
+     *
+     * @param table   查询的表
+     * @param subject 当前用户
+     * @return 查询条件；不支持下推时返回 null
+     */
+    Predicate toPredicate(Table<?> table, PolicySubject subject);
+}
@@ -0,0 +1,261 @@
+package io.github.faustofan.admin.system.domain.policy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.babyfish.jimmer.sql.ast.Predicate;
+import org.babyfish.jimmer.sql.ast.table.Table;
+import org.springframework.expression.BeanResolver;
+import org.springframework.expression.ConstructorResolver;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.IndexAccessor;
+import org.springframework.expression.MethodResolver;
+import org.springframework.expression.OperatorOverloader;
+import org.springframework.expression.PropertyAccessor;
+import org.springframework.expression.TypeComparator;
+import org.springframework.expression.TypeConverter;
+import org.springframework.expression.TypeLocator;
+import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.SimpleEvaluationContext;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+/**
+ * 策略编译器
+ * <p>
+ * 支持的规则形式：
+ * <ul>
+ * <li>SPEL_EXPRESSION：{@code #user.attributes['level'] > 5 && #resource.amount < 1000}，
+ * 使用 SpEL 混合编译模式，热点表达式会被编译为字节码；仅支持内存求值</li>
+ * <li>JSON_RULE：{@code {"and": [{"field": "orgId", "op": "eq", "ref": "user.orgId"}, ...]}}，
+ * 叶子节点使用 {@code value}（常量）或 {@code ref}（用户属性）；支持 and / or / not</li>
+ * <li>SQL_FRAGMENT：{@code this.org_id = :user.orgId AND (level <= :user.attributes.level OR status IN ('A', 'B'))}，
+ * 由 {@link SqlFragmentParser} 分词解析，支持 AND / OR / NOT、括号、IN 与 IS NULL，不拼接原始 SQL</li>
+ * </ul>
+ * JSON 与 SQL 规则编译为同一棵 {@link PolicyRule}，可下推为 Jimmer 查询条件。
+ */
+final class PolicyCompiler {
+
+    private static final SpelExpressionParser SPEL_PARSER = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.MIXED, PolicyCompiler.class.getClassLoader()));
+
+    private static final JsonMapper JSON_MAPPER = new JsonMapper();
+
+    private PolicyCompiler() {
+    }
+
+    static CompiledPolicy compile(PolicyDefinition definition) {
+        return switch (definition.type()) {
+            case SPEL_EXPRESSION -> new SpelPolicy(SPEL_PARSER.parseExpression(definition.content()));
+            case JSON_RULE -> new RulePolicy(parseJson(definition.content()));
+            case SQL_FRAGMENT -> new RulePolicy(SqlFragmentParser.parse(definition.content()));
+        };
+    }
+
+    // --- SpEL ---
+
+    /**
+     * @param context 只读数据绑定上下文：禁止类型引用、构造器和赋值。
+     *                每条编译结果只构建一次，求值时由 {@link SpelVariables} 绑定本次的变量
+     */
+    private record SpelPolicy(Expression expression, EvaluationContext context) implements CompiledPolicy {
+
+        SpelPolicy(Expression expression) {
+            this(expression, SimpleEvaluationContext.forReadOnlyDataBinding().withInstanceMethods().build());
+        }
+
+        @Override
+        public boolean evaluate(PolicySubject subject, Object resource) {
+            return Boolean.TRUE.equals(
+                    expression.getValue(new SpelVariables(context, subject, resource), Boolean.class));
+        }
+
+        @Override
+        public boolean isPushdownSupported() {
+            return false;
+        }
+
+        @Override
+        public Predicate toPredicate(Table<?> table, PolicySubject subject) {
+            return null;
+        }
+    }
+
+    /**
+     * 单次求值的变量视图
+     * <p>
+     * 共享上下文可被多个线程同时使用，因此变量不写入共享上下文，
+     * 只在这里提供 {@code #user} 与 {@code #resource}，其余能力全部委托给共享上下文。
+     */
+    private record SpelVariables(EvaluationContext shared, PolicySubject user, Object resource)
+            implements EvaluationContext {
+
+        @Override
+        public Object lookupVariable(String name) {
+            return switch (name) {
+                case "user" -> user;
+                case "resource" -> resource;
+                default -> null;
+            };
+        }
+
+        @Override
+        public void setVariable(String name, Object value) {
+            throw new UnsupportedOperationException("Policy expressions are read-only");
+        }
+
+        @Override
+        public TypedValue assignVariable(String name, Supplier<TypedValue> valueSupplier) {
+            throw new UnsupportedOperationException("Policy expressions are read-only");
+        }
+
+        @Override
+        public boolean isAssignmentEnabled() {
+            return shared.isAssignmentEnabled();
+        }
+
+        @Override
+        public TypedValue getRootObject() {
+            return shared.getRootObject();
+        }
+
+        @Override
+        public List<PropertyAccessor> getPropertyAccessors() {
+            return shared.getPropertyAccessors();
+        }
+
+        @Override
+        public List<IndexAccessor> getIndexAccessors() {
+            return shared.getIndexAccessors();
+        }
+
+        @Override
+        public List<ConstructorResolver> getConstructorResolvers() {
+            return shared.getConstructorResolvers();
+        }
+
+        @Override
+        public List<MethodResolver> getMethodResolvers() {
+            return shared.getMethodResolvers();
+        }
+
+        @Override
+        public BeanResolver getBeanResolver() {
+            return shared.getBeanResolver();
+        }
+
+        @Override
+        public TypeLocator getTypeLocator() {
+            return shared.getTypeLocator();
+        }
+
+        @Override
+        public TypeConverter getTypeConverter() {
+            return shared.getTypeConverter();
+        }
+
+        @Override
+        public TypeComparator getTypeComparator() {
+            return shared.getTypeComparator();
+        }
+
+        @Override
+        public OperatorOverloader getOperatorOverloader() {
+            return shared.getOperatorOverloader();
+        }
+    }
+
+    // --- JSON / SQL 规则树 ---
+
+    private record RulePolicy(PolicyRule rule) implements CompiledPolicy {
+
+        @Override
+        public boolean evaluate(PolicySubject subject, Object resource) {
+            return rule.test(subject, resource);
+        }
+
+        @Override
+        public boolean isPushdownSupported() {
+            return true;
+        }
+
+        @Override
+        public Predicate toPredicate(Table<?> table, PolicySubject subject) {
+            return rule.toPredicate(table, subject);
+        }
+    }
+
+    private static PolicyRule parseJson(String content) {
+        try {
+            return parseJsonNode(JSON_MAPPER.readTree(content));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid JSON rule: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private static PolicyRule parseJsonNode(JsonNode node) {
+        if (node.has("and")) {
+            return new PolicyRule.And(parseJsonChildren(node.get("and")));
+        }
+        if (node.has("or")) {
+            return new PolicyRule.Or(parseJsonChildren(node.get("or")));
+        }
+        if (node.has("not")) {
+            return new PolicyRule.Not(parseJsonNode(node.get("not")));
+        }
+        if (!node.hasNonNull("field") || !node.hasNonNull("op")) {
+            throw new IllegalArgumentException("JSON rule requires 'field' and 'op': " + node);
+        }
+
+        var op = PolicyRule.Operator.valueOf(node.get("op").asText().toUpperCase(Locale.ROOT));
+        Function<PolicySubject, Object> operand;
+        if (node.hasNonNull("ref")) {
+            operand = userRef(node.get("ref").asText());
+        } else {
+            Object value = JSON_MAPPER.convertValue(node.get("value"), Object.class);
+            operand = subject -> value;
+        }
+        return new PolicyRule.Compare(node.get("field").asText(), op, operand);
+    }
+
+    private static List<PolicyRule> parseJsonChildren(JsonNode array) {
+        if (!array.isArray() || array.isEmpty()) {
+            throw new IllegalArgumentException("JSON rule group must be a non-empty array");
+        }
+        List<PolicyRule> rules = new ArrayList<>(array.size());
+        array.forEach(child -> rules.add(parseJsonNode(child)));
+        return List.copyOf(rules);
+    }
+
+    /**
+     * 解析用户属性引用：user.id / user.tenantId / user.orgId / user.attributes.xxx
+     */
+    static Function<PolicySubject, Object> userRef(String path) {
+        String[] parts = path.split("\\.");
+        if (parts.length < 2 || !"user".equals(parts[0])) {
+            throw new IllegalArgumentException("User reference must start with 'user.': " + path);
+        }
+        return switch (parts[1]) {
+            case "id", "userId" -> PolicySubject::getUserId;
+            case "tenantId" -> PolicySubject::getTenantId;
+            case "orgId" -> PolicySubject::getOrgId;
+            case "attributes" -> {
+                if (parts.length != 3) {
+                    throw new IllegalArgumentException("Attribute reference must be user.attributes.<name>: " + path);
+                }
+                String name = parts[2];
+                yield subject -> subject.getAttributes().get(name);
+            }
+            default -> throw new IllegalArgumentException("Unknown user reference: " + path);
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.faustofan.admin.system.domain.policy;
+
+import java.io.Serializable;
+
+import io.github.faustofan.admin.system.domain.enums.PolicyType;
+
+/**
+ * ABAC 策略定义
+ * <p>
+ * 策略引擎按 (id, version) 编译并缓存，version 取策略最后更新时间，
+ * 策略内容变化后自动使用新的编译结果。
+ *
+ * @param id             策略ID
+ * @param version        策略版本（更新时间毫秒数）
+ * @param targetResource 作用的业务对象，例如 "SYS_USER"
+ * @param type           策略类型
+ * @param content        规则内容
+ */
+public record PolicyDefinition(
+        long id,
+        long version,
+        String targetResource,
+        PolicyType type,
+        String content
+) implements Serializable {}
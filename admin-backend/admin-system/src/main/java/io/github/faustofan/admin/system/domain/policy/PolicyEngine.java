@@ -0,0 +1,163 @@
+package io.github.faustofan.admin.system.domain.policy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.github.faustofan.admin.system.domain.constants.SysPolicyResources;
+import io.github.faustofan.admin.system.domain.enums.PolicyType;
+import org.babyfish.jimmer.sql.ast.Predicate;
+import org.babyfish.jimmer.sql.ast.table.Table;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * ABAC 策略引擎
+ * <p>
+ * 每个策略按 (id, version) 编译一次并缓存，求值时不再解析规则文本。
+ * 同一用户对同一资源的多个策略之间为“或”关系（任一角色授权即可访问）。
+ * 无法编译的策略按拒绝处理（fail-closed）。
+ */
+@Service
+public class PolicyEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(PolicyEngine.class);
+
+    private static final CompiledPolicy DENY = new CompiledPolicy() {
+        @Override
+        public boolean evaluate(PolicySubject subject, Object resource) {
+            return false;
+        }
+
+        @Override
+        public boolean isPushdownSupported() {
+            return false;
+        }
+
+        @Override
+        public Predicate toPredicate(Table<?> table, PolicySubject subject) {
+            return null;
+        }
+    };
+
+    private record PolicyKey(long id, long version) {}
+
+    private final Cache<PolicyKey, CompiledPolicy> compiled = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterAccess(Duration.ofHours(1))
+            .build();
+
+    /**
+     * 获取策略的编译结果
+     */
+    public CompiledPolicy compile(PolicyDefinition definition) {
+        return compiled.get(new PolicyKey(definition.id(), definition.version()), key -> {
+            try {
+                return PolicyCompiler.compile(definition);
+            } catch (RuntimeException e) {
+                log.warn("Policy {} (v{}) compile failed, treated as deny: {}",
+                        definition.id(), definition.version(), e.getMessage());
+                return DENY;
+            }
+        });
+    }
+
+    /**
+     * 保存前校验策略规则
+     * <p>
+     * 规则必须能够编译；列表资源只能按查询条件过滤，其策略还必须可以下推，
+     * 否则该类策略在列表查询中只能整体拒绝。
+     *
+     * @param targetResource 资源类型
+     * @param type           策略类型
+     * @param content        规则内容
+     * @throws IllegalArgumentException 规则无效或不能用于该资源
+     */
+    public void validate(String targetResource, PolicyType type, String content) {
+        CompiledPolicy policy;
+        try {
+            policy = PolicyCompiler.compile(new PolicyDefinition(0L, 0L, targetResource, type, content));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+        if (SysPolicyResources.isListResource(targetResource) && !policy.isPushdownSupported()) {
+            throw new IllegalArgumentException(
+                    "Policy for list resource " + targetResource + " must be JSON_RULE or SQL_FRAGMENT");
+        }
+    }
+
+    /**
+     * 在内存中判断当前用户能否访问某个资源
+     *
+     * @param resourceType 资源类型（对应策略的 targetResource）
+     * @param subject      当前用户
+     * @param resource     资源对象
+     * @return 没有适用策略或任一策略通过时返回 true
+     */
+    public boolean evaluate(String resourceType, PolicySubject subject, Object resource) {
+        if (subject.isSuperAdmin()) {
+            return true;
+        }
+        List<PolicyDefinition> applicable = applicable(resourceType, subject);
+        if (applicable.isEmpty()) {
+            return true;
+        }
+        for (PolicyDefinition definition : applicable) {
+            if (compile(definition).evaluate(subject, resource)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 将当前用户对某类资源的策略翻译为查询条件，使行级过滤在数据库中完成
+     * <p>
+     * 仅 JSON 与 SQL 片段策略可以下推；列表资源的 SpEL 策略在保存时即被拒绝（见 {@link #validate}），
+     * 历史遗留的此类策略不会扩大查询结果。
+     *
+     * @param resourceType 资源类型（对应策略的 targetResource）
+     * @param table        查询的表
+     * @param subject      当前用户
+     * @return 查询条件；没有适用策略时返回 null（不限制）
+     */
+    public Predicate toPredicate(String resourceType, Table<?> table, PolicySubject subject) {
+        if (subject.isSuperAdmin()) {
+            return null;
+        }
+        List<PolicyDefinition> applicable = applicable(resourceType, subject);
+        if (applicable.isEmpty()) {
+            return null;
+        }
+        List<Predicate> predicates = new ArrayList<>(applicable.size());
+        for (PolicyDefinition definition : applicable) {
+            CompiledPolicy policy = compile(definition);
+            if (!policy.isPushdownSupported()) {
+                continue;
+            }
+            try {
+                predicates.add(policy.toPredicate(table, subject));
+            } catch (IllegalArgumentException e) {
+                // 规则引用了该表不存在的字段，按拒绝处理
+                log.warn("Policy {} cannot be applied to {}: {}", definition.id(), resourceType, e.getMessage());
+            }
+        }
+        if (predicates.isEmpty()) {
+            // 存在策略但都不能下推（仅历史数据会出现）：不返回任何行
+            log.warn("No pushdown policy for {} among {}, denying all rows", resourceType,
+                    applicable.stream().map(PolicyDefinition::id).toList());
+            return table.get(table.getImmutableType().getIdProp().getName()).isNull();
+        }
+        return Predicate.or(predicates.toArray(Predicate[]::new));
+    }
+
+    private static List<PolicyDefinition> applicable(String resourceType, PolicySubject subject) {
+        return subject.getPolicies().stream()
+                .filter(definition -> resourceType.equalsIgnoreCase(definition.targetResource()))
+                .toList();
+    }
+}
@@ -0,0 +1,245 @@
+package io.github.faustofan.admin.system.domain.policy;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.babyfish.jimmer.meta.ImmutableProp;
+import org.babyfish.jimmer.meta.ImmutableType;
+import org.babyfish.jimmer.meta.TargetLevel;
+import org.babyfish.jimmer.runtime.ImmutableSpi;
+import org.babyfish.jimmer.sql.ast.ComparableExpression;
+import org.babyfish.jimmer.sql.ast.Expression;
+import org.babyfish.jimmer.sql.ast.Predicate;
+import org.babyfish.jimmer.sql.ast.table.Table;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+/**
+ * 规则树（JSON 规则与 SQL 片段编译后的统一形式）
+ * <p>
+ * 同一棵规则树既可在内存中求值，也可翻译为 Jimmer 查询条件。
+ * 字段名使用实体属性名，{@code xxxId} 可引用多对一关联的外键。
+ */
+sealed interface PolicyRule {
+
+    boolean test(PolicySubject subject, Object resource);
+
+    Predicate toPredicate(Table<?> table, PolicySubject subject);
+
+    record And(List<PolicyRule> rules) implements PolicyRule {
+
+        @Override
+        public boolean test(PolicySubject subject, Object resource) {
+            for (PolicyRule rule : rules) {
+                if (!rule.test(subject, resource)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Predicate toPredicate(Table<?> table, PolicySubject subject) {
+            return Predicate.and(rules.stream()
+                    .map(rule -> rule.toPredicate(table, subject))
+                    .toArray(Predicate[]::new));
+        }
+    }
+
+    record Or(List<PolicyRule> rules) implements PolicyRule {
+
+        @Override
+        public boolean test(PolicySubject subject, Object resource) {
+            for (PolicyRule rule : rules) {
+                if (rule.test(subject, resource)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Predicate toPredicate(Table<?> table, PolicySubject subject) {
+            return Predicate.or(rules.stream()
+                    .map(rule -> rule.toPredicate(table, subject))
+                    .toArray(Predicate[]::new));
+        }
+    }
+
+    record Not(PolicyRule rule) implements PolicyRule {
+
+        @Override
+        public boolean test(PolicySubject subject, Object resource) {
+            return !rule.test(subject, resource);
+        }
+
+        @Override
+        public Predicate toPredicate(Table<?> table, PolicySubject subject) {
+            return rule.toPredicate(table, subject).not();
+        }
+    }
+
+    /**
+     * 比较条件：{@code field op operand}
+     */
+    record Compare(String field, Operator op, Function<PolicySubject, Object> operand) implements PolicyRule {
+
+        @Override
+        public boolean test(PolicySubject subject, Object resource) {
+            Object left = readField(resource, field);
+            Object right = operand.apply(subject);
+            return switch (op) {
+                case EQ -> valueEquals(left, right);
+                case NE -> !valueEquals(left, right);
+                case IN -> right instanceof Collection<?> values
+                        && values.stream().anyMatch(value -> valueEquals(left, value));
+                // null 不参与大小比较
+                case LT, LE, GT, GE -> left != null && right != null && compareMatches(left, right);
+            };
+        }
+
+        private boolean compareMatches(Object left, Object right) {
+            int result = compare(left, right);
+            return switch (op) {
+                case LT -> result < 0;
+                case LE -> result <= 0;
+                case GT -> result > 0;
+                case GE -> result >= 0;
+                default -> false;
+            };
+        }
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public Predicate toPredicate(Table<?> table, PolicySubject subject) {
+            ImmutableProp prop = resolveProp(table.getImmutableType(), field);
+            Expression<Object> expr = prop.isReference(TargetLevel.PERSISTENT)
+                    ? table.getAssociatedId(prop.getName())
+                    : table.get(prop.getName());
+            Class<?> valueType = prop.isReference(TargetLevel.PERSISTENT)
+                    ? prop.getTargetType().getIdProp().getReturnClass()
+                    : prop.getReturnClass();
+
+            Object right = operand.apply(subject);
+            if (right == null) {
+                // 与 SQL 语义保持一致：只有 EQ/NE 可以与 null 比较
+                return switch (op) {
+                    case EQ -> expr.isNull();
+                    case NE -> expr.isNotNull();
+                    default -> never(table);
+                };
+            }
+            if (op == Operator.IN) {
+                if (!(right instanceof Collection<?> values) || values.isEmpty()) {
+                    return never(table);
+                }
+                List<Object> converted = new ArrayList<>(values.size());
+                values.forEach(value -> converted.add(convert(value, valueType)));
+                return expr.in(converted);
+            }
+
+            Object value = convert(right, valueType);
+            if (op == Operator.EQ) {
+                return expr.eq(value);
+            }
+            if (op == Operator.NE) {
+                return expr.ne(value);
+            }
+            if (!(expr instanceof ComparableExpression cmp)) {
+                throw new IllegalArgumentException("Property is not comparable: " + field);
+            }
+            return switch (op) {
+                case LT -> cmp.lt((Comparable) value);
+                case LE -> cmp.le((Comparable) value);
+                case GT -> cmp.gt((Comparable) value);
+                case GE -> cmp.ge((Comparable) value);
+                default -> throw new IllegalStateException("Unexpected operator: " + op);
+            };
+        }
+    }
+
+    enum Operator {
+        EQ, NE, LT, LE, GT, GE, IN
+    }
+
+    // --- 工具方法 ---
+
+    /**
+     * 解析字段对应的实体属性，{@code orgId} 这类写法映射到多对一关联 {@code org}
+     */
+    static ImmutableProp resolveProp(ImmutableType type, String field) {
+        Map<String, ImmutableProp> props = type.getProps();
+        ImmutableProp prop = props.get(field);
+        if (prop == null && field.endsWith("Id")) {
+            ImmutableProp association = props.get(field.substring(0, field.length() - 2));
+            if (association != null && association.isReference(TargetLevel.PERSISTENT)) {
+                prop = association;
+            }
+        }
+        if (prop == null || !(prop.isColumnDefinition() || prop.isReference(TargetLevel.PERSISTENT))) {
+            throw new IllegalArgumentException(
+                    "Unknown property '" + field + "' of " + type.getJavaClass().getSimpleName());
+        }
+        return prop;
+    }
+
+    private static Object readField(Object resource, String field) {
+        return switch (resource) {
+            case null -> null;
+            case Map<?, ?> map -> map.get(field);
+            case ImmutableSpi spi -> {
+                ImmutableProp prop = resolveProp(spi.__type(), field);
+                if (!spi.__isLoaded(prop.getId())) {
+                    yield null;
+                }
+                Object value = spi.__get(prop.getId());
+                if (prop.isReference(TargetLevel.PERSISTENT) && value instanceof ImmutableSpi target) {
+                    yield target.__get(target.__type().getIdProp().getId());
+                }
+                yield value;
+            }
+            default -> new BeanWrapperImpl(resource).getPropertyValue(field);
+        };
+    }
+
+    private static boolean valueEquals(Object left, Object right) {
+        if (left == null || right == null) {
+            return left == right;
+        }
+        if (left instanceof Number && right instanceof Number) {
+            return toDecimal(left).compareTo(toDecimal(right)) == 0;
+        }
+        return Objects.equals(left, convert(right, left.getClass()));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Object left, Object right) {
+        if (left instanceof Number && right instanceof Number) {
+            return toDecimal(left).compareTo(toDecimal(right));
+        }
+        if (!(left instanceof Comparable comparable)) {
+            throw new IllegalArgumentException("Value is not comparable: " + left.getClass().getName());
+        }
+        return comparable.compareTo(convert(right, left.getClass()));
+    }
+
+    private static BigDecimal toDecimal(Object number) {
+        return number instanceof BigDecimal decimal ? decimal : new BigDecimal(number.toString());
+    }
+
+    private static Object convert(Object value, Class<?> type) {
+        return DefaultConversionService.getSharedInstance().convert(value, type);
+    }
+
+    /**
+     * 恒为假的条件（主键永不为空）
+     */
+    private static Predicate never(Table<?> table) {
+        return table.get(table.getImmutableType().getIdProp().getName()).isNull();
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.faustofan.admin.system.domain.policy;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 策略求值主体（当前用户）
+ * <p>
+ * 在 SpEL 中以 {@code #user} 引用，在 JSON/SQL 规则中以 {@code user.xxx} 引用。
+ * 使用 getter 而非 record，便于 SpEL 只读数据绑定访问。
+ */
+public final class PolicySubject {
+
+    private final long userId;
+    private final Long tenantId;
+    private final long orgId;
+    private final boolean superAdmin;
+    private final Map<String, Object> attributes;
+    private final Collection<PolicyDefinition> policies;
+
+    public PolicySubject(
+            long userId,
+            Long tenantId,
+            long orgId,
+            boolean superAdmin,
+            Map<String, Object> attributes,
+            Collection<PolicyDefinition> policies) {
+        this.userId = userId;
+        this.tenantId = tenantId;
+        this.orgId = orgId;
+        this.superAdmin = superAdmin;
+        this.attributes = attributes != null ? attributes : Map.of();
+        this.policies = policies != null ? policies : List.of();
+    }
+
+    public long getId() {
+        return userId;
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+
+    public Long getTenantId() {
+        return tenantId;
+    }
+
+    public long getOrgId() {
+        return orgId;
+    }
+
+    public boolean isSuperAdmin() {
+        return superAdmin;
+    }
+
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * 当前用户通过角色获得的全部策略
+     */
+    public Collection<PolicyDefinition> getPolicies() {
+        return policies;
+    }
+}
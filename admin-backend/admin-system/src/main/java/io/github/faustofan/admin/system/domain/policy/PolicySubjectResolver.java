@@ -0,0 +1,16 @@
+package io.github.faustofan.admin.system.domain.policy;
+
+/**
+ * 策略主体解析端口
+ * <p>
+ * 由鉴权模块根据当前登录用户实现，系统模块只依赖该接口。
+ */
+public interface PolicySubjectResolver {
+
+    /**
+     * 获取当前请求的策略主体
+     *
+     * @return 当前用户，未登录时返回 null
+     */
+    PolicySubject current();
+}
@@ -0,0 +1,335 @@
+package io.github.faustofan.admin.system.domain.policy;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * SQL 片段解析器
+ * <p>
+ * 先分词再递归下降解析，字符串字面量里的 AND、括号等不会被误拆，也不拼接原始 SQL。支持的语法：
+ * <pre>
+ * expr       := and (OR and)*
+ * and        := unary (AND unary)*
+ * unary      := NOT unary | '(' expr ')' | comparison
+ * comparison := column op operand
+ *             | column [NOT] IN '(' operand (',' operand)* ')'
+ *             | column IS [NOT] NULL
+ * column     := [this.]identifier
+ * operand    := :user.xxx | 'string' | number | true | false
+ * </pre>
+ * 运算符为 {@code = <> != < <= > >=}，关键字不区分大小写，字符串中的单引号写作 {@code ''}。
+ */
+final class SqlFragmentParser {
+
+    private enum Kind {
+        IDENT, PARAM, STRING, NUMBER, OP, LPAREN, RPAREN, COMMA, EOF
+    }
+
+    private record Token(Kind kind, String text, int pos) {
+
+        boolean isKeyword(String keyword) {
+            return kind == Kind.IDENT && text.equalsIgnoreCase(keyword);
+        }
+    }
+
+    private final String source;
+    private final List<Token> tokens;
+    private int index;
+
+    private SqlFragmentParser(String source) {
+        this.source = source;
+        this.tokens = tokenize(source);
+    }
+
+    /**
+     * 解析 SQL 片段为规则树
+     *
+     * @param content SQL 片段
+     * @return 规则树
+     * @throws IllegalArgumentException 片段不符合支持的语法
+     */
+    static PolicyRule parse(String content) {
+        SqlFragmentParser parser = new SqlFragmentParser(content);
+        PolicyRule rule = parser.parseOr();
+        parser.expect(Kind.EOF, "end of fragment");
+        return rule;
+    }
+
+    // --- 语法 ---
+
+    private PolicyRule parseOr() {
+        List<PolicyRule> rules = new ArrayList<>();
+        rules.add(parseAnd());
+        while (peek().isKeyword("OR")) {
+            index++;
+            rules.add(parseAnd());
+        }
+        return rules.size() == 1 ? rules.getFirst() : new PolicyRule.Or(List.copyOf(rules));
+    }
+
+    private PolicyRule parseAnd() {
+        List<PolicyRule> rules = new ArrayList<>();
+        rules.add(parseUnary());
+        while (peek().isKeyword("AND")) {
+            index++;
+            rules.add(parseUnary());
+        }
+        return rules.size() == 1 ? rules.getFirst() : new PolicyRule.And(List.copyOf(rules));
+    }
+
+    private PolicyRule parseUnary() {
+        if (peek().isKeyword("NOT")) {
+            index++;
+            return new PolicyRule.Not(parseUnary());
+        }
+        if (peek().kind() == Kind.LPAREN) {
+            index++;
+            PolicyRule rule = parseOr();
+            expect(Kind.RPAREN, "')'");
+            return rule;
+        }
+        return parseComparison();
+    }
+
+    private PolicyRule parseComparison() {
+        String field = column(expect(Kind.IDENT, "column"));
+        Token next = next();
+
+        if (next.isKeyword("IS")) {
+            boolean not = peek().isKeyword("NOT");
+            if (not) {
+                index++;
+            }
+            if (!next().isKeyword("NULL")) {
+                throw error(tokens.get(index - 1), "NULL");
+            }
+            return new PolicyRule.Compare(field, not ? PolicyRule.Operator.NE : PolicyRule.Operator.EQ,
+                    subject -> null);
+        }
+
+        boolean notIn = next.isKeyword("NOT");
+        if (notIn) {
+            next = next();
+        }
+        if (next.isKeyword("IN")) {
+            PolicyRule in = new PolicyRule.Compare(field, PolicyRule.Operator.IN, parseList());
+            return notIn ? new PolicyRule.Not(in) : in;
+        }
+        if (notIn) {
+            throw error(next, "IN");
+        }
+
+        if (next.kind() != Kind.OP) {
+            throw error(next, "comparison operator");
+        }
+        var op = switch (next.text()) {
+            case "=" -> PolicyRule.Operator.EQ;
+            case "<>", "!=" -> PolicyRule.Operator.NE;
+            case "<" -> PolicyRule.Operator.LT;
+            case "<=" -> PolicyRule.Operator.LE;
+            case ">" -> PolicyRule.Operator.GT;
+            default -> PolicyRule.Operator.GE;
+        };
+        return new PolicyRule.Compare(field, op, operand(next()));
+    }
+
+    private Function<PolicySubject, Object> parseList() {
+        expect(Kind.LPAREN, "'('");
+        List<Function<PolicySubject, Object>> operands = new ArrayList<>();
+        operands.add(operand(next()));
+        while (peek().kind() == Kind.COMMA) {
+            index++;
+            operands.add(operand(next()));
+        }
+        expect(Kind.RPAREN, "')'");
+        List<Function<PolicySubject, Object>> items = List.copyOf(operands);
+        return subject -> {
+            List<Object> values = new ArrayList<>(items.size());
+            items.forEach(item -> values.add(item.apply(subject)));
+            return values;
+        };
+    }
+
+    private Function<PolicySubject, Object> operand(Token token) {
+        Object value;
+        switch (token.kind()) {
+            case PARAM -> {
+                return PolicyCompiler.userRef(token.text().substring(1));
+            }
+            case STRING -> value = token.text();
+            case NUMBER -> value = token.text().contains(".")
+                    ? new BigDecimal(token.text())
+                    : Long.parseLong(token.text());
+            case IDENT -> {
+                if (token.isKeyword("TRUE") || token.isKeyword("FALSE")) {
+                    value = Boolean.parseBoolean(token.text().toLowerCase(Locale.ROOT));
+                } else {
+                    throw error(token, "value");
+                }
+            }
+            default -> throw error(token, "value");
+        }
+        return subject -> value;
+    }
+
+    private static String column(Token token) {
+        String name = token.text();
+        if (name.regionMatches(true, 0, "this.", 0, 5)) {
+            name = name.substring(5);
+        }
+        if (name.indexOf('.') >= 0) {
+            throw new IllegalArgumentException("Unsupported column reference: " + token.text());
+        }
+        return toCamelCase(name);
+    }
+
+    // --- 分词 ---
+
+    private Token peek() {
+        return tokens.get(index);
+    }
+
+    private Token next() {
+        Token token = tokens.get(index);
+        if (token.kind() != Kind.EOF) {
+            index++;
+        }
+        return token;
+    }
+
+    private Token expect(Kind kind, String expected) {
+        Token token = next();
+        if (token.kind() != kind) {
+            throw error(token, expected);
+        }
+        return token;
+    }
+
+    private IllegalArgumentException error(Token token, String expected) {
+        String found = token.kind() == Kind.EOF ? "end of fragment" : "'" + token.text() + "'";
+        return new IllegalArgumentException(
+                "Unsupported SQL fragment, expected " + expected + " but found " + found
+                        + " at position " + token.pos() + ": " + source);
+    }
+
+    private static List<Token> tokenize(String source) {
+        List<Token> tokens = new ArrayList<>();
+        int length = source.length();
+        int i = 0;
+        while (i < length) {
+            char c = source.charAt(i);
+            int start = i;
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(') {
+                tokens.add(new Token(Kind.LPAREN, "(", i++));
+            } else if (c == ')') {
+                tokens.add(new Token(Kind.RPAREN, ")", i++));
+            } else if (c == ',') {
+                tokens.add(new Token(Kind.COMMA, ",", i++));
+            } else if (c == '\'') {
+                StringBuilder text = new StringBuilder();
+                i++;
+                while (true) {
+                    if (i >= length) {
+                        throw new IllegalArgumentException(
+                                "Unterminated string literal at position " + start + ": " + source);
+                    }
+                    char ch = source.charAt(i++);
+                    if (ch == '\'') {
+                        if (i < length && source.charAt(i) == '\'') {
+                            text.append('\'');
+                            i++;
+                        } else {
+                            break;
+                        }
+                    } else {
+                        text.append(ch);
+                    }
+                }
+                tokens.add(new Token(Kind.STRING, text.toString(), start));
+            } else if (c == ':') {
+                i = scanPath(source, i + 1);
+                if (i == start + 1) {
+                    throw new IllegalArgumentException("Empty parameter at position " + start + ": " + source);
+                }
+                tokens.add(new Token(Kind.PARAM, source.substring(start, i), start));
+            } else if (Character.isDigit(c) || (c == '-' && i + 1 < length && Character.isDigit(source.charAt(i + 1)))) {
+                i++;
+                while (i < length && Character.isDigit(source.charAt(i))) {
+                    i++;
+                }
+                if (i + 1 < length && source.charAt(i) == '.' && Character.isDigit(source.charAt(i + 1))) {
+                    i++;
+                    while (i < length && Character.isDigit(source.charAt(i))) {
+                        i++;
+                    }
+                }
+                tokens.add(new Token(Kind.NUMBER, source.substring(start, i), start));
+            } else if (isIdentifierStart(c)) {
+                i = scanPath(source, i);
+                tokens.add(new Token(Kind.IDENT, source.substring(start, i), start));
+            } else if (c == '<' || c == '>' || c == '=' || c == '!') {
+                String op = i + 1 < length ? source.substring(i, i + 2) : "";
+                if (op.equals("<=") || op.equals(">=") || op.equals("<>") || op.equals("!=")) {
+                    i += 2;
+                } else if (c != '!') {
+                    op = String.valueOf(c);
+                    i++;
+                } else {
+                    throw new IllegalArgumentException("Unexpected '!' at position " + start + ": " + source);
+                }
+                tokens.add(new Token(Kind.OP, op, start));
+            } else {
+                throw new IllegalArgumentException(
+                        "Unexpected character '" + c + "' at position " + start + ": " + source);
+            }
+        }
+        tokens.add(new Token(Kind.EOF, "", length));
+        return tokens;
+    }
+
+    /**
+     * 扫描以点分隔的标识符路径（如 this.org_id、user.attributes.level），返回结束位置
+     */
+    private static int scanPath(String source, int i) {
+        int length = source.length();
+        while (i < length && isIdentifierStart(source.charAt(i))) {
+            i++;
+            while (i < length && isIdentifierPart(source.charAt(i))) {
+                i++;
+            }
+            if (i + 1 < length && source.charAt(i) == '.' && isIdentifierStart(source.charAt(i + 1))) {
+                i++;
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+
+    private static boolean isIdentifierStart(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || c == '_';
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return isIdentifierStart(c) || (c >= '0' && c <= '9');
+    }
+
+    private static String toCamelCase(String column) {
+        StringBuilder builder = new StringBuilder(column.length());
+        boolean upper = false;
+        for (char c : column.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (c == '_') {
+                upper = true;
+            } else {
+                builder.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            }
+        }
+        return builder.toString();
+    }
+}
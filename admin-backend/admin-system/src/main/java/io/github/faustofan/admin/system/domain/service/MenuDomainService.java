@@ -0,0 +1,114 @@
+package io.github.faustofan.admin.system.domain.service;
+
+import io.github.faustofan.admin.shared.common.constant.SystemConstants;
+import io.github.faustofan.admin.shared.common.context.AppContextHolder;
+import io.github.faustofan.admin.shared.common.exception.BizException;
+import io.github.faustofan.admin.shared.common.exception.errcode.BizErrorCode;
+import io.github.faustofan.admin.shared.messaging.core.SysMessage;
+import io.github.faustofan.admin.shared.messaging.enums.MsgScope;
+import io.github.faustofan.admin.shared.messaging.interfaces.MessageBus;
+import io.github.faustofan.admin.system.domain.constants.SysMenuTopics;
+import io.github.faustofan.admin.system.domain.event.MenuChangedEvent;
+import io.github.faustofan.admin.system.domain.model.SysMenu;
+import io.github.faustofan.admin.system.infrastructure.reponsitory.SysMenuRepository;
+import io.github.faustofan.admin.system.infrastructure.reponsitory.SysRoleRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 菜单领域服务
+ * <p>
+ * 负责处理菜单相关的领域逻辑。
+ */
+@Service
+public class MenuDomainService {
+
+    private final SysMenuRepository menuRepository;
+
+    private final SysRoleRepository roleRepository;
+
+    private final MessageBus messageBus;
+
+    public MenuDomainService(
+            SysMenuRepository menuRepository, SysRoleRepository roleRepository, MessageBus messageBus) {
+        this.menuRepository = menuRepository;
+        this.roleRepository = roleRepository;
+        this.messageBus = messageBus;
+    }
+
+    /**
+     * 创建菜单
+     *
+     * @param menu 菜单实体
+     * @return 持久化后的菜单实体
+     */
+    @Transactional
+    public SysMenu createMenu(SysMenu menu) {
+        SysMenu saved = menuRepository.save(menu);
+        publishMenuChanged(List.of(saved.id()));
+        return saved;
+    }
+
+    /**
+     * 修改菜单（权限码、路由、可见性等）
+     *
+     * @param changes 包含菜单ID与待修改属性的实体
+     */
+    @Transactional
+    public void updateMenu(SysMenu changes) {
+        if (menuRepository.findNullable(changes.id()) == null) {
+            throw new BizException(BizErrorCode.MENU_NOT_EXIST);
+        }
+        menuRepository.save(changes);
+        publishMenuChanged(List.of(changes.id()));
+    }
+
+    /**
+     * 删除菜单（连同全部下级菜单）
+     *
+     * @param menuId 菜单ID
+     */
+    @Transactional
+    public void deleteMenu(long menuId) {
+        if (menuRepository.findNullable(menuId) == null) {
+            throw new BizException(BizErrorCode.MENU_NOT_EXIST);
+        }
+        List<Long> menuIds = new ArrayList<>();
+        for (List<Long> level = List.of(menuId); !level.isEmpty(); level = menuRepository.findIdsByParentIds(level)) {
+            menuIds.addAll(level);
+        }
+
+        // 删除前发布（提交后才真正发出），此时仍能查到关联这些菜单的角色
+        publishMenuChanged(menuIds);
+        menuRepository.deleteByIds(menuIds);
+    }
+
+    /**
+     * 发布菜单变更事件
+     * <p>
+     * 菜单权限码、路由、可见性等变更后调用，鉴权模块据此重建受影响的缓存。
+     * 关联的角色和产品包在调用时解析（菜单为全局数据，跨租户查询），事件在事务提交后发出。
+     *
+     * @param menuIds 发生变更的菜单ID
+     */
+    public void publishMenuChanged(Collection<Long> menuIds) {
+        if (menuIds == null || menuIds.isEmpty()) {
+            return;
+        }
+        List<Long> roleIds = AppContextHolder.callWith(SystemConstants.Identity.SYSTEM_CONTEXT,
+                () -> roleRepository.findIdsByMenuIds(menuIds));
+        List<Long> packageIds = menuRepository.findPackageIdsByMenuIds(menuIds);
+        var event = new MenuChangedEvent(List.copyOf(menuIds), roleIds, packageIds, Instant.now());
+
+        messageBus.publishAfterCommit(SysMessage.<MenuChangedEvent>builder()
+                .topic(SysMenuTopics.MENU_CHANGED)
+                .scope(MsgScope.GLOBAL)
+                .payload(event)
+                .build());
+    }
+}
@@ -1,20 +1,57 @@
 package io.github.faustofan.admin.system.domain.service;
 
+import io.github.faustofan.admin.shared.common.context.AppContextHolder;
+import io.github.faustofan.admin.shared.common.exception.BizException;
+import io.github.faustofan.admin.shared.common.exception.errcode.BizErrorCode;
+import io.github.faustofan.admin.shared.messaging.core.SysMessage;
+import io.github.faustofan.admin.shared.messaging.enums.MsgScope;
+import io.github.faustofan.admin.shared.messaging.interfaces.MessageBus;
+import io.github.faustofan.admin.system.domain.constants.SysOrgTopics;
+import io.github.faustofan.admin.system.domain.event.OrgChangedEvent;
+import io.github.faustofan.admin.system.domain.model.SysOrg;
+import io.github.faustofan.admin.system.domain.model.SysOrgProps;
+import io.github.faustofan.admin.system.infrastructure.mapper.SysOrgClosureMapper;
 import io.github.faustofan.admin.system.infrastructure.reponsitory.SysOrgRepository;
+import io.github.faustofan.admin.system.infrastructure.trigger.SysOrgClosureTrigger;
+import io.github.faustofan.admin.system.infrastructure.version.SysDataVersion;
+import org.babyfish.jimmer.ImmutableObjects;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * 组织机构领域服务
  * 提供与组织机构相关的领域逻辑操作
+ * <p>
+ * 组织层级通过闭包表 sys_org_closure 维护，闭包表由 {@link SysOrgClosureTrigger}
+ * 在 sys_org 写入的同一事务内同步；本服务负责写入前的校验与变更事件。
  */
 @Service
 public class OrgDomainService {
 
     private final SysOrgRepository sysOrgRepository;
 
-    public OrgDomainService(SysOrgRepository sysOrgRepository) {
+    private final SysOrgClosureMapper closureMapper;
+
+    private final MessageBus messageBus;
+
+    private final SysDataVersion dataVersion;
+
+    public OrgDomainService(
+            SysOrgRepository sysOrgRepository,
+            SysOrgClosureMapper closureMapper,
+            MessageBus messageBus,
+            SysDataVersion dataVersion) {
         this.sysOrgRepository = sysOrgRepository;
+        this.closureMapper = closureMapper;
+        this.messageBus = messageBus;
+        this.dataVersion = dataVersion;
     }
 
     /**
@@ -26,4 +63,141 @@ public class OrgDomainService {
     public boolean existsById(@NonNull Long id) {
         return sysOrgRepository.existsById(id);
     }
+
+    // ========================================================================
+    // 层级查询 (均为单条 SQL)
+    // ========================================================================
+
+    /**
+     * 查询祖先组织ID
+     *
+     * @param orgId 组织ID
+     * @return 祖先组织ID（由近及远，不含自身）
+     */
+    public List<Long> findAncestorIds(long orgId) {
+        return closureMapper.findAncestorIds(orgId);
+    }
+
+    /**
+     * 查询后代组织ID
+     *
+     * @param orgId    组织ID
+     * @param maxDepth 最大相对深度（1 表示直接下级），为空时不限制
+     * @return 后代组织ID（含自身，按深度排序）
+     */
+    public List<Long> findDescendantIds(long orgId, @Nullable Integer maxDepth) {
+        return closureMapper.findDescendantIds(orgId, maxDepth);
+    }
+
+    /**
+     * 统计组织及其下级组织的用户数
+     *
+     * @param orgId 组织ID
+     * @return 用户数
+     */
+    public long countSubtreeUsers(long orgId) {
+        return closureMapper.countSubtreeUsers(orgId);
+    }
+
+    // ========================================================================
+    // 层级变更 (闭包表由触发器同步维护)
+    // ========================================================================
+
+    /**
+     * 创建组织
+     * <p>
+     * 先校验上级存在且属于同一租户再写入，闭包表由触发器在同一事务内维护。
+     *
+     * @param org 组织实体
+     * @return 持久化后的组织实体
+     */
+    @Transactional
+    public SysOrg createOrg(SysOrg org) {
+        Long parentId = ImmutableObjects.isLoaded(org, SysOrgProps.PARENT) && org.parent() != null
+                ? org.parent().id()
+                : null;
+        if (parentId != null) {
+            SysOrg parent = sysOrgRepository.findById(parentId)
+                    .orElseThrow(() -> new BizException(BizErrorCode.ORG_NOT_EXIST));
+            Long tenantId = ImmutableObjects.isLoaded(org, SysOrgProps.TENANT_ID)
+                    ? org.tenantId()
+                    : AppContextHolder.getContext().tenantId();
+            if (!Objects.equals(parent.tenantId(), tenantId)) {
+                throw new BizException(BizErrorCode.ORG_NOT_EXIST, "上级组织不属于当前租户");
+            }
+        }
+
+        SysOrg saved = sysOrgRepository.save(org);
+        dataVersion.changed(saved.tenantId());
+
+        publishOrgChanged(saved.tenantId(), List.of(saved.id()));
+        return saved;
+    }
+
+    /**
+     * 移动组织（连同整棵子树）到新的上级下
+     * <p>
+     * 闭包表按集合改写：先断开子树与原祖先的链接，再与新上级的祖先做笛卡尔积，
+     * 语句数与子树大小无关（由触发器在修改上级时执行）。
+     *
+     * @param orgId       组织ID
+     * @param newParentId 新上级组织ID，为 null 时成为顶级组织
+     */
+    @Transactional
+    public void moveOrg(long orgId, @Nullable Long newParentId) {
+        SysOrg org = sysOrgRepository.findById(orgId)
+                .orElseThrow(() -> new BizException(BizErrorCode.ORG_NOT_EXIST));
+        if (newParentId != null) {
+            SysOrg parent = sysOrgRepository.findById(newParentId)
+                    .orElseThrow(() -> new BizException(BizErrorCode.ORG_NOT_EXIST));
+            if (parent.tenantId() != org.tenantId()) {
+                throw new BizException(BizErrorCode.ORG_NOT_EXIST, "上级组织不属于当前租户");
+            }
+            // 新上级不能是自身或其下级，否则成环
+            if (closureMapper.isDescendant(orgId, newParentId)) {
+                throw new BizException(BizErrorCode.ORG_MOVE_INTO_SUBTREE);
+            }
+        }
+
+        sysOrgRepository.updateParent(orgId, newParentId);
+        dataVersion.changed(org.tenantId());
+
+        publishOrgChanged(org.tenantId(), List.of(orgId));
+    }
+
+    /**
+     * 删除组织（连同整棵子树）
+     *
+     * @param orgId 组织ID
+     */
+    @Transactional
+    public void deleteOrg(long orgId) {
+        SysOrg org = sysOrgRepository.findById(orgId)
+                .orElseThrow(() -> new BizException(BizErrorCode.ORG_NOT_EXIST));
+
+        List<Long> removed = closureMapper.findDescendantIds(orgId, null);
+        sysOrgRepository.deleteByIds(removed);
+        dataVersion.changed(org.tenantId());
+
+        publishOrgChanged(org.tenantId(), removed);
+    }
+
+    /**
+     * 发布组织层级变更事件
+     * <p>
+     * 组织新增、删除或移动后调用，组织层级索引据此修补对应租户。
+     * 索引修补会读取变更组织的上级，因此事件在事务提交后发出。
+     *
+     * @param tenantId 租户ID
+     * @param orgIds   发生变更的组织ID
+     */
+    public void publishOrgChanged(Long tenantId, Collection<Long> orgIds) {
+        var event = new OrgChangedEvent(tenantId, List.copyOf(orgIds), Instant.now());
+
+        messageBus.publishAfterCommit(SysMessage.<OrgChangedEvent>builder()
+                .topic(SysOrgTopics.ORG_CHANGED)
+                .scope(MsgScope.GLOBAL)
+                .payload(event)
+                .build());
+    }
 }
@@ -0,0 +1,70 @@
+package io.github.faustofan.admin.system.domain.service;
+
+import io.github.faustofan.admin.shared.common.exception.BizException;
+import io.github.faustofan.admin.shared.common.exception.errcode.BizErrorCode;
+import io.github.faustofan.admin.shared.messaging.core.SysMessage;
+import io.github.faustofan.admin.shared.messaging.enums.MsgScope;
+import io.github.faustofan.admin.shared.messaging.interfaces.MessageBus;
+import io.github.faustofan.admin.system.domain.constants.SysPackageTopics;
+import io.github.faustofan.admin.system.domain.event.PackageChangedEvent;
+import io.github.faustofan.admin.system.domain.model.SysProductPackage;
+import io.github.faustofan.admin.system.infrastructure.reponsitory.SysProductPackageRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 产品包领域服务
+ * <p>
+ * 负责处理产品包相关的领域逻辑。
+ */
+@Service
+public class PackageDomainService {
+
+    private final SysProductPackageRepository repository;
+
+    private final MessageBus messageBus;
+
+    public PackageDomainService(SysProductPackageRepository repository, MessageBus messageBus) {
+        this.repository = repository;
+        this.messageBus = messageBus;
+    }
+
+    /**
+     * 修改产品包包含的菜单（整体替换）
+     *
+     * @param changes 包含产品包ID与菜单关联的实体
+     */
+    @Transactional
+    public void updateMenus(SysProductPackage changes) {
+        if (repository.findNullable(changes.id()) == null) {
+            throw new BizException(BizErrorCode.PACKAGE_NOT_EXIST);
+        }
+        repository.save(changes);
+        publishPackageChanged(List.of(changes.id()));
+    }
+
+    /**
+     * 发布产品包变更事件
+     * <p>
+     * 产品包的菜单变更后调用，鉴权模块据此重新计算并推送租户授权快照。
+     * 在事务中调用时推迟到提交后发布，避免监听方读到旧数据。
+     *
+     * @param packageIds 发生变更的产品包ID
+     */
+    public void publishPackageChanged(Collection<Long> packageIds) {
+        if (packageIds == null || packageIds.isEmpty()) {
+            return;
+        }
+        var event = new PackageChangedEvent(List.copyOf(packageIds), Instant.now());
+
+        messageBus.publishAfterCommit(SysMessage.<PackageChangedEvent>builder()
+                .topic(SysPackageTopics.PACKAGE_CHANGED)
+                .scope(MsgScope.GLOBAL)
+                .payload(event)
+                .build());
+    }
+}
@@ -0,0 +1,144 @@
+package io.github.faustofan.admin.system.domain.service;
+
+import io.github.faustofan.admin.shared.common.exception.BizException;
+import io.github.faustofan.admin.shared.common.exception.errcode.BizErrorCode;
+import io.github.faustofan.admin.shared.messaging.core.SysMessage;
+import io.github.faustofan.admin.shared.messaging.enums.MsgScope;
+import io.github.faustofan.admin.shared.messaging.interfaces.MessageBus;
+import io.github.faustofan.admin.system.domain.constants.SysPolicyTopics;
+import io.github.faustofan.admin.system.domain.enums.PolicyType;
+import io.github.faustofan.admin.system.domain.event.PolicyChangedEvent;
+import io.github.faustofan.admin.system.domain.model.SysAbacPolicy;
+import io.github.faustofan.admin.system.domain.model.SysAbacPolicyProps;
+import io.github.faustofan.admin.system.domain.policy.PolicyEngine;
+import io.github.faustofan.admin.system.infrastructure.reponsitory.SysAbacPolicyRepository;
+import io.github.faustofan.admin.system.infrastructure.reponsitory.SysRoleRepository;
+import io.github.faustofan.admin.system.infrastructure.version.SysDataVersion;
+import org.babyfish.jimmer.ImmutableObjects;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * ABAC 策略领域服务
+ * <p>
+ * 负责处理数据策略相关的领域逻辑。
+ */
+@Service
+public class PolicyDomainService {
+
+    private final SysAbacPolicyRepository policyRepository;
+
+    private final SysRoleRepository roleRepository;
+
+    private final MessageBus messageBus;
+
+    private final SysDataVersion dataVersion;
+
+    private final PolicyEngine policyEngine;
+
+    public PolicyDomainService(
+            SysAbacPolicyRepository policyRepository,
+            SysRoleRepository roleRepository,
+            MessageBus messageBus,
+            SysDataVersion dataVersion,
+            PolicyEngine policyEngine) {
+        this.policyRepository = policyRepository;
+        this.roleRepository = roleRepository;
+        this.messageBus = messageBus;
+        this.dataVersion = dataVersion;
+        this.policyEngine = policyEngine;
+    }
+
+    /**
+     * 创建策略
+     * <p>
+     * 新策略尚未绑定角色，不影响任何用户，无需发布变更事件。
+     *
+     * @param policy 策略实体
+     * @return 持久化后的策略实体
+     */
+    @Transactional
+    public SysAbacPolicy createPolicy(SysAbacPolicy policy) {
+        validateRule(policy.targetResource(), policy.policyType(), policy.policyContent());
+        return policyRepository.save(policy);
+    }
+
+    /**
+     * 修改策略
+     *
+     * @param changes 包含策略ID与待修改属性的实体
+     */
+    @Transactional
+    public void updatePolicy(SysAbacPolicy changes) {
+        SysAbacPolicy policy = policyRepository.findById(changes.id())
+                .orElseThrow(() -> new BizException(BizErrorCode.POLICY_NOT_EXIST));
+
+        // 按修改后的完整规则校验，未修改的属性取原值
+        validateRule(
+                ImmutableObjects.isLoaded(changes, SysAbacPolicyProps.TARGET_RESOURCE)
+                        ? changes.targetResource() : policy.targetResource(),
+                ImmutableObjects.isLoaded(changes, SysAbacPolicyProps.POLICY_TYPE)
+                        ? changes.policyType() : policy.policyType(),
+                ImmutableObjects.isLoaded(changes, SysAbacPolicyProps.POLICY_CONTENT)
+                        ? changes.policyContent() : policy.policyContent());
+
+        policyRepository.save(changes);
+        dataVersion.changed(policy.tenantId());
+
+        publishPolicyChanged(policy.tenantId(), List.of(policy.id()));
+    }
+
+    /**
+     * 删除策略
+     *
+     * @param policyId 策略ID
+     */
+    @Transactional
+    public void deletePolicy(long policyId) {
+        SysAbacPolicy policy = policyRepository.findById(policyId)
+                .orElseThrow(() -> new BizException(BizErrorCode.POLICY_NOT_EXIST));
+
+        // 删除前发布（提交后才真正发出），此时仍能查到绑定该策略的角色
+        publishPolicyChanged(policy.tenantId(), List.of(policyId));
+        policyRepository.deleteById(policyId);
+        dataVersion.changed(policy.tenantId());
+    }
+
+    /**
+     * 校验策略规则能够编译；列表资源（如用户）的策略必须可下推为查询条件，不接受 SpEL
+     */
+    private void validateRule(String targetResource, PolicyType type, String content) {
+        try {
+            policyEngine.validate(targetResource, type, content);
+        } catch (IllegalArgumentException e) {
+            throw new BizException(BizErrorCode.POLICY_INVALID, e.getMessage());
+        }
+    }
+
+    /**
+     * 发布策略变更事件
+     * <p>
+     * 策略内容变更后调用，鉴权模块据此重建受影响的缓存。
+     * 绑定的角色在调用时解析，事件在事务提交后发出。
+     *
+     * @param tenantId  租户ID
+     * @param policyIds 发生变更的策略ID
+     */
+    public void publishPolicyChanged(Long tenantId, Collection<Long> policyIds) {
+        if (policyIds == null || policyIds.isEmpty()) {
+            return;
+        }
+        List<Long> roleIds = roleRepository.findIdsByPolicyIds(policyIds);
+        var event = new PolicyChangedEvent(tenantId, List.copyOf(policyIds), roleIds, Instant.now());
+
+        messageBus.publishAfterCommit(SysMessage.<PolicyChangedEvent>builder()
+                .topic(SysPolicyTopics.POLICY_CHANGED)
+                .scope(MsgScope.GLOBAL)
+                .payload(event)
+                .build());
+    }
+}
@@ -1,9 +1,21 @@
 package io.github.faustofan.admin.system.domain.service;
 
+import io.github.faustofan.admin.shared.common.exception.BizException;
+import io.github.faustofan.admin.shared.common.exception.errcode.BizErrorCode;
+import io.github.faustofan.admin.shared.messaging.core.SysMessage;
+import io.github.faustofan.admin.shared.messaging.enums.MsgScope;
+import io.github.faustofan.admin.shared.messaging.interfaces.MessageBus;
+import io.github.faustofan.admin.system.domain.constants.SysRoleTopics;
+import io.github.faustofan.admin.system.domain.event.RoleChangedEvent;
+import io.github.faustofan.admin.system.domain.model.SysRole;
 import io.github.faustofan.admin.system.infrastructure.mapper.SysRoleMapper;
 import io.github.faustofan.admin.system.infrastructure.reponsitory.SysRoleRepository;
+import io.github.faustofan.admin.system.infrastructure.version.SysDataVersion;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -18,9 +30,16 @@ public class RoleDomainService {
 
     private final SysRoleMapper mapper;
 
-    public RoleDomainService(SysRoleRepository repository, SysRoleMapper mapper) {
+    private final MessageBus messageBus;
+
+    private final SysDataVersion dataVersion;
+
+    public RoleDomainService(
+            SysRoleRepository repository, SysRoleMapper mapper, MessageBus messageBus, SysDataVersion dataVersion) {
         this.mapper = mapper;
         this.repository = repository;
+        this.messageBus = messageBus;
+        this.dataVersion = dataVersion;
     }
 
     /**
@@ -32,4 +51,56 @@ public class RoleDomainService {
     public List<Long> existsById(List<Long> id) {
         return mapper.findMissingRoleIds(id);
     }
+
+    /**
+     * 修改角色授权（菜单、数据策略、数据范围）
+     * <p>
+     * 只保存 changes 中已设置的属性，多对多关联整体替换；提交后发布角色变更事件。
+     *
+     * @param changes 包含角色ID与待修改属性的实体
+     */
+    @Transactional
+    public void updateAuthorization(SysRole changes) {
+        SysRole role = repository.findById(changes.id())
+                .orElseThrow(() -> new BizException(BizErrorCode.ROLE_NOT_EXIST));
+
+        repository.save(changes);
+        dataVersion.changed(role.tenantId());
+
+        publishRoleChanged(role.tenantId(), List.of(role.id()));
+    }
+
+    /**
+     * 发布角色权限变更事件
+     *
+     * @param tenantId 租户ID
+     * @param roleIds  发生变更的角色ID
+     * @see #publishRoleChanged(Long, Collection, Collection)
+     */
+    public void publishRoleChanged(Long tenantId, Collection<Long> roleIds) {
+        publishRoleChanged(tenantId, roleIds, List.of());
+    }
+
+    /**
+     * 发布角色权限变更事件
+     * <p>
+     * 角色的菜单、数据策略、数据范围或成员变更后调用，鉴权模块据此失效对应的角色快照。
+     * 在事务中调用时推迟到提交后发布，避免监听方读到旧数据。
+     *
+     * @param tenantId 租户ID
+     * @param roleIds  发生变更的角色ID
+     * @param userIds  成员变更的用户ID（含被移出角色的用户，提交后已不在角色成员中）
+     */
+    public void publishRoleChanged(Long tenantId, Collection<Long> roleIds, Collection<Long> userIds) {
+        if (roleIds == null || roleIds.isEmpty()) {
+            return;
+        }
+        var event = new RoleChangedEvent(tenantId, List.copyOf(roleIds), List.copyOf(userIds), Instant.now());
+
+        messageBus.publishAfterCommit(SysMessage.<RoleChangedEvent>builder()
+                .topic(SysRoleTopics.ROLE_CHANGED)
+                .scope(MsgScope.GLOBAL)
+                .payload(event)
+                .build());
+    }
 }
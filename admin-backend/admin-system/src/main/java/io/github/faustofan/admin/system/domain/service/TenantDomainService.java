@@ -1,7 +1,25 @@
 package io.github.faustofan.admin.system.domain.service;
 
+import io.github.faustofan.admin.shared.common.constant.SystemConstants;
+import io.github.faustofan.admin.shared.common.exception.BizException;
+import io.github.faustofan.admin.shared.common.exception.errcode.BizErrorCode;
+import io.github.faustofan.admin.shared.messaging.core.SysMessage;
+import io.github.faustofan.admin.shared.messaging.enums.MsgScope;
+import io.github.faustofan.admin.shared.messaging.interfaces.MessageBus;
+import io.github.faustofan.admin.system.domain.constants.SysTenantTopics;
+import io.github.faustofan.admin.system.domain.enums.TenantStatus;
+import io.github.faustofan.admin.system.domain.event.TenantChangedEvent;
+import io.github.faustofan.admin.system.domain.model.SysTenant;
+import io.github.faustofan.admin.system.domain.model.SysTenantProps;
+import io.github.faustofan.admin.system.infrastructure.reponsitory.SysProductPackageRepository;
 import io.github.faustofan.admin.system.infrastructure.reponsitory.SysTenantRepository;
+import org.babyfish.jimmer.ImmutableObjects;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * 租户领域服务
@@ -12,8 +30,17 @@ public class TenantDomainService {
 
     private final SysTenantRepository sysTenantRepository;
 
-    public  TenantDomainService(SysTenantRepository sysTenantRepository) {
+    private final SysProductPackageRepository packageRepository;
+
+    private final MessageBus messageBus;
+
+    public  TenantDomainService(
+            SysTenantRepository sysTenantRepository,
+            SysProductPackageRepository packageRepository,
+            MessageBus messageBus) {
         this.sysTenantRepository = sysTenantRepository;
+        this.packageRepository = packageRepository;
+        this.messageBus = messageBus;
     }
 
     /**
@@ -25,4 +52,51 @@ public class TenantDomainService {
     public boolean existsById(Long id) {
         return sysTenantRepository.existsById(id);
     }
+
+    /**
+     * 修改租户（状态、到期时间、产品包）
+     * <p>
+     * 只保存 changes 中已设置的属性；提交后发布租户变更事件，各节点立即刷新准入快照。
+     * 系统租户承载平台运维账号，不允许停用。
+     *
+     * @param changes 包含租户ID与待修改属性的实体
+     */
+    @Transactional
+    public void updateTenant(SysTenant changes) {
+        if (sysTenantRepository.findNullable(changes.id()) == null) {
+            throw new BizException(BizErrorCode.TENANT_NOT_EXIST);
+        }
+        if (SystemConstants.SYSTEM_TENANT_ID.equals(changes.id())
+                && ImmutableObjects.isLoaded(changes, SysTenantProps.STATUS)
+                && changes.status() == TenantStatus.DISABLE) {
+            throw new BizException(BizErrorCode.OPERATION_NOT_ALLOWED);
+        }
+        if (ImmutableObjects.isLoaded(changes, SysTenantProps.PACKAGE_INFO) && changes.packageInfo() != null
+                && packageRepository.findNullable(changes.packageInfo().id()) == null) {
+            throw new BizException(BizErrorCode.PACKAGE_NOT_EXIST);
+        }
+        sysTenantRepository.save(changes);
+        publishTenantChanged(List.of(changes.id()));
+    }
+
+    /**
+     * 发布租户变更事件
+     * <p>
+     * 租户启停、续期、更换产品包或删除后调用，鉴权模块据此立即刷新租户准入快照，
+     * 不必等待下一次定时增量同步。在事务中调用时推迟到提交后发布，避免监听方读到旧数据。
+     *
+     * @param tenantIds 发生变更的租户ID
+     */
+    public void publishTenantChanged(Collection<Long> tenantIds) {
+        if (tenantIds == null || tenantIds.isEmpty()) {
+            return;
+        }
+        var event = new TenantChangedEvent(List.copyOf(tenantIds), Instant.now());
+
+        messageBus.publishAfterCommit(SysMessage.<TenantChangedEvent>builder()
+                .topic(SysTenantTopics.TENANT_CHANGED)
+                .scope(MsgScope.GLOBAL)
+                .payload(event)
+                .build());
+    }
 }
@@ -1,8 +1,11 @@
 package io.github.faustofan.admin.system.domain.service;
 
 import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import org.babyfish.jimmer.ImmutableObjects;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -23,9 +26,12 @@ import io.github.faustofan.admin.system.domain.event.UserCreatedEvent;
 import io.github.faustofan.admin.system.domain.event.UserPasswordChangedEvent;
 import io.github.faustofan.admin.system.domain.event.UserStatusChangedEvent;
 import io.github.faustofan.admin.system.domain.model.Immutables;
+import io.github.faustofan.admin.system.domain.model.SysRole;
 import io.github.faustofan.admin.system.domain.model.SysUser;
 import io.github.faustofan.admin.system.domain.model.SysUserProps;
+import io.github.faustofan.admin.system.infrastructure.reponsitory.SysRoleRepository;
 import io.github.faustofan.admin.system.infrastructure.reponsitory.SysUserRepository;
+import io.github.faustofan.admin.system.infrastructure.version.SysDataVersion;
 
 /**
  * 用户领域服务
@@ -41,6 +47,12 @@ public class UserDomainService {
     private final MessageBus messageBus;
     /** 密码加密器 */
     private final PasswordEncoder passwordEncoder;
+    /** 租户数据版本号，用于读接口的 ETag */
+    private final SysDataVersion dataVersion;
+    /** 角色仓储，用于比对用户角色变更 */
+    private final SysRoleRepository roleRepository;
+    /** 角色领域服务，用户角色变更后发布角色变更事件 */
+    private final RoleDomainService roleDomainService;
 
     /**
      * 构造方法，注入依赖
@@ -48,14 +60,23 @@ public class UserDomainService {
      * @param userRepository  用户仓储
      * @param messageBus      消息总线
      * @param passwordEncoder 密码加密器
+     * @param dataVersion       租户数据版本号
+     * @param roleRepository    角色仓储
+     * @param roleDomainService 角色领域服务
      */
     public UserDomainService(
             SysUserRepository userRepository,
             MessageBus messageBus,
-            PasswordEncoder passwordEncoder) {
+            PasswordEncoder passwordEncoder,
+            SysDataVersion dataVersion,
+            SysRoleRepository roleRepository,
+            RoleDomainService roleDomainService) {
         this.userRepository = userRepository;
         this.messageBus = messageBus;
         this.passwordEncoder = passwordEncoder;
+        this.dataVersion = dataVersion;
+        this.roleRepository = roleRepository;
+        this.roleDomainService = roleDomainService;
     }
 
     // ========================================================================
@@ -135,6 +156,7 @@ public class UserDomainService {
 
         // 3. 持久化 (Persistence)
         SysUser savedUser = userRepository.save(finalUser);
+        dataVersion.changed(savedUser.tenantId());
 
         // 4. 构建并发布领域事件 (Event Publishing)
         var event = new UserCreatedEvent(
@@ -182,6 +204,7 @@ public class UserDomainService {
             draft.setId(user.id());
             draft.setStatus(newStatus);
         }));
+        dataVersion.changed(user.tenantId());
 
         // 4. 发布状态变更事件
         var event = new UserStatusChangedEvent(
@@ -200,6 +223,42 @@ public class UserDomainService {
                 .build());
     }
 
+    /**
+     * 分配用户角色（整体替换）
+     * <p>
+     * 与当前角色比对，新增和移除的角色均视为发生变更，提交后发布角色变更事件。
+     *
+     * @param userId  用户ID
+     * @param roleIds 新的角色ID列表
+     */
+    @Transactional
+    public void assignRoles(long userId, List<Long> roleIds) {
+        SysUser user = userRepository.findById(userId)
+                .orElseThrow(() -> new BizException(BizErrorCode.USER_NOT_EXIST));
+
+        // 1. 计算变更的角色 (新增 + 移除)
+        Set<Long> before = new HashSet<>(roleRepository.findIdsByUserId(userId));
+        Set<Long> after = new HashSet<>(roleIds);
+        Set<Long> changed = new HashSet<>(before);
+        changed.addAll(after);
+        changed.removeIf(roleId -> before.contains(roleId) && after.contains(roleId));
+        if (changed.isEmpty()) {
+            return; // 幂等处理
+        }
+
+        // 2. 替换中间表
+        userRepository.save(Immutables.createSysUser(draft -> {
+            draft.setId(userId);
+            draft.setRoles(after.stream()
+                    .map(roleId -> ImmutableObjects.makeIdOnly(SysRole.class, roleId))
+                    .toList());
+        }));
+        dataVersion.changed(user.tenantId());
+
+        // 3. 提交后发布；被移出的角色不再包含该用户，需显式带上用户ID
+        roleDomainService.publishRoleChanged(user.tenantId(), changed, List.of(userId));
+    }
+
     /**
      * 修改用户密码
      * <p>
@@ -220,6 +279,7 @@ public class UserDomainService {
             draft.setId(user.id());
             draft.setPassword(passwordEncoder.encode(newPassword));
         }));
+        dataVersion.changed(user.tenantId());
 
         // 发送安全事件 (建议 Scope.REMOTE 或 GLOBAL 发给审计服务)
         var event = new UserPasswordChangedEvent(user.id(), user.tenantId(), username, Instant.now());
@@ -0,0 +1,209 @@
+package io.github.faustofan.admin.system.infrastructure.index;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.babyfish.jimmer.sql.ast.tuple.Tuple2;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import io.github.faustofan.admin.shared.cache.constants.CacheKeys;
+import io.github.faustofan.admin.shared.common.constant.SystemConstants;
+import io.github.faustofan.admin.shared.common.context.AppContextHolder;
+import io.github.faustofan.admin.shared.messaging.core.SysMessage;
+import io.github.faustofan.admin.shared.persistence.filter.OrgHierarchyIndex;
+import io.github.faustofan.admin.system.domain.constants.SysOrgTopics;
+import io.github.faustofan.admin.system.domain.event.OrgChangedEvent;
+import io.github.faustofan.admin.system.infrastructure.reponsitory.SysOrgRepository;
+
+/**
+ * 基于欧拉序区间的组织层级索引
+ * <p>
+ * 每个租户的组织树按先序遍历编号，子树对应编号数组上的连续区间 [enter, exit)，
+ * 判断“本部门及以下”只需取一段切片，无需递归查询。
+ * <p>
+ * 组织变更时增量修补：只查询变更组织当前的上级（已删除的组织查不到即移除），
+ * 改写内存中的上级映射后重新编号，不重新加载整个租户。移动子树会使其后所有区间平移，
+ * 因此编号总是整体重排，但重排是纯内存操作。未缓存的租户无需修补，下次访问时加载。
+ * 变更通过 Redis Topic 广播到所有节点，修补是幂等的（发布节点也会收到自己的广播）。
+ */
+@Component
+public class OrgTreeIndex implements OrgHierarchyIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(OrgTreeIndex.class);
+
+    /**
+     * 跨节点同步消息
+     *
+     * @param tenantId 租户ID
+     * @param orgIds   发生变更的组织ID
+     */
+    record OrgTreeSync(long tenantId, List<Long> orgIds) implements Serializable {}
+
+    private final SysOrgRepository orgRepository;
+    private final RTopic topic;
+
+    private final LoadingCache<Long, TenantOrgTree> trees;
+
+    public OrgTreeIndex(SysOrgRepository orgRepository, RedissonClient redissonClient) {
+        this.orgRepository = orgRepository;
+        this.trees = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterAccess(Duration.ofHours(12))
+                .build(this::load);
+        this.topic = redissonClient.getTopic(CacheKeys.TOPIC_ORG_TREE_SYNC);
+        this.topic.addListener(OrgTreeSync.class, (channel, sync) -> patch(sync.tenantId(), sync.orgIds()));
+    }
+
+    @Override
+    public List<Long> subtreeOrgIds(long tenantId, long orgId) {
+        return trees.get(tenantId).subtree(orgId);
+    }
+
+    /**
+     * 本地监听 (组织层级变更)
+     */
+    @EventListener
+    @Async("msgVirtualExecutor")
+    public void onLocalOrgChange(SysMessage<OrgChangedEvent> message) {
+        if (SysOrgTopics.ORG_CHANGED.equals(message.topic())) {
+            OrgChangedEvent event = message.payload();
+            patch(event.tenantId(), event.orgIds());
+            topic.publish(new OrgTreeSync(event.tenantId(), event.orgIds()));
+        }
+    }
+
+    /**
+     * 修补已缓存租户的组织树
+     * <p>
+     * 查询在 compute 内执行，同一租户的修补与加载串行，不会用旧的上级覆盖新的结果。
+     */
+    private void patch(long tenantId, List<Long> orgIds) {
+        if (orgIds == null || orgIds.isEmpty()) {
+            return;
+        }
+        trees.asMap().computeIfPresent(tenantId, (id, tree) -> {
+            List<Tuple2<Long, Long>> links = AppContextHolder.callWith(SystemConstants.Identity.SYSTEM_CONTEXT,
+                    () -> orgRepository.findParentLinksByIds(orgIds));
+            Map<Long, Long> current = new HashMap<>(links.size() * 2);
+            links.forEach(link -> current.put(link.get_1(), link.get_2()));
+            return tree.patch(current, orgIds);
+        });
+    }
+
+    private TenantOrgTree load(Long tenantId) {
+        long start = System.nanoTime();
+        List<Tuple2<Long, Long>> links = orgRepository.findParentLinks(tenantId);
+        Map<Long, Long> parents = new LinkedHashMap<>(links.size() * 2);
+        links.forEach(link -> parents.put(link.get_1(), link.get_2()));
+        TenantOrgTree tree = TenantOrgTree.build(parents);
+        log.debug("Org tree index built, tenant={}, orgs={}, cost={}ms",
+                tenantId, tree.size(), (System.nanoTime() - start) / 1_000_000);
+        return tree;
+    }
+
+    /**
+     * 单个租户的组织树（不可变）
+     *
+     * @param parents 组织ID -> 上级组织ID（顶级组织为 null），用于增量修补
+     * @param order   先序遍历的组织ID
+     * @param enter   组织ID -> 在 order 中的位置
+     * @param exit    位置 -> 子树结束位置（不含）
+     */
+    record TenantOrgTree(Map<Long, Long> parents, List<Long> order, Map<Long, Integer> enter, int[] exit) {
+
+        static TenantOrgTree build(Map<Long, Long> parents) {
+            int size = parents.size();
+            Map<Long, List<Long>> children = new HashMap<>(size * 2);
+            List<Long> roots = new ArrayList<>();
+            parents.forEach((id, parentId) -> {
+                // 上级不存在（顶级或已被删除）的组织作为根
+                if (parentId == null || !parents.containsKey(parentId)) {
+                    roots.add(id);
+                } else {
+                    children.computeIfAbsent(parentId, k -> new ArrayList<>()).add(id);
+                }
+            });
+
+            Long[] order = new Long[size];
+            int[] exit = new int[size];
+            Map<Long, Integer> enter = new HashMap<>(size * 2);
+            int pos = 0;
+
+            // 迭代式先序遍历：栈中负数位置表示“离开”该节点
+            Deque<long[]> stack = new ArrayDeque<>();
+            for (int i = roots.size() - 1; i >= 0; i--) {
+                stack.push(new long[] {roots.get(i), -1});
+            }
+            while (!stack.isEmpty()) {
+                long[] frame = stack.pop();
+                if (frame[1] >= 0) {
+                    exit[(int) frame[1]] = pos;
+                    continue;
+                }
+                long id = frame[0];
+                if (enter.containsKey(id)) {
+                    continue; // 数据异常（成环）时避免死循环
+                }
+                enter.put(id, pos);
+                order[pos] = id;
+                stack.push(new long[] {id, pos});
+                pos++;
+                List<Long> kids = children.getOrDefault(id, List.of());
+                for (int i = kids.size() - 1; i >= 0; i--) {
+                    stack.push(new long[] {kids.get(i), -1});
+                }
+            }
+            return new TenantOrgTree(Collections.unmodifiableMap(parents),
+                    Collections.unmodifiableList(Arrays.asList(order).subList(0, pos)), enter, exit);
+        }
+
+        /**
+         * 应用变更，返回新的组织树
+         *
+         * @param current 变更组织当前的上级，不包含已删除的组织
+         * @param orgIds  发生变更的组织ID
+         */
+        TenantOrgTree patch(Map<Long, Long> current, Collection<Long> orgIds) {
+            Map<Long, Long> next = new LinkedHashMap<>(parents);
+            for (Long orgId : orgIds) {
+                if (current.containsKey(orgId)) {
+                    next.put(orgId, current.get(orgId));
+                } else {
+                    next.remove(orgId);
+                }
+            }
+            return build(next);
+        }
+
+        List<Long> subtree(long orgId) {
+            Integer from = enter.get(orgId);
+            if (from == null) {
+                return List.of(orgId);
+            }
+            return order.subList(from, exit[from]);
+        }
+
+        int size() {
+            return order.size();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.faustofan.admin.system.infrastructure.interceptor;
+
+import org.babyfish.jimmer.ImmutableObjects;
+import org.babyfish.jimmer.sql.DraftInterceptor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.stereotype.Component;
+
+import io.github.faustofan.admin.system.domain.model.SysOrg;
+import io.github.faustofan.admin.system.domain.model.SysUser;
+import io.github.faustofan.admin.system.domain.model.SysUserDraft;
+import io.github.faustofan.admin.system.domain.model.SysUserProps;
+
+/**
+ * 用户保存拦截器
+ * <p>
+ * 用户的数据所属组织即其归属部门：保存时只要修改了部门，就同步写入 owner_org_id，
+ * 数据权限过滤器据此判断可见范围。
+ */
+@Component
+public class SysUserDraftInterceptor implements DraftInterceptor<SysUser, SysUserDraft> {
+
+    @Override
+    public void beforeSave(@NotNull SysUserDraft draft, @Nullable SysUser original) {
+        if (ImmutableObjects.isLoaded(draft, SysUserProps.ORG)) {
+            SysOrg org = draft.org();
+            draft.setOwnerOrgId(org != null ? org.id() : null);
+        }
+    }
+}
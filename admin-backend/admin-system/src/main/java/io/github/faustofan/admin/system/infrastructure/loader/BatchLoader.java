@@ -0,0 +1,348 @@
+package io.github.faustofan.admin.system.infrastructure.loader;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import io.github.faustofan.admin.shared.common.context.AppContextHolder;
+
+/**
+ * DataLoader 风格的批量加载器
+ * <p>
+ * 收集同一作用域内（通常为一次请求）零散的 {@link #load(Object)} 调用，
+ * 在首次需要结果时（{@link #get(Object)} / {@link #dispatch()}）合并为一次批量查询。
+ * 同一 Key 在作用域内只会查询一次，结果会被缓存。
+ * <p>
+ * 用法：
+ * <pre>
+ * ids.forEach(loader::load);      // 1. 登记需要的 Key
+ * var user = loader.get(someId);  // 2. 首次取值时一次性查询全部已登记的 Key
+ * </pre>
+ * <p>
+ * {@link #windowed} 创建的加载器自动派发，适合跨线程共享的单例：
+ * <ul>
+ * <li>调用方等待结果（{@link #get} / {@link #getAll}）且没有在途查询时，无并发可合并，立即在当前线程查询</li>
+ * <li>已有查询在途时，新 Key 进入窗口：窗口内第一个 Key 登记时开始计时，到期（或攒满 maxBatchSize）后由虚拟线程执行一次批量查询</li>
+ * <li>每批最多 maxBatchSize 个 Key；窗口内的 Key 全部派发后窗口关闭，之前启动的计时随之作废</li>
+ * </ul>
+ * 窗口模式不缓存已完成的结果（缓存交给外层），只合并在途的相同 Key；
+ * 查询在发起派发的调用者的上下文中执行，因此只应合并上下文一致的调用（如系统级查询）。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ */
+public class BatchLoader<K, V> {
+
+    /** 窗口到期后执行派发的线程 */
+    private static final Executor DISPATCHER = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("batch-loader-", 0).factory());
+
+    /** 批量查询函数：Key 集合 -> Key/Value 映射，缺失的 Key 视为 null */
+    private final Function<Collection<K>, Map<K, V>> batchFunction;
+
+    /** 派发窗口，null 表示手动派发 */
+    private final Duration window;
+
+    /** 单批最大 Key 数 */
+    private final int maxBatchSize;
+
+    /** 已登记的 Key 及其结果（作用域内缓存） */
+    private final Map<K, CompletableFuture<V>> futures = new HashMap<>();
+
+    /** 尚未派发查询的 Key */
+    private final Set<K> pending = new LinkedHashSet<>();
+
+    /** 当前窗口编号：窗口内的 Key 全部派发后递增，使该窗口的计时失效（仅窗口模式） */
+    private long windowId;
+
+    /** 当前窗口是否已在计时 */
+    private boolean timerArmed;
+
+    /** 正在执行的批量查询数 */
+    private int inFlight;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public BatchLoader(Function<Collection<K>, Map<K, V>> batchFunction) {
+        this(batchFunction, null, Integer.MAX_VALUE);
+    }
+
+    private BatchLoader(Function<Collection<K>, Map<K, V>> batchFunction, Duration window, int maxBatchSize) {
+        this.batchFunction = batchFunction;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * 创建按时间窗口自动派发的加载器
+     *
+     * @param batchFunction 批量查询函数
+     * @param window        派发窗口，即单个 Key 最多额外等待的时间
+     * @param maxBatchSize  单批最大 Key 数
+     */
+    public static <K, V> BatchLoader<K, V> windowed(
+            Function<Collection<K>, Map<K, V>> batchFunction, Duration window, int maxBatchSize) {
+        if (window == null || window.isNegative() || window.isZero() || maxBatchSize < 1) {
+            throw new IllegalArgumentException("window must be positive and maxBatchSize at least 1");
+        }
+        return new BatchLoader<>(batchFunction, window, maxBatchSize);
+    }
+
+    /**
+     * 登记一个 Key，返回其结果的 Future（在下一次派发时完成）
+     * <p>
+     * 窗口模式下只登记不等待，总是按窗口派发。
+     */
+    public CompletableFuture<V> load(K key) {
+        return register(List.of(key), false).getFirst();
+    }
+
+    /**
+     * 获取单个 Key 的结果
+     * <p>
+     * 手动模式下会顺带派发所有已登记的 Key；窗口模式下没有在途查询时立即查询，否则等待窗口派发。
+     */
+    public V get(K key) {
+        CompletableFuture<V> future = register(List.of(key), true).getFirst();
+        if (window == null) {
+            dispatch();
+        }
+        return join(future);
+    }
+
+    /**
+     * 批量获取结果，保持入参顺序，不存在的 Key 不出现在结果中
+     */
+    public Map<K, V> getAll(Collection<K> keys) {
+        List<CompletableFuture<V>> list = register(keys, true);
+        if (window == null) {
+            dispatch();
+        }
+
+        Map<K, V> result = new LinkedHashMap<>();
+        int i = 0;
+        for (K key : keys) {
+            V value = join(list.get(i++));
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 预置结果，避免后续重复查询（窗口模式不缓存结果，预置值会一直保留，不应使用）
+     */
+    public void prime(K key, V value) {
+        lock.lock();
+        try {
+            futures.putIfAbsent(key, CompletableFuture.completedFuture(value));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 派发待查询的 Key
+     * <p>
+     * 手动模式按 maxBatchSize 分批查询全部 Key；窗口模式只查询一批，剩余的 Key 按窗口继续派发。
+     */
+    public void dispatch() {
+        if (window != null) {
+            dispatchBatch(false);
+            return;
+        }
+        Map<K, CompletableFuture<V>> batch;
+        while ((batch = drain(false)) != null) {
+            execute(batch);
+        }
+    }
+
+    /**
+     * 登记 Key，窗口模式下按需安排派发
+     *
+     * @param waiting 调用方是否立即等待结果
+     */
+    private List<CompletableFuture<V>> register(Collection<K> keys, boolean waiting) {
+        List<CompletableFuture<V>> list = new ArrayList<>(keys.size());
+        boolean now = false;
+        boolean full = false;
+        long timer = -1;
+        lock.lock();
+        try {
+            int before = pending.size();
+            for (K key : keys) {
+                CompletableFuture<V> future = futures.get(key);
+                if (future == null) {
+                    future = new CompletableFuture<>();
+                    futures.put(key, future);
+                    pending.add(key);
+                }
+                list.add(future);
+            }
+            if (window != null && !pending.isEmpty()) {
+                now = waiting && inFlight == 0;
+                full = !now && before < maxBatchSize && pending.size() >= maxBatchSize;
+                if (!now && !full) {
+                    timer = armTimer();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (now) {
+            // 没有在途查询：无并发可合并，不等窗口，直接在当前线程查询
+            dispatchBatch(false);
+        } else if (full) {
+            DISPATCHER.execute(AppContextHolder.wrap(() -> dispatchBatch(false)));
+        } else if (timer >= 0) {
+            schedule(timer);
+        }
+        return list;
+    }
+
+    /**
+     * 为当前窗口启动计时（须持有锁）
+     *
+     * @return 需要启动计时的窗口编号；已在计时时返回 -1
+     */
+    private long armTimer() {
+        if (timerArmed) {
+            return -1;
+        }
+        timerArmed = true;
+        return windowId;
+    }
+
+    private void schedule(long id) {
+        CompletableFuture.delayedExecutor(window.toNanos(), TimeUnit.NANOSECONDS, DISPATCHER)
+                .execute(AppContextHolder.wrap(() -> dispatchWindow(id)));
+    }
+
+    /**
+     * 窗口到期：窗口已关闭（其中的 Key 已被提前派发）时忽略
+     */
+    private void dispatchWindow(long id) {
+        lock.lock();
+        try {
+            if (id != windowId) {
+                return;
+            }
+            timerArmed = false;
+        } finally {
+            lock.unlock();
+        }
+        dispatchBatch(true);
+    }
+
+    private void dispatchBatch(boolean expired) {
+        Map<K, CompletableFuture<V>> batch = drain(expired);
+        if (batch != null) {
+            execute(batch);
+        }
+    }
+
+    /**
+     * 取出一批待查询的 Key（最多 maxBatchSize 个，查询在锁外执行，避免阻塞其他登记）
+     * <p>
+     * 窗口模式下安排剩余 Key 的派发：窗口已到期或仍攒满一批时立即继续，否则等待本窗口的计时。
+     *
+     * @param expired 是否由窗口到期触发
+     * @return 待查询的 Key 及其 Future；没有待查询的 Key 时返回 null
+     */
+    private Map<K, CompletableFuture<V>> drain(boolean expired) {
+        Map<K, CompletableFuture<V>> batch;
+        boolean more = false;
+        long timer = -1;
+        lock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return null;
+            }
+            batch = new LinkedHashMap<>();
+            Iterator<K> iterator = pending.iterator();
+            while (iterator.hasNext() && batch.size() < maxBatchSize) {
+                K key = iterator.next();
+                batch.put(key, futures.get(key));
+                iterator.remove();
+            }
+            inFlight++;
+            if (window != null) {
+                if (pending.isEmpty()) {
+                    // 窗口已清空：关闭窗口，尚未触发的计时作废
+                    windowId++;
+                    timerArmed = false;
+                } else if (expired || pending.size() >= maxBatchSize) {
+                    more = true;
+                } else {
+                    timer = armTimer();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (more) {
+            DISPATCHER.execute(AppContextHolder.wrap(() -> dispatchBatch(expired)));
+        } else if (timer >= 0) {
+            schedule(timer);
+        }
+        return batch;
+    }
+
+    /**
+     * 执行批量查询并回填结果
+     */
+    private void execute(Map<K, CompletableFuture<V>> batch) {
+        Map<K, V> values;
+        try {
+            values = batchFunction.apply(batch.keySet());
+        } catch (RuntimeException e) {
+            // 失败的 Key 从缓存中移除，允许后续重试
+            finish(batch, true);
+            batch.values().forEach(future -> future.completeExceptionally(e));
+            return;
+        }
+        // 窗口模式不保留结果：完成前移除，之后的登记会进入下一批
+        finish(batch, window != null);
+        batch.forEach((key, future) -> future.complete(values.get(key)));
+    }
+
+    private void finish(Map<K, CompletableFuture<V>> batch, boolean evict) {
+        lock.lock();
+        try {
+            inFlight--;
+            if (evict) {
+                batch.forEach(futures::remove);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+}
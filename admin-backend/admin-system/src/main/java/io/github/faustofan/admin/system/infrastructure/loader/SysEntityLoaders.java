@@ -0,0 +1,56 @@
+package io.github.faustofan.admin.system.infrastructure.loader;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import io.github.faustofan.admin.system.dto.SysOrgView;
+import io.github.faustofan.admin.system.dto.SysRoleView;
+import io.github.faustofan.admin.system.dto.SysUserView;
+import io.github.faustofan.admin.system.infrastructure.reponsitory.SysOrgRepository;
+import io.github.faustofan.admin.system.infrastructure.reponsitory.SysRoleRepository;
+import io.github.faustofan.admin.system.infrastructure.reponsitory.SysUserRepository;
+
+/**
+ * 系统实体批量加载器（请求作用域）
+ * <p>
+ * 同一请求内对用户、组织、角色的按 ID 加载会被合并，
+ * 每种实体类型只产生一次 {@code where id = any(?)} 查询。
+ */
+@Component
+@RequestScope
+public class SysEntityLoaders {
+
+    private final BatchLoader<Long, SysUserView> users;
+    private final BatchLoader<Long, SysOrgView> orgs;
+    private final BatchLoader<Long, SysRoleView> roles;
+
+    public SysEntityLoaders(
+            SysUserRepository userRepository,
+            SysOrgRepository orgRepository,
+            SysRoleRepository roleRepository) {
+        this.users = new BatchLoader<>(ids -> toMap(userRepository.findViewsByIds(ids), SysUserView::getId));
+        this.orgs = new BatchLoader<>(ids -> toMap(orgRepository.findViewsByIds(ids), SysOrgView::getId));
+        this.roles = new BatchLoader<>(ids -> toMap(roleRepository.findViewsByIds(ids), SysRoleView::getId));
+    }
+
+    public BatchLoader<Long, SysUserView> users() {
+        return users;
+    }
+
+    public BatchLoader<Long, SysOrgView> orgs() {
+        return orgs;
+    }
+
+    public BatchLoader<Long, SysRoleView> roles() {
+        return roles;
+    }
+
+    private static <V> Map<Long, V> toMap(Collection<V> values, Function<V, Long> idGetter) {
+        return values.stream().collect(Collectors.toMap(idGetter, Function.identity()));
+    }
+}
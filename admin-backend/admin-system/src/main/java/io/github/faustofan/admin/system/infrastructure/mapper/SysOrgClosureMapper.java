@@ -0,0 +1,72 @@
+package io.github.faustofan.admin.system.infrastructure.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 组织闭包表 Mapper
+ * <p>
+ * 闭包表维护均为集合操作，子树移动不逐行处理。
+ * 维护语句由 {@code SysOrgClosureTrigger} 在 sys_org 写入的事务内调用。
+ */
+@Mapper
+public interface SysOrgClosureMapper {
+
+    /**
+     * 新增组织：复制上级的全部祖先链接并加上自身链接
+     *
+     * @param tenantId 租户ID
+     * @param orgId    新组织ID
+     * @param parentId 上级组织ID，可为空
+     */
+    void insertNode(@Param("tenantId") long tenantId, @Param("orgId") long orgId, @Param("parentId") Long parentId);
+
+    /**
+     * 断开子树与原祖先的链接（子树内部链接保留）
+     *
+     * @param orgId 子树根组织ID
+     */
+    void detachSubtree(@Param("orgId") long orgId);
+
+    /**
+     * 将子树挂到新上级下：新上级的祖先 × 子树节点
+     *
+     * @param orgId       子树根组织ID
+     * @param newParentId 新上级组织ID
+     */
+    void attachSubtree(@Param("orgId") long orgId, @Param("newParentId") long newParentId);
+
+    /**
+     * 删除组织作为后代的全部链接（含自身链接）
+     * <p>
+     * 删除子树时每个节点各调用一次，子树内部的链接随各后代一并移除。
+     *
+     * @param orgId 组织ID
+     */
+    void deleteNode(@Param("orgId") long orgId);
+
+    /**
+     * 查询祖先组织ID（由近及远，不含自身）
+     */
+    List<Long> findAncestorIds(@Param("orgId") long orgId);
+
+    /**
+     * 查询后代组织ID（含自身）
+     *
+     * @param orgId    组织ID
+     * @param maxDepth 最大相对深度，为空时不限制
+     */
+    List<Long> findDescendantIds(@Param("orgId") long orgId, @Param("maxDepth") Integer maxDepth);
+
+    /**
+     * 判断 descendantId 是否位于 ancestorId 的子树中（含自身）
+     */
+    boolean isDescendant(@Param("ancestorId") long ancestorId, @Param("descendantId") long descendantId);
+
+    /**
+     * 统计子树内（含自身）未删除的用户数
+     */
+    long countSubtreeUsers(@Param("orgId") long orgId);
+}
@@ -0,0 +1,17 @@
+package io.github.faustofan.admin.system.infrastructure.reponsitory;
+
+import io.github.faustofan.admin.system.domain.model.SysAbacPolicy;
+import io.github.faustofan.admin.system.domain.model.SysAbacPolicyTable;
+import io.github.faustofan.admin.system.domain.model.Tables;
+import org.babyfish.jimmer.spring.repository.JRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 系统数据策略仓库
+ * 提供对 SysAbacPolicy 实体的数据库操作方法
+ */
+@Repository
+public interface SysAbacPolicyRepository extends JRepository<SysAbacPolicy, Long> {
+
+    SysAbacPolicyTable table = Tables.SYS_ABAC_POLICY_TABLE;
+}
@@ -0,0 +1,107 @@
+package io.github.faustofan.admin.system.infrastructure.reponsitory;
+
+import io.github.faustofan.admin.system.domain.enums.MenuType;
+import io.github.faustofan.admin.system.domain.model.SysMenu;
+import io.github.faustofan.admin.system.domain.model.SysMenuTable;
+import io.github.faustofan.admin.system.domain.model.SysProductPackageTable;
+import io.github.faustofan.admin.system.domain.model.Tables;
+import io.github.faustofan.admin.system.dto.SysMenuRouteView;
+import org.babyfish.jimmer.spring.repository.JRepository;
+import org.babyfish.jimmer.sql.ast.tuple.Tuple2;
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 系统菜单仓库
+ * 提供对 SysMenu 实体的数据库操作方法
+ */
+@Repository
+public interface SysMenuRepository extends JRepository<SysMenu, Long> {
+
+    SysMenuTable table = Tables.SYS_MENU_TABLE;
+
+    /**
+     * 查询产品包内可见的目录与菜单（不含按钮），用于构建路由树
+     *
+     * @param packageId 产品包ID，为 null 时查询全部菜单
+     * @return 菜单路由视图列表
+     */
+    default List<SysMenuRouteView> findRouteViews(@Nullable Long packageId) {
+        return sql().createQuery(table)
+                .where(table.menuType().ne(MenuType.BUTTON))
+                .where(table.visible().eq(true))
+                .whereIf(packageId != null, () -> table.packages(pkg -> pkg.id().eq(packageId)))
+                .orderBy(table.sortOrder(), table.id())
+                .select(table.fetch(SysMenuRouteView.class))
+                .execute();
+    }
+
+    /**
+     * 查询任一指定角色拥有的菜单ID
+     *
+     * @param roleIds 角色ID集合
+     * @return 菜单ID列表
+     */
+    default List<Long> findIdsByRoleIds(Collection<Long> roleIds) {
+        return sql().createQuery(table)
+                .where(table.roles(role -> role.id().in(roleIds)))
+                .select(table.id())
+                .execute();
+    }
+
+    /**
+     * 查询任一指定菜单的直接下级菜单ID
+     *
+     * @param parentIds 上级菜单ID集合
+     * @return 菜单ID列表
+     */
+    default List<Long> findIdsByParentIds(Collection<Long> parentIds) {
+        return sql().createQuery(table)
+                .where(table.parent().id().in(parentIds))
+                .select(table.id())
+                .execute();
+    }
+
+    /**
+     * 查询包含任一指定菜单的产品包ID
+     *
+     * @param menuIds 菜单ID集合
+     * @return 产品包ID列表
+     */
+    default List<Long> findPackageIdsByMenuIds(Collection<Long> menuIds) {
+        SysProductPackageTable pkg = Tables.SYS_PRODUCT_PACKAGE_TABLE;
+        return sql().createQuery(pkg)
+                .where(pkg.menus(menu -> menu.id().in(menuIds)))
+                .select(pkg.id())
+                .execute();
+    }
+
+    /**
+     * 查询全部权限码（按菜单ID排序，用于权限编号）
+     *
+     * @return 权限码列表
+     */
+    default List<String> findPermCodes() {
+        return sql().createQuery(table)
+                .where(table.permCode().isNotNull())
+                .orderBy(table.id())
+                .select(table.permCode())
+                .execute();
+    }
+
+    /**
+     * 查询产品包包含的菜单ID及权限码
+     *
+     * @param packageId 产品包ID
+     * @return (菜单ID, 权限码) 列表，权限码可能为 null
+     */
+    default List<Tuple2<Long, String>> findPermCodesByPackageId(long packageId) {
+        return sql().createQuery(table)
+                .where(table.packages(pkg -> pkg.id().eq(packageId)))
+                .select(table.id(), table.permCode())
+                .execute();
+    }
+}
@@ -3,10 +3,15 @@ package io.github.faustofan.admin.system.infrastructure.reponsitory;
 import io.github.faustofan.admin.system.domain.model.SysOrg;
 import io.github.faustofan.admin.system.domain.model.SysOrgTable;
 import io.github.faustofan.admin.system.domain.model.Tables;
+import io.github.faustofan.admin.system.dto.SysOrgView;
 import org.babyfish.jimmer.spring.repository.JRepository;
+import org.babyfish.jimmer.sql.ast.tuple.Tuple2;
 import org.jspecify.annotations.NonNull;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 系统组织机构仓库
  * 提供对 SysOrg 实体的数据库操作方法
@@ -23,4 +28,57 @@ public interface SysOrgRepository extends JRepository<SysOrg, Long> {
      * @return 如果组织机构存在则返回 true，否则返回 false
      */
     boolean existsById(@NonNull Long id);
+
+    /**
+     * 按ID批量查询组织机构（Postgres 下渲染为 id = any(?)）
+     *
+     * @param ids 组织机构ID集合
+     * @return 组织机构视图列表
+     */
+    default List<SysOrgView> findViewsByIds(Collection<Long> ids) {
+        return sql().createQuery(table)
+                .where(table.id().in(ids))
+                .select(table.fetch(SysOrgView.class))
+                .execute();
+    }
+
+    /**
+     * 查询租户下全部组织的 (ID, 上级ID)，用于构建组织层级索引
+     *
+     * @param tenantId 租户ID
+     * @return (组织ID, 上级组织ID) 列表，顶级组织的上级ID为 null
+     */
+    default List<Tuple2<Long, Long>> findParentLinks(long tenantId) {
+        return sql().createQuery(table)
+                .where(table.tenantId().eq(tenantId))
+                .select(table.id(), table.parentId())
+                .execute();
+    }
+
+    /**
+     * 查询指定组织的 (ID, 上级ID)，用于增量修补组织层级索引
+     *
+     * @param ids 组织ID
+     * @return (组织ID, 上级组织ID) 列表，不包含已删除的组织
+     */
+    default List<Tuple2<Long, Long>> findParentLinksByIds(Collection<Long> ids) {
+        return sql().createQuery(table)
+                .where(table.id().in(ids))
+                .select(table.id(), table.parentId())
+                .execute();
+    }
+
+    /**
+     * 修改组织的上级
+     *
+     * @param id       组织ID
+     * @param parentId 新上级组织ID，为 null 时成为顶级组织
+     * @return 受影响行数
+     */
+    default int updateParent(long id, Long parentId) {
+        return sql().createUpdate(table)
+                .set(table.parentId(), parentId)
+                .where(table.id().eq(id))
+                .execute();
+    }
 }
@@ -0,0 +1,17 @@
+package io.github.faustofan.admin.system.infrastructure.reponsitory;
+
+import io.github.faustofan.admin.system.domain.model.SysProductPackage;
+import io.github.faustofan.admin.system.domain.model.SysProductPackageTable;
+import io.github.faustofan.admin.system.domain.model.Tables;
+import org.babyfish.jimmer.spring.repository.JRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 系统产品包仓库
+ * 提供对 SysProductPackage 实体的数据库操作方法
+ */
+@Repository
+public interface SysProductPackageRepository extends JRepository<SysProductPackage, Long> {
+
+    SysProductPackageTable table = Tables.SYS_PRODUCT_PACKAGE_TABLE;
+}
@@ -3,9 +3,14 @@ package io.github.faustofan.admin.system.infrastructure.reponsitory;
 import io.github.faustofan.admin.system.domain.model.SysRole;
 import io.github.faustofan.admin.system.domain.model.SysRoleTable;
 import io.github.faustofan.admin.system.domain.model.Tables;
+import io.github.faustofan.admin.system.dto.SysRoleSnapshotView;
+import io.github.faustofan.admin.system.dto.SysRoleView;
 import org.babyfish.jimmer.spring.repository.JRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 系统角色仓库
  * 提供对 SysRole 实体的数据库操作方法
@@ -15,4 +20,68 @@ public interface SysRoleRepository extends JRepository<SysRole, Long> {
 
     SysRoleTable table = Tables.SYS_ROLE_TABLE;
 
+    /**
+     * 按ID批量查询角色（Postgres 下渲染为 id = any(?)）
+     *
+     * @param ids 角色ID集合
+     * @return 角色视图列表
+     */
+    default List<SysRoleView> findViewsByIds(Collection<Long> ids) {
+        return sql().createQuery(table)
+                .where(table.id().in(ids))
+                .select(table.fetch(SysRoleView.class))
+                .execute();
+    }
+
+    /**
+     * 批量查询角色鉴权快照（菜单权限码、数据策略、数据范围）
+     *
+     * @param ids 角色ID集合
+     * @return 角色快照视图列表
+     */
+    default List<SysRoleSnapshotView> findSnapshotsByIds(Collection<Long> ids) {
+        return sql().createQuery(table)
+                .where(table.id().in(ids))
+                .select(table.fetch(SysRoleSnapshotView.class))
+                .execute();
+    }
+
+    /**
+     * 查询拥有任一指定菜单的角色ID
+     *
+     * @param menuIds 菜单ID集合
+     * @return 角色ID列表
+     */
+    default List<Long> findIdsByMenuIds(Collection<Long> menuIds) {
+        return sql().createQuery(table)
+                .where(table.menus(menu -> menu.id().in(menuIds)))
+                .select(table.id())
+                .execute();
+    }
+
+    /**
+     * 查询绑定任一指定策略的角色ID
+     *
+     * @param policyIds 策略ID集合
+     * @return 角色ID列表
+     */
+    default List<Long> findIdsByPolicyIds(Collection<Long> policyIds) {
+        return sql().createQuery(table)
+                .where(table.policies(policy -> policy.id().in(policyIds)))
+                .select(table.id())
+                .execute();
+    }
+
+    /**
+     * 查询用户当前拥有的角色ID
+     *
+     * @param userId 用户ID
+     * @return 角色ID列表
+     */
+    default List<Long> findIdsByUserId(long userId) {
+        return sql().createQuery(table)
+                .where(table.users(user -> user.id().eq(userId)))
+                .select(table.id())
+                .execute();
+    }
 }
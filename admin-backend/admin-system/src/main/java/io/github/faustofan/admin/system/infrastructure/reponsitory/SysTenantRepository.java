@@ -1,12 +1,18 @@
 package io.github.faustofan.admin.system.infrastructure.reponsitory;
 
 import io.github.faustofan.admin.system.domain.model.SysTenant;
+import io.github.faustofan.admin.system.dto.SysTenantAdmissionView;
 import io.github.faustofan.admin.system.domain.model.SysTenantTable;
 import io.github.faustofan.admin.system.domain.model.Tables;
 import org.babyfish.jimmer.spring.repository.JRepository;
+import org.babyfish.jimmer.sql.ast.mutation.LogicalDeletedBehavior;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
+
 /**
  * 系统租户仓库
  * 提供对 SysTenant 实体的数据库操作方法
@@ -24,4 +30,31 @@ public interface SysTenantRepository extends JRepository<SysTenant, Long> {
      */
     boolean existsById(@NonNull Long id);
 
+    /**
+     * 查询租户准入视图（包含已逻辑删除的租户）
+     *
+     * @param updatedSince 仅查询此时间之后更新过的租户；为 null 时查询全部
+     * @return 租户准入视图列表
+     */
+    default List<SysTenantAdmissionView> findAdmissionViews(@Nullable Instant updatedSince) {
+        return sql().filters(cfg -> cfg.setBehavior(LogicalDeletedBehavior.IGNORED))
+                .createQuery(table)
+                .whereIf(updatedSince != null, () -> table.updatedTime().ge(updatedSince))
+                .select(table.fetch(SysTenantAdmissionView.class))
+                .execute();
+    }
+
+    /**
+     * 查询单个租户的准入视图（包含已逻辑删除的租户）
+     *
+     * @param tenantId 租户ID
+     * @return 租户准入视图；租户不存在时返回 null
+     */
+    default SysTenantAdmissionView findAdmissionView(long tenantId) {
+        return sql().filters(cfg -> cfg.setBehavior(LogicalDeletedBehavior.IGNORED))
+                .createQuery(table)
+                .where(table.id().eq(tenantId))
+                .select(table.fetch(SysTenantAdmissionView.class))
+                .fetchOneOrNull();
+    }
 }
@@ -1,20 +1,26 @@
 package io.github.faustofan.admin.system.infrastructure.reponsitory;
 
 import io.github.faustofan.admin.shared.common.dto.PageRequestDto;
+import io.github.faustofan.admin.shared.persistence.filter.DataScopeFilter;
 import io.github.faustofan.admin.system.domain.model.SysUser;
 import io.github.faustofan.admin.system.domain.model.SysUserTable;
 import io.github.faustofan.admin.system.domain.model.Tables;
 import io.github.faustofan.admin.system.domain.enums.UserStatus;
 import org.babyfish.jimmer.Page;
 import org.babyfish.jimmer.spring.repository.JRepository;
+import org.babyfish.jimmer.sql.ast.Predicate;
+import org.babyfish.jimmer.sql.fetcher.Fetcher;
+import org.jspecify.annotations.Nullable;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.jaxb.SpringDataJaxb;
 import org.springframework.stereotype.Repository;
-import io.github.faustofan.admin.system.dto.SysUserLoginView;
+import io.github.faustofan.admin.system.dto.SysUserAuthView;
 import io.github.faustofan.admin.system.dto.SysUserView;
 import io.github.faustofan.admin.system.dto.SysUserSearchQuery;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -32,43 +38,57 @@ public interface SysUserRepository extends JRepository<SysUser, Long> {
     Optional<SysUser> findByUsername(String username);
 
     /**
-     * 根据用户名和租户ID查询用户（用于登录认证）
+     * 根据用户名和租户ID查询用户鉴权视图（用于登录认证）
      */
-    default SysUserLoginView findByUsernameWithRoles(String username, Long tenantId) {
+    default SysUserAuthView findAuthViewByUsername(String username, Long tenantId) {
         return sql().createQuery(table)
                 .where(table.username().eq(username))
                 .where(table.tenantId().eq(tenantId))
                 .where(table.status().eq(UserStatus.ACTIVE))
-                .select(table.fetch(SysUserLoginView.class))
+                .select(table.fetch(SysUserAuthView.class))
                 .fetchOneOrNull();
     }
 
     /**
-     * 根据用户ID查询用户（用于 Token 刷新）
+     * 分页查询用户列表
      */
-    default SysUserLoginView findByIdWithRoles(Long userId) {
-        return sql().createQuery(table)
-                .where(table.id().eq(userId))
-                .select(table.fetch(SysUserLoginView.class))
-                .fetchOneOrNull();
+    default Page<SysUserView> findPage(SysUserSearchQuery query, Pageable page) {
+        return findPage(query, page, null);
     }
 
     /**
-     * 分页查询用户列表
+     * 分页查询用户列表，附加数据策略条件（为 null 时不限制）
      */
-    default Page<SysUserView> findPage(SysUserSearchQuery query, Pageable page) {
-        return sql().createQuery(table)
-                .where(query)
-                .select(table.fetch(SysUserView.class))
-                .fetchPage(page.getPageNumber(), page.getPageSize())
-                ;
+    default Page<SysUserView> findPage(SysUserSearchQuery query, Pageable page, @Nullable Predicate dataPolicy) {
+        var q = sql().createQuery(table).where(query);
+        if (dataPolicy != null) {
+            q.where(dataPolicy);
+        }
+        return q.select(table.fetch(SysUserView.class))
+                .fetchPage(page.getPageNumber(), page.getPageSize());
+    }
+
+    /**
+     * 按动态 Fetcher 分页查询用户（字段投影），附加数据策略条件（为 null 时不限制）
+     */
+    default Page<SysUser> findPage(
+            SysUserSearchQuery query, Pageable page, @Nullable Predicate dataPolicy, Fetcher<SysUser> fetcher) {
+        var q = sql().createQuery(table).where(query);
+        if (dataPolicy != null) {
+            q.where(dataPolicy);
+        }
+        return q.select(table.fetch(fetcher))
+                .fetchPage(page.getPageNumber(), page.getPageSize());
     }
 
     /**
      * 检查用户名是否已存在
+     * <p>
+     * 唯一性按整个租户判断，不受当前用户数据范围限制。
      */
     default boolean existsByUsernameAndTenantId(String username, Long tenantId) {
-        return sql().createQuery(table)
+        return sql().filters(cfg -> cfg.disableByTypes(DataScopeFilter.class))
+                .createQuery(table)
                 .where(table.username().eq(username))
                 .where(table.tenantId().eq(tenantId))
                 .select(table.id())
@@ -86,4 +106,42 @@ public interface SysUserRepository extends JRepository<SysUser, Long> {
                 .fetchFirst();
         return count > 0;
     }
+
+    /**
+     * 按ID批量查询用户（Postgres 下渲染为 id = any(?)）
+     */
+    default List<SysUserView> findViewsByIds(Collection<Long> ids) {
+        return sql().createQuery(table)
+                .where(table.id().in(ids))
+                .select(table.fetch(SysUserView.class))
+                .execute();
+    }
+
+    /**
+     * 批量查询用户鉴权视图（用于按ID合并回源与后台重建鉴权缓存）
+     */
+    default List<SysUserAuthView> findAuthViewsByIds(Collection<Long> ids) {
+        return sql().createQuery(table)
+                .where(table.id().in(ids))
+                .select(table.fetch(SysUserAuthView.class))
+                .execute();
+    }
+
+    /**
+     * 按ID游标分页查询拥有任一指定角色的用户ID
+     *
+     * @param roleIds 角色ID集合
+     * @param afterId 上一页最后一个用户ID（首页传 0）
+     * @param limit   每页数量
+     * @return 用户ID列表（升序）
+     */
+    default List<Long> findIdsByRoleIds(Collection<Long> roleIds, long afterId, int limit) {
+        return sql().createQuery(table)
+                .where(table.roles(role -> role.id().in(roleIds)))
+                .where(table.id().gt(afterId))
+                .orderBy(table.id())
+                .select(table.id())
+                .limit(limit)
+                .execute();
+    }
 }
@@ -0,0 +1,71 @@
+package io.github.faustofan.admin.system.infrastructure.trigger;
+
+import java.util.Objects;
+
+import org.babyfish.jimmer.ImmutableObjects;
+import org.babyfish.jimmer.sql.JSqlClient;
+import org.babyfish.jimmer.sql.event.EntityEvent;
+import org.springframework.stereotype.Component;
+
+import io.github.faustofan.admin.shared.persistence.model.BaseEntityProps;
+import io.github.faustofan.admin.system.domain.model.SysOrg;
+import io.github.faustofan.admin.system.domain.model.SysOrgProps;
+import io.github.faustofan.admin.system.infrastructure.mapper.SysOrgClosureMapper;
+
+/**
+ * 组织闭包表维护触发器
+ * <p>
+ * 注册为 Jimmer 事务内触发器（trigger-type: transaction_only），sys_org 经 Jimmer 的任何写入
+ * （save、DSL 更新、删除及逻辑删除）都会在同一事务中同步闭包表，不依赖调用方走特定的服务方法：
+ * <ul>
+ * <li>新增（或恢复）：复制上级的祖先链接并加上自身链接</li>
+ * <li>修改上级：断开子树与原祖先的链接，再挂到新上级下</li>
+ * <li>删除：移除该组织作为后代的全部链接；删除子树时每个节点各触发一次</li>
+ * </ul>
+ */
+@Component
+public class SysOrgClosureTrigger {
+
+    private final SysOrgClosureMapper closureMapper;
+
+    public SysOrgClosureTrigger(JSqlClient sqlClient, SysOrgClosureMapper closureMapper) {
+        this.closureMapper = closureMapper;
+        sqlClient.getTriggers().addEntityListener(SysOrg.class, this::onChange);
+    }
+
+    private void onChange(EntityEvent<SysOrg> event) {
+        long orgId = (Long) event.getId();
+        SysOrg before = event.getOldEntity();
+        SysOrg after = event.getNewEntity();
+
+        if (after == null || isDeleted(after)) {
+            closureMapper.deleteNode(orgId);
+            return;
+        }
+        if (before == null || isDeleted(before)) {
+            closureMapper.insertNode(after.tenantId(), orgId, parentId(after));
+            return;
+        }
+        if (!ImmutableObjects.isLoaded(after, SysOrgProps.PARENT)) {
+            return;
+        }
+        Long newParentId = parentId(after);
+        if (!Objects.equals(parentId(before), newParentId)) {
+            closureMapper.detachSubtree(orgId);
+            if (newParentId != null) {
+                closureMapper.attachSubtree(orgId, newParentId);
+            }
+        }
+    }
+
+    private static Long parentId(SysOrg org) {
+        if (!ImmutableObjects.isLoaded(org, SysOrgProps.PARENT) || org.parent() == null) {
+            return null;
+        }
+        return org.parent().id();
+    }
+
+    private static boolean isDeleted(SysOrg org) {
+        return ImmutableObjects.isLoaded(org, BaseEntityProps.DELETED) && org.deleted();
+    }
+}
@@ -0,0 +1,118 @@
+package io.github.faustofan.admin.system.infrastructure.version;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.LongCodec;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.github.faustofan.admin.shared.common.constant.SystemConstants;
+import io.github.faustofan.admin.shared.common.context.AppContext;
+import io.github.faustofan.admin.shared.common.context.AppContextHolder;
+import io.github.faustofan.admin.shared.distributed.constants.RedisKeyRegistry;
+
+/**
+ * 系统数据版本号
+ * <p>
+ * 每个租户一个 Redis 版本号，用户、组织、角色、策略发生写入时递增（事务提交后），
+ * 读接口据此生成 ETag，If-None-Match 命中时无需查询数据库。
+ * <ul>
+ * <li>系统租户与超级管理员可见全部租户的数据，读取汇总版本号 (ALL)，任意租户写入都会递增</li>
+ * <li>版本号取 max(原值 + 1, Redis 当前毫秒)，Key 过期后重新初始化也不会与旧 ETag 冲突</li>
+ * </ul>
+ */
+@Component
+public class SysDataVersion {
+
+    private static final String ALL_TENANTS = "ALL";
+
+    /** 递增版本号：KEYS=版本号Key, ARGV[1]=过期毫秒，返回第一个 Key 的新版本号 */
+    private static final String BUMP_SCRIPT = """
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local first
+            for _, key in ipairs(KEYS) do
+                local version = tonumber(redis.call('GET', key) or '0') + 1
+                if version < now then version = now end
+                redis.call('SET', key, version, 'PX', ARGV[1])
+                first = first or version
+            end
+            return first
+            """;
+
+    private final RedissonClient redissonClient;
+    private final RScript script;
+    private final long ttlMillis;
+
+    public SysDataVersion(RedissonClient redissonClient) {
+        this.redissonClient = redissonClient;
+        this.script = redissonClient.getScript(LongCodec.INSTANCE);
+        this.ttlMillis = RedisKeyRegistry.SYS_DATA_VERSION.getTtl().toMillis();
+    }
+
+    /**
+     * 租户数据已变更；在事务中调用时推迟到提交后递增，避免提交前生成的 ETag 对应旧数据
+     *
+     * @param tenantId 租户ID
+     */
+    public void changed(Long tenantId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(tenantId);
+                }
+            });
+        } else {
+            bump(tenantId);
+        }
+    }
+
+    /**
+     * 为当前用户生成弱 ETag：W/"版本号-摘要"
+     * <p>
+     * 摘要覆盖用户ID与请求变体（如查询串），不同用户的数据权限不同，ETag 互不复用。
+     *
+     * @param variant 请求变体，可为 null
+     * @return 无上下文时返回 null（不参与协商缓存）
+     */
+    public String etag(String variant) {
+        AppContext context = AppContextHolder.getContext();
+        if (context == null || context.tenantId() == null) {
+            return null;
+        }
+        String key = RedisKeyRegistry.SYS_DATA_VERSION.buildKey(scope(context));
+        long version = redissonClient.getAtomicLong(key).get();
+        if (version == 0) {
+            version = script.eval(RScript.Mode.READ_WRITE, BUMP_SCRIPT, RScript.ReturnType.INTEGER,
+                    List.<Object>of(key), ttlMillis);
+        }
+
+        CRC32C digest = new CRC32C();
+        digest.update((context.userId() + "|" + (variant == null ? "" : variant)).getBytes(StandardCharsets.UTF_8));
+        return "W/\"" + Long.toHexString(version) + "-" + HexFormat.of().toHexDigits((int) digest.getValue()) + "\"";
+    }
+
+    private void bump(Long tenantId) {
+        List<Object> keys = new ArrayList<>(2);
+        if (tenantId != null) {
+            keys.add(RedisKeyRegistry.SYS_DATA_VERSION.buildKey(tenantId));
+        }
+        keys.add(RedisKeyRegistry.SYS_DATA_VERSION.buildKey(ALL_TENANTS));
+        script.eval(RScript.Mode.READ_WRITE, BUMP_SCRIPT, RScript.ReturnType.INTEGER, keys, ttlMillis);
+    }
+
+    private static Object scope(AppContext context) {
+        if (SystemConstants.SYSTEM_TENANT_ID.equals(context.tenantId()) || Boolean.TRUE.equals(context.isSuperAdmin())) {
+            return ALL_TENANTS;
+        }
+        return context.tenantId();
+    }
+}
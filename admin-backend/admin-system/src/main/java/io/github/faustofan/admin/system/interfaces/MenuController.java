@@ -0,0 +1,82 @@
+package io.github.faustofan.admin.system.interfaces;
+
+import io.github.faustofan.admin.shared.common.dto.ApiResponse;
+import io.github.faustofan.admin.shared.web.config.OpenApiConfig;
+import io.github.faustofan.admin.system.application.command.MenuCommandService;
+import io.github.faustofan.admin.system.dto.SysMenuSaveCommand;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 菜单管理 API 控制器
+ * <p>
+ * 提供菜单的增删改接口，变更提交后由事件驱动鉴权缓存重建。
+ */
+@Tag(name = "04. 系统菜单管理")
+@RestController
+@RequestMapping("/api/menu")
+public class MenuController {
+
+    /** 菜单命令服务 */
+    private final MenuCommandService menuCommandService;
+
+    public MenuController(final MenuCommandService menuCommandService) {
+        this.menuCommandService = menuCommandService;
+    }
+
+    /**
+     * 创建菜单接口
+     *
+     * @param cmd 菜单保存命令
+     * @return 创建成功后返回菜单ID
+     */
+    @Operation(
+            operationId = "创建菜单",
+            security = @SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
+    )
+    @PreAuthorize("@perm.has('system:menu:add')")
+    @PostMapping("/create")
+    public ApiResponse<Long> create(@RequestBody @Valid SysMenuSaveCommand cmd) {
+        return ApiResponse.success(menuCommandService.create(cmd));
+    }
+
+    /**
+     * 修改菜单接口
+     *
+     * @param id  菜单ID
+     * @param cmd 菜单保存命令
+     * @return 空响应
+     */
+    @Operation(
+            operationId = "修改菜单",
+            security = @SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
+    )
+    @PreAuthorize("@perm.has('system:menu:edit')")
+    @PutMapping("/{id}")
+    public ApiResponse<Void> update(@PathVariable Long id, @RequestBody @Valid SysMenuSaveCommand cmd) {
+        menuCommandService.update(id, cmd);
+        return ApiResponse.success(null);
+    }
+
+    /**
+     * 删除菜单接口
+     *
+     * @param id 菜单ID
+     * @return 空响应
+     */
+    @Operation(
+            operationId = "删除菜单",
+            security = @SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
+    )
+    @PreAuthorize("@perm.has('system:menu:delete')")
+    @DeleteMapping("/{id}")
+    public ApiResponse<Void> delete(@PathVariable Long id) {
+        menuCommandService.delete(id);
+        return ApiResponse.success(null);
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.faustofan.admin.system.interfaces;
+
+import io.github.faustofan.admin.shared.common.dto.ApiResponse;
+import io.github.faustofan.admin.shared.web.config.OpenApiConfig;
+import io.github.faustofan.admin.system.application.command.PackageCommandService;
+import io.github.faustofan.admin.system.dto.SysPackageMenuCommand;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 产品包管理 API 控制器
+ * <p>
+ * 提供产品包的菜单分配接口，变更提交后由事件驱动租户授权快照重建。
+ */
+@Tag(name = "06. 产品包管理")
+@RestController
+@RequestMapping("/api/package")
+public class PackageController {
+
+    /** 产品包命令服务 */
+    private final PackageCommandService packageCommandService;
+
+    public PackageController(final PackageCommandService packageCommandService) {
+        this.packageCommandService = packageCommandService;
+    }
+
+    /**
+     * 分配产品包菜单接口（整体替换）
+     *
+     * @param id  产品包ID
+     * @param cmd 菜单分配命令
+     * @return 空响应
+     */
+    @Operation(
+            operationId = "分配产品包菜单",
+            security = @SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
+    )
+    @PreAuthorize("@perm.has('system:package:edit')")
+    @PutMapping("/{id}/menus")
+    public ApiResponse<Void> assignMenus(@PathVariable Long id, @RequestBody @Valid SysPackageMenuCommand cmd) {
+        packageCommandService.assignMenus(id, cmd);
+        return ApiResponse.success(null);
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.faustofan.admin.system.interfaces;
+
+import io.github.faustofan.admin.shared.common.dto.ApiResponse;
+import io.github.faustofan.admin.shared.web.config.OpenApiConfig;
+import io.github.faustofan.admin.system.application.command.PolicyCommandService;
+import io.github.faustofan.admin.system.dto.SysPolicySaveCommand;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 策略管理 API 控制器
+ * <p>
+ * 提供策略的增删改接口，变更提交后由事件驱动鉴权缓存重建。
+ */
+@Tag(name = "05. 数据策略管理")
+@RestController
+@RequestMapping("/api/policy")
+public class PolicyController {
+
+    /** 策略命令服务 */
+    private final PolicyCommandService policyCommandService;
+
+    public PolicyController(final PolicyCommandService policyCommandService) {
+        this.policyCommandService = policyCommandService;
+    }
+
+    /**
+     * 创建策略接口
+     *
+     * @param cmd 策略保存命令
+     * @return 创建成功后返回策略ID
+     */
+    @Operation(
+            operationId = "创建策略",
+            security = @SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
+    )
+    @PreAuthorize("@perm.has('system:policy:add')")
+    @PostMapping("/create")
+    public ApiResponse<Long> create(@RequestBody @Valid SysPolicySaveCommand cmd) {
+        return ApiResponse.success(policyCommandService.create(cmd));
+    }
+
+    /**
+     * 修改策略接口
+     *
+     * @param id  策略ID
+     * @param cmd 策略保存命令
+     * @return 空响应
+     */
+    @Operation(
+            operationId = "修改策略",
+            security = @SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
+    )
+    @PreAuthorize("@perm.has('system:policy:edit')")
+    @PutMapping("/{id}")
+    public ApiResponse<Void> update(@PathVariable Long id, @RequestBody @Valid SysPolicySaveCommand cmd) {
+        policyCommandService.update(id, cmd);
+        return ApiResponse.success(null);
+    }
+
+    /**
+     * 删除策略接口
+     *
+     * @param id 策略ID
+     * @return 空响应
+     */
+    @Operation(
+            operationId = "删除策略",
+            security = @SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
+    )
+    @PreAuthorize("@perm.has('system:policy:delete')")
+    @DeleteMapping("/{id}")
+    public ApiResponse<Void> delete(@PathVariable Long id) {
+        policyCommandService.delete(id);
+        return ApiResponse.success(null);
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.faustofan.admin.system.interfaces;
+
+import io.github.faustofan.admin.shared.common.dto.ApiResponse;
+import io.github.faustofan.admin.shared.web.config.OpenApiConfig;
+import io.github.faustofan.admin.system.application.command.RoleCommandService;
+import io.github.faustofan.admin.system.dto.SysRoleDataScopeCommand;
+import io.github.faustofan.admin.system.dto.SysRoleMenuCommand;
+import io.github.faustofan.admin.system.dto.SysRolePolicyCommand;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 角色管理 API 控制器
+ * <p>
+ * 提供角色授权相关的接口，变更提交后由事件驱动鉴权缓存重建。
+ */
+@Tag(name = "03. 系统角色管理")
+@RestController
+@RequestMapping("/api/role")
+public class RoleController {
+
+    /** 角色命令服务 */
+    private final RoleCommandService roleCommandService;
+
+    public RoleController(final RoleCommandService roleCommandService) {
+        this.roleCommandService = roleCommandService;
+    }
+
+    /**
+     * 分配角色菜单接口（整体替换）
+     *
+     * @param id  角色ID
+     * @param cmd 菜单分配命令
+     * @return 空响应
+     */
+    @Operation(
+            operationId = "分配角色菜单",
+            security = @SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
+    )
+    @PreAuthorize("@perm.has('system:role:edit')")
+    @PutMapping("/{id}/menus")
+    public ApiResponse<Void> assignMenus(@PathVariable Long id, @RequestBody @Valid SysRoleMenuCommand cmd) {
+        roleCommandService.assignMenus(id, cmd);
+        return ApiResponse.success(null);
+    }
+
+    /**
+     * 分配角色数据策略接口（整体替换）
+     *
+     * @param id  角色ID
+     * @param cmd 数据策略分配命令
+     * @return 空响应
+     */
+    @Operation(
+            operationId = "分配角色数据策略",
+            security = @SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
+    )
+    @PreAuthorize("@perm.has('system:role:edit')")
+    @PutMapping("/{id}/policies")
+    public ApiResponse<Void> assignPolicies(@PathVariable Long id, @RequestBody @Valid SysRolePolicyCommand cmd) {
+        roleCommandService.assignPolicies(id, cmd);
+        return ApiResponse.success(null);
+    }
+
+    /**
+     * 修改角色数据范围接口
+     *
+     * @param id  角色ID
+     * @param cmd 数据范围命令
+     * @return 空响应
+     */
+    @Operation(
+            operationId = "修改角色数据范围",
+            security = @SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
+    )
+    @PreAuthorize("@perm.has('system:role:edit')")
+    @PutMapping("/{id}/data-scope")
+    public ApiResponse<Void> changeDataScope(@PathVariable Long id, @RequestBody @Valid SysRoleDataScopeCommand cmd) {
+        roleCommandService.changeDataScope(id, cmd);
+        return ApiResponse.success(null);
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.faustofan.admin.system.interfaces;
+
+import io.github.faustofan.admin.shared.common.dto.ApiResponse;
+import io.github.faustofan.admin.shared.web.config.OpenApiConfig;
+import io.github.faustofan.admin.system.application.command.TenantCommandService;
+import io.github.faustofan.admin.system.dto.SysTenantPackageCommand;
+import io.github.faustofan.admin.system.dto.SysTenantStatusCommand;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 租户管理 API 控制器
+ * <p>
+ * 提供租户启停、续期和更换产品包接口，变更提交后各节点立即刷新租户准入快照。
+ */
+@Tag(name = "07. 租户管理")
+@RestController
+@RequestMapping("/api/tenant")
+public class TenantController {
+
+    /** 租户命令服务 */
+    private final TenantCommandService tenantCommandService;
+
+    public TenantController(final TenantCommandService tenantCommandService) {
+        this.tenantCommandService = tenantCommandService;
+    }
+
+    /**
+     * 修改租户状态接口（启停、续期）
+     *
+     * @param id  租户ID
+     * @param cmd 状态命令
+     * @return 空响应
+     */
+    @Operation(
+            operationId = "修改租户状态",
+            security = @SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
+    )
+    @PreAuthorize("@perm.has('system:tenant:edit')")
+    @PutMapping("/{id}/status")
+    public ApiResponse<Void> changeStatus(@PathVariable Long id, @RequestBody @Valid SysTenantStatusCommand cmd) {
+        tenantCommandService.changeStatus(id, cmd);
+        return ApiResponse.success(null);
+    }
+
+    /**
+     * 更换租户产品包接口
+     *
+     * @param id  租户ID
+     * @param cmd 产品包命令
+     * @return 空响应
+     */
+    @Operation(
+            operationId = "更换租户产品包",
+            security = @SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
+    )
+    @PreAuthorize("@perm.has('system:tenant:edit')")
+    @PutMapping("/{id}/package")
+    public ApiResponse<Void> changePackage(@PathVariable Long id, @RequestBody @Valid SysTenantPackageCommand cmd) {
+        tenantCommandService.changePackage(id, cmd);
+        return ApiResponse.success(null);
+    }
+}
@@ -12,14 +12,22 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 
+import java.util.Map;
+
 import org.babyfish.jimmer.Page;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springdoc.core.converters.models.PageableAsQueryParam;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import io.github.faustofan.admin.system.dto.SysUserCreateCommand;
+import io.github.faustofan.admin.system.dto.SysUserRoleCommand;
 import io.github.faustofan.admin.system.dto.SysUserView;
 
 /**
@@ -57,11 +65,30 @@ public class UserController {
             operationId = "创建用户",
             security = @SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
     )
+    @PreAuthorize("@perm.has('system:user:add')")
     @PostMapping("/create")
     public ApiResponse<Long> create(@RequestBody @Valid SysUserCreateCommand cmd) {
         return ApiResponse.success(userCommandService.create(cmd));
     }
 
+    /**
+     * 分配用户角色接口（整体替换）
+     *
+     * @param id  用户ID
+     * @param cmd 角色分配命令
+     * @return 空响应
+     */
+    @Operation(
+            operationId = "分配用户角色",
+            security = @SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
+    )
+    @PreAuthorize("@perm.has('system:user:edit')")
+    @PutMapping("/{id}/roles")
+    public ApiResponse<Void> assignRoles(@PathVariable Long id, @RequestBody @Valid SysUserRoleCommand cmd) {
+        userCommandService.assignRoles(id, cmd);
+        return ApiResponse.success(null);
+    }
+
     /**
      * 列出用户接口
      *
@@ -73,6 +100,7 @@ public class UserController {
             operationId = "分页查找用户",
             security = @SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
     )
+    @PreAuthorize("@perm.has('system:user:list')")
     @PostMapping("/list")
     public ApiResponse<Page<SysUserView>> listUsers(
             @PageableDefault @ParameterObject Pageable page,
@@ -82,6 +110,41 @@ public class UserController {
         return ApiResponse.success(userQueryService.listUsers(page, query));
     }
 
+    /**
+     * 列出用户接口（支持协商缓存）
+     * <p>
+     * 按租户数据版本号生成 ETag，If-None-Match 命中时直接返回 304，不查询数据库、不序列化响应。
+     * 支持字段投影，如 {@code ?fields=id,nickname}，只查询并返回所需字段。
+     *
+     * @param page    分页请求参数
+     * @param query   用户搜索查询参数
+     * @param fields  逗号分隔的字段名，为空时返回全部字段
+     * @param request 当前请求
+     * @return 分页的用户列表，未变更时返回 304
+     */
+    @Operation(
+            operationId = "分页查找用户(GET)",
+            security = @SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
+    )
+    @PreAuthorize("@perm.has('system:user:list')")
+    @GetMapping("/list")
+    public ResponseEntity<ApiResponse<Page<Map<String, Object>>>> listUsersConditional(
+            @PageableDefault @ParameterObject Pageable page,
+            @ParameterObject SysUserSearchQuery query,
+            @RequestParam(required = false) String fields,
+            ServletWebRequest request
+    ) {
+        // 同一数据的 JSON 与 CBOR/Smile 表示互不复用 ETag
+        String etag = userQueryService.listUsersETag(
+                request.getRequest().getQueryString() + "|" + request.getHeader(HttpHeaders.ACCEPT));
+        if (etag != null && request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.success(userQueryService.listUsers(page, query, fields)));
+    }
+
     // ==========================================
     // V2 版本：特定版本 (Specific Match)
     // 只有 Header 明确等于 2 时才进这里
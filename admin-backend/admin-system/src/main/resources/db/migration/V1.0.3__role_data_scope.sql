@@ -0,0 +1,18 @@
+/*
+  角色数据权限范围
+  data_scope: ALL / CUSTOM / DEPT / DEPT_AND_CHILD / SELF
+  CUSTOM 时，可见部门由 sys_role_org 指定
+*/
+
+-- 1. 角色表增加数据范围字段
+ALTER TABLE sys_role ADD COLUMN IF NOT EXISTS data_scope VARCHAR(20) NOT NULL DEFAULT 'SELF';
+
+-- 2. 角色-自定义数据范围部门关联表
+CREATE TABLE IF NOT EXISTS sys_role_org (
+                                            role_id         BIGINT NOT NULL,
+                                            org_id          BIGINT NOT NULL,
+                                            PRIMARY KEY (role_id, org_id)
+);
+
+-- 3. 初始化数据：超级管理员可见全部数据
+UPDATE sys_role SET data_scope = 'ALL' WHERE code = 'SUPER_ADMIN';
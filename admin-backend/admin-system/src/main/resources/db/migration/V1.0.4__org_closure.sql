@@ -0,0 +1,34 @@
+/*
+  组织闭包表
+  每个组织与其所有祖先（含自身，depth = 0）各存一行，
+  祖先/后代/子树统计均可单条 SQL 完成，无需逐层递归查询。
+  由 OrgDomainService 在新增、移动、删除组织时同步维护。
+*/
+
+-- 1. 闭包表
+CREATE TABLE IF NOT EXISTS sys_org_closure (
+                                               tenant_id       BIGINT NOT NULL,
+                                               ancestor_id     BIGINT NOT NULL,
+                                               descendant_id   BIGINT NOT NULL,
+                                               depth           INT NOT NULL,
+                                               PRIMARY KEY (ancestor_id, descendant_id)
+);
+-- 按后代查祖先、子树移动时使用
+CREATE INDEX IF NOT EXISTS idx_org_closure_descendant ON sys_org_closure(descendant_id, depth);
+
+-- 2. 子树用户统计按组织关联用户
+CREATE INDEX IF NOT EXISTS idx_user_org ON sys_user(org_id);
+
+-- 3. 历史数据回填（一次性递归）
+INSERT INTO sys_org_closure (tenant_id, ancestor_id, descendant_id, depth)
+WITH RECURSIVE tree AS (
+    SELECT tenant_id, id AS ancestor_id, id AS descendant_id, 0 AS depth
+    FROM sys_org
+    WHERE deleted = FALSE
+    UNION ALL
+    SELECT t.tenant_id, t.ancestor_id, o.id, t.depth + 1
+    FROM tree t
+             JOIN sys_org o ON o.parent_id = t.descendant_id AND o.deleted = FALSE
+)
+SELECT tenant_id, ancestor_id, descendant_id, depth FROM tree
+ON CONFLICT DO NOTHING;
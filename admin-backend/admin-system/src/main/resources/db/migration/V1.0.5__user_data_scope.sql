@@ -0,0 +1,14 @@
+/*
+  用户纳入数据权限
+  sys_user 实现 DataScoped，数据所属组织即用户归属部门，
+  由 SysUserDraftInterceptor 在保存时与 org_id 同步。
+*/
+
+-- 1. 数据所属组织
+ALTER TABLE sys_user ADD COLUMN IF NOT EXISTS owner_org_id BIGINT;
+
+-- 2. 存量数据回填
+UPDATE sys_user SET owner_org_id = org_id WHERE owner_org_id IS DISTINCT FROM org_id;
+
+-- 3. 数据权限过滤按租户 + 所属组织查询
+CREATE INDEX IF NOT EXISTS idx_user_owner_org ON sys_user(tenant_id, owner_org_id);
@@ -0,0 +1,56 @@
+/*
+  接口权限码补全
+  各管理接口通过 @PreAuthorize("@perm.has('...')") 校验权限码，
+  此处补齐尚未登记的菜单与按钮，并授予已有的全功能产品包与角色。
+  菜单表为全局表，菜单维护（10-12）、产品包、租户管理为平台运维功能，只开放给开发包。
+*/
+
+-- 1. 菜单与按钮
+INSERT INTO
+    public.sys_menu (
+        id,
+        parent_id,
+        menu_name,
+        menu_type,
+        route_path,
+        component_path,
+        perm_code,
+        icon,
+        sort_order,
+        visible,
+        deleted,
+        created_time,
+        updated_time
+    )
+VALUES
+    (9, 3, '修改角色', 'BUTTON', null, null, 'system:role:edit', null, 1, true, false, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    (10, 4, '新增菜单', 'BUTTON', null, null, 'system:menu:add', null, 1, true, false, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    (11, 4, '修改菜单', 'BUTTON', null, null, 'system:menu:edit', null, 2, true, false, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    (12, 4, '删除菜单', 'BUTTON', null, null, 'system:menu:delete', null, 3, true, false, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    (13, 1, '数据策略', 'MENU', '/system/policy', '/system/policy/index', 'system:policy:list', 'safety', 5, true, false, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    (14, 13, '新增策略', 'BUTTON', null, null, 'system:policy:add', null, 1, true, false, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    (15, 13, '修改策略', 'BUTTON', null, null, 'system:policy:edit', null, 2, true, false, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    (16, 13, '删除策略', 'BUTTON', null, null, 'system:policy:delete', null, 3, true, false, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    (17, 1, '产品包管理', 'MENU', '/system/package', '/system/package/index', 'system:package:list', 'appstore', 6, true, false, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    (18, 17, '修改产品包', 'BUTTON', null, null, 'system:package:edit', null, 1, true, false, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    (19, 1, '租户管理', 'MENU', '/system/tenant', '/system/tenant/index', 'system:tenant:list', 'team', 7, true, false, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    (20, 19, '修改租户', 'BUTTON', null, null, 'system:tenant:edit', null, 1, true, false, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+ON CONFLICT (id) DO NOTHING;
+
+-- 2. 产品包授权：专业版只含租户内管理功能，开发包含全部
+INSERT INTO public.sys_package_menu (package_id, menu_id)
+SELECT 1, id FROM public.sys_menu WHERE id IN (9, 13, 14, 15, 16)
+ON CONFLICT DO NOTHING;
+
+INSERT INTO public.sys_package_menu (package_id, menu_id)
+SELECT 999999999, id FROM public.sys_menu WHERE id BETWEEN 9 AND 20
+ON CONFLICT DO NOTHING;
+
+-- 3. 角色授权：与产品包一致
+INSERT INTO public.sys_role_menu (role_id, menu_id)
+SELECT 1, id FROM public.sys_menu WHERE id IN (9, 13, 14, 15, 16)
+ON CONFLICT DO NOTHING;
+
+INSERT INTO public.sys_role_menu (role_id, menu_id)
+SELECT 999999999, id FROM public.sys_menu WHERE id BETWEEN 9 AND 20
+ON CONFLICT DO NOTHING;
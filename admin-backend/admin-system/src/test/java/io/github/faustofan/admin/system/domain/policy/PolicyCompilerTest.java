@@ -0,0 +1,184 @@
+package io.github.faustofan.admin.system.domain.policy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.faustofan.admin.system.domain.constants.SysPolicyResources;
+import io.github.faustofan.admin.system.domain.enums.PolicyType;
+
+class PolicyCompilerTest {
+
+    private static PolicySubject subject(long orgId, int level) {
+        return new PolicySubject(1L, 100L, orgId, false, Map.of("level", level), List.of());
+    }
+
+    private static CompiledPolicy compile(PolicyType type, String content) {
+        return PolicyCompiler.compile(new PolicyDefinition(1L, 1L, SysPolicyResources.USER, type, content));
+    }
+
+    private static Map<String, Object> row(Object... keyValues) {
+        Map<String, Object> row = new HashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            row.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return row;
+    }
+
+    // --- SQL 片段 ---
+
+    @Test
+    void sqlFragmentComparesColumnsWithUserReferences() {
+        CompiledPolicy policy = compile(PolicyType.SQL_FRAGMENT,
+                "this.org_id = :user.orgId and level <= :user.attributes.level");
+
+        assertThat(policy.isPushdownSupported()).isTrue();
+        assertThat(policy.evaluate(subject(10, 5), row("orgId", 10L, "level", 3))).isTrue();
+        assertThat(policy.evaluate(subject(10, 5), row("orgId", 10L, "level", 6))).isFalse();
+        assertThat(policy.evaluate(subject(11, 5), row("orgId", 10L, "level", 3))).isFalse();
+    }
+
+    @Test
+    void sqlFragmentKeepsKeywordsInsideStringLiterals() {
+        CompiledPolicy policy = compile(PolicyType.SQL_FRAGMENT, "nickname = 'R AND D' AND status = 'it''s'");
+
+        assertThat(policy.evaluate(subject(1, 0), row("nickname", "R AND D", "status", "it's"))).isTrue();
+        assertThat(policy.evaluate(subject(1, 0), row("nickname", "R", "status", "it's"))).isFalse();
+    }
+
+    @Test
+    void sqlFragmentSupportsOrNotParenthesesInAndNull() {
+        CompiledPolicy policy = compile(PolicyType.SQL_FRAGMENT,
+                "(status IN ('ACTIVE', 'LOCKED') OR org_id = :user.orgId) AND NOT deleted = true AND phone IS NOT NULL");
+
+        assertThat(policy.evaluate(subject(1, 0),
+                row("status", "ACTIVE", "orgId", 2L, "deleted", false, "phone", "1"))).isTrue();
+        assertThat(policy.evaluate(subject(2, 0),
+                row("status", "DISABLED", "orgId", 2L, "deleted", false, "phone", "1"))).isTrue();
+        assertThat(policy.evaluate(subject(1, 0),
+                row("status", "DISABLED", "orgId", 2L, "deleted", false, "phone", "1"))).isFalse();
+        assertThat(policy.evaluate(subject(1, 0),
+                row("status", "ACTIVE", "orgId", 2L, "deleted", true, "phone", "1"))).isFalse();
+        assertThat(policy.evaluate(subject(1, 0),
+                row("status", "ACTIVE", "orgId", 2L, "deleted", false, "phone", null))).isFalse();
+    }
+
+    @Test
+    void sqlFragmentAndBindsTighterThanOr() {
+        CompiledPolicy policy = compile(PolicyType.SQL_FRAGMENT, "a = 1 OR b = 2 AND c = 3");
+
+        assertThat(policy.evaluate(subject(1, 0), row("a", 1, "b", 0, "c", 0))).isTrue();
+        assertThat(policy.evaluate(subject(1, 0), row("a", 0, "b", 2, "c", 0))).isFalse();
+        assertThat(policy.evaluate(subject(1, 0), row("a", 0, "b", 2, "c", 3))).isTrue();
+    }
+
+    @Test
+    void sqlFragmentRejectsUnsupportedSyntax() {
+        assertThatThrownBy(() -> compile(PolicyType.SQL_FRAGMENT, "org_id = 1; DROP TABLE sys_user"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> compile(PolicyType.SQL_FRAGMENT, "org_id = (SELECT 1)"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> compile(PolicyType.SQL_FRAGMENT, "name = 'open"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> compile(PolicyType.SQL_FRAGMENT, "(org_id = 1"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> compile(PolicyType.SQL_FRAGMENT, "org_id = :tenant.id"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> compile(PolicyType.SQL_FRAGMENT, "u.org_id = 1"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // --- JSON 规则 ---
+
+    @Test
+    void jsonRuleSupportsNestedGroupsAndReferences() {
+        CompiledPolicy policy = compile(PolicyType.JSON_RULE, """
+                {"and": [
+                  {"field": "orgId", "op": "eq", "ref": "user.orgId"},
+                  {"or": [
+                    {"field": "level", "op": "le", "ref": "user.attributes.level"},
+                    {"not": {"field": "status", "op": "in", "value": ["ACTIVE", "LOCKED"]}}
+                  ]}
+                ]}
+                """);
+
+        assertThat(policy.isPushdownSupported()).isTrue();
+        assertThat(policy.evaluate(subject(10, 5), row("orgId", 10L, "level", 3, "status", "ACTIVE"))).isTrue();
+        assertThat(policy.evaluate(subject(10, 5), row("orgId", 10L, "level", 9, "status", "DISABLED"))).isTrue();
+        assertThat(policy.evaluate(subject(10, 5), row("orgId", 10L, "level", 9, "status", "ACTIVE"))).isFalse();
+        assertThat(policy.evaluate(subject(11, 5), row("orgId", 10L, "level", 3, "status", "ACTIVE"))).isFalse();
+    }
+
+    @Test
+    void jsonRuleRejectsIncompleteLeaves() {
+        assertThatThrownBy(() -> compile(PolicyType.JSON_RULE, "{\"field\": \"orgId\"}"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> compile(PolicyType.JSON_RULE, "{\"and\": []}"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // --- SpEL ---
+
+    @Test
+    void spelEvaluatesAgainstUserAndResource() {
+        CompiledPolicy policy = compile(PolicyType.SPEL_EXPRESSION,
+                "#user.attributes['level'] > 5 && #resource['amount'] < 1000");
+
+        assertThat(policy.isPushdownSupported()).isFalse();
+        assertThat(policy.evaluate(subject(1, 6), row("amount", 999))).isTrue();
+        assertThat(policy.evaluate(subject(1, 5), row("amount", 999))).isFalse();
+        assertThat(policy.evaluate(subject(1, 6), row("amount", 1000))).isFalse();
+    }
+
+    @Test
+    void spelIsReadOnly() {
+        CompiledPolicy policy = compile(PolicyType.SPEL_EXPRESSION, "#user = null");
+
+        assertThatThrownBy(() -> policy.evaluate(subject(1, 0), row()))
+                .isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    void spelSharedContextKeepsVariablesPerEvaluation() throws Exception {
+        CompiledPolicy policy = compile(PolicyType.SPEL_EXPRESSION, "#user.orgId == #resource['orgId']");
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 2_000; i++) {
+                long orgId = i;
+                boolean match = i % 2 == 0;
+                results.add(executor.submit(() ->
+                        policy.evaluate(subject(orgId, 0), row("orgId", match ? orgId : -1L)) == match));
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        }
+    }
+
+    // --- 保存校验 ---
+
+    @Test
+    void validateRejectsSpelForListResources() {
+        PolicyEngine engine = new PolicyEngine();
+
+        assertThatThrownBy(() -> engine.validate(SysPolicyResources.USER, PolicyType.SPEL_EXPRESSION, "true"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> engine.validate("ORDER", PolicyType.SPEL_EXPRESSION, "true"))
+                .doesNotThrowAnyException();
+        assertThatCode(() -> engine.validate(SysPolicyResources.USER, PolicyType.SQL_FRAGMENT, "org_id = :user.orgId"))
+                .doesNotThrowAnyException();
+        assertThatThrownBy(() -> engine.validate(SysPolicyResources.USER, PolicyType.SQL_FRAGMENT, "org_id =="))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
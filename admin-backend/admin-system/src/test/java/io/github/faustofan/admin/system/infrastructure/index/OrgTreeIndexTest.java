@@ -0,0 +1,94 @@
+package io.github.faustofan.admin.system.infrastructure.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.faustofan.admin.system.infrastructure.index.OrgTreeIndex.TenantOrgTree;
+
+class OrgTreeIndexTest {
+
+    /**
+     * <pre>
+     * 1
+     * ├── 2
+     * │   ├── 4
+     * │   └── 5
+     * └── 3
+     *     └── 6
+     * 7
+     * </pre>
+     */
+    private static TenantOrgTree sample() {
+        Map<Long, Long> parents = new LinkedHashMap<>();
+        parents.put(1L, null);
+        parents.put(2L, 1L);
+        parents.put(3L, 1L);
+        parents.put(4L, 2L);
+        parents.put(5L, 2L);
+        parents.put(6L, 3L);
+        parents.put(7L, null);
+        return TenantOrgTree.build(parents);
+    }
+
+    @Test
+    void subtreeIsContiguousPreOrderSlice() {
+        TenantOrgTree tree = sample();
+
+        assertThat(tree.order()).containsExactly(1L, 2L, 4L, 5L, 3L, 6L, 7L);
+        assertThat(tree.subtree(1)).containsExactly(1L, 2L, 4L, 5L, 3L, 6L);
+        assertThat(tree.subtree(2)).containsExactly(2L, 4L, 5L);
+        assertThat(tree.subtree(6)).containsExactly(6L);
+        assertThat(tree.subtree(7)).containsExactly(7L);
+    }
+
+    @Test
+    void unknownOrgIsItsOwnSubtree() {
+        assertThat(sample().subtree(99)).containsExactly(99L);
+    }
+
+    @Test
+    void orphansBecomeRootsAndCyclesTerminate() {
+        Map<Long, Long> parents = new LinkedHashMap<>();
+        parents.put(1L, 42L);
+        parents.put(2L, 1L);
+        parents.put(3L, 4L);
+        parents.put(4L, 3L);
+        TenantOrgTree tree = TenantOrgTree.build(parents);
+
+        assertThat(tree.subtree(1)).containsExactly(1L, 2L);
+        assertThat(tree.size()).isEqualTo(2);
+    }
+
+    @Test
+    void patchMovesSubtree() {
+        TenantOrgTree tree = sample().patch(Map.of(2L, 6L), List.of(2L));
+
+        assertThat(tree.subtree(3)).containsExactly(3L, 6L, 2L, 4L, 5L);
+        assertThat(tree.subtree(6)).containsExactly(6L, 2L, 4L, 5L);
+        assertThat(tree.subtree(2)).containsExactly(2L, 4L, 5L);
+    }
+
+    @Test
+    void patchAddsAndRemovesOrgs() {
+        TenantOrgTree tree = sample()
+                .patch(Map.of(8L, 4L), List.of(8L))
+                .patch(Map.of(), List.of(3L, 6L));
+
+        assertThat(tree.subtree(2)).containsExactly(2L, 4L, 8L, 5L);
+        assertThat(tree.subtree(1)).containsExactly(1L, 2L, 4L, 8L, 5L);
+        assertThat(tree.parents()).doesNotContainKeys(3L, 6L);
+    }
+
+    @Test
+    void patchKeepsOriginalTreeUnchanged() {
+        TenantOrgTree tree = sample();
+        tree.patch(Map.of(), List.of(2L, 4L, 5L));
+
+        assertThat(tree.subtree(1)).containsExactly(1L, 2L, 4L, 5L, 3L, 6L);
+    }
+}
@@ -0,0 +1,175 @@
+package io.github.faustofan.admin.system.infrastructure.loader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+class BatchLoaderTest {
+
+    /** 记录每次批量查询的 Key，值为 "v" + key，负数视为不存在 */
+    private final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+
+    private Map<Integer, String> query(Collection<Integer> keys) {
+        batches.add(new ArrayList<>(keys));
+        return keys.stream()
+                .filter(key -> key >= 0)
+                .collect(Collectors.toMap(Function.identity(), key -> "v" + key));
+    }
+
+    @Test
+    void mergesLoadsIntoOneQueryOnFirstGet() {
+        BatchLoader<Integer, String> loader = new BatchLoader<>(this::query);
+        loader.load(1);
+        loader.load(2);
+        loader.load(1);
+
+        assertThat(loader.get(3)).isEqualTo("v3");
+        assertThat(loader.get(2)).isEqualTo("v2");
+
+        assertThat(batches).containsExactly(List.of(1, 2, 3));
+    }
+
+    @Test
+    void getAllKeepsOrderAndSkipsMissing() {
+        BatchLoader<Integer, String> loader = new BatchLoader<>(this::query);
+
+        assertThat(loader.getAll(List.of(3, -1, 1))).containsExactly(Map.entry(3, "v3"), Map.entry(1, "v1"));
+        assertThat(batches).hasSize(1);
+    }
+
+    @Test
+    void failedKeysCanBeRetried() {
+        int[] calls = {0};
+        BatchLoader<Integer, String> loader = new BatchLoader<>(keys -> {
+            if (calls[0]++ == 0) {
+                throw new IllegalStateException("boom");
+            }
+            return query(keys);
+        });
+
+        assertThatThrownBy(() -> loader.get(1)).isInstanceOf(IllegalStateException.class);
+        assertThat(loader.get(1)).isEqualTo("v1");
+    }
+
+    @Test
+    void windowedLoaderDispatchesOnTick() throws Exception {
+        BatchLoader<Integer, String> loader = BatchLoader.windowed(this::query, Duration.ofMillis(50), 100);
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(loader.load(i % 5));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        assertThat(futures).extracting(CompletableFuture::join)
+                .containsExactly("v0", "v1", "v2", "v3", "v4", "v0", "v1", "v2", "v3", "v4");
+        assertThat(batches).containsExactly(List.of(0, 1, 2, 3, 4));
+    }
+
+    @Test
+    void windowedLoaderDispatchesWhenBatchIsFull() throws Exception {
+        BatchLoader<Integer, String> loader = BatchLoader.windowed(this::query, Duration.ofMinutes(1), 3);
+
+        CompletableFuture<String> first = loader.load(1);
+        loader.load(2);
+        loader.load(3);
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("v1");
+        assertThat(batches).containsExactly(List.of(1, 2, 3));
+    }
+
+    @Test
+    void windowedLoaderQueriesAtOnceWhenIdle() throws Exception {
+        BatchLoader<Integer, String> loader = BatchLoader.windowed(this::query, Duration.ofMinutes(1), 100);
+
+        // 没有在途查询，不等待窗口
+        assertThat(CompletableFuture.supplyAsync(() -> loader.get(1)).get(5, TimeUnit.SECONDS)).isEqualTo("v1");
+        assertThat(batches).containsExactly(List.of(1));
+    }
+
+    @Test
+    void windowedLoaderMergesKeysWhileQueryInFlight() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BatchLoader<Integer, String> loader = BatchLoader.windowed(keys -> {
+            Map<Integer, String> values = query(keys);
+            if (keys.contains(0)) {
+                entered.countDown();
+                await(release);
+            }
+            return values;
+        }, Duration.ofMinutes(1), 3);
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> loader.get(0));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 已有查询在途：新 Key 进入窗口，攒满一批后一起查询
+        assertThat(loader.getAll(List.of(1, 2, 3))).hasSize(3);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("v0");
+        assertThat(batches).containsExactly(List.of(0), List.of(1, 2, 3));
+    }
+
+    @Test
+    void windowedLoaderIgnoresTimerOfDispatchedWindow() throws Exception {
+        BatchLoader<Integer, String> loader = BatchLoader.windowed(this::query, Duration.ofMillis(400), 2);
+
+        loader.load(1);
+        loader.load(2).get(5, TimeUnit.SECONDS);
+        Thread.sleep(200);
+        CompletableFuture<String> third = loader.load(3);
+        Thread.sleep(300);
+
+        // 第一个窗口攒满后已派发，其计时到期时不应提前派发新窗口的 Key
+        assertThat(third).isNotDone();
+        assertThat(third.get(5, TimeUnit.SECONDS)).isEqualTo("v3");
+        assertThat(batches).containsExactly(List.of(1, 2), List.of(3));
+    }
+
+    @Test
+    void windowedLoaderCapsBatchSize() throws Exception {
+        BatchLoader<Integer, String> loader = BatchLoader.windowed(this::query, Duration.ofMillis(50), 2);
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(loader.load(i));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(2));
+        assertThat(batches.stream().mapToInt(List::size).sum()).isEqualTo(5);
+    }
+
+    @Test
+    void windowedLoaderDoesNotCacheCompletedResults() {
+        BatchLoader<Integer, String> loader = BatchLoader.windowed(this::query, Duration.ofMinutes(1), 100);
+
+        assertThat(loader.get(1)).isEqualTo("v1");
+        assertThat(loader.get(1)).isEqualTo("v1");
+
+        assertThat(batches).containsExactly(List.of(1), List.of(1));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
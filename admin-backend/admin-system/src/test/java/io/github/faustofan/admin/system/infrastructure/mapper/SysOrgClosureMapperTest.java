@@ -0,0 +1,150 @@
+package io.github.faustofan.admin.system.infrastructure.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.Statement;
+
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 闭包表 SQL 测试（PostgreSQL 专用语句，需要 Docker）
+ * <p>
+ * 测试树：
+ * <pre>
+ * 1
+ * ├── 2
+ * │   └── 4
+ * └── 3
+ * </pre>
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class SysOrgClosureMapperTest {
+
+    private static final long TENANT_ID = 100L;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static SqlSessionFactory sessionFactory;
+
+    private SqlSession session;
+    private SysOrgClosureMapper mapper;
+
+    @BeforeAll
+    static void setUpSchema() throws Exception {
+        var dataSource = new UnpooledDataSource(POSTGRES.getDriverClassName(), POSTGRES.getJdbcUrl(),
+                POSTGRES.getUsername(), POSTGRES.getPassword());
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE sys_org_closure (
+                        tenant_id     BIGINT NOT NULL,
+                        ancestor_id   BIGINT NOT NULL,
+                        descendant_id BIGINT NOT NULL,
+                        depth         INT NOT NULL,
+                        PRIMARY KEY (ancestor_id, descendant_id)
+                    )""");
+            statement.execute("CREATE TABLE sys_user (id BIGINT PRIMARY KEY, org_id BIGINT, deleted BOOLEAN NOT NULL)");
+        }
+
+        Configuration configuration = new Configuration(
+                new Environment("test", new JdbcTransactionFactory(), dataSource));
+        configuration.setMapUnderscoreToCamelCase(true);
+        String resource = "mapper/SysOrgClosureMapper.xml";
+        try (InputStream in = Resources.getResourceAsStream(resource)) {
+            new XMLMapperBuilder(in, configuration, resource, configuration.getSqlFragments()).parse();
+        }
+        sessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        session = sessionFactory.openSession(true);
+        try (Statement statement = session.getConnection().createStatement()) {
+            statement.execute("TRUNCATE sys_org_closure, sys_user");
+        }
+        mapper = session.getMapper(SysOrgClosureMapper.class);
+        mapper.insertNode(TENANT_ID, 1, null);
+        mapper.insertNode(TENANT_ID, 2, 1L);
+        mapper.insertNode(TENANT_ID, 3, 1L);
+        mapper.insertNode(TENANT_ID, 4, 2L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        session.close();
+    }
+
+    @Test
+    void insertNodeCopiesAncestorLinks() {
+        assertThat(mapper.findAncestorIds(4)).containsExactly(2L, 1L);
+        assertThat(mapper.findDescendantIds(1, null)).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+        assertThat(mapper.findDescendantIds(1, 1)).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(mapper.findDescendantIds(4, null)).containsExactly(4L);
+    }
+
+    @Test
+    void isDescendantIncludesSelf() {
+        assertThat(mapper.isDescendant(1, 4)).isTrue();
+        assertThat(mapper.isDescendant(2, 2)).isTrue();
+        assertThat(mapper.isDescendant(2, 3)).isFalse();
+        assertThat(mapper.isDescendant(4, 1)).isFalse();
+    }
+
+    @Test
+    void moveSubtreeRewritesOuterLinksOnly() {
+        // 2（含 4）移动到 3 下
+        mapper.detachSubtree(2);
+        mapper.attachSubtree(2, 3);
+
+        assertThat(mapper.findAncestorIds(2)).containsExactly(3L, 1L);
+        assertThat(mapper.findAncestorIds(4)).containsExactly(2L, 3L, 1L);
+        assertThat(mapper.findDescendantIds(3, null)).containsExactly(3L, 2L, 4L);
+        assertThat(mapper.findDescendantIds(2, null)).containsExactly(2L, 4L);
+    }
+
+    @Test
+    void detachWithoutAttachMakesSubtreeRoot() {
+        mapper.detachSubtree(2);
+
+        assertThat(mapper.findAncestorIds(2)).isEmpty();
+        assertThat(mapper.findAncestorIds(4)).containsExactly(2L);
+        assertThat(mapper.findDescendantIds(1, null)).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    void deleteNodeRemovesLinksAsDescendant() {
+        mapper.deleteNode(4);
+        mapper.deleteNode(2);
+
+        assertThat(mapper.findDescendantIds(1, null)).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(mapper.findDescendantIds(2, null)).isEmpty();
+    }
+
+    @Test
+    void countSubtreeUsersSkipsDeletedUsers() throws Exception {
+        try (Statement statement = session.getConnection().createStatement()) {
+            statement.execute("INSERT INTO sys_user VALUES (1, 1, false), (2, 4, false), (3, 4, true), (4, 3, false)");
+        }
+
+        assertThat(mapper.countSubtreeUsers(1)).isEqualTo(3);
+        assertThat(mapper.countSubtreeUsers(2)).isEqualTo(1);
+        assertThat(mapper.countSubtreeUsers(3)).isEqualTo(1);
+    }
+}